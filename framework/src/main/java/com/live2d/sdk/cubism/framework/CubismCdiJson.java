@@ -17,9 +17,17 @@ import java.util.List;
  * This class handles cdi.json data.
  */
 public class CubismCdiJson {
+    /**
+     * Create an instance.
+     * <p>
+     * The values of cdi3.json are read from the buffer when they are accessed, so the buffer must not be changed after this is created.
+     *
+     * @param buffer byte data of cdi3.json
+     * @return instance of CubismCdiJson
+     */
     public static CubismCdiJson create(byte[] buffer) {
         CubismJson json;
-        json = CubismJson.create(buffer);
+        json = CubismJson.createLazy(buffer);
 
         return new CubismCdiJson(json);
     }
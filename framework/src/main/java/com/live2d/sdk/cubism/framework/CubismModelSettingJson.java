@@ -21,9 +21,16 @@ import java.util.Map;
  * This class deals with model3.json data.
  */
 public class CubismModelSettingJson implements ICubismModelSetting {
+    /**
+     * Constructor
+     * <p>
+     * The values of model3.json are read from the buffer when they are accessed, so the buffer must not be changed after this is created.
+     *
+     * @param buffer byte data of model3.json
+     */
     public CubismModelSettingJson(byte[] buffer) {
         CubismJson json;
-        json = CubismJson.create(buffer);
+        json = CubismJson.createLazy(buffer);
 
         this.json = json;
 
@@ -102,16 +102,29 @@ public class CubismBreath {
         userTimeSeconds += deltaTimeSeconds;
         final float t = userTimeSeconds * 2.0f * PI;
 
-        for (int i = 0; i < breathParameters.size(); i++) {
+        final int parameterCount = breathParameters.size();
+        if (model != boundModel || boundParameterIds.length != parameterCount) {
+            boundModel = model;
+            boundParameterIds = new CubismId[parameterCount];
+            parameterIndices = new int[parameterCount];
+            parameterValues = new float[parameterCount];
+            parameterWeights = new float[parameterCount];
+        }
+
+        for (int i = 0; i < parameterCount; i++) {
             BreathParameterData breathData = breathParameters.get(i);
 
-            final float value = breathData.offset + (breathData.peak * sinF(t / breathData.cycle));
+            // Resolve the parameter index only when the ID is changed.
+            if (boundParameterIds[i] != breathData.parameterId) {
+                boundParameterIds[i] = breathData.parameterId;
+                parameterIndices[i] = model.getParameterIndex(breathData.parameterId);
+            }
 
-            model.addParameterValue(
-                breathData.parameterId,
-                value,
-                breathData.weight);
+            parameterValues[i] = breathData.offset + (breathData.peak * sinF(t / breathData.cycle));
+            parameterWeights[i] = breathData.weight;
         }
+
+        model.addParameterValues(parameterIndices, parameterValues, parameterWeights, parameterCount);
     }
 
     /**
@@ -161,5 +174,26 @@ public class CubismBreath {
      * total elapsed time[s]
      */
     private float userTimeSeconds;
+
+    /**
+     * The model which the parameter indices are resolved for
+     */
+    private CubismModel boundModel;
+    /**
+     * The parameter IDs which the parameter indices are resolved for
+     */
+    private CubismId[] boundParameterIds = new CubismId[0];
+    /**
+     * Indices of the parameters bound breath in the bound model
+     */
+    private int[] parameterIndices = new int[0];
+    /**
+     * Values added to the parameters in the current frame
+     */
+    private float[] parameterValues = new float[0];
+    /**
+     * Weights of the values added to the parameters
+     */
+    private float[] parameterWeights = new float[0];
 }
 
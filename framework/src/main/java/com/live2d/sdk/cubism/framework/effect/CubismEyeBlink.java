@@ -242,10 +242,27 @@ public class CubismEyeBlink {
         if (!CubismEyeBlink.CLOSE_IF_ZERO) {
             value *= -1;
         }
-        for (int i = 0; i < parameterIds.size(); i++) {
+
+        final int parameterCount = parameterIds.size();
+        if (model != boundModel || boundParameterIds.length != parameterCount) {
+            boundModel = model;
+            boundParameterIds = new CubismId[parameterCount];
+            parameterIndices = new int[parameterCount];
+            parameterValues = new float[parameterCount];
+        }
+
+        for (int i = 0; i < parameterCount; i++) {
             CubismId id = parameterIds.get(i);
-            model.setParameterValue(id, value);
+
+            // Resolve the parameter index only when the ID is changed.
+            if (boundParameterIds[i] != id) {
+                boundParameterIds[i] = id;
+                parameterIndices[i] = model.getParameterIndex(id);
+            }
+            parameterValues[i] = value;
         }
+
+        model.setParameterValues(parameterIndices, parameterValues, null, parameterCount);
     }
 
     /**
@@ -321,4 +338,21 @@ public class CubismEyeBlink {
      * total elapsed time[s]
      */
     private float userTimeSeconds;
+
+    /**
+     * The model which the parameter indices are resolved for
+     */
+    private CubismModel boundModel;
+    /**
+     * The parameter IDs which the parameter indices are resolved for
+     */
+    private CubismId[] boundParameterIds = new CubismId[0];
+    /**
+     * Indices of the target parameters in the bound model
+     */
+    private int[] parameterIndices = new int[0];
+    /**
+     * Values set to the target parameters
+     */
+    private float[] parameterValues = new float[0];
 }
@@ -10,10 +10,13 @@ package com.live2d.sdk.cubism.framework.effect;
 import com.live2d.sdk.cubism.framework.CubismFramework;
 import com.live2d.sdk.cubism.framework.id.CubismId;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryCache;
+import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.ACubismJsonValue;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJson;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJsonString;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -113,6 +116,60 @@ public class CubismPose {
         return pose;
     }
 
+    /**
+     * Create a CubismPose instance from a binary cache created by {@link #createCache(long)} without parsing pose3.json.
+     *
+     * @param cache buffer where the cache is loaded. The position of the buffer is not changed.
+     * @param contentHash content hash of pose3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return the created instance. null if the cache is not for the content hash or is broken; then pose3.json has to be loaded by create().
+     */
+    public static CubismPose createFromCache(ByteBuffer cache, long contentHash) {
+        final CubismBinaryCache.Reader reader = CubismBinaryCache.read(cache, CubismBinaryCache.DataType.POSE, contentHash);
+        if (reader == null) {
+            return null;
+        }
+
+        CubismPose pose = new CubismPose();
+        try {
+            pose.readCache(reader);
+        } catch (IllegalArgumentException e) {
+            CubismDebug.cubismLogWarning("The binary cache of pose3.json is broken.");
+            return null;
+        }
+
+        return pose;
+    }
+
+    /**
+     * Create a binary cache of this pose, which can be loaded by {@link #createFromCache(ByteBuffer, long)}.
+     *
+     * @param contentHash content hash of pose3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return bytes of the cache
+     */
+    public byte[] createCache(long contentHash) {
+        final CubismBinaryCache.Writer writer = CubismBinaryCache.write(CubismBinaryCache.DataType.POSE, contentHash);
+
+        writer.putFloat(fadeTimeSeconds);
+
+        writer.putInt(partGroupCounts.size());
+        for (int i = 0; i < partGroupCounts.size(); i++) {
+            writer.putInt(partGroupCounts.get(i));
+        }
+
+        writer.putInt(partGroups.size());
+        for (int i = 0; i < partGroups.size(); i++) {
+            final PartData partData = partGroups.get(i);
+
+            writer.putId(partData.partId);
+            writer.putInt(partData.linkedParameter.size());
+            for (int j = 0; j < partData.linkedParameter.size(); j++) {
+                writer.putId(partData.linkedParameter.get(j).partId);
+            }
+        }
+
+        return writer.toByteArray();
+    }
+
     /**
      * Update model's parameters.
      *
@@ -156,6 +213,50 @@ public class CubismPose {
         return partData;
     }
 
+    /**
+     * Read the parts groups from a binary cache written by {@link #createCache(long)}.
+     *
+     * @param reader reader of the cache
+     * @throws IllegalArgumentException if the cache is broken
+     */
+    private void readCache(CubismBinaryCache.Reader reader) {
+        fadeTimeSeconds = reader.getFloat();
+
+        int totalPartCount = 0;
+        final int groupCount = reader.getCount(4);
+        for (int i = 0; i < groupCount; i++) {
+            final int partCount = reader.getInt();
+            if (partCount < 0) {
+                throw new IllegalArgumentException("The binary cache of pose3.json is broken.");
+            }
+            partGroupCounts.add(partCount);
+            totalPartCount += partCount;
+        }
+
+        // ID length and link count
+        final int partCount = reader.getCount(4 * 2);
+        if (partCount != totalPartCount) {
+            throw new IllegalArgumentException("The binary cache of pose3.json is broken.");
+        }
+        for (int i = 0; i < partCount; i++) {
+            final PartData partData = new PartData();
+            partData.partId = reader.getId();
+
+            final int linkCount = reader.getCount(4);
+            for (int j = 0; j < linkCount; j++) {
+                PartData linkedPart = new PartData();
+                linkedPart.partId = reader.getId();
+
+                partData.linkedParameter.add(linkedPart);
+            }
+            partGroups.add(partData);
+        }
+
+        if (!reader.isEnd()) {
+            throw new IllegalArgumentException("The binary cache of pose3.json is broken.");
+        }
+    }
+
     /**
      * Setup linked parts.
      *
@@ -7,11 +7,15 @@
 
 package com.live2d.sdk.cubism.framework.id;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Manager class of ID names
+ * <p>
+ * IDs are interned in a hash table, so the same ID name always returns the same instance.
+ * This class is thread-safe, and the lookup of a registered ID does not take a lock.
  */
 public class CubismIdManager {
     /**
@@ -43,6 +47,7 @@ public class CubismIdManager {
      *
      * @param id ID name
      * @return ID instance
+     * @throws IllegalArgumentException if the ID name is null
      */
     public CubismId registerId(String id) {
         CubismId foundId = findId(id);
@@ -51,10 +56,15 @@ public class CubismIdManager {
             return foundId;
         }
 
+        // A null ID name is rejected by the constructor before it reaches ConcurrentHashMap, which does not accept a null key.
         CubismId cubismId = new CubismId(id);
-        ids.add(cubismId);
 
-        return cubismId;
+        // If another thread has registered the same ID meanwhile, return that instance.
+        CubismId registeredId = ids.putIfAbsent(id, cubismId);
+
+        return registeredId != null
+               ? registeredId
+               : cubismId;
     }
 
     /**
@@ -73,6 +83,7 @@ public class CubismIdManager {
      *
      * @param id ID name
      * @return ID instance
+     * @throws IllegalArgumentException if the ID name is null
      */
     public CubismId getId(String id) {
         return registerId(id);
@@ -109,14 +120,10 @@ public class CubismIdManager {
      * @return If there is a registered ID, return the CubismId instance.
      */
     private CubismId findId(String foundId) {
-        for (int i = 0; i < ids.size(); i++) {
-            CubismId id = ids.get(i);
-
-            if (id.getString().equals(foundId)) {
-                return id;
-            }
+        if (foundId == null) {
+            return null;
         }
-        return null;
+        return ids.get(foundId);
     }
 
     /**
@@ -126,18 +133,14 @@ public class CubismIdManager {
      * @return If there is a registered ID, return the CubismId instance.
      */
     private CubismId findId(CubismId foundId) {
-        for (int i = 0; i < ids.size(); i++) {
-            CubismId id = ids.get(i);
-
-            if (id.equals(foundId)) {
-                return id;
-            }
+        if (foundId == null) {
+            return null;
         }
-        return null;
+        return ids.get(foundId.getString());
     }
 
     /**
-     * The registered IDs list.
+     * The registered IDs keyed by the ID name.
      */
-    private final List<CubismId> ids = new ArrayList<CubismId>();
+    private final ConcurrentMap<String, CubismId> ids = new ConcurrentHashMap<String, CubismId>();
 }
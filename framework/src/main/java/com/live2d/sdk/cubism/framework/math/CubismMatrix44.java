@@ -72,18 +72,45 @@ public class CubismMatrix44 {
             throw new IllegalArgumentException("The passed array is either 'null' or does not have a size of 16.");
         }
 
-        for (int i = 0; i < 16; i++) {
-            matrixForMultiplication[i] = 0.0f;
-        }
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                for (int k = 0; k < 4; k++) {
-                    matrixForMultiplication[j + i * 4] += multiplicand[k + i * 4] * multiplier[j + k * 4];
-                }
-            }
-        }
-
-        System.arraycopy(matrixForMultiplication, 0, dst, 0, 16);
+        // The products are kept in local variables until all of them are calculated,
+        // because dst may be the same array as multiplicand or multiplier.
+        // No shared buffer is used, so this method can be called from multiple threads.
+        final float m00 = 0.0f + multiplicand[0] * multiplier[0] + multiplicand[1] * multiplier[4] + multiplicand[2] * multiplier[8] + multiplicand[3] * multiplier[12];
+        final float m01 = 0.0f + multiplicand[0] * multiplier[1] + multiplicand[1] * multiplier[5] + multiplicand[2] * multiplier[9] + multiplicand[3] * multiplier[13];
+        final float m02 = 0.0f + multiplicand[0] * multiplier[2] + multiplicand[1] * multiplier[6] + multiplicand[2] * multiplier[10] + multiplicand[3] * multiplier[14];
+        final float m03 = 0.0f + multiplicand[0] * multiplier[3] + multiplicand[1] * multiplier[7] + multiplicand[2] * multiplier[11] + multiplicand[3] * multiplier[15];
+
+        final float m10 = 0.0f + multiplicand[4] * multiplier[0] + multiplicand[5] * multiplier[4] + multiplicand[6] * multiplier[8] + multiplicand[7] * multiplier[12];
+        final float m11 = 0.0f + multiplicand[4] * multiplier[1] + multiplicand[5] * multiplier[5] + multiplicand[6] * multiplier[9] + multiplicand[7] * multiplier[13];
+        final float m12 = 0.0f + multiplicand[4] * multiplier[2] + multiplicand[5] * multiplier[6] + multiplicand[6] * multiplier[10] + multiplicand[7] * multiplier[14];
+        final float m13 = 0.0f + multiplicand[4] * multiplier[3] + multiplicand[5] * multiplier[7] + multiplicand[6] * multiplier[11] + multiplicand[7] * multiplier[15];
+
+        final float m20 = 0.0f + multiplicand[8] * multiplier[0] + multiplicand[9] * multiplier[4] + multiplicand[10] * multiplier[8] + multiplicand[11] * multiplier[12];
+        final float m21 = 0.0f + multiplicand[8] * multiplier[1] + multiplicand[9] * multiplier[5] + multiplicand[10] * multiplier[9] + multiplicand[11] * multiplier[13];
+        final float m22 = 0.0f + multiplicand[8] * multiplier[2] + multiplicand[9] * multiplier[6] + multiplicand[10] * multiplier[10] + multiplicand[11] * multiplier[14];
+        final float m23 = 0.0f + multiplicand[8] * multiplier[3] + multiplicand[9] * multiplier[7] + multiplicand[10] * multiplier[11] + multiplicand[11] * multiplier[15];
+
+        final float m30 = 0.0f + multiplicand[12] * multiplier[0] + multiplicand[13] * multiplier[4] + multiplicand[14] * multiplier[8] + multiplicand[15] * multiplier[12];
+        final float m31 = 0.0f + multiplicand[12] * multiplier[1] + multiplicand[13] * multiplier[5] + multiplicand[14] * multiplier[9] + multiplicand[15] * multiplier[13];
+        final float m32 = 0.0f + multiplicand[12] * multiplier[2] + multiplicand[13] * multiplier[6] + multiplicand[14] * multiplier[10] + multiplicand[15] * multiplier[14];
+        final float m33 = 0.0f + multiplicand[12] * multiplier[3] + multiplicand[13] * multiplier[7] + multiplicand[14] * multiplier[11] + multiplicand[15] * multiplier[15];
+
+        dst[0] = m00;
+        dst[1] = m01;
+        dst[2] = m02;
+        dst[3] = m03;
+        dst[4] = m10;
+        dst[5] = m11;
+        dst[6] = m12;
+        dst[7] = m13;
+        dst[8] = m20;
+        dst[9] = m21;
+        dst[10] = m22;
+        dst[11] = m23;
+        dst[12] = m30;
+        dst[13] = m31;
+        dst[14] = m32;
+        dst[15] = m33;
     }
 
     /**
@@ -417,7 +444,7 @@ public class CubismMatrix44 {
     /**
      * Resets the variable '_4x4MatrixForCalculation' to a unit matrix.
      */
-    private static void resetMatrixForCalcToUnitMatrix() {
+    private void resetMatrixForCalcToUnitMatrix() {
         for (int i = 0; i < 16; i++) {
             matrixForCalculation[i] = 0.0f;
         }
@@ -430,11 +457,7 @@ public class CubismMatrix44 {
     /**
      * The 4x4 matrix array for matrix calculation.
      * This exists for avoiding creating a new float array at running method.
+     * Each instance has its own array so that different matrices can be calculated on different threads.
      */
-    private static final float[] matrixForCalculation = new float[16];
-    /**
-     * The 4x4 matrix array for 'multiply' method.
-     * Prevents _4x4MatrixForCalculation from resetting the multiplicand information when it is passed to the 'multiply' method.
-     */
-    private static final float[] matrixForMultiplication = new float[16];
+    private final float[] matrixForCalculation = new float[16];
 }
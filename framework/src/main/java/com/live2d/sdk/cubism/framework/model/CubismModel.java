@@ -17,6 +17,8 @@ import com.live2d.sdk.cubism.framework.rendering.csmBlendMode;
 import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -429,10 +431,54 @@ public class CubismModel {
 
     /**
      * Update model's parameters.
+     * The flags of the changed parameters are cleared.
+     * <p>
+     * If the update skipping is enabled and no parameter value or part opacity has been changed since the last update,
+     * the update of the Cubism Core model is skipped and the result of the last update is kept.
      */
     public void update() {
+        if (isUpdateSkippingEnabled && !isCoreUpdateRequired && changedParameterFlags.isEmpty()) {
+            isUpdateSkipped = true;
+            return;
+        }
+
         model.update();
         model.resetDrawableDynamicFlags();
+
+        changedParameterFlags.clear();
+        isCoreUpdateRequired = false;
+        isUpdateSkipped = false;
+    }
+
+    /**
+     * Set whether the update of the Cubism Core model is skipped when the model is at rest.
+     * <p>
+     * When it is enabled, {@link #update()} does nothing if no parameter value or part opacity has been changed since the last update.
+     * Values written directly to the Cubism Core model have to be reported with {@link #markParameterValueChanged(int)}.
+     *
+     * @param enabled true to skip the update of the model at rest
+     */
+    public void setUpdateSkippingEnabled(boolean enabled) {
+        isUpdateSkippingEnabled = enabled;
+    }
+
+    /**
+     * Whether the update of the Cubism Core model is skipped when the model is at rest.
+     *
+     * @return If the update skipping is enabled, return true.
+     */
+    public boolean isUpdateSkippingEnabled() {
+        return isUpdateSkippingEnabled;
+    }
+
+    /**
+     * Whether the last {@link #update()} skipped the update of the Cubism Core model.
+     * If it returns true, the vertices and the other drawable information are the same as the previous frame.
+     *
+     * @return If the last update was skipped, return true.
+     */
+    public boolean isUpdateSkipped() {
+        return isUpdateSkipped;
     }
 
     /**
@@ -535,16 +581,15 @@ public class CubismModel {
         }
 
         // If the part does not exist in the non-existent part ID list, add newly the element.
-        final int partCount = partValues.length;
-        final int partIndex = partCount + notExistPartIds.size();
+        // The indices of non-existent parts are always appended after the parts of the model.
+        final int notExistIndex = notExistPartIds.size();
+        final int partIndex = partValues.length + notExistIndex;
         notExistPartIds.put(partId, partIndex);
-        notExistPartIndices.add(partIndex);
 
-        float[] tmp = new float[notExistPartIndices.size()];
-        System.arraycopy(notExistPartOpacities, 0, tmp, 0, notExistPartIndices.size() - 1);
-        tmp[notExistPartIndices.size() - 1] = 0.0f;
-        notExistPartOpacities = new float[notExistPartIndices.size()];
-        System.arraycopy(tmp, 0, notExistPartOpacities, 0, notExistPartIndices.size());
+        if (notExistIndex >= notExistPartOpacities.length) {
+            notExistPartOpacities = Arrays.copyOf(notExistPartOpacities, notExistPartOpacities.length * 2);
+        }
+        notExistPartOpacities[notExistIndex] = 0.0f;
 
         return partIndex;
     }
@@ -613,16 +658,19 @@ public class CubismModel {
      * @param opacity part opacity
      */
     public void setPartOpacity(int partIndex, float opacity) {
-        if (notExistPartIndices.contains(partIndex)) {
-            int index = notExistPartIndices.indexOf(partIndex);
-            notExistPartOpacities[index] = opacity;
+        if (partIndex >= partValues.length) {
+            notExistPartOpacities[partIndex - partValues.length] = opacity;
             return;
         }
 
         // Detect whether partIndex is not out of bounds index
         assert 0 <= partIndex && partIndex < getPartCount();
 
-        partValues[partIndex].setOpacity(opacity);
+        final CubismPartView part = partValues[partIndex];
+        if (part.getOpacity() != opacity) {
+            part.setOpacity(opacity);
+            isCoreUpdateRequired = true;
+        }
     }
 
     /**
@@ -650,10 +698,9 @@ public class CubismModel {
      * @return part opacity
      */
     public float getPartOpacity(int partIndex) {
-        if (notExistPartIndices.contains(partIndex)) {
+        if (partIndex >= partValues.length) {
             // If the part ID does not exist in the model, returns the opacity from non-existence parts list.
-            int index = notExistPartIndices.indexOf(partIndex);
-            return notExistPartOpacities[index];
+            return notExistPartOpacities[partIndex - partValues.length];
         }
 
         // Detect whether partIndex is not out of bounds index
@@ -755,16 +802,15 @@ public class CubismModel {
         }
 
         // If the parameter does not exist in the non-existent parameter ID list, add newly the element.
-        final int parameterCount = parameterValues.length;
-        final int parameterIndex = parameterCount + notExistParameterIds.size();
+        // The indices of non-existent parameters are always appended after the parameters of the model.
+        final int notExistIndex = notExistParameterIds.size();
+        final int parameterIndex = parameterValues.length + notExistIndex;
         notExistParameterIds.put(parameterId, parameterIndex);
-        notExistParameterIndices.add(parameterIndex);
 
-        float[] tmp = new float[notExistParameterIndices.size()];
-        System.arraycopy(notExistParameterValues, 0, tmp, 0, notExistParameterIndices.size() - 1);
-        tmp[notExistParameterIndices.size() - 1] = 0.0f;
-        notExistParameterValues = new float[notExistParameterIndices.size()];
-        System.arraycopy(tmp, 0, notExistParameterValues, 0, notExistParameterIndices.size());
+        if (notExistIndex >= notExistParameterValues.length) {
+            notExistParameterValues = Arrays.copyOf(notExistParameterValues, notExistParameterValues.length * 2);
+        }
+        notExistParameterValues[notExistIndex] = 0.0f;
 
         return parameterIndex;
     }
@@ -848,10 +894,8 @@ public class CubismModel {
      * @return the value of parameter
      */
     public float getParameterValue(int parameterIndex) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
-            int index = notExistParameterIndices.indexOf(parameterIndex);
-            final float value = notExistParameterValues[index];
-            return value;
+        if (parameterIndex >= parameterValues.length) {
+            return notExistParameterValues[parameterIndex - parameterValues.length];
         }
 
         // Detect whether partIndex is not out of bounds index
@@ -900,8 +944,8 @@ public class CubismModel {
      * @param weight weight
      */
     public void setParameterValue(int parameterIndex, float value, float weight) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
-            int index = notExistParameterIndices.indexOf(parameterIndex);
+        if (parameterIndex >= parameterValues.length) {
+            final int index = parameterIndex - parameterValues.length;
             final float parameterValue = notExistParameterValues[index];
             final float weightedParameterValue = (weight == 1.0f)
                                                  ? value
@@ -927,6 +971,107 @@ public class CubismModel {
                                              ? value
                                              : (parameterValue * (1.0f - weight)) + (value * weight);
         parameter.setValue(weightedParameterValue);
+
+        if (weightedParameterValue != parameterValue) {
+            changedParameterFlags.set(parameterIndex);
+        }
+    }
+
+    /**
+     * Write the value of the existing parameter directly to the parameter values of the Cubism Core model.
+     * This is the same process as {@link #setParameterValue(int, float, float)} with the arrays fetched once by the caller.
+     *
+     * @param parameterIndex parameter index
+     * @param value parameter value
+     * @param weight weight
+     * @param currentValues parameter values of the Cubism Core model
+     * @param minimumValues minimum values of the parameters
+     * @param maximumValues maximum values of the parameters
+     * @param parameterRepeats repeat settings of the parameters in the Cubism Core model
+     */
+    private void applyParameterValue(
+        int parameterIndex,
+        float value,
+        float weight,
+        float[] currentValues,
+        float[] minimumValues,
+        float[] maximumValues,
+        boolean[] parameterRepeats
+    ) {
+        final boolean isRepeat;
+        if (isOverriddenParameterRepeat || userParameterRepeatDataList.get(parameterIndex).isOverridden) {
+            isRepeat = userParameterRepeatDataList.get(parameterIndex).isParameterRepeated;
+        } else {
+            isRepeat = parameterRepeats[parameterIndex];
+        }
+
+        if (isRepeat) {
+            value = getParameterRepeatValue(parameterIndex, value);
+        } else {
+            value = CubismMath.clampF(value, minimumValues[parameterIndex], maximumValues[parameterIndex]);
+        }
+
+        final float parameterValue = currentValues[parameterIndex];
+        final float weightedParameterValue = (weight == 1.0f)
+                                             ? value
+                                             : (parameterValue * (1.0f - weight)) + (value * weight);
+        currentValues[parameterIndex] = weightedParameterValue;
+
+        if (weightedParameterValue != parameterValue) {
+            changedParameterFlags.set(parameterIndex);
+        }
+    }
+
+    /**
+     * Whether the value of the parameter has been changed since the last {@link #update()}.
+     *
+     * @param parameterIndex parameter index
+     * @return If the value has been changed, return true. If the parameter does not exist in the model, return false.
+     */
+    public boolean isParameterValueChanged(int parameterIndex) {
+        if (parameterIndex < 0) {
+            return false;
+        }
+        return changedParameterFlags.get(parameterIndex);
+    }
+
+    /**
+     * Whether the value of any parameter has been changed since the last {@link #update()}.
+     *
+     * @return If the value of any parameter has been changed, return true.
+     */
+    public boolean isAnyParameterValueChanged() {
+        return !changedParameterFlags.isEmpty();
+    }
+
+    /**
+     * Get the index of the first parameter changed since the last {@link #update()} at or after the specified index.
+     * The changed parameters can be iterated as follows without allocation.
+     * <pre>
+     * for (int i = model.getNextChangedParameterIndex(0); i &gt;= 0; i = model.getNextChangedParameterIndex(i + 1)) {
+     *     // The value of the parameter i has been changed.
+     * }
+     * </pre>
+     *
+     * @param fromIndex index to start searching from
+     * @return index of the changed parameter. If there is none, return -1.
+     */
+    public int getNextChangedParameterIndex(int fromIndex) {
+        return changedParameterFlags.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Mark the parameter as changed.
+     * Call this when the value is written directly to the parameter values of the Cubism Core model
+     * instead of through {@link #setParameterValue(int, float, float)}.
+     *
+     * @param parameterIndex parameter index
+     */
+    public void markParameterValueChanged(int parameterIndex) {
+        if (parameterIndex < 0 || parameterIndex >= parameterValues.length) {
+            return;
+        }
+        changedParameterFlags.set(parameterIndex);
     }
 
     /**
@@ -937,7 +1082,7 @@ public class CubismModel {
      * @return true if it is set, otherwise returns false.
      */
     public boolean isRepeat(int parameterIndex) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
+        if (parameterIndex >= parameterValues.length) {
             return false;
         }
 
@@ -967,7 +1112,7 @@ public class CubismModel {
      * @return a value that falls within the parameter’s range. If the parameter does not exist, returns it as is.
      */
     public float getParameterRepeatValue(int parameterIndex, float value) {
-        if (this.notExistParameterIndices.contains(parameterIndex)) {
+        if (parameterIndex >= parameterValues.length) {
             return value;
         }
         // In-index range detection
@@ -1006,7 +1151,7 @@ public class CubismModel {
      * @return the clamped value. If the parameter does not exist, returns it as is.
      */
     public float getParameterClampValue(int parameterIndex, float value) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
+        if (parameterIndex >= parameterValues.length) {
             return value;
         }
 
@@ -1122,6 +1267,106 @@ public class CubismModel {
         );
     }
 
+    /**
+     * Set the values of the parameters at once.
+     * The result is the same as calling {@link #setParameterValue(int, float, float)} for each element in order.
+     *
+     * @param parameterIndices parameter indices
+     * @param values parameter values
+     * @param weights weights. If null, 1.0 is used for all the parameters.
+     * @param count number of the parameters to be set
+     */
+    public void setParameterValues(int[] parameterIndices, float[] values, float[] weights, int count) {
+        final float[] currentValues = model.getParameters().getValues();
+        final float[] minimumValues = model.getParameters().getMinimumValues();
+        final float[] maximumValues = model.getParameters().getMaximumValues();
+        final boolean[] parameterRepeats = model.getParameters().getParameterRepeats();
+
+        for (int i = 0; i < count; i++) {
+            final int parameterIndex = parameterIndices[i];
+            final float weight = (weights == null) ? 1.0f : weights[i];
+
+            if (parameterIndex >= parameterValues.length) {
+                setParameterValue(parameterIndex, values[i], weight);
+                continue;
+            }
+
+            applyParameterValue(parameterIndex, values[i], weight, currentValues, minimumValues, maximumValues, parameterRepeats);
+        }
+    }
+
+    /**
+     * Add the values to the parameters at once.
+     * The result is the same as calling {@link #addParameterValue(int, float, float)} for each element in order.
+     *
+     * @param parameterIndices parameter indices
+     * @param values the values to be added
+     * @param weights weights. If null, 1.0 is used for all the parameters.
+     * @param count number of the parameters to be added
+     */
+    public void addParameterValues(int[] parameterIndices, float[] values, float[] weights, int count) {
+        final float[] currentValues = model.getParameters().getValues();
+        final float[] minimumValues = model.getParameters().getMinimumValues();
+        final float[] maximumValues = model.getParameters().getMaximumValues();
+        final boolean[] parameterRepeats = model.getParameters().getParameterRepeats();
+
+        for (int i = 0; i < count; i++) {
+            final int parameterIndex = parameterIndices[i];
+            final float weight = (weights == null) ? 1.0f : weights[i];
+
+            if (parameterIndex >= parameterValues.length) {
+                addParameterValue(parameterIndex, values[i], weight);
+                continue;
+            }
+
+            applyParameterValue(
+                parameterIndex,
+                currentValues[parameterIndex] + (values[i] * weight),
+                1.0f,
+                currentValues,
+                minimumValues,
+                maximumValues,
+                parameterRepeats
+            );
+        }
+    }
+
+    /**
+     * Multiply the values of the parameters at once.
+     * The result is the same as calling {@link #multiplyParameterValue(int, float, float)} for each element in order.
+     *
+     * @param parameterIndices parameter indices
+     * @param values the values to be multiplied
+     * @param weights weights. If null, 1.0 is used for all the parameters.
+     * @param count number of the parameters to be multiplied
+     */
+    public void multiplyParameterValues(int[] parameterIndices, float[] values, float[] weights, int count) {
+        final float[] currentValues = model.getParameters().getValues();
+        final float[] minimumValues = model.getParameters().getMinimumValues();
+        final float[] maximumValues = model.getParameters().getMaximumValues();
+        final boolean[] parameterRepeats = model.getParameters().getParameterRepeats();
+
+        for (int i = 0; i < count; i++) {
+            final int parameterIndex = parameterIndices[i];
+            final float weight = (weights == null) ? 1.0f : weights[i];
+
+            if (parameterIndex >= parameterValues.length) {
+                multiplyParameterValue(parameterIndex, values[i], weight);
+                continue;
+            }
+
+            applyParameterValue(
+                parameterIndex,
+                currentValues[parameterIndex] * (1.0f + (values[i] - 1.0f) * weight),
+                1.0f,
+                currentValues,
+                minimumValues,
+                maximumValues,
+                parameterRepeats
+            );
+        }
+    }
+
     //========================================================
     //  Drawable Functions.
     //========================================================
@@ -1611,7 +1856,10 @@ public class CubismModel {
         }
 
         for (int i = 0; i < parameterCount; ++i) {
-            parameterValues[i].setValue(savedParameters[i]);
+            if (parameterValues[i].getValue() != savedParameters[i]) {
+                parameterValues[i].setValue(savedParameters[i]);
+                changedParameterFlags.set(i);
+            }
         }
     }
 
@@ -2817,24 +3065,41 @@ public class CubismModel {
     }
 
     /**
-     * List of opacities for non-existent parts
+     * List of opacities for non-existent parts.
+     * The opacity of the part whose index is (part count + i) is stored at i.
      */
     private float[] notExistPartOpacities = new float[1];
-    private final List<Integer> notExistPartIndices = new ArrayList<Integer>();
 
     /**
      * List of IDs for non-existent parts
      */
     private final Map<CubismId, Integer> notExistPartIds = new HashMap<CubismId, Integer>();
     /**
-     * List of values for non-existent parameters
+     * List of values for non-existent parameters.
+     * The value of the parameter whose index is (parameter count + i) is stored at i.
      */
     private float[] notExistParameterValues = new float[1];
-    private final List<Integer> notExistParameterIndices = new ArrayList<Integer>();
     /**
      * List of IDs for non-existent parameters
      */
     private final Map<CubismId, Integer> notExistParameterIds = new HashMap<CubismId, Integer>();
+    /**
+     * Flags of the parameters whose values have been changed since the last update
+     */
+    private final BitSet changedParameterFlags = new BitSet();
+    /**
+     * Whether the Cubism Core model has to be updated regardless of the parameter values.
+     * It is set before the first update and when the opacity of a part is changed.
+     */
+    private boolean isCoreUpdateRequired = true;
+    /**
+     * Whether the update of the model at rest is skipped
+     */
+    private boolean isUpdateSkippingEnabled;
+    /**
+     * Whether the last update was skipped
+     */
+    private boolean isUpdateSkipped;
     /**
      * Saved parameters
      */
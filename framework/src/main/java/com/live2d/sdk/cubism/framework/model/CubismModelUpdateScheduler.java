@@ -0,0 +1,157 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class updates multiple models concurrently.
+ * <p>
+ * The models are updated on the worker threads of a fork-join pool, and {@link #update(List, float, ICubismModelUpdater)} returns after all the models have been updated.
+ * Call it on the GL thread before drawing the models.
+ * <p>
+ * The update of a model must not share objects with the updates of the other models, and must not call OpenGL ES.
+ * The following objects keep the state of the last update and must be held by each model:
+ * <ul>
+ * <li>{@link com.live2d.sdk.cubism.framework.motion.CubismMotion} and the other motions. The curve binding is held per model in the queue entry,
+ * but the opacity, the last weight and the previous loop state are written by every update.</li>
+ * <li>{@link com.live2d.sdk.cubism.framework.motion.CubismExpressionMotion}, which keeps the fade weight.</li>
+ * <li>{@link com.live2d.sdk.cubism.framework.motion.CubismMotionManager} and {@link com.live2d.sdk.cubism.framework.motion.CubismExpressionMotionManager}.</li>
+ * <li>{@link com.live2d.sdk.cubism.framework.physics.CubismPhysics}, {@link com.live2d.sdk.cubism.framework.effect.CubismPose},
+ * {@link com.live2d.sdk.cubism.framework.effect.CubismEyeBlink} and {@link com.live2d.sdk.cubism.framework.effect.CubismBreath}.</li>
+ * </ul>
+ * {@link com.live2d.sdk.cubism.framework.id.CubismIdManager} can be shared because it is thread-safe.
+ */
+public class CubismModelUpdateScheduler {
+    /**
+     * Create a scheduler whose parallelism is the number of available processors.
+     *
+     * @return a scheduler instance
+     */
+    public static CubismModelUpdateScheduler create() {
+        return new CubismModelUpdateScheduler(new ForkJoinPool());
+    }
+
+    /**
+     * Create a scheduler with the specified parallelism.
+     *
+     * @param parallelism number of threads to update the models
+     * @return a scheduler instance
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public static CubismModelUpdateScheduler create(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be 1 or more.");
+        }
+        return new CubismModelUpdateScheduler(new ForkJoinPool(parallelism));
+    }
+
+    /**
+     * Update all the models and wait for the completion.
+     * If the update of any model throws an exception, it is rethrown on the calling thread.
+     *
+     * @param models models to be updated
+     * @param deltaTimeSeconds delta time[s]
+     * @param updater update process of each model
+     * @param <T> type of the model
+     * @throws IllegalArgumentException if models or updater is null
+     */
+    public <T> void update(List<T> models, float deltaTimeSeconds, ICubismModelUpdater<? super T> updater) {
+        if (models == null || updater == null) {
+            throw new IllegalArgumentException("models or updater is null.");
+        }
+
+        final int modelCount = models.size();
+
+        // There is no need to use other threads.
+        if (modelCount <= 1 || pool.getParallelism() == 1) {
+            for (int i = 0; i < modelCount; i++) {
+                updater.update(models.get(i), deltaTimeSeconds);
+            }
+            return;
+        }
+
+        pool.invoke(new UpdateTask<T>(models, 0, modelCount, deltaTimeSeconds, updater));
+    }
+
+    /**
+     * Get the number of threads to update the models.
+     *
+     * @return parallelism of this scheduler
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Stop the worker threads.
+     * The scheduler cannot be used after this method is called.
+     */
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * The task which updates the models in the range. It is split in half until one model remains.
+     *
+     * @param <T> type of the model
+     */
+    private static class UpdateTask<T> extends RecursiveAction {
+        public UpdateTask(
+            List<T> models,
+            int begin,
+            int end,
+            float deltaTimeSeconds,
+            ICubismModelUpdater<? super T> updater
+        ) {
+            this.models = models;
+            this.begin = begin;
+            this.end = end;
+            this.deltaTimeSeconds = deltaTimeSeconds;
+            this.updater = updater;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin == 1) {
+                updater.update(models.get(begin), deltaTimeSeconds);
+                return;
+            }
+
+            final int middle = (begin + end) >>> 1;
+            invokeAll(
+                new UpdateTask<T>(models, begin, middle, deltaTimeSeconds, updater),
+                new UpdateTask<T>(models, middle, end, deltaTimeSeconds, updater)
+            );
+        }
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> models;
+        private final int begin;
+        private final int end;
+        private final float deltaTimeSeconds;
+        private final ICubismModelUpdater<? super T> updater;
+    }
+
+    /**
+     * private constructor
+     *
+     * @param pool the pool whose threads update the models
+     */
+    private CubismModelUpdateScheduler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * The pool whose threads update the models
+     */
+    private final ForkJoinPool pool;
+}
@@ -12,6 +12,8 @@ import static com.live2d.sdk.cubism.framework.CubismFramework.VERTEX_STEP;
 import static com.live2d.sdk.cubism.framework.utils.CubismDebug.cubismLogError;
 import static com.live2d.sdk.cubism.framework.utils.CubismDebug.cubismLogInfo;
 
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.ICubismLoadFileFunction;
 import com.live2d.sdk.cubism.framework.effect.CubismBreath;
 import com.live2d.sdk.cubism.framework.effect.CubismEyeBlink;
 import com.live2d.sdk.cubism.framework.effect.CubismPose;
@@ -28,6 +30,9 @@ import com.live2d.sdk.cubism.framework.motion.ICubismMotionEventFunction;
 import com.live2d.sdk.cubism.framework.motion.IFinishedMotionCallback;
 import com.live2d.sdk.cubism.framework.physics.CubismPhysics;
 import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryCache;
+
+import java.nio.ByteBuffer;
 
 /**
  * This is the base class of the model that the user actually utilizes. The user defined model class inherits this class.
@@ -409,6 +414,41 @@ public abstract class CubismUserModel {
         return loadMotion(buffer, null, null, false);
     }
 
+    /**
+     * Load a motion data from the binary cache created by {@link CubismMotion#createCache(long)}.
+     * If the cache is not created from the motion3.json of the content hash, the motion3.json is loaded
+     * by the function set to {@link CubismFramework.Option#loadFileFunction} and parsed instead.
+     *
+     * @param cache a buffer where the binary cache is loaded. It can be null.
+     * @param contentHash content hash of the motion3.json calculated in advance by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @param filePath path of the motion3.json loaded when the cache cannot be used
+     * @param onFinishedMotionHandler the callback method called at finishing motion play. If it is null, callbacking methods is not conducting.
+     * @param onBeganMotionHandler the callback method called at beginning motion play. If it is null, callbacking methods is not conducting.
+     * @param shouldCheckMotionConsistency flag to validate the consistency of motion3.json when it is parsed.
+     * @return motion class
+     */
+    protected CubismMotion loadMotion(
+        ByteBuffer cache,
+        long contentHash,
+        String filePath,
+        IFinishedMotionCallback onFinishedMotionHandler,
+        IBeganMotionCallback onBeganMotionHandler,
+        boolean shouldCheckMotionConsistency
+    ) {
+        final CubismMotion motion = CubismMotion.createFromCache(cache, contentHash);
+        if (motion == null) {
+            final byte[] buffer = loadFile(filePath);
+            if (buffer == null) {
+                return null;
+            }
+            return loadMotion(buffer, onFinishedMotionHandler, onBeganMotionHandler, shouldCheckMotionConsistency);
+        }
+
+        motion.setFinishedMotionHandler(onFinishedMotionHandler);
+        motion.setBeganMotionHandler(onBeganMotionHandler);
+        return motion;
+    }
+
     /**
      * Load a expression data.
      *
@@ -424,6 +464,28 @@ public abstract class CubismUserModel {
         }
     }
 
+    /**
+     * Load a expression data from the binary cache created by {@link CubismExpressionMotion#createCache(long)}.
+     * If the cache is not created from the exp3.json of the content hash, the exp3.json is loaded
+     * by the function set to {@link CubismFramework.Option#loadFileFunction} and parsed instead.
+     *
+     * @param cache a buffer where the binary cache is loaded. It can be null.
+     * @param contentHash content hash of the exp3.json calculated in advance by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @param filePath path of the exp3.json loaded when the cache cannot be used
+     * @return motion class
+     */
+    protected CubismExpressionMotion loadExpression(ByteBuffer cache, long contentHash, String filePath) {
+        final CubismExpressionMotion expression = CubismExpressionMotion.createFromCache(cache, contentHash);
+        if (expression == null) {
+            final byte[] buffer = loadFile(filePath);
+            if (buffer == null) {
+                return null;
+            }
+            return loadExpression(buffer);
+        }
+        return expression;
+    }
+
     /**
      * Load pose data.
      *
@@ -437,6 +499,25 @@ public abstract class CubismUserModel {
         }
     }
 
+    /**
+     * Load pose data from the binary cache created by {@link CubismPose#createCache(long)}.
+     * If the cache is not created from the pose3.json of the content hash, the pose3.json is loaded
+     * by the function set to {@link CubismFramework.Option#loadFileFunction} and parsed instead.
+     *
+     * @param cache a buffer where the binary cache is loaded. It can be null.
+     * @param contentHash content hash of the pose3.json calculated in advance by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @param filePath path of the pose3.json loaded when the cache cannot be used
+     */
+    protected void loadPose(ByteBuffer cache, long contentHash, String filePath) {
+        pose = CubismPose.createFromCache(cache, contentHash);
+        if (pose == null) {
+            final byte[] buffer = loadFile(filePath);
+            if (buffer != null) {
+                loadPose(buffer);
+            }
+        }
+    }
+
     /**
      * Load physics data.
      *
@@ -450,6 +531,25 @@ public abstract class CubismUserModel {
         }
     }
 
+    /**
+     * Load physics data from the binary cache created by {@link CubismPhysics#createCache(long)}.
+     * If the cache is not created from the physics3.json of the content hash, the physics3.json is loaded
+     * by the function set to {@link CubismFramework.Option#loadFileFunction} and parsed instead.
+     *
+     * @param cache a buffer where the binary cache is loaded. It can be null.
+     * @param contentHash content hash of the physics3.json calculated in advance by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @param filePath path of the physics3.json loaded when the cache cannot be used
+     */
+    protected void loadPhysics(ByteBuffer cache, long contentHash, String filePath) {
+        physics = CubismPhysics.createFromCache(cache, contentHash);
+        if (physics == null) {
+            final byte[] buffer = loadFile(filePath);
+            if (buffer != null) {
+                loadPhysics(buffer);
+            }
+        }
+    }
+
     /**
      * Load a user data attached the model.
      *
@@ -463,6 +563,27 @@ public abstract class CubismUserModel {
         }
     }
 
+    /**
+     * Load a file by the function set to {@link CubismFramework.Option#loadFileFunction}.
+     *
+     * @param filePath path of the file
+     * @return bytes of the file. null if the file cannot be loaded.
+     */
+    private static byte[] loadFile(final String filePath) {
+        final ICubismLoadFileFunction fileLoader = CubismFramework.getLoadFileFunction();
+
+        if (fileLoader == null) {
+            cubismLogError("File loader is not set.");
+            return null;
+        }
+
+        final byte[] buffer = fileLoader.load(filePath);
+        if (buffer == null) {
+            cubismLogError("Failed to load the file. %s", filePath);
+        }
+        return buffer;
+    }
+
     /**
      * A Moc data,
      */
@@ -0,0 +1,24 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+/**
+ * The update process of one model called by {@link CubismModelUpdateScheduler}.
+ *
+ * @param <T> type of the model
+ */
+public interface ICubismModelUpdater<T> {
+    /**
+     * Update the model.
+     * This method may be called on a thread other than the GL thread.
+     *
+     * @param model the model to be updated
+     * @param deltaTimeSeconds delta time[s]
+     */
+    void update(T model, float deltaTimeSeconds);
+}
@@ -10,9 +10,12 @@ package com.live2d.sdk.cubism.framework.motion;
 import com.live2d.sdk.cubism.framework.CubismFramework;
 import com.live2d.sdk.cubism.framework.id.CubismId;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryCache;
+import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.ACubismJsonValue;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJson;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -99,6 +102,55 @@ public class CubismExpressionMotion extends ACubismMotion {
         return expression;
     }
 
+    /**
+     * Create an instance from a binary cache created by {@link #createCache(long)} without parsing exp3.json.
+     *
+     * @param cache buffer where the cache is loaded. The position of the buffer is not changed.
+     * @param contentHash content hash of exp3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return created instance. null if the cache is not for the content hash or is broken; then exp3.json has to be loaded by create().
+     */
+    public static CubismExpressionMotion createFromCache(ByteBuffer cache, long contentHash) {
+        final CubismBinaryCache.Reader reader = CubismBinaryCache.read(cache, CubismBinaryCache.DataType.EXPRESSION, contentHash);
+        if (reader == null) {
+            return null;
+        }
+
+        CubismExpressionMotion expression = new CubismExpressionMotion();
+        try {
+            expression.readCache(reader);
+        } catch (IllegalArgumentException e) {
+            CubismDebug.cubismLogWarning("The binary cache of exp3.json is broken.");
+            return null;
+        }
+
+        return expression;
+    }
+
+    /**
+     * Create a binary cache of this expression, which can be loaded by {@link #createFromCache(ByteBuffer, long)}.
+     * The cache holds the expression parameters and the current fade-in and fade-out times.
+     *
+     * @param contentHash content hash of exp3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return bytes of the cache
+     */
+    public byte[] createCache(long contentHash) {
+        final CubismBinaryCache.Writer writer = CubismBinaryCache.write(CubismBinaryCache.DataType.EXPRESSION, contentHash);
+
+        writer.putFloat(getFadeInTime());
+        writer.putFloat(getFadeOutTime());
+
+        writer.putInt(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            final ExpressionParameter parameter = parameters.get(i);
+
+            writer.putId(parameter.parameterId);
+            writer.putEnum(parameter.blendType);
+            writer.putFloat(parameter.value);
+        }
+
+        return writer.toByteArray();
+    }
+
     /**
      * モデルの表情に関するパラメータを計算する。
      *
@@ -287,6 +339,34 @@ public class CubismExpressionMotion extends ACubismMotion {
         }
     }
 
+    /**
+     * Read the expression from a binary cache written by {@link #createCache(long)}.
+     *
+     * @param reader reader of the cache
+     * @throws IllegalArgumentException if the cache is broken
+     */
+    private void readCache(CubismBinaryCache.Reader reader) {
+        setFadeInTime(reader.getFloat());
+        setFadeOutTime(reader.getFloat());
+
+        // ID length, blend type and value
+        final int parameterCount = reader.getCount(4 + 1 + 4);
+        for (int i = 0; i < parameterCount; i++) {
+            final CubismId parameterId = reader.getId();
+            final ExpressionBlendType blendType = reader.getEnum(ExpressionBlendType.values());
+            final float value = reader.getFloat();
+
+            if (blendType == null) {
+                throw new IllegalArgumentException("The binary cache of exp3.json is broken.");
+            }
+            this.parameters.add(new ExpressionParameter(parameterId, blendType, value));
+        }
+
+        if (!reader.isEnd()) {
+            throw new IllegalArgumentException("The binary cache of exp3.json is broken.");
+        }
+    }
+
     /**
      * Get the calculation method for the parameter values of expressions set in JSON.
      *
@@ -221,17 +221,32 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
         }
 
         // モデルに各値を適用
-        for (int i = 0; i < expressionParameterValues.size(); i++) {
+        final int parameterCount = expressionParameterValues.size();
+        if (model != boundModel || boundParameterIds.length != parameterCount) {
+            boundModel = model;
+            boundParameterIds = new CubismId[parameterCount];
+            parameterIndices = new int[parameterCount];
+            parameterValues = new float[parameterCount];
+            parameterWeights = new float[parameterCount];
+        }
+
+        for (int i = 0; i < parameterCount; i++) {
             ExpressionParameterValue v = expressionParameterValues.get(i);
 
-            model.setParameterValue(
-                v.parameterId,
-                (v.overwriteValue + v.additiveValue) * v.multiplyValue,
-                expressionWeight);
+            // パラメータIDが変わったときだけインデックスを引き直す。
+            if (boundParameterIds[i] != v.parameterId) {
+                boundParameterIds[i] = v.parameterId;
+                parameterIndices[i] = model.getParameterIndex(v.parameterId);
+            }
+            parameterValues[i] = (v.overwriteValue + v.additiveValue) * v.multiplyValue;
+            parameterWeights[i] = expressionWeight;
+
             v.additiveValue = CubismExpressionMotion.DEFAULT_ADDITIVE_VALUE;
             v.multiplyValue = CubismExpressionMotion.DEFAULT_MULTIPLY_VALUE;
         }
 
+        model.setParameterValues(parameterIndices, parameterValues, parameterWeights, parameterCount);
+
         return isUpdated;
     }
 
@@ -257,6 +272,27 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
      */
     private final List<ExpressionParameterValue> expressionParameterValues = new ArrayList<>();
 
+    /**
+     * パラメータのインデックスを解決したモデル
+     */
+    private CubismModel boundModel;
+    /**
+     * インデックスを解決したパラメータID
+     */
+    private CubismId[] boundParameterIds = new CubismId[0];
+    /**
+     * モデルに適用する各パラメータのインデックス
+     */
+    private int[] parameterIndices = new int[0];
+    /**
+     * モデルに適用する各パラメータの値
+     */
+    private float[] parameterValues = new float[0];
+    /**
+     * モデルに適用する各パラメータのウェイト
+     */
+    private float[] parameterWeights = new float[0];
+
     /**
      * 現在再生中の表情モーションの優先度
      */
@@ -16,13 +16,14 @@ import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionC
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionCurveTarget;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionData;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionEvent;
-import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionPoint;
-import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionSegment;
+import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionModelBinding;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionSegmentType;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryCache;
 import com.live2d.sdk.cubism.framework.utils.CubismDebug;
+import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJsonEventParser;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -117,6 +118,48 @@ public final class CubismMotion extends ACubismMotion {
         return create(buffer, null, null, false);
     }
 
+    /**
+     * Create an instance from a binary cache created by {@link #createCache(long)} without parsing motion3.json.
+     * The callback functions can be set by {@link #setFinishedMotionHandler(IFinishedMotionCallback)} and {@link #setBeganMotionHandler(IBeganMotionCallback)}.
+     *
+     * @param cache buffer where the cache is loaded. The position of the buffer is not changed.
+     * @param contentHash content hash of motion3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return instance of CubismMotion. null if the cache is not for the content hash or is broken; then motion3.json has to be loaded by create().
+     */
+    public static CubismMotion createFromCache(ByteBuffer cache, long contentHash) {
+        final CubismBinaryCache.Reader reader = CubismBinaryCache.read(cache, CubismBinaryCache.DataType.MOTION, contentHash);
+        if (reader == null) {
+            return null;
+        }
+
+        final CubismMotion motion = new CubismMotion();
+        try {
+            motion.readCache(reader);
+        } catch (IllegalArgumentException e) {
+            CubismDebug.cubismLogWarning("The binary cache of motion3.json is broken.");
+            return null;
+        }
+
+        motion.sourceFrameRate = motion.motionData.fps;
+        motion.loopDurationSeconds = motion.motionData.duration;
+
+        return motion;
+    }
+
+    /**
+     * Create a binary cache of this motion, which can be loaded by {@link #createFromCache(ByteBuffer, long)}.
+     * The cache holds the motion data and the current fade-in and fade-out times.
+     *
+     * @param contentHash content hash of motion3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return bytes of the cache
+     */
+    public byte[] createCache(long contentHash) {
+        final CubismBinaryCache.Writer writer = CubismBinaryCache.write(CubismBinaryCache.DataType.MOTION, contentHash);
+        writeCache(writer);
+
+        return writer.toByteArray();
+    }
+
     /**
      * Set loop information.
      *
@@ -271,6 +314,9 @@ public final class CubismMotion extends ACubismMotion {
 
         this.lipSyncParameterIds.clear();
         this.lipSyncParameterIds.addAll(lipSyncParameterIds);
+
+        // The effect flags of the curves must be recalculated.
+        effectIdsVersion++;
     }
 
     @Override
@@ -396,16 +442,12 @@ public final class CubismMotion extends ACubismMotion {
             timeOffsetSeconds = 0.0f;
         }
 
-        final int MAX_TARGET_SIZE = 64;
-
-        if (eyeBlinkParameterIds.size() > MAX_TARGET_SIZE) {
-            String message = "too many eye blink targets: " + eyeBlinkParameterIds.size();
-            CubismDebug.cubismLogDebug(message);
-        }
-        if (lipSyncParameterIds.size() > MAX_TARGET_SIZE) {
-            String message = "too many lip sync targets: " + lipSyncParameterIds.size();
-            CubismDebug.cubismLogDebug(message);
-        }
+        final CubismMotionModelBinding binding = bindModel(model, motionQueueEntry);
+        final int[] curveParameterIndices = binding.curveParameterIndices;
+        final long[] curveEyeBlinkFlags = binding.curveEyeBlinkFlags;
+        final long[] curveLipSyncFlags = binding.curveLipSyncFlags;
+        final int[] eyeBlinkParameterIndices = binding.eyeBlinkParameterIndices;
+        final int[] lipSyncParameterIndices = binding.lipSyncParameterIndices;
 
         // 'Repeat time as necessary'
         float time = timeOffsetSeconds;
@@ -422,6 +464,7 @@ public final class CubismMotion extends ACubismMotion {
         }
 
         List<CubismMotionCurve> curves = motionData.curves;
+        final int[] segmentCursors = motionQueueEntry.getSegmentCursors(curves.size());
 
         float eyeBlinkValue = 0;
         float lipSyncValue = 0;
@@ -430,6 +473,10 @@ public final class CubismMotion extends ACubismMotion {
         boolean isUpdatedEyeBlink = false;
         boolean isUpdatedLipSync = false;
 
+        // Bit flags of the eye blink and lip-sync parameters overridden by the motion.
+        long eyeBlinkFlags = 0L;
+        long lipSyncFlags = 0L;
+
         float value;
 
         // Evaluate model curves
@@ -441,7 +488,7 @@ public final class CubismMotion extends ACubismMotion {
             }
 
             // Evaluate curve and call handler.
-            value = evaluateCurve(motionData, i, time, isCorrection, duration);
+            value = evaluateCurve(motionData, i, time, isCorrection, duration, segmentCursors);
 
             if (curve.id.equals(modelCurveIdEyeBlink)) {
                 eyeBlinkValue = value;
@@ -472,7 +519,7 @@ public final class CubismMotion extends ACubismMotion {
             }
 
             // Find parameter index.
-            final int parameterIndex = model.getParameterIndex(curve.id);
+            final int parameterIndex = curveParameterIndices[i];
 
             // Skip curve evaluation if no value.
             if (parameterIndex == -1) {
@@ -482,38 +529,16 @@ public final class CubismMotion extends ACubismMotion {
             final float sourceValue = model.getParameterValue(parameterIndex);
 
             // Evaluate curve and apply value.
-            value = evaluateCurve(motionData, i, time, isCorrection, duration);
-
-            if (isUpdatedEyeBlink) {
-                for (int j = 0; j < eyeBlinkParameterIds.size(); j++) {
-                    CubismId id = eyeBlinkParameterIds.get(j);
-
-                    if (j == MAX_TARGET_SIZE) {
-                        break;
-                    }
+            value = evaluateCurve(motionData, i, time, isCorrection, duration, segmentCursors);
 
-                    if (id.equals(curve.id)) {
-                        value *= eyeBlinkValue;
-                        eyeBlinkFlags.set(j);
-                        break;
-                    }
-                }
+            if (isUpdatedEyeBlink && curveEyeBlinkFlags[i] != 0L) {
+                value *= eyeBlinkValue;
+                eyeBlinkFlags |= curveEyeBlinkFlags[i];
             }
 
-            if (isUpdatedLipSync) {
-                for (int j = 0; j < lipSyncParameterIds.size(); j++) {
-                    CubismId id = lipSyncParameterIds.get(j);
-
-                    if (j == MAX_TARGET_SIZE) {
-                        break;
-                    }
-
-                    if (id.equals(curve.id)) {
-                        value += lipSyncValue;
-                        lipSyncFlags.set(j);
-                        break;
-                    }
-                }
+            if (isUpdatedLipSync && curveLipSyncFlags[i] != 0L) {
+                value += lipSyncValue;
+                lipSyncFlags |= curveLipSyncFlags[i];
             }
 
             // Process repeats only for compatibility
@@ -561,43 +586,33 @@ public final class CubismMotion extends ACubismMotion {
 
 
         if (isUpdatedEyeBlink) {
-            for (int i = 0; i < eyeBlinkParameterIds.size(); i++) {
-                CubismId id = eyeBlinkParameterIds.get(i);
-
-                if (i == MAX_TARGET_SIZE) {
-                    break;
-                }
-
+            for (int i = 0; i < eyeBlinkParameterIndices.length; i++) {
                 // Blink does not apply when there is a motion overriding.
-                if (eyeBlinkFlags.get(i)) {
+                if ((eyeBlinkFlags & (1L << i)) != 0L) {
                     continue;
                 }
 
-                final float sourceValue = model.getParameterValue(id);
+                final int parameterIndex = eyeBlinkParameterIndices[i];
+                final float sourceValue = model.getParameterValue(parameterIndex);
                 final float v = sourceValue + (eyeBlinkValue - sourceValue) * fadeWeight;
 
-                model.setParameterValue(id, v);
+                model.setParameterValue(parameterIndex, v);
             }
         }
 
         if (isUpdatedLipSync) {
-            for (int i = 0; i < lipSyncParameterIds.size(); i++) {
-                CubismId id = lipSyncParameterIds.get(i);
-
-                if (i == MAX_TARGET_SIZE) {
-                    break;
-                }
-
+            for (int i = 0; i < lipSyncParameterIndices.length; i++) {
                 // Lip-sync does not apply when there is a motion overriding.
-                if (lipSyncFlags.get(i)) {
+                if ((lipSyncFlags & (1L << i)) != 0L) {
                     continue;
                 }
 
-                final float sourceValue = model.getParameterValue(id);
+                final int parameterIndex = lipSyncParameterIndices[i];
+                final float sourceValue = model.getParameterValue(parameterIndex);
 
                 final float v = sourceValue + (lipSyncValue - sourceValue) * fadeWeight;
 
-                model.setParameterValue(id, v);
+                model.setParameterValue(parameterIndex, v);
             }
         }
 
@@ -610,7 +625,7 @@ public final class CubismMotion extends ACubismMotion {
             }
 
             // Find parameter index.
-            final int parameterIndex = model.getParameterIndex(curve.id);
+            final int parameterIndex = curveParameterIndices[i];
 
             // Skip curve evaluation if no value.
             if (parameterIndex == -1) {
@@ -618,7 +633,7 @@ public final class CubismMotion extends ACubismMotion {
             }
 
             // Evaluate curve and apply value.
-            value = evaluateCurve(motionData, i, time, isCorrection, duration);
+            value = evaluateCurve(motionData, i, time, isCorrection, duration, segmentCursors);
             model.setParameterValue(parameterIndex, value);
         }
 
@@ -635,6 +650,111 @@ public final class CubismMotion extends ACubismMotion {
         lastWeight = fadeWeight;
     }
 
+    /**
+     * Bind the motion curves to the parameters of the model.
+     * The parameter index of each curve and the eye blink and lip-sync flags are calculated only when the target model of the queue entry changes,
+     * instead of searching them by the ID every frame.
+     * <p>
+     * The binding is held by the queue entry, so a motion played on multiple models has a binding for each model.
+     *
+     * @param model target model
+     * @param motionQueueEntry queue entry of the motion played on the model
+     * @return binding for the model
+     */
+    private CubismMotionModelBinding bindModel(final CubismModel model, final CubismMotionQueueEntry motionQueueEntry) {
+        final int currentEffectIdsVersion = effectIdsVersion;
+        CubismMotionModelBinding binding = motionQueueEntry.getModelBinding();
+
+        if (binding != null && binding.model == model && binding.effectIdsVersion == currentEffectIdsVersion) {
+            return binding;
+        }
+
+        if (eyeBlinkParameterIds.size() > MAX_TARGET_SIZE) {
+            String message = "too many eye blink targets: " + eyeBlinkParameterIds.size();
+            CubismDebug.cubismLogDebug(message);
+        }
+        if (lipSyncParameterIds.size() > MAX_TARGET_SIZE) {
+            String message = "too many lip sync targets: " + lipSyncParameterIds.size();
+            CubismDebug.cubismLogDebug(message);
+        }
+
+        final List<CubismMotionCurve> curves = motionData.curves;
+        final int curveCount = curves.size();
+        final int eyeBlinkCount = Math.min(eyeBlinkParameterIds.size(), MAX_TARGET_SIZE);
+        final int lipSyncCount = Math.min(lipSyncParameterIds.size(), MAX_TARGET_SIZE);
+
+        final int[] curveParameterIndices = new int[curveCount];
+        final long[] curveEyeBlinkFlags = new long[curveCount];
+        final long[] curveLipSyncFlags = new long[curveCount];
+
+        boolean hasEyeBlinkCurve = false;
+        boolean hasLipSyncCurve = false;
+
+        // The indices are resolved in the same order as the curves are applied
+        // so that the parameters which do not exist in the model are registered in the same order.
+        for (int i = 0; i < curveCount; i++) {
+            final CubismMotionCurve curve = curves.get(i);
+            curveParameterIndices[i] = -1;
+
+            if (curve.type == CubismMotionCurveTarget.MODEL) {
+                hasEyeBlinkCurve |= curve.id.equals(modelCurveIdEyeBlink);
+                hasLipSyncCurve |= curve.id.equals(modelCurveIdLipSync);
+                continue;
+            }
+
+            if (curve.type != CubismMotionCurveTarget.PARAMETER) {
+                continue;
+            }
+
+            curveParameterIndices[i] = model.getParameterIndex(curve.id);
+
+            for (int j = 0; j < eyeBlinkCount; j++) {
+                if (eyeBlinkParameterIds.get(j).equals(curve.id)) {
+                    curveEyeBlinkFlags[i] = 1L << j;
+                    break;
+                }
+            }
+
+            for (int j = 0; j < lipSyncCount; j++) {
+                if (lipSyncParameterIds.get(j).equals(curve.id)) {
+                    curveLipSyncFlags[i] = 1L << j;
+                    break;
+                }
+            }
+        }
+
+        final int[] eyeBlinkParameterIndices = new int[hasEyeBlinkCurve ? eyeBlinkCount : 0];
+        for (int i = 0; i < eyeBlinkParameterIndices.length; i++) {
+            eyeBlinkParameterIndices[i] = model.getParameterIndex(eyeBlinkParameterIds.get(i));
+        }
+
+        final int[] lipSyncParameterIndices = new int[hasLipSyncCurve ? lipSyncCount : 0];
+        for (int i = 0; i < lipSyncParameterIndices.length; i++) {
+            lipSyncParameterIndices[i] = model.getParameterIndex(lipSyncParameterIds.get(i));
+        }
+
+        for (int i = 0; i < curveCount; i++) {
+            final CubismMotionCurve curve = curves.get(i);
+
+            if (curve.type == CubismMotionCurveTarget.PART_OPACITY) {
+                curveParameterIndices[i] = model.getParameterIndex(curve.id);
+            }
+        }
+
+        binding = new CubismMotionModelBinding(
+            model,
+            currentEffectIdsVersion,
+            curveParameterIndices,
+            curveEyeBlinkFlags,
+            curveLipSyncFlags,
+            eyeBlinkParameterIndices,
+            lipSyncParameterIndices
+        );
+        motionQueueEntry.setModelBinding(binding);
+
+        return binding;
+    }
+
     private void UpdateForNextLoop(CubismMotionQueueEntry motionQueueEntry, float userTimeSeconds, float time) {
         switch (motionBehavior) {
             case MOTION_BEHAVIOR_V1:
@@ -663,6 +783,11 @@ public final class CubismMotion extends ACubismMotion {
     // ID
     private static final String ID_NAME_OPACITY = "Opacity";
 
+    /**
+     * Maximum number of the eye blink and lip-sync parameters. The flags of them are held in a 64-bit value.
+     */
+    private static final int MAX_TARGET_SIZE = 64;
+
     /**
      * It is set to "true" to reproduce the motion of Cubism SDK R2 or earlier, or "false" to reproduce the animator's motion correctly.
      */
@@ -680,58 +805,39 @@ public final class CubismMotion extends ACubismMotion {
         }
     }
 
-    private enum TargetName {
-        MODEL("Model"),
-        PARAMETER("Parameter"),
-        PART_OPACITY("PartOpacity");
-
-        private final String name;
-
-        TargetName(String name) {
-            this.name = name;
-        }
-    }
-
     private static class LinearEvaluator implements CsmMotionSegmentEvaluationFunction {
         @Override
-        public float evaluate(final List<CubismMotionPoint> points, final float time) {
-            float t = (time - points.get(0).time) / (points.get(1).time - points.get(0).time);
-
-            if (t < 0.0f) {
-                t = 0.0f;
-            }
-
-            return points.get(0).value + ((points.get(1).value - points.get(0).value) * t);
+        public float evaluate(final float[] pointTimes, final float[] pointValues, final int basePointIndex, final float time) {
+            return evaluateLinear(
+                pointTimes[basePointIndex],
+                pointValues[basePointIndex],
+                pointTimes[basePointIndex + 1],
+                pointValues[basePointIndex + 1],
+                time
+            );
         }
     }
 
     private static class BezierEvaluator implements CsmMotionSegmentEvaluationFunction {
         @Override
-        public float evaluate(final List<CubismMotionPoint> points, final float time) {
-            float t = (time - points.get(0).time) / (points.get(3).time - points.get(0).time);
+        public float evaluate(final float[] pointTimes, final float[] pointValues, final int basePointIndex, final float time) {
+            float t = (time - pointTimes[basePointIndex]) / (pointTimes[basePointIndex + 3] - pointTimes[basePointIndex]);
 
             if (t < 0.0f) {
                 t = 0.0f;
             }
 
-            final CubismMotionPoint p01 = lerpPoints(points.get(0), points.get(1), t);
-            final CubismMotionPoint p12 = lerpPoints(points.get(1), points.get(2), t);
-            final CubismMotionPoint p23 = lerpPoints(points.get(2), points.get(3), t);
-
-            final CubismMotionPoint p012 = lerpPoints(p01, p12, t);
-            final CubismMotionPoint p123 = lerpPoints(p12, p23, t);
-
-            return lerpPoints(p012, p123, t).value;
+            return evaluateBezierValue(pointValues, basePointIndex, t);
         }
     }
 
     private static class BezierEvaluatorCardanoInterpretation implements CsmMotionSegmentEvaluationFunction {
         @Override
-        public float evaluate(final List<CubismMotionPoint> points, final float time) {
-            final float x1 = points.get(0).time;
-            final float x2 = points.get(3).time;
-            final float cx1 = points.get(1).time;
-            final float cx2 = points.get(2).time;
+        public float evaluate(final float[] pointTimes, final float[] pointValues, final int basePointIndex, final float time) {
+            final float x1 = pointTimes[basePointIndex];
+            final float x2 = pointTimes[basePointIndex + 3];
+            final float cx1 = pointTimes[basePointIndex + 1];
+            final float cx2 = pointTimes[basePointIndex + 2];
 
             final float a = x2 - 3.0f * cx2 + 3.0f * cx1 - x1;
             final float b = 3.0f * cx2 - 6.0f * cx1 + 3.0f * x1;
@@ -740,43 +846,74 @@ public final class CubismMotion extends ACubismMotion {
 
             final float t = CubismMath.cardanoAlgorithmForBezier(a, b, c, d);
 
-            final CubismMotionPoint p01 = lerpPoints(points.get(0), points.get(1), t);
-            final CubismMotionPoint p12 = lerpPoints(points.get(1), points.get(2), t);
-            final CubismMotionPoint p23 = lerpPoints(points.get(2), points.get(3), t);
-
-            final CubismMotionPoint p012 = lerpPoints(p01, p12, t);
-            final CubismMotionPoint p123 = lerpPoints(p12, p23, t);
-
-            return lerpPoints(p012, p123, t).value;
+            return evaluateBezierValue(pointValues, basePointIndex, t);
         }
     }
 
     private static class SteppedEvaluator implements CsmMotionSegmentEvaluationFunction {
         @Override
-        public float evaluate(final List<CubismMotionPoint> points, final float time) {
-            return points.get(0).value;
+        public float evaluate(final float[] pointTimes, final float[] pointValues, final int basePointIndex, final float time) {
+            return pointValues[basePointIndex];
         }
     }
 
     private static class InverseSteppedEvaluator implements CsmMotionSegmentEvaluationFunction {
         @Override
-        public float evaluate(final List<CubismMotionPoint> points, final float time) {
-            return points.get(1).value;
+        public float evaluate(final float[] pointTimes, final float[] pointValues, final int basePointIndex, final float time) {
+            return pointValues[basePointIndex + 1];
         }
     }
 
-    // lerp: Linear Interpolate(線形補間の略)
-    private static CubismMotionPoint lerpPoints(
-        final CubismMotionPoint a,
-        final CubismMotionPoint b,
-        final float t
+    /**
+     * Linearly interpolate between two points. The time before the first point is clamped to the first point.
+     *
+     * @param time0 time of the first point[s]
+     * @param value0 value of the first point
+     * @param time1 time of the second point[s]
+     * @param value1 value of the second point
+     * @param time time to evaluate[s]
+     * @return interpolated value
+     */
+    private static float evaluateLinear(
+        final float time0,
+        final float value0,
+        final float time1,
+        final float value1,
+        final float time
     ) {
-        CubismMotionPoint result = new CubismMotionPoint();
+        float t = (time - time0) / (time1 - time0);
 
-        result.time = a.time + ((b.time - a.time) * t);
-        result.value = a.value + ((b.value - a.value) * t);
+        if (t < 0.0f) {
+            t = 0.0f;
+        }
 
-        return result;
+        return value0 + ((value1 - value0) * t);
+    }
+
+    /**
+     * Get the value of the cubic Bezier curve at the specified parameter by de Casteljau's algorithm.
+     * Only the values are interpolated since the time of the result is not used.
+     *
+     * @param pointValues value of each point
+     * @param basePointIndex index of the first point of the Bezier segment
+     * @param t curve parameter (0.0 - 1.0)
+     * @return value of the curve
+     */
+    private static float evaluateBezierValue(final float[] pointValues, final int basePointIndex, final float t) {
+        final float p0 = pointValues[basePointIndex];
+        final float p1 = pointValues[basePointIndex + 1];
+        final float p2 = pointValues[basePointIndex + 2];
+        final float p3 = pointValues[basePointIndex + 3];
+
+        // lerp: Linear Interpolate(線形補間の略)
+        final float p01 = p0 + ((p1 - p0) * t);
+        final float p12 = p1 + ((p2 - p1) * t);
+        final float p23 = p2 + ((p3 - p2) * t);
+
+        final float p012 = p01 + ((p12 - p01) * t);
+        final float p123 = p12 + ((p23 - p12) * t);
+
+        return p012 + ((p123 - p012) * t);
     }
 
     /**
@@ -811,12 +948,19 @@ public final class CubismMotion extends ACubismMotion {
 
     /**
      * Parse motion3.json.
+     * The curves, segments and points are filled in a single pass over the JSON without building JSON values.
      *
      * @param motionJson buffer where motion3.json is loaded
      * @param shouldCheckMotionConsistency flag to validate the consistency of motion3.json.
      */
     private void parse(byte[] motionJson, boolean shouldCheckMotionConsistency) {
-        final CubismMotionJson json = new CubismMotionJson(motionJson);
+        final CubismMotionJsonHandler json = new CubismMotionJsonHandler();
+        CubismJsonEventParser.parse(motionJson, json);
+
+        if (json.hasUnknownSegmentType()) {
+            CubismDebug.cubismLogError("Unknown segment type in motion3.json.");
+            return;
+        }
 
         if (shouldCheckMotionConsistency) {
             boolean consistency = json.hasConsistency();
@@ -828,16 +972,7 @@ public final class CubismMotion extends ACubismMotion {
             }
         }
 
-        motionData = new CubismMotionData();
-
-        motionData.duration = json.getMotionDuration();
-        motionData.isLooped = json.isMotionLoop();
-        motionData.curveCount = json.getMotionCurveCount();
-        motionData.fps = json.getMotionFps();
-        motionData.eventCount = json.getEventCount();
-
-        boolean areBeziersRestricted = json.getEvaluationOptionFlag(CubismMotionJson.EvaluationOptionFlag.ARE_BEZIERS_RESTRICTED);
-
+        motionData = json.createMotionData();
 
         if (json.existsMotionFadeInTime()) {
             fadeInSeconds = (json.getMotionFadeInTime() < 0.0f)
@@ -855,159 +990,185 @@ public final class CubismMotion extends ACubismMotion {
             fadeOutSeconds = 1.0f;
         }
 
-        motionData.curves = new ArrayList<CubismMotionCurve>(motionData.curveCount);
-        for (int i = 0; i < motionData.curveCount; i++) {
-            motionData.curves.add(new CubismMotionCurve());
-        }
+        setUpSegmentEvaluators();
+    }
 
-        motionData.segments = new ArrayList<CubismMotionSegment>(json.getMotionTotalSegmentCount());
-        for (int i = 0; i < json.getMotionTotalSegmentCount(); i++) {
-            motionData.segments.add(new CubismMotionSegment());
+    /**
+     * Write the motion data to a binary cache.
+     *
+     * @param writer writer of the cache
+     */
+    private void writeCache(CubismBinaryCache.Writer writer) {
+        final CubismMotionData data = motionData;
+
+        writer.putFloat(fadeInSeconds);
+        writer.putFloat(fadeOutSeconds);
+
+        writer.putFloat(data.duration);
+        writer.putBoolean(data.isLooped);
+        writer.putFloat(data.fps);
+        writer.putBoolean(data.areBeziersRestricted);
+
+        writer.putInt(data.curveCount);
+        for (int i = 0; i < data.curveCount; i++) {
+            final CubismMotionCurve curve = data.curves.get(i);
+
+            writer.putEnum(curve.type);
+            writer.putId(curve.id);
+            writer.putInt(curve.segmentCount);
+            writer.putInt(curve.baseSegmentIndex);
+            writer.putFloat(curve.fadeInTime);
+            writer.putFloat(curve.fadeOutTime);
         }
 
-        motionData.points = new ArrayList<CubismMotionPoint>(json.getMotionTotalPointCount());
-        for (int i = 0; i < json.getMotionTotalPointCount(); i++) {
-            motionData.points.add(new CubismMotionPoint());
-        }
+        writer.putInt(data.segmentCount);
+        writer.putInts(data.segmentBasePointIndices, data.segmentCount);
+        writer.putEnums(data.segmentTypes, data.segmentCount);
+        writer.putFloats(data.segmentEndTimes, data.segmentCount);
 
-        motionData.events = new ArrayList<CubismMotionEvent>(motionData.eventCount);
-        for (int i = 0; i < motionData.eventCount; i++) {
-            motionData.events.add(new CubismMotionEvent());
-        }
+        writer.putInt(data.pointCount);
+        writer.putFloats(data.pointTimes, data.pointCount);
+        writer.putFloats(data.pointValues, data.pointCount);
 
-        int totalPointCount = 0;
-        int totalSegmentCount = 0;
-
-        // Curves
-        for (int curveCount = 0; curveCount < motionData.curveCount; curveCount++) {
-            final CubismMotionCurve curve = motionData.curves.get(curveCount);
-
-            // Register target type.
-            final String targetName = json.getMotionCurveTarget(curveCount);
-            if (targetName.equals(TargetName.MODEL.name)) {
-                curve.type = CubismMotionCurveTarget.MODEL;
-            } else if (targetName.equals(TargetName.PARAMETER.name)) {
-                curve.type = CubismMotionCurveTarget.PARAMETER;
-            } else if (targetName.equals(TargetName.PART_OPACITY.name)) {
-                curve.type = CubismMotionCurveTarget.PART_OPACITY;
-            } else {
-                CubismDebug.cubismLogWarning("Warning: Unable to get segment type from Curve! The number of \"CurveCount\" may be incorrect!");
-            }
+        writer.putInt(data.eventCount);
+        for (int i = 0; i < data.eventCount; i++) {
+            final CubismMotionEvent event = data.events.get(i);
 
-            curve.id = json.getMotionCurveId(curveCount);
-            curve.baseSegmentIndex = totalSegmentCount;
-            curve.fadeInTime =
-                (json.existsMotionCurveFadeInTime(curveCount))
-                ? json.getMotionCurveFadeInTime(curveCount)
-                : -1.0f;
-            curve.fadeOutTime =
-                (json.existsMotionCurveFadeOutTime(curveCount))
-                ? json.getMotionCurveFadeOutTime(curveCount)
-                : -1.0f;
-
-            // Segments
-            for (int segmentPosition = 0; segmentPosition < json.getMotionCurveSegmentCount(curveCount); ) {
-                if (segmentPosition == 0) {
-                    motionData.segments.get(totalSegmentCount).basePointIndex = totalPointCount;
-
-                    motionData.points.get(totalPointCount).time = json.getMotionCurveSegment(curveCount, segmentPosition);
-                    motionData.points.get(totalPointCount).value = json.getMotionCurveSegment(curveCount, segmentPosition + 1);
-
-                    totalPointCount += 1;
-                    segmentPosition += 2;
-                } else {
-                    motionData.segments.get(totalSegmentCount).basePointIndex = totalPointCount - 1;
-                }
-
-                final CubismMotionSegmentType segmentType = json.getMotionCurveSegmentType(curveCount, segmentPosition);
-
-                switch (segmentType) {
-                    case LINEAR: {
-                        CubismMotionSegment segment = motionData.segments.get(totalSegmentCount);
-                        segment.segmentType = CubismMotionSegmentType.LINEAR;
-                        segment.evaluator = linearEvaluator;
-
-                        CubismMotionPoint point = motionData.points.get(totalPointCount);
-                        point.time = json.getMotionCurveSegment(curveCount, segmentPosition + 1);
-                        point.value = json.getMotionCurveSegment(curveCount, segmentPosition + 2);
-
-                        totalPointCount += 1;
-                        segmentPosition += 3;
-
-                        break;
-                    }
-                    case BEZIER: {
-                        CubismMotionSegment segment = motionData.segments.get(totalSegmentCount);
-                        segment.segmentType = CubismMotionSegmentType.BEZIER;
-
-                        if (areBeziersRestricted || USE_OLD_BEZIERS_CURVE_MOTION) {
-                            segment.evaluator = bezierEvaluator;
-                        } else {
-                            segment.evaluator = bezierCardanoInterpretationEvaluator;
-                        }
-
-                        motionData.points.get(totalPointCount).time = json.getMotionCurveSegment(curveCount, (segmentPosition + 1));
-                        motionData.points.get(totalPointCount).value = json.getMotionCurveSegment(curveCount, (segmentPosition + 2));
-
-                        motionData.points.get(totalPointCount + 1).time = json.getMotionCurveSegment(curveCount, (segmentPosition + 3));
-                        motionData.points.get(totalPointCount + 1).value = json.getMotionCurveSegment(curveCount, (segmentPosition + 4));
-
-                        motionData.points.get(totalPointCount + 2).time = json.getMotionCurveSegment(curveCount, (segmentPosition + 5));
-                        motionData.points.get(totalPointCount + 2).value = json.getMotionCurveSegment(curveCount, (segmentPosition + 6));
+            writer.putFloat(event.fireTime);
+            writer.putString(event.value);
+        }
+    }
 
-                        totalPointCount += 3;
-                        segmentPosition += 7;
+    /**
+     * Read the motion data from a binary cache written by {@link #writeCache(CubismBinaryCache.Writer)}.
+     *
+     * @param reader reader of the cache
+     * @throws IllegalArgumentException if the cache is broken
+     */
+    private void readCache(CubismBinaryCache.Reader reader) {
+        final CubismMotionData data = new CubismMotionData();
+
+        fadeInSeconds = reader.getFloat();
+        fadeOutSeconds = reader.getFloat();
+
+        data.duration = reader.getFloat();
+        data.isLooped = reader.getBoolean();
+        data.fps = reader.getFloat();
+        data.areBeziersRestricted = reader.getBoolean();
+
+        // type, ID length, segment count, base segment index, fade-in and fade-out times
+        data.curveCount = reader.getCount(1 + 4 * 5);
+        data.curves = new ArrayList<CubismMotionCurve>(data.curveCount);
+        for (int i = 0; i < data.curveCount; i++) {
+            final CubismMotionCurve curve = new CubismMotionCurve();
+
+            curve.type = reader.getEnum(CubismMotionCurveTarget.values());
+            curve.id = reader.getId();
+            curve.segmentCount = reader.getInt();
+            curve.baseSegmentIndex = reader.getInt();
+            curve.fadeInTime = reader.getFloat();
+            curve.fadeOutTime = reader.getFloat();
+            data.curves.add(curve);
+        }
 
-                        break;
-                    }
-                    case STEPPED: {
-                        motionData.segments.get(totalSegmentCount).segmentType = CubismMotionSegmentType.STEPPED;
-                        motionData.segments.get(totalSegmentCount).evaluator = steppedEvaluator;
+        data.segmentCount = reader.getCount(4 + 1 + 4);
+        data.segmentBasePointIndices = reader.getInts(data.segmentCount);
+        data.segmentTypes = new CubismMotionSegmentType[data.segmentCount];
+        reader.getEnums(CubismMotionSegmentType.values(), data.segmentTypes, data.segmentCount);
+        data.segmentEndTimes = reader.getFloats(data.segmentCount);
+        data.segmentEvaluators = new CsmMotionSegmentEvaluationFunction[data.segmentCount];
+
+        data.pointCount = reader.getCount(4 * 2);
+        data.pointTimes = reader.getFloats(data.pointCount);
+        data.pointValues = reader.getFloats(data.pointCount);
+
+        // fire time and value length
+        data.eventCount = reader.getCount(4 * 2);
+        data.events = new ArrayList<CubismMotionEvent>(data.eventCount);
+        for (int i = 0; i < data.eventCount; i++) {
+            final CubismMotionEvent event = new CubismMotionEvent();
+
+            event.fireTime = reader.getFloat();
+            event.value = reader.getString();
+            data.events.add(event);
+        }
 
-                        motionData.points.get(totalPointCount).time = json.getMotionCurveSegment(curveCount, (segmentPosition + 1));
-                        motionData.points.get(totalPointCount).value = json.getMotionCurveSegment(curveCount, (segmentPosition + 2));
+        // カーブとセグメントの参照範囲を検証し、壊れたキャッシュで評価時に範囲外アクセスしないようにする。
+        if (!reader.isEnd() || !isValidMotionData(data)) {
+            throw new IllegalArgumentException("The binary cache of motion3.json is broken.");
+        }
 
-                        totalPointCount += 1;
-                        segmentPosition += 3;
+        motionData = data;
+        setUpSegmentEvaluators();
+    }
 
-                        break;
-                    }
-                    case INVERSESTEPPED: {
-                        motionData.segments.get(totalSegmentCount).segmentType = CubismMotionSegmentType.INVERSESTEPPED;
-                        motionData.segments.get(totalSegmentCount).evaluator = inverseSteppedEvaluator;
+    /**
+     * Check that the curves, segments and points of the motion data refer to each other within their ranges.
+     *
+     * @param data motion data
+     * @return If the motion data is valid, return true.
+     */
+    private static boolean isValidMotionData(CubismMotionData data) {
+        for (int i = 0; i < data.curveCount; i++) {
+            final CubismMotionCurve curve = data.curves.get(i);
 
-                        motionData.points.get(totalPointCount).time = json.getMotionCurveSegment(curveCount, (segmentPosition + 1));
-                        motionData.points.get(totalPointCount).value = json.getMotionCurveSegment(curveCount, (segmentPosition + 2));
+            if (curve.type == null || curve.segmentCount < 0 || curve.baseSegmentIndex < 0
+                || curve.baseSegmentIndex + curve.segmentCount > data.segmentCount) {
+                return false;
+            }
+        }
+        for (int i = 0; i < data.segmentCount; i++) {
+            final int lastPointOffset = data.segmentTypes[i] == CubismMotionSegmentType.BEZIER ? 3 : 1;
 
-                        totalPointCount += 1;
-                        segmentPosition += 3;
+            if (data.segmentTypes[i] == null || data.segmentBasePointIndices[i] < 0
+                || data.segmentBasePointIndices[i] + lastPointOffset >= data.pointCount) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                        break;
-                    }
-                    default: {
-                        assert (false);
-                        break;
+    /**
+     * Set the evaluator of each segment from its type.
+     */
+    private void setUpSegmentEvaluators() {
+        for (int segmentIndex = 0; segmentIndex < motionData.segmentCount; segmentIndex++) {
+            switch (motionData.segmentTypes[segmentIndex]) {
+                case LINEAR: {
+                    motionData.segmentEvaluators[segmentIndex] = linearEvaluator;
+                    break;
+                }
+                case BEZIER: {
+                    if (motionData.areBeziersRestricted || USE_OLD_BEZIERS_CURVE_MOTION) {
+                        motionData.segmentEvaluators[segmentIndex] = bezierEvaluator;
+                    } else {
+                        motionData.segmentEvaluators[segmentIndex] = bezierCardanoInterpretationEvaluator;
                     }
+                    break;
+                }
+                case STEPPED: {
+                    motionData.segmentEvaluators[segmentIndex] = steppedEvaluator;
+                    break;
+                }
+                case INVERSESTEPPED: {
+                    motionData.segmentEvaluators[segmentIndex] = inverseSteppedEvaluator;
+                    break;
+                }
+                default: {
+                    assert (false);
+                    break;
                 }
-
-                ++motionData.curves.get(curveCount).segmentCount;
-                ++totalSegmentCount;
             }
         }
-
-        for (int userdatacount = 0; userdatacount < json.getEventCount(); ++userdatacount) {
-            motionData.events.get(userdatacount).fireTime = json.getEventTime(userdatacount);
-            motionData.events.get(userdatacount).value = json.getEventValue(userdatacount);
-        }
     }
 
-    private float bezierEvaluateBinarySearch(final CubismMotionPoint[] points, final float time) {
+    private float bezierEvaluateBinarySearch(final float[] pointTimes, final float[] pointValues, final int basePointIndex, final float time) {
         final float x_error = 0.01f;
 
-        float x1 = points[0].time;
-        float x2 = points[3].time;
-        float cx1 = points[1].time;
-        float cx2 = points[2].time;
+        float x1 = pointTimes[basePointIndex];
+        float x2 = pointTimes[basePointIndex + 3];
+        float cx1 = pointTimes[basePointIndex + 1];
+        float cx2 = pointTimes[basePointIndex + 2];
 
         float ta = 0.0f;
         float tb = 1.0f;
@@ -1066,14 +1227,7 @@ public final class CubismMotion extends ACubismMotion {
             t = 1.0f;
         }
 
-        final CubismMotionPoint p01 = lerpPoints(points[0], points[1], t);
-        final CubismMotionPoint p12 = lerpPoints(points[1], points[2], t);
-        final CubismMotionPoint p23 = lerpPoints(points[2], points[3], t);
-
-        final CubismMotionPoint p012 = lerpPoints(p01, p12, t);
-        final CubismMotionPoint p123 = lerpPoints(p12, p23, t);
-
-        return lerpPoints(p012, p123, t).value;
+        return evaluateBezierValue(pointValues, basePointIndex, t);
     }
 
     private float correctEndPoint(
@@ -1084,70 +1238,148 @@ public final class CubismMotion extends ACubismMotion {
         final float time,
         final float endTime
     ) {
-        ArrayList<CubismMotionPoint> motionPoint = new ArrayList<CubismMotionPoint>(2);
-        {
-            final CubismMotionPoint src = motionData.points.get(endIndex);
-            motionPoint.add(new CubismMotionPoint(src.time, src.value));
-        }
-        {
-            final CubismMotionPoint src = motionData.points.get(beginIndex);
-            motionPoint.add(new CubismMotionPoint(src.time, src.value));
-        }
-        motionPoint.get(1).time = endTime;
+        // Interpolate from the last point of the curve to the first point placed at the end time.
+        final float lastPointValue = motionData.pointValues[endIndex];
+        final float firstPointValue = motionData.pointValues[beginIndex];
 
-        switch (motionData.segments.get(segmentIndex).segmentType) {
+        switch (motionData.segmentTypes[segmentIndex]) {
             case STEPPED:
-                return steppedEvaluator.evaluate(motionPoint, time);
+                return lastPointValue;
             case INVERSESTEPPED:
-                return inverseSteppedEvaluator.evaluate(motionPoint, time);
+                return firstPointValue;
             case LINEAR:
             case BEZIER:
             default:
-                return linearEvaluator.evaluate(motionPoint, time);
+                return evaluateLinear(
+                    motionData.pointTimes[endIndex],
+                    lastPointValue,
+                    endTime,
+                    firstPointValue,
+                    time
+                );
         }
     }
 
-    private float evaluateCurve(final CubismMotionData motionData, final int index, float time, final boolean isCorrection, final float endTime) {
+    private float evaluateCurve(
+        final CubismMotionData motionData,
+        final int index,
+        float time,
+        final boolean isCorrection,
+        final float endTime,
+        final int[] segmentCursors
+    ) {
         // Find segment to evaluate.
         final CubismMotionCurve curve = motionData.curves.get(index);
+        final int[] segmentBasePointIndices = motionData.segmentBasePointIndices;
 
-        int target = -1;
         final int totalSegmentCount = curve.baseSegmentIndex + curve.segmentCount;
-        int pointPosition = 0;
-        for (int i = curve.baseSegmentIndex; i < totalSegmentCount; ++i) {
-            // Get first point of next segment.
-            pointPosition = motionData.segments.get(i).basePointIndex
-                + (motionData.segments.get(i).segmentType == CubismMotionSegmentType.BEZIER
-                ? 3
-                : 1);
-
-            // Break if time lies within current segment.
-            if (motionData.points.get(pointPosition).time > time) {
-                target = i;
-                break;
-            }
-        }
+        final int target = findSegment(
+            motionData.segmentEndTimes,
+            curve.baseSegmentIndex,
+            totalSegmentCount,
+            segmentCursors[index],
+            time
+        );
+        segmentCursors[index] = target;
 
         if (target == -1) {
+            // Get the last point of the curve.
+            int pointPosition = 0;
+            if (curve.segmentCount > 0) {
+                final int lastSegmentIndex = totalSegmentCount - 1;
+                pointPosition = segmentBasePointIndices[lastSegmentIndex]
+                    + (motionData.segmentTypes[lastSegmentIndex] == CubismMotionSegmentType.BEZIER
+                    ? 3
+                    : 1);
+            }
+
             if (isCorrection && time < endTime) {
                 // 終点から始点への補正処理
                 return correctEndPoint(
                     motionData,
                     totalSegmentCount - 1,
-                    motionData.segments.get(curve.baseSegmentIndex).basePointIndex,
+                    segmentBasePointIndices[curve.baseSegmentIndex],
                     pointPosition,
                     time,
                     endTime
                 );
             }
 
-            return motionData.points.get(pointPosition).value;
+            return motionData.pointValues[pointPosition];
+        }
+
+        return motionData.segmentEvaluators[target].evaluate(
+            motionData.pointTimes,
+            motionData.pointValues,
+            segmentBasePointIndices[target],
+            time
+        );
+    }
+
+    /**
+     * Find the first segment whose last point is later than the specified time.
+     * The segment found last time and the one following it are checked first because the time usually advances little by little,
+     * and the segment is searched by binary search on seeking or looping.
+     *
+     * @param segmentEndTimes time of the last point of each segment[s]
+     * @param beginIndex index of the first segment of the curve
+     * @param endIndex index next to the last segment of the curve
+     * @param cursor index of the segment found last time. -1 if there is none.
+     * @param time time to evaluate[s]
+     * @return index of the segment. If the time is after the end of the curve, return -1.
+     */
+    private static int findSegment(
+        final float[] segmentEndTimes,
+        final int beginIndex,
+        final int endIndex,
+        final int cursor,
+        final float time
+    ) {
+        if (beginIndex <= cursor && cursor < endIndex) {
+            if (containsTime(segmentEndTimes, beginIndex, cursor, time)) {
+                return cursor;
+            }
+
+            final int next = cursor + 1;
+            if (next < endIndex && containsTime(segmentEndTimes, beginIndex, next, time)) {
+                return next;
+            }
+        }
+
+        int low = beginIndex;
+        int high = endIndex;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (segmentEndTimes[middle] > time) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
         }
 
-        final CubismMotionSegment segment = motionData.segments.get(target);
+        return low < endIndex
+               ? low
+               : -1;
+    }
 
-        final List<CubismMotionPoint> points = motionData.points.subList(segment.basePointIndex, motionData.points.size());
-        return segment.evaluator.evaluate(points, time);
+    /**
+     * Check whether the specified segment is the first one whose last point is later than the specified time.
+     *
+     * @param segmentEndTimes time of the last point of each segment[s]
+     * @param beginIndex index of the first segment of the curve
+     * @param segmentIndex index of the segment to check
+     * @param time time to evaluate[s]
+     * @return If the time lies within the segment, return true.
+     */
+    private static boolean containsTime(
+        final float[] segmentEndTimes,
+        final int beginIndex,
+        final int segmentIndex,
+        final float time
+    ) {
+        return segmentEndTimes[segmentIndex] > time
+            && (segmentIndex == beginIndex || segmentEndTimes[segmentIndex - 1] <= time);
     }
 
     /**
@@ -1178,8 +1410,10 @@ public final class CubismMotion extends ACubismMotion {
      */
     private final List<CubismId> lipSyncParameterIds = new ArrayList<CubismId>();
 
-    private final BitSet eyeBlinkFlags = new BitSet(eyeBlinkParameterIds.size());
-    private final BitSet lipSyncFlags = new BitSet(lipSyncParameterIds.size());
+    /**
+     * version of the eye blink and lip-sync parameter IDs. It is increased when the IDs are set, so that the bindings of the curves are recalculated.
+     */
+    private volatile int effectIdsVersion;
 
     /**
      * handle to the parameter ID for automatic eye blinking that the model has. Map a model to a motion.
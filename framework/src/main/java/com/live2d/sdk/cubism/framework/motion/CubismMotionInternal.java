@@ -8,6 +8,7 @@
 package com.live2d.sdk.cubism.framework.motion;
 
 import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -56,45 +57,6 @@ class CubismMotionInternal {
         INVERSESTEPPED
     }
 
-    /**
-     * Motion curve control points.
-     */
-    public static class CubismMotionPoint {
-        /**
-         * time[s]
-         */
-        public float time;
-        /**
-         * value
-         */
-        public float value;
-
-        public CubismMotionPoint() {}
-
-        public CubismMotionPoint(final float time, final float value) {
-            this.time = time;
-            this.value = value;
-        }
-    }
-
-    /**
-     * Segment of motion curve.
-     */
-    public static class CubismMotionSegment {
-        /**
-         * used evaluation function
-         */
-        public CsmMotionSegmentEvaluationFunction evaluator;
-        /**
-         * index to the first segment
-         */
-        public int basePointIndex;
-        /**
-         * type of segment
-         */
-        public CubismMotionSegmentType segmentType = CubismMotionSegmentType.LINEAR;
-    }
-
     /**
      * Motion curve
      */
@@ -163,28 +125,130 @@ class CubismMotionInternal {
          * framerate per second
          */
         public float fps;
+        /**
+         * Whether the Bezier handles are restricted. It selects the evaluator of the Bezier segments.
+         */
+        public boolean areBeziersRestricted;
         /**
          * list of curves
          */
         public List<CubismMotionCurve> curves = new ArrayList<CubismMotionCurve>();
         /**
-         * list of segments
+         * number of segments
+         */
+        public int segmentCount;
+        /**
+         * number of points
+         */
+        public int pointCount;
+        /**
+         * index of the first point of each segment
          */
-        public List<CubismMotionSegment> segments = new ArrayList<CubismMotionSegment>();
+        public int[] segmentBasePointIndices = new int[0];
         /**
-         * list of points
+         * type of each segment
          */
-        public List<CubismMotionPoint> points = new ArrayList<CubismMotionPoint>();
+        public CubismMotionSegmentType[] segmentTypes = new CubismMotionSegmentType[0];
+        /**
+         * evaluation function used by each segment
+         */
+        public CsmMotionSegmentEvaluationFunction[] segmentEvaluators = new CsmMotionSegmentEvaluationFunction[0];
+        /**
+         * time of the last point of each segment[s]
+         */
+        public float[] segmentEndTimes = new float[0];
+        /**
+         * time of each point[s]
+         */
+        public float[] pointTimes = new float[0];
+        /**
+         * value of each point
+         */
+        public float[] pointValues = new float[0];
         /**
          * list of events
          */
         public List<CubismMotionEvent> events = new ArrayList<CubismMotionEvent>();
     }
 
+    /**
+     * Binding of the motion curves to the parameters of a model.
+     * <p>
+     * It is immutable, so a binding created on one thread can be read safely on any other thread.
+     */
+    public static class CubismMotionModelBinding {
+        /**
+         * Constructor
+         *
+         * @param model model to which the curves are bound
+         * @param effectIdsVersion version of the eye blink and lip-sync parameter IDs used for the binding
+         * @param curveParameterIndices parameter index of each curve
+         * @param curveEyeBlinkFlags bit flag of the eye blink parameter which each curve overrides
+         * @param curveLipSyncFlags bit flag of the lip-sync parameter which each curve overrides
+         * @param eyeBlinkParameterIndices parameter index of each eye blink parameter ID
+         * @param lipSyncParameterIndices parameter index of each lip-sync parameter ID
+         */
+        public CubismMotionModelBinding(
+            CubismModel model,
+            int effectIdsVersion,
+            int[] curveParameterIndices,
+            long[] curveEyeBlinkFlags,
+            long[] curveLipSyncFlags,
+            int[] eyeBlinkParameterIndices,
+            int[] lipSyncParameterIndices
+        ) {
+            this.model = model;
+            this.effectIdsVersion = effectIdsVersion;
+            this.curveParameterIndices = curveParameterIndices;
+            this.curveEyeBlinkFlags = curveEyeBlinkFlags;
+            this.curveLipSyncFlags = curveLipSyncFlags;
+            this.eyeBlinkParameterIndices = eyeBlinkParameterIndices;
+            this.lipSyncParameterIndices = lipSyncParameterIndices;
+        }
+
+        /**
+         * model to which the curves are bound
+         */
+        public final CubismModel model;
+        /**
+         * version of the eye blink and lip-sync parameter IDs used for the binding
+         */
+        public final int effectIdsVersion;
+        /**
+         * parameter index of each curve. -1 if the curve does not target a parameter.
+         */
+        public final int[] curveParameterIndices;
+        /**
+         * bit flag of the eye blink parameter which each curve overrides
+         */
+        public final long[] curveEyeBlinkFlags;
+        /**
+         * bit flag of the lip-sync parameter which each curve overrides
+         */
+        public final long[] curveLipSyncFlags;
+        /**
+         * parameter index of each eye blink parameter ID. Empty if the motion has no eye blink curve.
+         */
+        public final int[] eyeBlinkParameterIndices;
+        /**
+         * parameter index of each lip-sync parameter ID. Empty if the motion has no lip-sync curve.
+         */
+        public final int[] lipSyncParameterIndices;
+    }
+
     /**
      * For strategy pattern.
      */
     public interface CsmMotionSegmentEvaluationFunction {
-        float evaluate(final List<CubismMotionPoint> points, final float time);
+        /**
+         * Evaluate the segment starting at the specified point.
+         *
+         * @param pointTimes time of each point[s]
+         * @param pointValues value of each point
+         * @param basePointIndex index of the first point of the segment
+         * @param time time to evaluate[s]
+         * @return evaluated value
+         */
+        float evaluate(final float[] pointTimes, final float[] pointValues, final int basePointIndex, final float time);
     }
 }
@@ -0,0 +1,626 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionCurve;
+import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionCurveTarget;
+import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionData;
+import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionEvent;
+import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionSegmentType;
+import com.live2d.sdk.cubism.framework.utils.CubismDebug;
+import com.live2d.sdk.cubism.framework.utils.jsonparser.ICubismJsonEventHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Handler of the JSON events which fills the curves, segments and points of motion3.json into the motion data in a single pass.
+ * <p>
+ * The segments of each curve are decoded when its "Segments" array ends, so the order of the keys in motion3.json does not matter.
+ * If "Meta" appears before "Curves", the arrays are allocated with the total counts written in it.
+ * The evaluators of the segments are not set here.
+ */
+class CubismMotionJsonHandler implements ICubismJsonEventHandler {
+    /**
+     * Create the motion data from the values read.
+     * The counts are taken from the curves, segments and events actually read.
+     *
+     * @return motion data. The evaluators of the segments are not set.
+     */
+    public CubismMotionData createMotionData() {
+        CubismMotionData motionData = new CubismMotionData();
+
+        motionData.duration = duration;
+        motionData.isLooped = isLooped;
+        motionData.fps = fps;
+        motionData.areBeziersRestricted = areBeziersRestricted;
+        motionData.curveCount = curves.size();
+        motionData.curves = curves;
+        motionData.eventCount = events.size();
+        motionData.events = events;
+
+        motionData.segmentCount = segmentCount;
+        motionData.segmentBasePointIndices = trim(segmentBasePointIndices, segmentCount);
+        motionData.segmentTypes = segmentTypes.length == segmentCount
+                                  ? segmentTypes
+                                  : Arrays.copyOf(segmentTypes, segmentCount);
+        motionData.segmentEvaluators = new CubismMotionInternal.CsmMotionSegmentEvaluationFunction[segmentCount];
+        motionData.segmentEndTimes = trim(segmentEndTimes, segmentCount);
+
+        motionData.pointCount = pointCount;
+        motionData.pointTimes = trim(pointTimes, pointCount);
+        motionData.pointValues = trim(pointValues, pointCount);
+
+        return motionData;
+    }
+
+    /**
+     * Returns the consistency of the counts read with the metadata.
+     *
+     * @return true if the counts match the metadata; otherwise returns false.
+     */
+    public boolean hasConsistency() {
+        boolean result = true;
+
+        if (curves.size() != metaCurveCount) {
+            CubismDebug.cubismLogWarning("The number of curves does not match the metadata.");
+            result = false;
+        }
+        if (segmentCount != metaTotalSegmentCount) {
+            CubismDebug.cubismLogWarning("The number of segment does not match the metadata.");
+            result = false;
+        }
+        if (pointCount != metaTotalPointCount) {
+            CubismDebug.cubismLogWarning("The number of point does not match the metadata.");
+            result = false;
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether a segment of an unknown type has been read.
+     *
+     * @return If a segment of an unknown type has been read, return true.
+     */
+    public boolean hasUnknownSegmentType() {
+        return hasUnknownSegmentType;
+    }
+
+    /**
+     * Whether a fade-in time is set for the motion.
+     *
+     * @return If motion fade-in time is set, return true.
+     */
+    public boolean existsMotionFadeInTime() {
+        return existsFadeInTime;
+    }
+
+    /**
+     * Whether a fade-out time is set for the motion.
+     *
+     * @return If motion fade-out time is set, return true.
+     */
+    public boolean existsMotionFadeOutTime() {
+        return existsFadeOutTime;
+    }
+
+    /**
+     * Get the motion fade-in duration.
+     *
+     * @return fade-in duration[s]
+     */
+    public float getMotionFadeInTime() {
+        return fadeInTime;
+    }
+
+    /**
+     * Get the motion fade-out duration.
+     *
+     * @return fade-out duration[s]
+     */
+    public float getMotionFadeOutTime() {
+        return fadeOutTime;
+    }
+
+    @Override
+    public void beginObject() {
+        beginContainer(true);
+    }
+
+    @Override
+    public void endObject() {
+        endContainer();
+    }
+
+    @Override
+    public void beginArray() {
+        beginContainer(false);
+    }
+
+    @Override
+    public void endArray() {
+        endContainer();
+    }
+
+    @Override
+    public void key(String key) {
+        currentKey = key;
+    }
+
+    @Override
+    public void stringValue(String value) {
+        if (skippedDepth != 0) {
+            return;
+        }
+
+        if (location == Location.CURVE) {
+            if (JsonKey.TARGET.key.equals(currentKey)) {
+                curveTarget = value;
+            } else if (JsonKey.ID.key.equals(currentKey)) {
+                curveId = value;
+            }
+        } else if (location == Location.EVENT) {
+            if (JsonKey.VALUE.key.equals(currentKey)) {
+                event.value = value;
+            }
+        }
+    }
+
+    @Override
+    public void numberValue(double value) {
+        if (skippedDepth != 0) {
+            return;
+        }
+
+        switch (location) {
+            case SEGMENTS:
+                if (segmentValueCount == segmentValues.length) {
+                    segmentValues = Arrays.copyOf(segmentValues, segmentValues.length * 2);
+                }
+                segmentValues[segmentValueCount++] = (float) value;
+                break;
+            case META:
+                readMetaNumber(value);
+                break;
+            case CURVE:
+                if (JsonKey.FADE_IN_TIME.key.equals(currentKey)) {
+                    curve.fadeInTime = (float) value;
+                } else if (JsonKey.FADE_OUT_TIME.key.equals(currentKey)) {
+                    curve.fadeOutTime = (float) value;
+                }
+                break;
+            case EVENT:
+                if (JsonKey.TIME.key.equals(currentKey)) {
+                    event.fireTime = (float) value;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void booleanValue(boolean value) {
+        if (skippedDepth != 0 || location != Location.META) {
+            return;
+        }
+
+        if (JsonKey.LOOP.key.equals(currentKey)) {
+            isLooped = value;
+        } else if (JsonKey.ARE_BEZIERS_RESTRICTED.key.equals(currentKey)) {
+            areBeziersRestricted = value;
+        }
+    }
+
+    @Override
+    public void nullValue() {
+        // A null value is regarded as the value is not set.
+    }
+
+    /**
+     * Location in motion3.json
+     */
+    private enum Location {
+        /**
+         * Outside the root object
+         */
+        NONE,
+        /**
+         * Root object
+         */
+        ROOT,
+        /**
+         * "Meta" object
+         */
+        META,
+        /**
+         * "Curves" array
+         */
+        CURVES,
+        /**
+         * Curve object in "Curves"
+         */
+        CURVE,
+        /**
+         * "Segments" array of a curve
+         */
+        SEGMENTS,
+        /**
+         * "UserData" array
+         */
+        USER_DATA,
+        /**
+         * Event object in "UserData"
+         */
+        EVENT
+    }
+
+    private enum JsonKey {
+        META("Meta"),
+        DURATION("Duration"),
+        LOOP("Loop"),
+        ARE_BEZIERS_RESTRICTED("AreBeziersRestricted"),
+        CURVE_COUNT("CurveCount"),
+        FPS("Fps"),
+        TOTAL_SEGMENT_COUNT("TotalSegmentCount"),
+        TOTAL_POINT_COUNT("TotalPointCount"),
+        CURVES("Curves"),
+        TARGET("Target"),
+        ID("Id"),
+        FADE_IN_TIME("FadeInTime"),
+        FADE_OUT_TIME("FadeOutTime"),
+        SEGMENTS("Segments"),
+        USER_DATA("UserData"),
+        TIME("Time"),
+        VALUE("Value");
+
+        private final String key;
+
+        JsonKey(String key) {
+            this.key = key;
+        }
+    }
+
+    private enum TargetName {
+        MODEL("Model"),
+        PARAMETER("Parameter"),
+        PART_OPACITY("PartOpacity");
+
+        private final String name;
+
+        TargetName(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Initial capacity of the arrays when the total counts are not known yet.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Called when an object or an array begins. Containers which are not part of motion3.json are skipped.
+     *
+     * @param isObject true if an object begins, false if an array begins
+     */
+    private void beginContainer(boolean isObject) {
+        depth++;
+        if (skippedDepth != 0) {
+            return;
+        }
+
+        Location next = null;
+        switch (location) {
+            case NONE:
+                if (isObject) {
+                    next = Location.ROOT;
+                }
+                break;
+            case ROOT:
+                if (isObject && JsonKey.META.key.equals(currentKey)) {
+                    next = Location.META;
+                } else if (!isObject && JsonKey.CURVES.key.equals(currentKey)) {
+                    next = Location.CURVES;
+                } else if (!isObject && JsonKey.USER_DATA.key.equals(currentKey)) {
+                    next = Location.USER_DATA;
+                }
+                break;
+            case CURVES:
+                if (isObject) {
+                    next = Location.CURVE;
+                    beginCurve();
+                }
+                break;
+            case CURVE:
+                if (!isObject && JsonKey.SEGMENTS.key.equals(currentKey)) {
+                    next = Location.SEGMENTS;
+                    segmentValueCount = 0;
+                }
+                break;
+            case USER_DATA:
+                if (isObject) {
+                    next = Location.EVENT;
+                    event = new CubismMotionEvent();
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (next == null) {
+            skippedDepth = depth;
+        } else {
+            location = next;
+        }
+    }
+
+    /**
+     * Called when an object or an array ends.
+     */
+    private void endContainer() {
+        if (skippedDepth != 0) {
+            if (depth == skippedDepth) {
+                skippedDepth = 0;
+            }
+            depth--;
+            return;
+        }
+        depth--;
+
+        switch (location) {
+            case ROOT:
+                location = Location.NONE;
+                break;
+            case META:
+                ensureSegmentCapacity(metaTotalSegmentCount);
+                ensurePointCapacity(metaTotalPointCount);
+                location = Location.ROOT;
+                break;
+            case CURVES:
+            case USER_DATA:
+                location = Location.ROOT;
+                break;
+            case CURVE:
+                endCurve();
+                location = Location.CURVES;
+                break;
+            case SEGMENTS:
+                readSegments();
+                location = Location.CURVE;
+                break;
+            case EVENT:
+                events.add(event);
+                event = null;
+                location = Location.USER_DATA;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Read a number value in "Meta".
+     *
+     * @param value number value
+     */
+    private void readMetaNumber(double value) {
+        if (JsonKey.DURATION.key.equals(currentKey)) {
+            duration = (float) value;
+        } else if (JsonKey.FPS.key.equals(currentKey)) {
+            fps = (float) value;
+        } else if (JsonKey.CURVE_COUNT.key.equals(currentKey)) {
+            metaCurveCount = (int) value;
+        } else if (JsonKey.TOTAL_SEGMENT_COUNT.key.equals(currentKey)) {
+            metaTotalSegmentCount = (int) value;
+        } else if (JsonKey.TOTAL_POINT_COUNT.key.equals(currentKey)) {
+            metaTotalPointCount = (int) value;
+        } else if (JsonKey.FADE_IN_TIME.key.equals(currentKey)) {
+            existsFadeInTime = true;
+            fadeInTime = (float) value;
+        } else if (JsonKey.FADE_OUT_TIME.key.equals(currentKey)) {
+            existsFadeOutTime = true;
+            fadeOutTime = (float) value;
+        }
+    }
+
+    /**
+     * Start reading a curve.
+     */
+    private void beginCurve() {
+        curve = new CubismMotionCurve();
+        curve.baseSegmentIndex = segmentCount;
+        curve.fadeInTime = -1.0f;
+        curve.fadeOutTime = -1.0f;
+        curveTarget = null;
+        curveId = null;
+    }
+
+    /**
+     * Finish reading a curve and register its target type and ID.
+     */
+    private void endCurve() {
+        // Register target type.
+        if (TargetName.MODEL.name.equals(curveTarget)) {
+            curve.type = CubismMotionCurveTarget.MODEL;
+        } else if (TargetName.PARAMETER.name.equals(curveTarget)) {
+            curve.type = CubismMotionCurveTarget.PARAMETER;
+        } else if (TargetName.PART_OPACITY.name.equals(curveTarget)) {
+            curve.type = CubismMotionCurveTarget.PART_OPACITY;
+        } else {
+            CubismDebug.cubismLogWarning("Warning: Unable to get segment type from Curve! The number of \"CurveCount\" may be incorrect!");
+        }
+
+        curve.id = CubismFramework.getIdManager().getId(curveId != null ? curveId : "");
+        curves.add(curve);
+        curve = null;
+    }
+
+    /**
+     * Decode the values of the "Segments" array of the current curve into the segments and points.
+     */
+    private void readSegments() {
+        for (int segmentPosition = 0; segmentPosition < segmentValueCount; ) {
+            ensureSegmentCapacity(segmentCount + 1);
+            ensurePointCapacity(pointCount + 4);
+
+            if (segmentPosition == 0) {
+                segmentBasePointIndices[segmentCount] = pointCount;
+
+                pointTimes[pointCount] = getSegmentValue(segmentPosition);
+                pointValues[pointCount] = getSegmentValue(segmentPosition + 1);
+
+                pointCount += 1;
+                segmentPosition += 2;
+            } else {
+                segmentBasePointIndices[segmentCount] = pointCount - 1;
+            }
+
+            final CubismMotionSegmentType segmentType;
+            switch ((int) getSegmentValue(segmentPosition)) {
+                case 0:
+                    segmentType = CubismMotionSegmentType.LINEAR;
+                    break;
+                case 1:
+                    segmentType = CubismMotionSegmentType.BEZIER;
+                    break;
+                case 2:
+                    segmentType = CubismMotionSegmentType.STEPPED;
+                    break;
+                case 3:
+                    segmentType = CubismMotionSegmentType.INVERSESTEPPED;
+                    break;
+                default:
+                    // 未知の種類以降のセグメントは解釈できないため、このカーブの読み込みを打ち切る。
+                    hasUnknownSegmentType = true;
+                    return;
+            }
+            segmentTypes[segmentCount] = segmentType;
+
+            if (segmentType == CubismMotionSegmentType.BEZIER) {
+                pointTimes[pointCount] = getSegmentValue(segmentPosition + 1);
+                pointValues[pointCount] = getSegmentValue(segmentPosition + 2);
+
+                pointTimes[pointCount + 1] = getSegmentValue(segmentPosition + 3);
+                pointValues[pointCount + 1] = getSegmentValue(segmentPosition + 4);
+
+                pointTimes[pointCount + 2] = getSegmentValue(segmentPosition + 5);
+                pointValues[pointCount + 2] = getSegmentValue(segmentPosition + 6);
+
+                pointCount += 3;
+                segmentPosition += 7;
+            } else {
+                pointTimes[pointCount] = getSegmentValue(segmentPosition + 1);
+                pointValues[pointCount] = getSegmentValue(segmentPosition + 2);
+
+                pointCount += 1;
+                segmentPosition += 3;
+            }
+
+            segmentEndTimes[segmentCount] = pointTimes[pointCount - 1];
+
+            ++curve.segmentCount;
+            ++segmentCount;
+        }
+    }
+
+    /**
+     * Get a value of the "Segments" array of the current curve. A value beyond the end of the array is regarded as 0.
+     *
+     * @param index index in the array
+     * @return value
+     */
+    private float getSegmentValue(int index) {
+        return index < segmentValueCount ? segmentValues[index] : 0.0f;
+    }
+
+    private void ensureSegmentCapacity(int capacity) {
+        if (capacity <= segmentTypes.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, Math.max(segmentTypes.length * 2, INITIAL_CAPACITY));
+
+        segmentBasePointIndices = Arrays.copyOf(segmentBasePointIndices, newCapacity);
+        segmentTypes = Arrays.copyOf(segmentTypes, newCapacity);
+        segmentEndTimes = Arrays.copyOf(segmentEndTimes, newCapacity);
+    }
+
+    private void ensurePointCapacity(int capacity) {
+        if (capacity <= pointTimes.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, Math.max(pointTimes.length * 2, INITIAL_CAPACITY));
+
+        pointTimes = Arrays.copyOf(pointTimes, newCapacity);
+        pointValues = Arrays.copyOf(pointValues, newCapacity);
+    }
+
+    private static int[] trim(int[] array, int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static float[] trim(float[] array, int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    // Meta
+    private float duration;
+    private boolean isLooped;
+    private boolean areBeziersRestricted;
+    private float fps;
+    private int metaCurveCount;
+    private int metaTotalSegmentCount;
+    private int metaTotalPointCount;
+    private boolean existsFadeInTime;
+    private float fadeInTime;
+    private boolean existsFadeOutTime;
+    private float fadeOutTime;
+
+    private final List<CubismMotionCurve> curves = new ArrayList<CubismMotionCurve>();
+    private final List<CubismMotionEvent> events = new ArrayList<CubismMotionEvent>();
+
+    private int segmentCount;
+    private int[] segmentBasePointIndices = new int[0];
+    private CubismMotionSegmentType[] segmentTypes = new CubismMotionSegmentType[0];
+    private float[] segmentEndTimes = new float[0];
+
+    private int pointCount;
+    private float[] pointTimes = new float[0];
+    private float[] pointValues = new float[0];
+
+    /**
+     * Values of the "Segments" array of the current curve. The array is reused for each curve.
+     */
+    private float[] segmentValues = new float[INITIAL_CAPACITY];
+    private int segmentValueCount;
+    private boolean hasUnknownSegmentType;
+
+    /**
+     * Curve being read
+     */
+    private CubismMotionCurve curve;
+    private String curveTarget;
+    private String curveId;
+    /**
+     * Event being read
+     */
+    private CubismMotionEvent event;
+
+    private Location location = Location.NONE;
+    private String currentKey;
+    /**
+     * Nesting depth of the objects and arrays
+     */
+    private int depth;
+    /**
+     * Depth of the container being skipped. 0 if no container is skipped.
+     */
+    private int skippedDepth;
+}
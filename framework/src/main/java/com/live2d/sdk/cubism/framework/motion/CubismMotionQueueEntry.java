@@ -7,6 +7,8 @@
 
 package com.live2d.sdk.cubism.framework.motion;
 
+import java.util.Arrays;
+
 /**
  * Manager class for each motion being played by CubismMotionQueueManager.
  */
@@ -237,6 +239,39 @@ public class CubismMotionQueueEntry {
         return motion;
     }
 
+    /**
+     * Get the index of the segment evaluated last time for each curve of the motion.
+     * The array is reallocated only when the number of curves changes.
+     *
+     * @param curveCount number of curves of the motion
+     * @return index of the segment evaluated last time for each curve. -1 if there is none.
+     */
+    int[] getSegmentCursors(int curveCount) {
+        if (segmentCursors == null || segmentCursors.length != curveCount) {
+            segmentCursors = new int[curveCount];
+            Arrays.fill(segmentCursors, -1);
+        }
+        return segmentCursors;
+    }
+
+    /**
+     * Get the binding of the curves of the motion to the parameters of the model, which was created last time.
+     *
+     * @return binding created last time. null if there is none.
+     */
+    CubismMotionInternal.CubismMotionModelBinding getModelBinding() {
+        return modelBinding;
+    }
+
+    /**
+     * Set the binding of the curves of the motion to the parameters of the model.
+     *
+     * @param modelBinding binding
+     */
+    void setModelBinding(CubismMotionInternal.CubismMotionModelBinding modelBinding) {
+        this.modelBinding = modelBinding;
+    }
+
     /**
      * motion
      */
@@ -285,4 +320,12 @@ public class CubismMotionQueueEntry {
      * Whether the motion fade-out is started
      */
     private boolean isTriggeredFadeOut;
+    /**
+     * index of the segment evaluated last time for each curve
+     */
+    private int[] segmentCursors;
+    /**
+     * binding of the curves of the motion to the parameters of the model
+     */
+    private CubismMotionInternal.CubismMotionModelBinding modelBinding;
 }
@@ -7,15 +7,19 @@
 
 package com.live2d.sdk.cubism.framework.physics;
 
+import com.live2d.sdk.cubism.framework.id.CubismId;
 import com.live2d.sdk.cubism.framework.math.CubismMath;
+import com.live2d.sdk.cubism.framework.math.CubismMatrix44;
 import com.live2d.sdk.cubism.framework.math.CubismVector2;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
-import com.live2d.sdk.cubism.framework.physics.CubismPhysicsFunctions.*;
 import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.*;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryCache;
+import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 
-import java.util.ArrayList;
-import java.util.List;
-
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Physics operation class.
@@ -54,10 +58,17 @@ public class CubismPhysics {
     }
 
     /**
-     * Output result of physics operations before applying to parameters
+     * Reduction of the physics steps exceeding the maximum number in an evaluation
      */
-    public static class PhysicsOutput {
-        float[] outputs;
+    public enum SubStepOverflowMode {
+        /**
+         * Run only the maximum number of the steps and drop the older steps.
+         */
+        DROP,
+        /**
+         * Replace all the steps with one step which calculates the stable state with the current parameter values.
+         */
+        STABILIZE
     }
 
     /**
@@ -70,10 +81,68 @@ public class CubismPhysics {
         final CubismPhysics physics = new CubismPhysics();
         physics.parse(buffer);
         physics.physicsRig.gravity.y = 0;
+        physics.setUpState();
+
+        return physics;
+    }
+
+    /**
+     * Create an CubismPhysics instance from a binary cache created by {@link #createCache(long)} without parsing physics3.json.
+     *
+     * @param cache buffer where the cache is loaded. The position of the buffer is not changed.
+     * @param contentHash content hash of physics3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return the created instance. null if the cache is not for the content hash or is broken; then physics3.json has to be loaded by create().
+     */
+    public static CubismPhysics createFromCache(ByteBuffer cache, long contentHash) {
+        final CubismBinaryCache.Reader reader = CubismBinaryCache.read(cache, CubismBinaryCache.DataType.PHYSICS, contentHash);
+        if (reader == null) {
+            return null;
+        }
+
+        final CubismPhysics physics = new CubismPhysics();
+        try {
+            physics.physicsRig = readRigCache(reader);
+        } catch (IllegalArgumentException e) {
+            CubismDebug.cubismLogWarning("The binary cache of physics3.json is broken.");
+            return null;
+        }
+        physics.setUpState();
 
         return physics;
     }
 
+    /**
+     * Create a binary cache of the data of physics3.json held by this instance, which can be loaded by {@link #createFromCache(ByteBuffer, long)}.
+     * The state of the physics operation is not included.
+     *
+     * @param contentHash content hash of physics3.json calculated by {@link CubismBinaryCache#computeContentHash(byte[])}
+     * @return bytes of the cache
+     */
+    public byte[] createCache(long contentHash) {
+        final CubismBinaryCache.Writer writer = CubismBinaryCache.write(CubismBinaryCache.DataType.PHYSICS, contentHash);
+        writeRigCache(writer, physicsRig);
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Create an CubismPhysics instance which shares the data of physics3.json with the given instance.
+     * <p>
+     * The created instance is the same as the one created from the same physics3.json by {@link #create(byte[])}, but physics3.json is not parsed again.
+     * The data of physics3.json is not changed by the physics operation, so the instances sharing it can be used independently, even on different threads.
+     * Only the state of the physics operation is allocated for each instance.
+     *
+     * @param physics the instance whose data of physics3.json is shared
+     * @return the created instance
+     */
+    public static CubismPhysics create(CubismPhysics physics) {
+        final CubismPhysics sharedPhysics = new CubismPhysics();
+        sharedPhysics.physicsRig = physics.physicsRig;
+        sharedPhysics.setUpState();
+
+        return sharedPhysics;
+    }
+
     /**
      * Reset parameters.
      */
@@ -81,8 +150,10 @@ public class CubismPhysics {
         options.gravity.set(0.0f, -1.0f);
         options.wind.setZero();
 
-        physicsRig.gravity.setZero();
-        physicsRig.wind.setZero();
+        lastSubStepCount = 0;
+        lastDroppedStepCount = 0;
+        droppedStepCount = 0;
+        isStabilizing = false;
 
         initialize();
     }
@@ -93,18 +164,168 @@ public class CubismPhysics {
      * @param model 物理演算の結果を適用するモデル
      */
     public void stabilization(CubismModel model) {
-        float[] totalAngle = new float[1];
-        float weight;
-        float radAngle;
-        float outputValue;
-        CubismVector2 totalTranslation = new CubismVector2();
-        int i, settingIndex, particleIndex;
-        CubismPhysicsSubRig currentSetting;
-
         float[] parameterValues = model.getModel().getParameters().getValues();
         float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
         float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
-        float[] parameterDefaultValues = model.getModel().getParameters().getDefaultValues();
+
+        isStabilizing = false;
+        copyParameterValuesToCaches(model);
+
+        stabilizeSubRigs(model, parameterValues, parameterMinimumValues, parameterMaximumValues);
+    }
+
+    /**
+     * Start the incremental stabilization, which calculates the stable state of the physics with the current parameter values over multiple calls.
+     * The whole work is done by one call of {@link #updateStabilization(CubismModel)}.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @see #beginStabilization(CubismModel, int)
+     */
+    public void beginStabilization(CubismModel model) {
+        beginStabilization(model, 1);
+    }
+
+    /**
+     * Start the incremental stabilization, which calculates the stable state of the physics with the current parameter values over multiple calls.
+     * <p>
+     * The stable pose of each sub-rig is calculated first as {@link #stabilization(CubismModel)} does.
+     * Then the physics steps are run with the same parameter values until the maximum movement of the particles in a step falls below {@link #setStabilizationConvergenceThreshold(float)},
+     * or the number of the steps reaches {@link #setMaxStabilizationStepCount(int)}.
+     * <p>
+     * The work is done by {@link #updateStabilization(CubismModel)} or {@link #updateStabilization(CubismModel, float)}, and the results are applied to the model when it finishes.
+     * Until then, {@link #evaluate(CubismModel, float)} and {@link #evaluateTicks(CubismModel, int)} do nothing, so they can still be called every frame.
+     * {@link #stabilization(CubismModel)} and {@link #reset()} cancel the incremental stabilization.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param frameCount number of the calls of {@link #updateStabilization(CubismModel)} over which the work is spread
+     */
+    public void beginStabilization(CubismModel model, int frameCount) {
+        copyParameterValuesToCaches(model);
+        resolveParameterIndices(model);
+
+        final int workCount = physicsRig.subRigCount + maxStabilizationStepCount;
+        frameCount = Math.max(frameCount, 1);
+
+        stabilizationStepLimit = maxStabilizationStepCount;
+        // Process at least one work per frame so that the stabilization without work also finishes.
+        stabilizationWorkCountPerFrame = Math.max((workCount + frameCount - 1) / frameCount, 1);
+        stabilizedSubRigCount = 0;
+        stabilizationStepCount = 0;
+        stabilizationParticleMovement = 0.0f;
+        isStabilizationConverged = false;
+        isStabilizing = true;
+    }
+
+    /**
+     * Advance the incremental stabilization by the share of the work for a frame given to {@link #beginStabilization(CubismModel, int)}.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @return true if the stabilization has finished
+     */
+    public boolean updateStabilization(CubismModel model) {
+        return updateStabilization(model, stabilizationWorkCountPerFrame, 0L);
+    }
+
+    /**
+     * Advance the incremental stabilization until the time budget runs out.
+     * At least one sub-rig or one step is processed in a call, so a step may run past the budget.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param timeBudgetSeconds time which this call may spend[s]
+     * @return true if the stabilization has finished
+     */
+    public boolean updateStabilization(CubismModel model, float timeBudgetSeconds) {
+        final long deadlineNanos = System.nanoTime() + Math.max((long) (timeBudgetSeconds * 1.0e9f), 1L);
+        return updateStabilization(model, Integer.MAX_VALUE, deadlineNanos);
+    }
+
+    /**
+     * Whether the incremental stabilization is in progress.
+     *
+     * @return true if it has been started and has not finished
+     */
+    public boolean isStabilizing() {
+        return isStabilizing;
+    }
+
+    /**
+     * Get the progress of the incremental stabilization.
+     * The steps skipped by the convergence are counted as done.
+     *
+     * @return the progress from 0.0 to 1.0. 1.0 if the stabilization is not in progress or has no work.
+     */
+    public float getStabilizationProgress() {
+        final int workCount = physicsRig.subRigCount + stabilizationStepLimit;
+
+        if (!isStabilizing || workCount == 0) {
+            return 1.0f;
+        }
+
+        return (float) (stabilizedSubRigCount + stabilizationStepCount) / workCount;
+    }
+
+    /**
+     * Whether the last incremental stabilization finished by the convergence of the particles rather than the limit of the steps.
+     *
+     * @return true if the particles converged
+     */
+    public boolean isStabilizationConverged() {
+        return isStabilizationConverged;
+    }
+
+    /**
+     * Get the maximum movement of the particles in the last step of the incremental stabilization.
+     *
+     * @return the maximum movement. 0.0 if no step has been run.
+     */
+    public float getStabilizationParticleMovement() {
+        return stabilizationParticleMovement;
+    }
+
+    /**
+     * Set the maximum number of the physics steps run by the incremental stabilization after the stable pose is calculated.
+     * It takes effect from the next {@link #beginStabilization(CubismModel, int)}.
+     *
+     * @param count the maximum number of the steps. 0 means only the stable pose is calculated.
+     */
+    public void setMaxStabilizationStepCount(int count) {
+        maxStabilizationStepCount = Math.max(count, 0);
+    }
+
+    /**
+     * Get the maximum number of the physics steps run by the incremental stabilization.
+     *
+     * @return the maximum number of the steps
+     */
+    public int getMaxStabilizationStepCount() {
+        return maxStabilizationStepCount;
+    }
+
+    /**
+     * Set the threshold of the movement of the particles in a step under which the incremental stabilization regards the particles as converged.
+     *
+     * @param threshold threshold of the movement
+     */
+    public void setStabilizationConvergenceThreshold(float threshold) {
+        stabilizationConvergenceThreshold = threshold;
+    }
+
+    /**
+     * Get the threshold of the movement of the particles under which the incremental stabilization regards the particles as converged.
+     *
+     * @return threshold of the movement
+     */
+    public float getStabilizationConvergenceThreshold() {
+        return stabilizationConvergenceThreshold;
+    }
+
+    /**
+     * Copy the parameter values of the model to the parameter caches and the parameter input caches.
+     *
+     * @param model model to which the results of physics operation are applied
+     */
+    private void copyParameterValuesToCaches(CubismModel model) {
+        float[] parameterValues = model.getModel().getParameters().getValues();
 
         if (parameterCaches.length < model.getParameterCount()) {
             parameterCaches = new float[model.getParameterCount()];
@@ -117,97 +338,262 @@ public class CubismPhysics {
             parameterCaches[j] = parameterValues[j];
             parameterInputCaches[j] = parameterValues[j];
         }
+    }
+
+    /**
+     * Advance the incremental stabilization.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param maxWorkCount maximum number of the sub-rigs and the steps to process
+     * @param deadlineNanos the time given by System.nanoTime() after which no more work is started. 0 means no deadline.
+     * @return true if the stabilization has finished
+     */
+    private boolean updateStabilization(CubismModel model, int maxWorkCount, long deadlineNanos) {
+        if (!isStabilizing) {
+            return true;
+        }
 
-        for (settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
-            totalAngle[0] = 0.0f;
-            totalTranslation.setZero();
+        final CubismPhysicsRig rig = physicsRig;
+        final float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
+        final float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
+        final float physicsDeltaTime = getTickDeltaTime();
 
-            currentSetting = physicsRig.settings.get(settingIndex);
-            int baseInputIndex = currentSetting.baseInputIndex;
-            int baseOutputIndex = currentSetting.baseOutputIndex;
-            int baseParticleIndex = currentSetting.baseParticleIndex;
+        for (int workCount = 0; workCount < maxWorkCount; workCount++) {
+            if (workCount > 0 && deadlineNanos != 0L && System.nanoTime() - deadlineNanos >= 0L) {
+                break;
+            }
 
-            // Load input parameters.
-            for (i = 0; i < currentSetting.inputCount; i++) {
-                CubismPhysicsInput currentInput = physicsRig.inputs.get(baseInputIndex + i);
+            // Calculate the stable pose of the sub-rigs first.
+            if (stabilizedSubRigCount < rig.subRigCount) {
+                stabilizeSubRig(model, stabilizedSubRigCount, null, parameterMinimumValues, parameterMaximumValues);
+                stabilizedSubRigCount++;
+                continue;
+            }
 
-                weight = currentInput.weight / MAXIMUM_WEIGHT;
+            // Then let the particles settle with the same inputs.
+            if (stabilizationStepCount < stabilizationStepLimit) {
+                System.arraycopy(currentRigOutputs, 0, previousRigOutputs, 0, rig.outputCount);
+                System.arraycopy(parameterInputCaches, 0, parameterCaches, 0, model.getParameterCount());
 
-                if (currentInput.sourceParameterIndex == -1) {
-                    currentInput.sourceParameterIndex = model.getParameterIndex(currentInput.source.Id);
-                }
+                evaluateSubRigs(parameterMinimumValues, parameterMaximumValues, physicsDeltaTime);
+                stabilizationStepCount++;
 
-                currentInput.getNormalizedParameterValue.getNormalizedParameterValue(
-                    totalTranslation,
-                    totalAngle,
-                    parameterValues[currentInput.sourceParameterIndex],
-                    parameterMinimumValues[currentInput.sourceParameterIndex],
-                    parameterMaximumValues[currentInput.sourceParameterIndex],
-                    parameterDefaultValues[currentInput.sourceParameterIndex],
-                    currentSetting.normalizationPosition,
-                    currentSetting.normalizationAngle,
-                    currentInput.reflect,
-                    weight
-                );
+                stabilizationParticleMovement = getMaxParticleMovement();
+                isStabilizationConverged = stabilizationParticleMovement < stabilizationConvergenceThreshold;
+            }
 
-                parameterCaches[currentInput.sourceParameterIndex] = parameterValues[currentInput.sourceParameterIndex];
+            if (isStabilizationConverged || stabilizationStepCount >= stabilizationStepLimit) {
+                finishStabilization(model);
+                return true;
             }
+        }
 
-            radAngle = CubismMath.degreesToRadian(-totalAngle[0]);
+        return false;
+    }
 
-            totalTranslation.x = (totalTranslation.x * CubismMath.cosF(radAngle) - totalTranslation.y * CubismMath.sinF(radAngle));
-            totalTranslation.y = (totalTranslation.x * CubismMath.sinF(radAngle) + totalTranslation.y * CubismMath.cosF(radAngle));
+    /**
+     * Get the maximum distance that the particles of the evaluated sub-rigs moved in the last step.
+     *
+     * @return the maximum distance
+     */
+    private float getMaxParticleMovement() {
+        final CubismPhysicsRig rig = physicsRig;
+        final float[] positions = rigState.particlePositions;
+        final float[] lastPositions = rigState.particleLastPositions;
 
-            // Calculate particles position.
-            updateParticlesForStabilization(
-                physicsRig.particles,
-                baseParticleIndex,
-                currentSetting.particleCount,
-                totalTranslation,
-                totalAngle[0],
-                options.wind,
-                MOVEMENT_THRESHOLD * currentSetting.normalizationPosition.maximumValue
+        float maxMovementSquared = 0.0f;
+
+        for (int settingIndex = 0; settingIndex < rig.subRigCount; settingIndex++) {
+            if (cosmeticSubRigWeight == 0.0f && isCosmeticSubRigs[settingIndex]) {
+                continue;
+            }
+
+            final CubismPhysicsSubRig currentSetting = rig.settings[settingIndex];
+
+            for (int i = 1; i < currentSetting.particleCount; i++) {
+                final int x = (currentSetting.baseParticleIndex + i) * 2;
+                final float movementX = positions[x] - lastPositions[x];
+                final float movementY = positions[x + 1] - lastPositions[x + 1];
+
+                maxMovementSquared = Math.max(maxMovementSquared, movementX * movementX + movementY * movementY);
+            }
+        }
+
+        return (float) Math.sqrt(maxMovementSquared);
+    }
+
+    /**
+     * Apply the outputs of the incremental stabilization in the parameter caches to the model, and finish it.
+     *
+     * @param model model to which the results of physics operation are applied
+     */
+    private void finishStabilization(CubismModel model) {
+        final CubismPhysicsRig rig = physicsRig;
+        final int[] outputDestinationParameterIndices = rigState.outputDestinationParameterIndices;
+        final float[] parameterValues = model.getModel().getParameters().getValues();
+
+        System.arraycopy(currentRigOutputs, 0, previousRigOutputs, 0, rig.outputCount);
+
+        for (int outputIndex = 0; outputIndex < rig.outputCount; outputIndex++) {
+            final int destinationParameterIndex = outputDestinationParameterIndices[outputIndex];
+
+            if (destinationParameterIndex == -1) {
+                continue;
+            }
+
+            parameterValues[destinationParameterIndex] = parameterCaches[destinationParameterIndex];
+            model.markParameterValueChanged(destinationParameterIndex);
+        }
+
+        isStabilizing = false;
+    }
+
+    /**
+     * Calculate the stable state of all the sub-rigs with the values of the parameter caches.
+     * The outputs are written to the parameter caches, and the latest and the previous results of the pendulum calculation are set to the outputs.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param parameterValues values of the parameters of the model to which the outputs are also written. If null, they are written only to the parameter caches.
+     * @param parameterMinimumValues minimum values of the parameters
+     * @param parameterMaximumValues maximum values of the parameters
+     */
+    private void stabilizeSubRigs(
+        CubismModel model,
+        float[] parameterValues,
+        float[] parameterMinimumValues,
+        float[] parameterMaximumValues
+    ) {
+        resolveParameterIndices(model);
+
+        for (int settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
+            stabilizeSubRig(model, settingIndex, parameterValues, parameterMinimumValues, parameterMaximumValues);
+        }
+    }
+
+    /**
+     * Calculate the stable state of a sub-rig with the values of the parameter caches.
+     * The parameter indices must have been resolved.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param settingIndex index of the sub-rig
+     * @param parameterValues values of the parameters of the model to which the outputs are also written. If null, they are written only to the parameter caches.
+     * @param parameterMinimumValues minimum values of the parameters
+     * @param parameterMaximumValues maximum values of the parameters
+     */
+    private void stabilizeSubRig(
+        CubismModel model,
+        int settingIndex,
+        float[] parameterValues,
+        float[] parameterMinimumValues,
+        float[] parameterMaximumValues
+    ) {
+        float radAngle;
+        float outputValue;
+        int i, particleIndex;
+
+        final CubismPhysicsRig rig = physicsRig;
+        final CubismPhysicsRigState state = rigState;
+        final float[] parameterCaches = this.parameterCaches;
+        final float[] particlePositions = state.particlePositions;
+
+        float totalAngle = 0.0f;
+        float totalTranslationX = 0.0f;
+        float totalTranslationY = 0.0f;
+
+        final CubismPhysicsSubRig currentSetting = rig.settings[settingIndex];
+        int baseInputIndex = currentSetting.baseInputIndex;
+        int baseOutputIndex = currentSetting.baseOutputIndex;
+        int baseParticleIndex = currentSetting.baseParticleIndex;
+
+        // Load input parameters.
+        for (i = 0; i < currentSetting.inputCount; i++) {
+            final int inputIndex = baseInputIndex + i;
+
+            final float normalizedValue = CubismPhysicsFunctions.normalizeParameterValue(
+                rig,
+                state,
+                inputIndex,
+                parameterCaches[state.inputSourceParameterIndices[inputIndex]]
             );
 
-            // Update output parameters.
-            for (i = 0; i < currentSetting.outputCount; i++) {
-                CubismPhysicsOutput currentOutput = physicsRig.outputs.get(baseOutputIndex + i);
+            switch (rig.inputTypes[inputIndex]) {
+                case X:
+                    totalTranslationX += normalizedValue;
+                    break;
+                case Y:
+                    totalTranslationY += normalizedValue;
+                    break;
+                case ANGLE:
+                    totalAngle += normalizedValue;
+                    break;
+            }
+        }
 
-                particleIndex = currentOutput.vertexIndex;
+        radAngle = CubismMath.degreesToRadian(-totalAngle);
+
+        final float cosAngle = CubismMath.cosF(radAngle);
+        final float sinAngle = CubismMath.sinF(radAngle);
+
+        totalTranslationX = (totalTranslationX * cosAngle - totalTranslationY * sinAngle);
+        totalTranslationY = (totalTranslationX * sinAngle + totalTranslationY * cosAngle);
+
+        // Calculate particles position.
+        updateParticlesForStabilization(
+            rig,
+            state,
+            baseParticleIndex,
+            currentSetting.particleCount,
+            totalTranslationX,
+            totalTranslationY,
+            totalAngle,
+            options.wind,
+            MOVEMENT_THRESHOLD * currentSetting.normalizationPosition.maximumValue
+        );
 
-                if (currentOutput.destinationParameterIndex == -1) {
-                    currentOutput.destinationParameterIndex = model.getParameterIndex(currentOutput.destination.Id);
-                }
+        // Update output parameters.
+        for (i = 0; i < currentSetting.outputCount; i++) {
+            final int outputIndex = baseOutputIndex + i;
 
-                if (particleIndex < 1 || particleIndex >= currentSetting.particleCount) {
-                    continue;
-                }
+            particleIndex = rig.outputVertexIndices[outputIndex];
 
-                CubismVector2 translation = new CubismVector2();
-                CubismVector2.subtract(physicsRig.particles.get(baseParticleIndex + particleIndex).position, physicsRig.particles.get(baseParticleIndex + particleIndex - 1).position, translation);
+            final int destinationParameterIndex = state.outputDestinationParameterIndices[outputIndex];
 
-                outputValue = currentOutput.getValue.getValue(
-                    translation,
-                    physicsRig.particles,
-                    physicsRig.settings.get(i).baseParticleIndex,
-                    particleIndex,
-                    currentOutput.reflect,
-                    options.gravity
-                );
+            if (particleIndex < 1 || particleIndex >= currentSetting.particleCount) {
+                continue;
+            }
 
-                currentRigOutputs.get(settingIndex).outputs[i] = outputValue;
-                previousRigOutputs.get(settingIndex).outputs[i] = outputValue;
+            final int currentParticle = (baseParticleIndex + particleIndex) * 2;
+            final int previousParticle = (baseParticleIndex + particleIndex - 1) * 2;
+            final float translationX = particlePositions[currentParticle] - particlePositions[previousParticle];
+            final float translationY = particlePositions[currentParticle + 1] - particlePositions[previousParticle + 1];
+
+            // NOTE: The base particle index of the sub-rig at the output index is passed here as before.
+            outputValue = getOutputValue(
+                rig,
+                outputIndex,
+                translationX,
+                translationY,
+                rig.settings[i].baseParticleIndex,
+                particleIndex
+            );
 
-                updateOutputParameterValue(
-                    parameterValues,
-                    currentOutput.destinationParameterIndex,
-                    parameterMinimumValues[currentOutput.destinationParameterIndex],
-                    parameterMaximumValues[currentOutput.destinationParameterIndex],
-                    outputValue,
-                    currentOutput
-                );
+            currentRigOutputs[outputIndex] = outputValue;
+            previousRigOutputs[outputIndex] = outputValue;
+
+            updateOutputParameterValue(
+                parameterCaches,
+                destinationParameterIndex,
+                parameterMinimumValues[destinationParameterIndex],
+                parameterMaximumValues[destinationParameterIndex],
+                outputValue,
+                rig,
+                state,
+                outputIndex
+            );
 
-                parameterCaches[currentOutput.destinationParameterIndex] = parameterValues[currentOutput.destinationParameterIndex];
+            if (parameterValues != null) {
+                parameterValues[destinationParameterIndex] = parameterCaches[destinationParameterIndex];
+                model.markParameterValueChanged(destinationParameterIndex);
             }
         }
     }
@@ -250,33 +636,396 @@ public class CubismPhysics {
      * 2:_currentRigOutputs
      * 3:_currentRemainTime (now rendering)
      * 4:next particles timing
+     * <p>
+     * While the incremental stabilization started by {@link #beginStabilization(CubismModel, int)} is in progress, this method does nothing,
+     * and the results are applied to the model when the stabilization finishes.
      *
      * @param model Model to which the results of physics operation are applied
      * @param deltaTimeSeconds rendering delta time[s]
      */
     public void evaluate(CubismModel model, float deltaTimeSeconds) {
-        float weight;
-        float radAngle;
-        float outputValue;
-        int i, settingIndex, particleIndex;
-        List<CubismPhysicsInput> inputs = physicsRig.inputs;
-        List<CubismPhysicsOutput> outputs = physicsRig.outputs;
-
-        if (0.0f >= deltaTimeSeconds) {
+        if (0.0f >= deltaTimeSeconds || isStabilizing) {
             return;
         }
 
+        final CubismPhysicsRig rig = physicsRig;
+
+        updateDetailLevel(deltaTimeSeconds);
+
         float physicsDeltaTime;
+        if (rig.fps > 0.0f) {
+            physicsDeltaTime = 1.0f / rig.fps;
+        } else {
+            physicsDeltaTime = deltaTimeSeconds;
+        }
+
+        // Lower the rate of the physics steps at the low detail level.
+        final float stepRate = LOW_DETAIL_STEP_RATE + (1.0f - LOW_DETAIL_STEP_RATE) * detailLevel;
+        if (stepRate < 1.0f) {
+            physicsDeltaTime /= stepRate;
+        }
+
+        lastDroppedStepCount = 0;
         currentRemainTime += deltaTimeSeconds;
         if (currentRemainTime > MAX_DELTA_TIME) {
+            lastDroppedStepCount = (int) (currentRemainTime / physicsDeltaTime);
             currentRemainTime = 0.0f;
         }
 
         float[] parameterValues = model.getModel().getParameters().getValues();
         final float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
         final float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
-        final float[] parameterDefaultValues = model.getModel().getParameters().getDefaultValues();
 
+        prepareParameterCaches(model, parameterValues);
+
+        // Bound the number of the steps to catch up with the time after a hitch.
+        if (maxSubStepCount > 0 && currentRemainTime >= physicsDeltaTime * (maxSubStepCount + 1)) {
+            final int stepCount = (int) (currentRemainTime / physicsDeltaTime);
+
+            switch (subStepOverflowMode) {
+                case DROP:
+                    // The oldest steps are dropped, and the inputs are interpolated over the remaining steps.
+                    lastDroppedStepCount += stepCount - maxSubStepCount;
+                    currentRemainTime -= physicsDeltaTime * (stepCount - maxSubStepCount);
+                    break;
+                case STABILIZE:
+                    // One stabilized step with the current parameter values takes the place of all the steps.
+                    lastDroppedStepCount += stepCount - 1;
+                    currentRemainTime -= physicsDeltaTime * stepCount;
+
+                    System.arraycopy(parameterValues, 0, parameterCaches, 0, model.getParameterCount());
+                    System.arraycopy(parameterValues, 0, parameterInputCaches, 0, model.getParameterCount());
+                    stabilizeSubRigs(model, null, parameterMinimumValues, parameterMaximumValues);
+                    break;
+            }
+        }
+
+        int subStepCount = 0;
+        while (currentRemainTime >= physicsDeltaTime) {
+            if (maxSubStepCount > 0 && subStepCount >= maxSubStepCount) {
+                // The rest is carried over to the next evaluation.
+                break;
+            }
+            subStepCount++;
+
+            stepPhysics(
+                model,
+                parameterValues,
+                parameterMinimumValues,
+                parameterMaximumValues,
+                physicsDeltaTime / currentRemainTime,
+                physicsDeltaTime
+            );
+            currentRemainTime -= physicsDeltaTime;
+        }
+
+        lastSubStepCount = subStepCount;
+        droppedStepCount += lastDroppedStepCount;
+
+        final float alpha = Math.min(currentRemainTime / physicsDeltaTime, 1.0f);
+        interpolate(model, alpha);
+    }
+
+    /**
+     * Evaluate a physics operation by the given number of the physics steps, regardless of the rendering time.
+     * <p>
+     * The inputs move linearly from the inputs of the last step to the current parameter values over the steps,
+     * and the latest results of the pendulum calculation are applied to the model without interpolation.
+     * The results depend only on the parameter values and the number of the steps, so the same parameter stream gives the same outputs however the frames are timed.
+     * The remaining time of {@link #evaluate(CubismModel, float)} and the detail level are not changed, and the steps are not capped.
+     * As {@link #evaluate(CubismModel, float)}, this method does nothing while the incremental stabilization is in progress.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param tickCount number of the physics steps. If 0 or less, the latest results are applied again without a step.
+     * @see #getTickDeltaTime()
+     */
+    public void evaluateTicks(CubismModel model, int tickCount) {
+        if (isStabilizing) {
+            return;
+        }
+
+        final float physicsDeltaTime = getTickDeltaTime();
+        final float[] parameterValues = model.getModel().getParameters().getValues();
+        final float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
+        final float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
+
+        prepareParameterCaches(model, parameterValues);
+        resolveParameterIndices(model);
+
+        for (int tick = 0; tick < tickCount; tick++) {
+            stepPhysics(
+                model,
+                parameterValues,
+                parameterMinimumValues,
+                parameterMaximumValues,
+                1.0f / (tickCount - tick),
+                physicsDeltaTime
+            );
+        }
+
+        interpolate(model, 1.0f);
+    }
+
+    /**
+     * Get the time of a physics step of {@link #evaluateTicks(CubismModel, int)}.
+     *
+     * @return 1 / FPS of physics3.json, or 1 / 60 if physics3.json has no FPS[s]
+     */
+    public float getTickDeltaTime() {
+        return (physicsRig.fps > 0.0f) ? 1.0f / physicsRig.fps : DEFAULT_TICK_DELTA_TIME;
+    }
+
+    /**
+     * Get the number of the outputs of the physics rig, which is the length of the results read by {@link #getOutputs(float[], int)}.
+     *
+     * @return the number of the outputs
+     */
+    public int getOutputCount() {
+        return physicsRig.outputCount;
+    }
+
+    /**
+     * Copy the latest results of the pendulum calculation to the array, e.g. to record them for a replay.
+     *
+     * @param outputs destination array
+     * @param offset index of the array at which the results are written
+     */
+    public void getOutputs(float[] outputs, int offset) {
+        System.arraycopy(currentRigOutputs, 0, outputs, offset, physicsRig.outputCount);
+    }
+
+    /**
+     * Apply results of the pendulum calculation recorded by {@link #getOutputs(float[], int)} to the model without the physics operation.
+     * <p>
+     * After {@link #evaluateTicks(CubismModel, int)}, applying the recorded results to the model with the same parameter values gives the same parameter values as the evaluation.
+     * The particles are not moved, so the state is not continuous if the physics operation is evaluated again.
+     *
+     * @param model model to which the results are applied
+     * @param outputs source array
+     * @param offset index of the array at which the results are read
+     */
+    public void applyOutputs(CubismModel model, float[] outputs, int offset) {
+        if (outputs.length - offset < physicsRig.outputCount) {
+            throw new IllegalArgumentException("The outputs are shorter than the output count of the physics rig.");
+        }
+
+        System.arraycopy(outputs, offset, currentRigOutputs, 0, physicsRig.outputCount);
+        System.arraycopy(outputs, offset, previousRigOutputs, 0, physicsRig.outputCount);
+
+        resolveParameterIndices(model);
+        interpolate(model, 1.0f);
+    }
+
+    /**
+     * Set the maximum number of the physics steps in an evaluation.
+     * <p>
+     * If a frame takes a long time, {@link #evaluate(CubismModel, float)} runs the physics steps for the elapsed time, which can take longer than the frame itself.
+     * When the steps exceed this number, they are reduced according to {@link #setSubStepOverflowMode(SubStepOverflowMode)}.
+     *
+     * @param count the maximum number of the steps. 0 or less means no limit. (default)
+     */
+    public void setMaxSubStepCount(int count) {
+        maxSubStepCount = count;
+    }
+
+    /**
+     * Get the maximum number of the physics steps in an evaluation.
+     *
+     * @return the maximum number of the steps. 0 or less means no limit.
+     */
+    public int getMaxSubStepCount() {
+        return maxSubStepCount;
+    }
+
+    /**
+     * Set how the physics steps exceeding the maximum number are reduced.
+     *
+     * @param mode reduction of the steps. The default is {@link SubStepOverflowMode#DROP}.
+     */
+    public void setSubStepOverflowMode(SubStepOverflowMode mode) {
+        if (mode == null) {
+            return;
+        }
+        subStepOverflowMode = mode;
+    }
+
+    /**
+     * Get how the physics steps exceeding the maximum number are reduced.
+     *
+     * @return reduction of the steps
+     */
+    public SubStepOverflowMode getSubStepOverflowMode() {
+        return subStepOverflowMode;
+    }
+
+    /**
+     * Get the number of the physics steps run in the last evaluation.
+     * The stabilized step of {@link SubStepOverflowMode#STABILIZE} is not counted.
+     *
+     * @return the number of the steps
+     */
+    public int getLastSubStepCount() {
+        return lastSubStepCount;
+    }
+
+    /**
+     * Get the number of the physics steps dropped in the last evaluation.
+     * The steps discarded because the delta time exceeds the maximum allowed delta time are also counted.
+     *
+     * @return the number of the dropped steps
+     */
+    public int getLastDroppedStepCount() {
+        return lastDroppedStepCount;
+    }
+
+    /**
+     * Get the total number of the physics steps dropped since this instance was created or reset.
+     *
+     * @return the total number of the dropped steps
+     */
+    public long getDroppedStepCount() {
+        return droppedStepCount;
+    }
+
+    /**
+     * Set the pool used to evaluate the independent sub-rigs in parallel.
+     * <p>
+     * The sub-rigs are grouped when the physics3.json is loaded so that the sub-rigs in a group neither read nor write the parameters written by each other.
+     * The groups are evaluated in order, and the sub-rigs in a group are evaluated on the pool, so the results are the same as the serial evaluation.
+     * It is worth setting only when the model has many sub-rigs, because the overhead of the task dispatch is not negligible.
+     *
+     * @param pool the pool to evaluate the sub-rigs. If null, the sub-rigs are evaluated on the calling thread. (default)
+     */
+    public void setParallelEvaluationPool(ForkJoinPool pool) {
+        parallelEvaluationPool = pool;
+    }
+
+    /**
+     * Get the pool used to evaluate the independent sub-rigs in parallel.
+     *
+     * @return the pool to evaluate the sub-rigs. null if the sub-rigs are evaluated on the calling thread.
+     */
+    public ForkJoinPool getParallelEvaluationPool() {
+        return parallelEvaluationPool;
+    }
+
+    /**
+     * Set the target detail level of the physics operation.
+     * <p>
+     * The detail level is between 0.0 (lowest) and 1.0 (full). As the level decreases, the physics steps are taken less often,
+     * down to a quarter of the rate at the level 0.0, and the sub-rigs set as cosmetic are faded out below the level 0.5.
+     * The current level follows the target over the transition time so that the change is not noticeable.
+     *
+     * @param level target detail level. It is clamped to the range from 0.0 to 1.0.
+     * @throws IllegalArgumentException if the level is NaN
+     */
+    public void setTargetDetailLevel(float level) {
+        // NaNは範囲に収められず、ステップの間隔が求められなくなる
+        if (Float.isNaN(level)) {
+            throw new IllegalArgumentException("The detail level is NaN.");
+        }
+        targetDetailLevel = CubismMath.rangeF(level, 0.0f, 1.0f);
+    }
+
+    /**
+     * Set the target detail level from the height of the model on the screen.
+     * The level is 0.0 at the low detail height or lower, 1.0 at the full detail height or higher, and linearly interpolated between them.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param mvpMatrix matrix to transform the model coordinates to the clip space, which is the one set to the renderer
+     * @param viewportHeight height of the viewport[px]
+     */
+    public void setTargetDetailLevel(CubismModel model, CubismMatrix44 mvpMatrix, int viewportHeight) {
+        // The clip space is 2.0 in height.
+        final float screenHeight = CubismMath.absF(mvpMatrix.getScaleY()) * model.getCanvasHeight() * viewportHeight * 0.5f;
+
+        if (fullDetailScreenHeight <= lowDetailScreenHeight) {
+            setTargetDetailLevel(screenHeight >= fullDetailScreenHeight ? 1.0f : 0.0f);
+            return;
+        }
+        setTargetDetailLevel((screenHeight - lowDetailScreenHeight) / (fullDetailScreenHeight - lowDetailScreenHeight));
+    }
+
+    /**
+     * Get the target detail level of the physics operation.
+     *
+     * @return target detail level
+     */
+    public float getTargetDetailLevel() {
+        return targetDetailLevel;
+    }
+
+    /**
+     * Get the current detail level of the physics operation.
+     *
+     * @return current detail level
+     */
+    public float getDetailLevel() {
+        return detailLevel;
+    }
+
+    /**
+     * Set the heights of the model on the screen used by {@link #setTargetDetailLevel(CubismModel, CubismMatrix44, int)}.
+     *
+     * @param lowDetailHeight height at which the detail level is 0.0[px]
+     * @param fullDetailHeight height at which the detail level is 1.0[px]
+     */
+    public void setDetailLevelScreenHeights(float lowDetailHeight, float fullDetailHeight) {
+        lowDetailScreenHeight = lowDetailHeight;
+        fullDetailScreenHeight = fullDetailHeight;
+    }
+
+    /**
+     * Set the time for the current detail level to change from 0.0 to 1.0.
+     *
+     * @param seconds transition time[s]. If 0.0 or less, the level changes immediately.
+     */
+    public void setDetailLevelTransitionTime(float seconds) {
+        detailLevelTransitionTime = seconds;
+    }
+
+    /**
+     * Get the number of the sub-rigs.
+     *
+     * @return the number of the sub-rigs
+     */
+    public int getSubRigCount() {
+        return physicsRig.subRigCount;
+    }
+
+    /**
+     * Set whether the sub-rig is cosmetic. The cosmetic sub-rigs are faded out and not evaluated at the low detail level.
+     *
+     * @param subRigIndex index of the sub-rig in physics3.json
+     * @param isCosmetic true if the sub-rig is cosmetic
+     */
+    public void setSubRigCosmetic(int subRigIndex, boolean isCosmetic) {
+        if (subRigIndex < 0 || subRigIndex >= physicsRig.subRigCount) {
+            return;
+        }
+        isCosmeticSubRigs[subRigIndex] = isCosmetic;
+    }
+
+    /**
+     * Check whether the sub-rig is cosmetic.
+     *
+     * @param subRigIndex index of the sub-rig in physics3.json
+     * @return true if the sub-rig is cosmetic
+     */
+    public boolean isSubRigCosmetic(int subRigIndex) {
+        if (subRigIndex < 0 || subRigIndex >= physicsRig.subRigCount) {
+            return false;
+        }
+        return isCosmeticSubRigs[subRigIndex];
+    }
+
+    /**
+     * Allocate the parameter caches for the model. The parameter input caches are initialized with the parameter values when they are allocated.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param parameterValues values of the parameters of the model
+     */
+    private void prepareParameterCaches(CubismModel model, float[] parameterValues) {
         if (parameterCaches.length < model.getParameterCount()) {
             parameterCaches = new float[model.getParameterCount()];
         }
@@ -286,148 +1035,273 @@ public class CubismPhysics {
             if (model.getParameterCount() >= 0)
                 System.arraycopy(parameterValues, 0, parameterInputCaches, 0, model.getParameterCount());
         }
+    }
 
-        if (physicsRig.fps > 0.0f) {
-            physicsDeltaTime = 1.0f / physicsRig.fps;
-        } else {
-            physicsDeltaTime = deltaTimeSeconds;
+    /**
+     * Run a physics step.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param parameterValues values of the parameters of the model
+     * @param parameterMinimumValues minimum values of the parameters
+     * @param parameterMaximumValues maximum values of the parameters
+     * @param inputWeight weight of the parameter values against the inputs of the last step
+     * @param physicsDeltaTime delta time of a physics step[s]
+     */
+    private void stepPhysics(
+        CubismModel model,
+        float[] parameterValues,
+        float[] parameterMinimumValues,
+        float[] parameterMaximumValues,
+        float inputWeight,
+        float physicsDeltaTime
+    ) {
+        // copy RigOutputs: _currentRigOutputs to _previousRigOutputs
+        System.arraycopy(currentRigOutputs, 0, previousRigOutputs, 0, physicsRig.outputCount);
+
+        // 入力キャッシュとパラメータで線形補間してUpdateParticlesするタイミングでの入力を計算する。
+        // Calculate the input at the timing to UpdateParticles by linear interpolation with the _parameterInputCaches and parameterValues.
+        // _parameterCachesはグループ間での値の伝搬の役割があるので_parameterInputCachesとの分離が必要。
+        // _parameterCaches needs to be separated from _parameterInputCaches because of its role in propagating values between groups.
+        for (int j = 0; j < model.getParameterCount(); j++) {
+            parameterCaches[j] = parameterInputCaches[j] * (1.0f - inputWeight) + parameterValues[j] * inputWeight;
+            parameterInputCaches[j] = parameterCaches[j];
         }
 
-        CubismPhysicsSubRig currentSetting;
-        CubismPhysicsInput currentInput;
-        CubismPhysicsOutput currentOutput;
-        CubismPhysicsParticle currentParticle;
+        // The indices are resolved here because CubismModel.getParameterIndex() must not be called from the worker threads.
+        resolveParameterIndices(model);
 
-        while (currentRemainTime >= physicsDeltaTime) {
-            // copy RigOutputs: _currentRigOutputs to _previousRigOutputs
-            for (settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
-                currentSetting = physicsRig.settings.get(settingIndex);
+        evaluateSubRigs(parameterMinimumValues, parameterMaximumValues, physicsDeltaTime);
+    }
 
-                for (i = 0; i < currentSetting.outputCount; i++) {
-                    previousRigOutputs.get(settingIndex).outputs[i] = currentRigOutputs.get(settingIndex).outputs[i];
+    /**
+     * Evaluate all the sub-rigs for one physics step with the values of the parameter caches.
+     * The parameter indices must have been resolved.
+     *
+     * @param parameterMinimumValues minimum values of the parameters
+     * @param parameterMaximumValues maximum values of the parameters
+     * @param physicsDeltaTime delta time of a physics step[s]
+     */
+    private void evaluateSubRigs(
+        float[] parameterMinimumValues,
+        float[] parameterMaximumValues,
+        float physicsDeltaTime
+    ) {
+        final CubismPhysicsRig rig = physicsRig;
+
+        // The sub-rigs in a group do not depend on each other, so they can be evaluated in any order.
+        for (int group = 0; group < rig.subRigGroupCount; group++) {
+            final int begin = rig.subRigGroupOffsets[group];
+            final int end = rig.subRigGroupOffsets[group + 1];
+
+            if (parallelEvaluationPool == null || end - begin < 2) {
+                for (int i = begin; i < end; i++) {
+                    evaluateSubRig(
+                        rig.subRigEvaluationOrder[i],
+                        parameterMinimumValues,
+                        parameterMaximumValues,
+                        physicsDeltaTime
+                    );
                 }
+                continue;
             }
 
-            // 入力キャッシュとパラメータで線形補間してUpdateParticlesするタイミングでの入力を計算する。
-            // Calculate the input at the timing to UpdateParticles by linear interpolation with the _parameterInputCaches and parameterValues.
-            // _parameterCachesはグループ間での値の伝搬の役割があるので_parameterInputCachesとの分離が必要。
-            // _parameterCaches needs to be separated from _parameterInputCaches because of its role in propagating values between groups.
-            float inputWeight = physicsDeltaTime / currentRemainTime;
-            for (int j = 0; j < model.getParameterCount(); j++) {
-                parameterCaches[j] = parameterInputCaches[j] * (1.0f - inputWeight) + parameterValues[j] * inputWeight;
-                parameterInputCaches[j] = parameterCaches[j];
-            }
-
-            for (settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
-                totalAngle[0] = 0.0f;
-                totalTranslation.setZero();
-
-                currentSetting = physicsRig.settings.get(settingIndex);
-                List<CubismPhysicsParticle> particles = physicsRig.particles;
-
-                int baseInputIndex = currentSetting.baseInputIndex;
-                int baseOutputIndex = currentSetting.baseOutputIndex;
-                int baseParticleIndex = currentSetting.baseParticleIndex;
-
-                // Load input parameters.
-                for (i = 0; i < currentSetting.inputCount; i++) {
-                    currentInput = inputs.get(baseInputIndex + i);
-                    weight = currentInput.weight / MAXIMUM_WEIGHT;
-
-                    if (currentInput.sourceParameterIndex == -1) {
-                        currentInput.sourceParameterIndex = model.getParameterIndex(currentInput.source.Id);
-                    }
-
-                    currentInput.getNormalizedParameterValue.getNormalizedParameterValue(
-                        totalTranslation,
-                        totalAngle,
-                        parameterCaches[currentInput.sourceParameterIndex],
-                        parameterMinimumValues[currentInput.sourceParameterIndex],
-                        parameterMaximumValues[currentInput.sourceParameterIndex],
-                        parameterDefaultValues[currentInput.sourceParameterIndex],
-                        currentSetting.normalizationPosition,
-                        currentSetting.normalizationAngle,
-                        currentInput.reflect,
-                        weight
-                    );
+            final SubRigEvaluationTask task = new SubRigEvaluationTask(
+                begin,
+                end,
+                parameterMinimumValues,
+                parameterMaximumValues,
+                physicsDeltaTime
+            );
 
-                }
+            // If this is called on a worker thread of the pool (e.g. from CubismModelUpdateScheduler), the task is forked in the same pool.
+            if (ForkJoinTask.getPool() == parallelEvaluationPool) {
+                task.invoke();
+            } else {
+                parallelEvaluationPool.invoke(task);
+            }
+        }
+    }
 
-                radAngle = CubismMath.degreesToRadian(-totalAngle[0]);
+    /**
+     * Evaluate a sub-rig for one physics step.
+     * This method reads and writes only the parameter caches, particles and outputs of the sub-rig, so that the independent sub-rigs can be evaluated concurrently.
+     *
+     * @param settingIndex index of the sub-rig
+     * @param parameterMinimumValues minimum values of the parameters
+     * @param parameterMaximumValues maximum values of the parameters
+     * @param physicsDeltaTime delta time of a physics step[s]
+     */
+    private void evaluateSubRig(
+        int settingIndex,
+        float[] parameterMinimumValues,
+        float[] parameterMaximumValues,
+        float physicsDeltaTime
+    ) {
+        // The cosmetic sub-rigs are not evaluated while they are faded out.
+        if (cosmeticSubRigWeight == 0.0f && isCosmeticSubRigs[settingIndex]) {
+            return;
+        }
 
-                totalTranslation.x = (totalTranslation.x * CubismMath.cosF(radAngle) - totalTranslation.y * CubismMath.sinF(radAngle));
-                totalTranslation.y = (totalTranslation.x * CubismMath.sinF(radAngle) + totalTranslation.y * CubismMath.cosF(radAngle));
+        final CubismPhysicsRig rig = physicsRig;
+        final CubismPhysicsRigState state = rigState;
+        final float[] parameterCaches = this.parameterCaches;
+        final float[] particlePositions = state.particlePositions;
+        final CubismPhysicsSubRig currentSetting = rig.settings[settingIndex];
 
+        float totalAngle = 0.0f;
+        float totalTranslationX = 0.0f;
+        float totalTranslationY = 0.0f;
+        float radAngle;
+        float outputValue;
+        int i, particleIndex;
+
+        int baseInputIndex = currentSetting.baseInputIndex;
+        int baseOutputIndex = currentSetting.baseOutputIndex;
+        int baseParticleIndex = currentSetting.baseParticleIndex;
+
+        // Load input parameters.
+        for (i = 0; i < currentSetting.inputCount; i++) {
+            final int inputIndex = baseInputIndex + i;
+            final float normalizedValue = CubismPhysicsFunctions.normalizeParameterValue(
+                rig,
+                state,
+                inputIndex,
+                parameterCaches[state.inputSourceParameterIndices[inputIndex]]
+            );
 
-                // Calculate particles position.
-                updateParticles(
-                    particles,
-                    baseParticleIndex,
-                    currentSetting.particleCount,
-                    totalTranslation,
-                    totalAngle[0],
-                    options.wind,
-                    MOVEMENT_THRESHOLD * currentSetting.normalizationPosition.maximumValue,
-                    physicsDeltaTime,
-                    AIR_RESISTANCE
-                );
+            switch (rig.inputTypes[inputIndex]) {
+                case X:
+                    totalTranslationX += normalizedValue;
+                    break;
+                case Y:
+                    totalTranslationY += normalizedValue;
+                    break;
+                case ANGLE:
+                    totalAngle += normalizedValue;
+                    break;
+            }
+        }
 
-                // Update output parameters.
-                for (i = 0; i < currentSetting.outputCount; i++) {
-                    currentOutput = outputs.get(baseOutputIndex + i);
-                    particleIndex = currentOutput.vertexIndex;
+        radAngle = CubismMath.degreesToRadian(-totalAngle);
 
+        final float cosAngle = CubismMath.cosF(radAngle);
+        final float sinAngle = CubismMath.sinF(radAngle);
 
-                    if (currentOutput.destinationParameterIndex == -1) {
-                        currentOutput.destinationParameterIndex = model.getParameterIndex(currentOutput.destination.Id);
-                    }
+        totalTranslationX = (totalTranslationX * cosAngle - totalTranslationY * sinAngle);
+        totalTranslationY = (totalTranslationX * sinAngle + totalTranslationY * cosAngle);
 
-                    if (particleIndex < 1 || particleIndex >= currentSetting.particleCount) {
-                        continue;
-                    }
 
-                    currentParticle = particles.get(baseParticleIndex + particleIndex);
-                    CubismPhysicsParticle previousParticle = particles.get(baseParticleIndex + particleIndex - 1);
-                    CubismVector2.subtract(currentParticle.position, previousParticle.position, translation);
+        // Calculate particles position.
+        updateParticles(
+            rig,
+            state,
+            baseParticleIndex,
+            currentSetting.particleCount,
+            totalTranslationX,
+            totalTranslationY,
+            totalAngle,
+            options.wind,
+            MOVEMENT_THRESHOLD * currentSetting.normalizationPosition.maximumValue,
+            physicsDeltaTime,
+            AIR_RESISTANCE
+        );
 
-                    outputValue = currentOutput.getValue.getValue(
-                        translation,
-                        particles,
-                        baseParticleIndex,
-                        particleIndex,
-                        currentOutput.reflect,
-                        options.gravity
-                    );
+        // Update output parameters.
+        for (i = 0; i < currentSetting.outputCount; i++) {
+            final int outputIndex = baseOutputIndex + i;
+            particleIndex = rig.outputVertexIndices[outputIndex];
 
-                    currentRigOutputs.get(settingIndex).outputs[i] = outputValue;
+            final int destinationParameterIndex = state.outputDestinationParameterIndices[outputIndex];
 
-                    cache[0] = parameterCaches[currentOutput.destinationParameterIndex];
+            if (particleIndex < 1 || particleIndex >= currentSetting.particleCount) {
+                continue;
+            }
 
-                    updateOutputParameterValue(
-                        cache,
-                        0,
-                        parameterMinimumValues[currentOutput.destinationParameterIndex],
-                        parameterMaximumValues[currentOutput.destinationParameterIndex],
-                        outputValue,
-                        currentOutput
-                    );
-                    parameterCaches[currentOutput.destinationParameterIndex] = cache[0];
+            final int currentParticle = (baseParticleIndex + particleIndex) * 2;
+            final int previousParticle = (baseParticleIndex + particleIndex - 1) * 2;
+            final float translationX = particlePositions[currentParticle] - particlePositions[previousParticle];
+            final float translationY = particlePositions[currentParticle + 1] - particlePositions[previousParticle + 1];
 
-                }
-            }
-            currentRemainTime -= physicsDeltaTime;
+            outputValue = getOutputValue(
+                rig,
+                outputIndex,
+                translationX,
+                translationY,
+                baseParticleIndex,
+                particleIndex
+            );
+
+            currentRigOutputs[outputIndex] = outputValue;
+
+            updateOutputParameterValue(
+                parameterCaches,
+                destinationParameterIndex,
+                parameterMinimumValues[destinationParameterIndex],
+                parameterMaximumValues[destinationParameterIndex],
+                outputValue,
+                rig,
+                state,
+                outputIndex
+            );
         }
+    }
 
-        final float alpha = currentRemainTime / physicsDeltaTime;
-        interpolate(model, alpha);
+    /**
+     * Resolve the parameter indices of the inputs and the outputs which have not been resolved yet.
+     * They are resolved in the order of the sub-rigs, as the serial evaluation does.
+     * The normalization of an input is compiled with the range of the parameter when the index is resolved.
+     *
+     * @param model model to which the results of physics operation are applied
+     */
+    private void resolveParameterIndices(CubismModel model) {
+        CubismPhysicsFunctions.resolveParameterIndices(physicsRig, rigState, model);
     }
 
-    // There are only used by 'evaluate' method.
-    // Avoid creating a new float array and CubismVector2 instance.
-    private final float[] totalAngle = new float[1];
-    private final float[] cache = new float[1];
-    private final CubismVector2 totalTranslation = new CubismVector2();
-    private final CubismVector2 translation = new CubismVector2();
+    /**
+     * The task which evaluates the sub-rigs in the range of the evaluation order. It is split in half until one sub-rig remains.
+     */
+    private class SubRigEvaluationTask extends RecursiveAction {
+        public SubRigEvaluationTask(
+            int begin,
+            int end,
+            float[] parameterMinimumValues,
+            float[] parameterMaximumValues,
+            float physicsDeltaTime
+        ) {
+            this.begin = begin;
+            this.end = end;
+            this.parameterMinimumValues = parameterMinimumValues;
+            this.parameterMaximumValues = parameterMaximumValues;
+            this.physicsDeltaTime = physicsDeltaTime;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin == 1) {
+                evaluateSubRig(
+                    physicsRig.subRigEvaluationOrder[begin],
+                    parameterMinimumValues,
+                    parameterMaximumValues,
+                    physicsDeltaTime
+                );
+                return;
+            }
+
+            final int middle = (begin + end) >>> 1;
+            invokeAll(
+                new SubRigEvaluationTask(begin, middle, parameterMinimumValues, parameterMaximumValues, physicsDeltaTime),
+                new SubRigEvaluationTask(middle, end, parameterMinimumValues, parameterMaximumValues, physicsDeltaTime)
+            );
+        }
+
+        private static final long serialVersionUID = 1L;
+
+        private final int begin;
+        private final int end;
+        private final float[] parameterMinimumValues;
+        private final float[] parameterMaximumValues;
+        private final float physicsDeltaTime;
+    }
 
     /**
      * Set an option.
@@ -450,12 +1324,136 @@ public class CubismPhysics {
         return options;
     }
 
+    /**
+     * Get the size of the state written by {@link #saveState(ByteBuffer)}.
+     * <p>
+     * The state includes the input caches of all the parameters of the model, which are allocated when the physics operation is run with the model
+     * for the first time by {@link #evaluate(CubismModel, float)}, {@link #evaluateTicks(CubismModel, int)}, {@link #stabilization(CubismModel)}
+     * or {@link #beginStabilization(CubismModel)}. Before that, the state has no input caches and is smaller.
+     * To reuse a buffer every frame, allocate it after the first physics operation.
+     *
+     * @return the size of the state[byte]
+     */
+    public int getStateSize() {
+        final CubismPhysicsRig rig = physicsRig;
+        final CubismPhysicsRigState state = rigState;
+
+        // version, particle count, output count, input cache count, remain time, detail level and weight of the cosmetic sub-rigs
+        final int headerSize = 4 * 7;
+        // positions, last gravities and velocities of the particles
+        final int particleSize = 4 * 2 * 3 * rig.particleCount;
+        // current and previous rig outputs
+        final int outputSize = 4 * 2 * rig.outputCount;
+        final int inputCacheSize = 4 * parameterInputCaches.length;
+
+        return headerSize + particleSize + outputSize + inputCacheSize;
+    }
+
+    /**
+     * Write the state of the physics operation to the buffer.
+     * <p>
+     * The state consists of the particles, the results of the pendulum calculation, the time not processed by physics and the input caches,
+     * which are everything {@link #evaluate(CubismModel, float)} carries over to the next call.
+     * It is written from the current position of the buffer in its byte order, and the position is advanced by {@link #getStateSize()}.
+     * This method does not allocate any objects, so it can be called every frame.
+     *
+     * @param buffer buffer to which the state is written
+     * @throws IllegalArgumentException if the remaining space of the buffer is smaller than the state
+     */
+    public void saveState(ByteBuffer buffer) {
+        if (buffer.remaining() < getStateSize()) {
+            throw new IllegalArgumentException("The buffer does not have enough space for the physics state.");
+        }
+
+        final CubismPhysicsRig rig = physicsRig;
+        final CubismPhysicsRigState state = rigState;
+
+        buffer.putInt(STATE_VERSION);
+        buffer.putInt(rig.particleCount);
+        buffer.putInt(rig.outputCount);
+        buffer.putInt(parameterInputCaches.length);
+        buffer.putFloat(currentRemainTime);
+        buffer.putFloat(detailLevel);
+        buffer.putFloat(cosmeticSubRigWeight);
+
+        putFloats(buffer, state.particlePositions, rig.particleCount * 2);
+        putFloats(buffer, state.particleLastGravities, rig.particleCount * 2);
+        putFloats(buffer, state.particleVelocities, rig.particleCount * 2);
+        putFloats(buffer, currentRigOutputs, rig.outputCount);
+        putFloats(buffer, previousRigOutputs, rig.outputCount);
+        putFloats(buffer, parameterInputCaches, parameterInputCaches.length);
+    }
+
+    /**
+     * Restore the state of the physics operation written by {@link #saveState(ByteBuffer)}.
+     * <p>
+     * The state can be restored to any instance created from the same physics3.json and used with a model which has the same parameters.
+     * It is read from the current position of the buffer in its byte order, and the position is advanced by the size of the state.
+     * <p>
+     * A state saved before the first physics operation has no input caches.
+     * When it is restored, the input caches are cleared, and the next physics operation initializes them with the parameter values as a new instance does.
+     * This method does not allocate any objects unless a state with input caches is restored to an instance which has not run the physics operation yet.
+     *
+     * @param buffer buffer from which the state is read
+     * @throws IllegalArgumentException if the state is not compatible with this instance, including the state of a model which has a different number of parameters,
+     * or the buffer does not have the whole state
+     */
+    public void loadState(ByteBuffer buffer) {
+        final CubismPhysicsRig rig = physicsRig;
+        final CubismPhysicsRigState state = rigState;
+        final int start = buffer.position();
+
+        if (buffer.remaining() < 4 * 7) {
+            throw new IllegalArgumentException("The buffer does not have the physics state.");
+        }
+
+        final int version = buffer.getInt();
+        final int particleCount = buffer.getInt();
+        final int outputCount = buffer.getInt();
+        final int inputCacheCount = buffer.getInt();
+
+        if (version != STATE_VERSION || particleCount != rig.particleCount || outputCount != rig.outputCount || inputCacheCount < 0) {
+            buffer.position(start);
+            throw new IllegalArgumentException("The physics state is not compatible with this instance.");
+        }
+        // Both this instance and the state have run the physics operation, but with the models which have different numbers of the parameters.
+        if (inputCacheCount != 0 && parameterInputCaches.length != 0 && inputCacheCount != parameterInputCaches.length) {
+            buffer.position(start);
+            throw new IllegalArgumentException("The physics state is of a model which has a different number of parameters.");
+        }
+        if (buffer.remaining() < 4 * 3 + 4 * 2 * 3 * particleCount + 4 * 2 * outputCount + 4 * inputCacheCount) {
+            buffer.position(start);
+            throw new IllegalArgumentException("The buffer does not have the whole physics state.");
+        }
+
+        currentRemainTime = buffer.getFloat();
+        detailLevel = buffer.getFloat();
+        cosmeticSubRigWeight = buffer.getFloat();
+
+        getFloats(buffer, state.particlePositions, particleCount * 2);
+        getFloats(buffer, state.particleLastGravities, particleCount * 2);
+        getFloats(buffer, state.particleVelocities, particleCount * 2);
+        getFloats(buffer, currentRigOutputs, outputCount);
+        getFloats(buffer, previousRigOutputs, outputCount);
+
+        if (inputCacheCount == 0) {
+            // The state was saved before the physics operation, so the next operation initializes the input caches with the parameter values.
+            parameterInputCaches = EMPTY_PARAMETER_CACHES;
+        } else if (parameterInputCaches.length != inputCacheCount) {
+            parameterInputCaches = new float[inputCacheCount];
+        }
+        getFloats(buffer, parameterInputCaches, inputCacheCount);
+    }
+
+
     /**
      * Updates particles
      *
-     * @param strand Target array of particle
+     * @param rig physics rig which has the particles
+     * @param baseParticleIndex index of the first particle of the strand
      * @param strandCount Count of particle
-     * @param totalTranslation Total translation value
+     * @param totalTranslationX X component of the total translation value
+     * @param totalTranslationY Y component of the total translation value
      * @param totalAngle Total angle
      * @param windDirection Direction of wind
      * @param thresholdValue Threshold of movement
@@ -463,161 +1461,267 @@ public class CubismPhysics {
      * @param airResistance Air resistance
      */
     private static void updateParticles(
-        List<CubismPhysicsParticle> strand,
+        CubismPhysicsRig rig,
+        CubismPhysicsRigState state,
         int baseParticleIndex,
         int strandCount,
-        CubismVector2 totalTranslation,
+        float totalTranslationX,
+        float totalTranslationY,
         float totalAngle,
         CubismVector2 windDirection,
         float thresholdValue,
         float deltaTimeSeconds,
         float airResistance
     ) {
+        final float[] positions = state.particlePositions;
+        final float[] lastPositions = state.particleLastPositions;
+        final float[] lastGravities = state.particleLastGravities;
+        final float[] forces = state.particleForces;
+        final float[] velocities = state.particleVelocities;
+
         float totalRadian;
         float delay;
         float radian;
 
-        strand.get(baseParticleIndex).position.set(totalTranslation.x, totalTranslation.y);
+        positions[baseParticleIndex * 2] = totalTranslationX;
+        positions[baseParticleIndex * 2 + 1] = totalTranslationY;
 
         totalRadian = CubismMath.degreesToRadian(totalAngle);
-        CubismMath.radianToDirection(totalRadian, currentGravity).normalize();
+        float currentGravityX = CubismMath.sinF(totalRadian);
+        float currentGravityY = CubismMath.cosF(totalRadian);
+        final float gravityLength = (float) (Math.pow((currentGravityX * currentGravityX) + (currentGravityY * currentGravityY), 0.5f));
+        currentGravityX /= gravityLength;
+        currentGravityY /= gravityLength;
 
         for (int i = 1; i < strandCount; i++) {
-            final CubismPhysicsParticle currentParticle = strand.get(baseParticleIndex + i);
-            final CubismPhysicsParticle previousParticle = strand.get(baseParticleIndex + i - 1);
+            final int particle = baseParticleIndex + i;
+            final int x = particle * 2;
+            final int y = x + 1;
+            final int previousX = x - 2;
+            final int previousY = y - 2;
 
-            currentParticle.lastPosition.set(currentParticle.position.x, currentParticle.position.y);
+            lastPositions[x] = positions[x];
+            lastPositions[y] = positions[y];
 
+            float directionX;
+            float directionY;
             {
-                CubismVector2.multiply(currentGravity, currentParticle.acceleration, currentParticle.force).add(windDirection);
+                forces[x] = currentGravityX * rig.particleAccelerations[particle] + windDirection.x;
+                forces[y] = currentGravityY * rig.particleAccelerations[particle] + windDirection.y;
 
-                delay = currentParticle.delay * deltaTimeSeconds * 30.0f;
-                CubismVector2.subtract(currentParticle.position, previousParticle.position, direction);
+                delay = rig.particleDelays[particle] * deltaTimeSeconds * 30.0f;
+                directionX = positions[x] - positions[previousX];
+                directionY = positions[y] - positions[previousY];
             }
             {
-                radian = CubismMath.directionToRadian(currentParticle.lastGravity, currentGravity) / airResistance;
+                radian = CubismPhysicsFunctions.directionToRadian(lastGravities[x], lastGravities[y], currentGravityX, currentGravityY) / airResistance;
+
+                final float cosRadian = CubismMath.cosF(radian);
+                final float sinRadian = CubismMath.sinF(radian);
 
-                direction.x = ((CubismMath.cosF(radian) * direction.x) - (CubismMath.sinF(radian) * direction.y));
-                direction.y = ((CubismMath.sinF(radian) * direction.x) + (direction.y * CubismMath.cosF(radian)));
+                directionX = ((cosRadian * directionX) - (sinRadian * directionY));
+                directionY = ((sinRadian * directionX) + (directionY * cosRadian));
             }
             {
-                CubismVector2.add(previousParticle.position, direction, currentParticle.position);
-                CubismVector2.multiply(currentParticle.velocity, delay, velocity);
-                CubismVector2.multiply(currentParticle.force, delay, force).multiply(delay);
+                positions[x] = positions[previousX] + directionX;
+                positions[y] = positions[previousY] + directionY;
 
-                currentParticle.position.add(velocity).add(force);
+                final float velocityX = velocities[x] * delay;
+                final float velocityY = velocities[y] * delay;
+                final float forceX = forces[x] * delay * delay;
+                final float forceY = forces[y] * delay * delay;
+
+                positions[x] = positions[x] + velocityX + forceX;
+                positions[y] = positions[y] + velocityY + forceY;
             }
             {
-                float newDirectionX = currentParticle.position.x - previousParticle.position.x;
-                float newDirectionY = currentParticle.position.y - previousParticle.position.y;
+                float newDirectionX = positions[x] - positions[previousX];
+                float newDirectionY = positions[y] - positions[previousY];
                 float length = (float) (Math.pow((newDirectionX * newDirectionX) + (newDirectionY * newDirectionY), 0.5f));
                 newDirectionX /= length;
                 newDirectionY /= length;
 
-                currentParticle.position.x = previousParticle.position.x + (newDirectionX * currentParticle.radius);
-                currentParticle.position.y = previousParticle.position.y + (newDirectionY * currentParticle.radius);
+                positions[x] = positions[previousX] + (newDirectionX * rig.particleRadii[particle]);
+                positions[y] = positions[previousY] + (newDirectionY * rig.particleRadii[particle]);
             }
 
-            if (CubismMath.absF(currentParticle.position.x) < thresholdValue) {
-                currentParticle.position.x = 0.0f;
+            if (CubismMath.absF(positions[x]) < thresholdValue) {
+                positions[x] = 0.0f;
             }
 
             if (delay != 0.0f) {
-                CubismVector2.subtract(currentParticle.position, currentParticle.lastPosition, currentParticle.velocity);
-
-                currentParticle.velocity.divide(delay);
-                currentParticle.velocity.multiply(currentParticle.mobility);
-
+                velocities[x] = (positions[x] - lastPositions[x]) / delay * rig.particleMobilities[particle];
+                velocities[y] = (positions[y] - lastPositions[y]) / delay * rig.particleMobilities[particle];
             }
-            currentParticle.force.setZero();
-            currentParticle.lastGravity.set(currentGravity.x, currentGravity.y);
+            forces[x] = 0.0f;
+            forces[y] = 0.0f;
+            lastGravities[x] = currentGravityX;
+            lastGravities[y] = currentGravityY;
         }
     }
 
-    // There are only used by 'updateParticles' method.
-    // Avoid creating a new CubismVector2 instance.
-    private static final CubismVector2 direction = new CubismVector2();
-    private static final CubismVector2 velocity = new CubismVector2();
-    private static final CubismVector2 force = new CubismVector2();
-    private static final CubismVector2 currentGravity = new CubismVector2();
-
     private static void updateParticlesForStabilization(
-        List<CubismPhysicsParticle> strand,
+        CubismPhysicsRig rig,
+        CubismPhysicsRigState state,
         int baseParticleIndex,
         int strandCount,
-        CubismVector2 totalTranslation,
+        float totalTranslationX,
+        float totalTranslationY,
         float totalAngle,
         CubismVector2 windDirection,
         float thresholdValue
     ) {
+        final float[] positions = state.particlePositions;
+        final float[] lastPositions = state.particleLastPositions;
+        final float[] lastGravities = state.particleLastGravities;
+        final float[] forces = state.particleForces;
+        final float[] velocities = state.particleVelocities;
+
         int i;
         float totalRadian;
 
-        strand.get(baseParticleIndex).position.set(totalTranslation.x, totalTranslation.y);
+        positions[baseParticleIndex * 2] = totalTranslationX;
+        positions[baseParticleIndex * 2 + 1] = totalTranslationY;
 
         totalRadian = CubismMath.degreesToRadian(totalAngle);
-        CubismMath.radianToDirection(totalRadian, currentGravityForStablization).normalize();
+        float currentGravityX = CubismMath.sinF(totalRadian);
+        float currentGravityY = CubismMath.cosF(totalRadian);
+        final float gravityLength = (float) (Math.pow((currentGravityX * currentGravityX) + (currentGravityY * currentGravityY), 0.5f));
+        currentGravityX /= gravityLength;
+        currentGravityY /= gravityLength;
 
         for (i = 1; i < strandCount; i++) {
-            CubismPhysicsParticle particle = strand.get(baseParticleIndex + i);
-            CubismVector2.multiply(currentGravityForStablization, particle.acceleration, particle.force).add(windDirection);
-
-            particle.lastPosition.set(particle.position.x, particle.position.y);
-            particle.velocity.setZero();
+            final int particle = baseParticleIndex + i;
+            final int x = particle * 2;
+            final int y = x + 1;
+
+            forces[x] = currentGravityX * rig.particleAccelerations[particle] + windDirection.x;
+            forces[y] = currentGravityY * rig.particleAccelerations[particle] + windDirection.y;
+
+            lastPositions[x] = positions[x];
+            lastPositions[y] = positions[y];
+            velocities[x] = 0.0f;
+            velocities[y] = 0.0f;
+
+            float forceX = forces[x];
+            float forceY = forces[y];
+            final float forceLength = (float) (Math.pow((forceX * forceX) + (forceY * forceY), 0.5f));
+            forceX /= forceLength;
+            forceY /= forceLength;
+
+            forceX *= rig.particleRadii[particle];
+            forceY *= rig.particleRadii[particle];
+            positions[x] = positions[x - 2] + forceX;
+            positions[y] = positions[y - 2] + forceY;
+
+            if (CubismMath.absF(positions[x]) < thresholdValue) {
+                positions[x] = 0.0f;
+            }
 
-            forceForStabilization.set(particle.force.x, particle.force.y);
-            forceForStabilization.normalize();
+            forces[x] = 0.0f;
+            forces[y] = 0.0f;
+            lastGravities[x] = currentGravityX;
+            lastGravities[y] = currentGravityY;
+        }
+    }
 
-            forceForStabilization.multiply(particle.radius);
-            CubismVector2.add(strand.get(baseParticleIndex + i - 1).position, forceForStabilization, particle.position);
+    /**
+     * Get the value of the output from the translation of the particle.
+     *
+     * @param rig physics rig
+     * @param outputIndex index of the output in the rig
+     * @param translationX X component of the translation of the particle
+     * @param translationY Y component of the translation of the particle
+     * @param baseParticleIndex index of the first particle of the strand
+     * @param particleIndex particle index in the strand
+     * @return the value of the output
+     */
+    private float getOutputValue(
+        CubismPhysicsRig rig,
+        int outputIndex,
+        float translationX,
+        float translationY,
+        int baseParticleIndex,
+        int particleIndex
+    ) {
+        final boolean isInverted = rig.outputReflects[outputIndex];
+        float outputValue;
 
-            if (CubismMath.absF(particle.position.x) < thresholdValue) {
-                particle.position.x = 0.0f;
-            }
+        switch (rig.outputTypes[outputIndex]) {
+            case X:
+                outputValue = translationX;
+                break;
+            case Y:
+                outputValue = translationY;
+                break;
+            case ANGLE:
+                return CubismPhysicsFunctions.getOutputAngle(
+                    translationX,
+                    translationY,
+                    rigState.particlePositions,
+                    baseParticleIndex,
+                    particleIndex,
+                    isInverted,
+                    options.gravity.x,
+                    options.gravity.y
+                );
+            default:
+                return 0.0f;
+        }
 
-            particle.force.setZero();
-            particle.lastGravity.set(currentGravityForStablization.x, currentGravityForStablization.y);
+        if (isInverted) {
+            outputValue *= -1.0f;
         }
-    }
 
-    // updateParticlesForStabilization関数内でのみ使われるキャッシュ変数
-    private static final CubismVector2 currentGravityForStablization = new CubismVector2();
-    private static final CubismVector2 forceForStabilization = new CubismVector2();
+        return outputValue;
+    }
 
-    private static void updateOutputParameterValue(
+    static void updateOutputParameterValue(
         float[] parameterValue,
         int destinationParameterIndex,
         float parameterValueMinimum,
         float parameterValueMaximum,
         float translation,
-        CubismPhysicsOutput output
+        CubismPhysicsRig rig,
+        CubismPhysicsRigState state,
+        int outputIndex
     ) {
         float outputScale;
         float value;
         float weight;
 
-        outputScale = output.getScale.getScale(
-            output.transitionScale,
-            output.angleScale
-        );
+        switch (rig.outputTypes[outputIndex]) {
+            case X:
+                outputScale = rig.outputTranslationScales[outputIndex * 2];
+                break;
+            case Y:
+                outputScale = rig.outputTranslationScales[outputIndex * 2 + 1];
+                break;
+            case ANGLE:
+                outputScale = rig.outputAngleScales[outputIndex];
+                break;
+            default:
+                outputScale = 0.0f;
+                break;
+        }
 
         value = translation * outputScale;
 
         if (value < parameterValueMinimum) {
-            if (value < output.valueBelowMinimum) {
-                output.valueBelowMinimum = value;
+            if (value < state.outputValueBelowMinimums[outputIndex]) {
+                state.outputValueBelowMinimums[outputIndex] = value;
             }
 
             value = parameterValueMinimum;
         } else if (value > parameterValueMaximum) {
-            if (value > output.valueExceededMaximum) {
-                output.valueExceededMaximum = value;
+            if (value > state.outputValueExceededMaximums[outputIndex]) {
+                state.outputValueExceededMaximums[outputIndex] = value;
             }
 
             value = parameterValueMaximum;
         }
 
-        weight = output.weight / MAXIMUM_WEIGHT;
+        weight = rig.outputWeights[outputIndex] / MAXIMUM_WEIGHT;
 
         if (!(weight >= 1.0f)) {
             value = (parameterValue[destinationParameterIndex] * (1.0f - weight)) + (value * weight);
@@ -628,7 +1732,7 @@ public class CubismPhysics {
     /**
      * Constant of air resistance
      */
-    private static final float AIR_RESISTANCE = 5.0f;
+    static final float AIR_RESISTANCE = 5.0f;
 
     /**
      * Constant of maximum weight of input and output ratio
@@ -638,11 +1742,51 @@ public class CubismPhysics {
     /**
      * Constant of threshold of movement
      */
-    private static final float MOVEMENT_THRESHOLD = 0.001f;
+    static final float MOVEMENT_THRESHOLD = 0.001f;
     /**
      * Constant of maximum allowed delta time
      */
-    private static final float MAX_DELTA_TIME = 5.0f;
+    static final float MAX_DELTA_TIME = 5.0f;
+    /**
+     * Version of the format of the state written by saveState()
+     */
+    private static final int STATE_VERSION = 1;
+    /**
+     * Rate of the physics steps at the detail level 0.0
+     */
+    private static final float LOW_DETAIL_STEP_RATE = 0.25f;
+    /**
+     * Detail level below which the cosmetic sub-rigs are faded out
+     */
+    private static final float COSMETIC_SUB_RIG_DETAIL_LEVEL = 0.5f;
+    /**
+     * Default height of the model on the screen at which the detail level is 0.0[px]
+     */
+    private static final float DEFAULT_LOW_DETAIL_SCREEN_HEIGHT = 100.0f;
+    /**
+     * Default height of the model on the screen at which the detail level is 1.0[px]
+     */
+    private static final float DEFAULT_FULL_DETAIL_SCREEN_HEIGHT = 400.0f;
+    /**
+     * Default time for the detail level to change from 0.0 to 1.0[s]
+     */
+    private static final float DEFAULT_DETAIL_LEVEL_TRANSITION_TIME = 0.5f;
+    /**
+     * Delta time of a step of the incremental stabilization and evaluateTicks() when physics3.json has no FPS[s]
+     */
+    private static final float DEFAULT_TICK_DELTA_TIME = 1.0f / 60.0f;
+    /**
+     * Default maximum number of the steps of the incremental stabilization
+     */
+    private static final int DEFAULT_MAX_STABILIZATION_STEP_COUNT = 120;
+    /**
+     * Default threshold of the movement of the particles under which the incremental stabilization regards them as converged
+     */
+    private static final float DEFAULT_STABILIZATION_CONVERGENCE_THRESHOLD = 0.01f;
+    /**
+     * Parameter caches before the physics operation is run with a model. It is never written because it has no elements.
+     */
+    private static final float[] EMPTY_PARAMETER_CACHES = new float[0];
 
     // -----private constants-----
 // Physics types tags
@@ -666,6 +1810,32 @@ public class CubismPhysics {
         options.wind.setZero();
     }
 
+    /**
+     * Write the elements of the array to the buffer.
+     *
+     * @param buffer destination buffer
+     * @param values source array
+     * @param count number of the elements
+     */
+    private static void putFloats(ByteBuffer buffer, float[] values, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.putFloat(values[i]);
+        }
+    }
+
+    /**
+     * Read the elements of the array from the buffer.
+     *
+     * @param buffer source buffer
+     * @param values destination array
+     * @param count number of the elements
+     */
+    private static void getFloats(ByteBuffer buffer, float[] values, int count) {
+        for (int i = 0; i < count; i++) {
+            values[i] = buffer.getFloat();
+        }
+    }
+
     /**
      * Parse a physics3.json data.
      *
@@ -683,16 +1853,33 @@ public class CubismPhysics {
 
         physicsRig.fps = json.getFps();
 
-        physicsRig.settings = new ArrayList<CubismPhysicsSubRig>(physicsRig.subRigCount);
-
-        physicsRig.inputs = new ArrayList<CubismPhysicsInput>(json.getTotalInputCount());
-
-        physicsRig.outputs = new ArrayList<CubismPhysicsOutput>(json.getTotalOutputCount());
-
-        physicsRig.particles = new ArrayList<CubismPhysicsParticle>(json.getVertexCount());
-
-        currentRigOutputs.clear();
-        previousRigOutputs.clear();
+        physicsRig.settings = new CubismPhysicsSubRig[physicsRig.subRigCount];
+
+        final int inputCount = json.getTotalInputCount();
+        physicsRig.inputCount = inputCount;
+        physicsRig.inputSourceIds = new CubismId[inputCount];
+        physicsRig.inputWeights = new float[inputCount];
+        physicsRig.inputTypes = new CubismPhysicsSource[inputCount];
+        physicsRig.inputReflects = new boolean[inputCount];
+        physicsRig.inputFactors = new float[inputCount];
+
+        final int outputCount = json.getTotalOutputCount();
+        physicsRig.outputCount = outputCount;
+        physicsRig.outputDestinationIds = new CubismId[outputCount];
+        physicsRig.outputVertexIndices = new int[outputCount];
+        physicsRig.outputTranslationScales = new float[outputCount * 2];
+        physicsRig.outputAngleScales = new float[outputCount];
+        physicsRig.outputWeights = new float[outputCount];
+        physicsRig.outputTypes = new CubismPhysicsSource[outputCount];
+        physicsRig.outputReflects = new boolean[outputCount];
+
+        final int particleCount = json.getVertexCount();
+        physicsRig.particleCount = particleCount;
+        physicsRig.particleMobilities = new float[particleCount];
+        physicsRig.particleDelays = new float[particleCount];
+        physicsRig.particleAccelerations = new float[particleCount];
+        physicsRig.particleRadii = new float[particleCount];
+        physicsRig.particleInitialPositions = new float[particleCount * 2];
 
         int inputIndex = 0;
         int outputIndex = 0;
@@ -708,20 +1895,332 @@ public class CubismPhysics {
             parseSetting(json, setting, i);
 
             // Input
-            parseInputs(json, i, setting.inputCount);
+            parseInputs(json, i, setting.baseInputIndex, setting.inputCount);
             inputIndex += setting.inputCount;
 
             // Output
-            parseOutputs(json, i, setting.outputCount);
+            parseOutputs(json, i, setting.baseOutputIndex, setting.outputCount);
             outputIndex += setting.outputCount;
 
             // Particle
-            parseParticles(json, i, setting.particleCount);
+            parseParticles(json, i, setting.baseParticleIndex, setting.particleCount);
             particleIndex += setting.particleCount;
         }
+        calculateInitialParticlePositions();
+        analyzeSubRigDependencies();
+    }
+
+    /**
+     * Write the physics rig to a binary cache.
+     *
+     * @param writer writer of the cache
+     * @param rig physics rig
+     */
+    private static void writeRigCache(CubismBinaryCache.Writer writer, CubismPhysicsRig rig) {
+        writer.putFloat(rig.gravity.x);
+        writer.putFloat(rig.gravity.y);
+        writer.putFloat(rig.wind.x);
+        writer.putFloat(rig.wind.y);
+        writer.putFloat(rig.fps);
+
+        writer.putInt(rig.subRigCount);
+        for (int i = 0; i < rig.subRigCount; i++) {
+            final CubismPhysicsSubRig setting = rig.settings[i];
+
+            writer.putInt(setting.inputCount);
+            writer.putInt(setting.outputCount);
+            writer.putInt(setting.particleCount);
+            writer.putInt(setting.baseInputIndex);
+            writer.putInt(setting.baseOutputIndex);
+            writer.putInt(setting.baseParticleIndex);
+            writer.putFloat(setting.normalizationPosition.minimumValue);
+            writer.putFloat(setting.normalizationPosition.maximumValue);
+            writer.putFloat(setting.normalizationPosition.defaultValue);
+            writer.putFloat(setting.normalizationAngle.minimumValue);
+            writer.putFloat(setting.normalizationAngle.maximumValue);
+            writer.putFloat(setting.normalizationAngle.defaultValue);
+        }
+        writer.putInt(rig.subRigGroupCount);
+        writer.putInts(rig.subRigGroupOffsets, rig.subRigGroupCount + 1);
+        writer.putInts(rig.subRigEvaluationOrder, rig.subRigCount);
+
+        final int inputCount = rig.inputCount;
+        writer.putInt(inputCount);
+        for (int i = 0; i < inputCount; i++) {
+            writer.putId(rig.inputSourceIds[i]);
+        }
+        writer.putFloats(rig.inputWeights, inputCount);
+        writer.putEnums(rig.inputTypes, inputCount);
+        writer.putBooleans(rig.inputReflects, inputCount);
+        writer.putFloats(rig.inputFactors, inputCount);
+
+        final int outputCount = rig.outputCount;
+        writer.putInt(outputCount);
+        for (int i = 0; i < outputCount; i++) {
+            writer.putId(rig.outputDestinationIds[i]);
+        }
+        writer.putInts(rig.outputVertexIndices, outputCount);
+        writer.putFloats(rig.outputTranslationScales, outputCount * 2);
+        writer.putFloats(rig.outputAngleScales, outputCount);
+        writer.putFloats(rig.outputWeights, outputCount);
+        writer.putEnums(rig.outputTypes, outputCount);
+        writer.putBooleans(rig.outputReflects, outputCount);
+
+        final int particleCount = rig.particleCount;
+        writer.putInt(particleCount);
+        writer.putFloats(rig.particleMobilities, particleCount);
+        writer.putFloats(rig.particleDelays, particleCount);
+        writer.putFloats(rig.particleAccelerations, particleCount);
+        writer.putFloats(rig.particleRadii, particleCount);
+        writer.putFloats(rig.particleInitialPositions, particleCount * 2);
+    }
+
+    /**
+     * Read the physics rig from a binary cache written by {@link #writeRigCache(CubismBinaryCache.Writer, CubismPhysicsRig)}.
+     *
+     * @param reader reader of the cache
+     * @return physics rig
+     * @throws IllegalArgumentException if the cache is broken
+     */
+    private static CubismPhysicsRig readRigCache(CubismBinaryCache.Reader reader) {
+        final CubismPhysicsRig rig = new CubismPhysicsRig();
+
+        rig.gravity.x = reader.getFloat();
+        rig.gravity.y = reader.getFloat();
+        rig.wind.x = reader.getFloat();
+        rig.wind.y = reader.getFloat();
+        rig.fps = reader.getFloat();
+
+        rig.subRigCount = reader.getCount(4 * 12);
+        rig.settings = new CubismPhysicsSubRig[rig.subRigCount];
+        for (int i = 0; i < rig.subRigCount; i++) {
+            final CubismPhysicsSubRig setting = new CubismPhysicsSubRig();
+
+            setting.inputCount = reader.getInt();
+            setting.outputCount = reader.getInt();
+            setting.particleCount = reader.getInt();
+            setting.baseInputIndex = reader.getInt();
+            setting.baseOutputIndex = reader.getInt();
+            setting.baseParticleIndex = reader.getInt();
+            setting.normalizationPosition.minimumValue = reader.getFloat();
+            setting.normalizationPosition.maximumValue = reader.getFloat();
+            setting.normalizationPosition.defaultValue = reader.getFloat();
+            setting.normalizationAngle.minimumValue = reader.getFloat();
+            setting.normalizationAngle.maximumValue = reader.getFloat();
+            setting.normalizationAngle.defaultValue = reader.getFloat();
+            rig.settings[i] = setting;
+        }
+        rig.subRigGroupCount = reader.getCount(4);
+        rig.subRigGroupOffsets = reader.getInts(rig.subRigGroupCount + 1);
+        rig.subRigEvaluationOrder = reader.getInts(rig.subRigCount);
+
+        // ID length, weight, type, reflect and factor
+        final int inputCount = reader.getCount(4 * 3 + 1 * 2);
+        rig.inputCount = inputCount;
+        rig.inputSourceIds = new CubismId[inputCount];
+        for (int i = 0; i < inputCount; i++) {
+            rig.inputSourceIds[i] = reader.getId();
+        }
+        rig.inputWeights = reader.getFloats(inputCount);
+        rig.inputTypes = new CubismPhysicsSource[inputCount];
+        reader.getEnums(CubismPhysicsSource.values(), rig.inputTypes, inputCount);
+        rig.inputReflects = reader.getBooleans(inputCount);
+        rig.inputFactors = reader.getFloats(inputCount);
+
+        // ID length, vertex index, translation scales, angle scale, weight, type and reflect
+        final int outputCount = reader.getCount(4 * 6 + 1 * 2);
+        rig.outputCount = outputCount;
+        rig.outputDestinationIds = new CubismId[outputCount];
+        for (int i = 0; i < outputCount; i++) {
+            rig.outputDestinationIds[i] = reader.getId();
+        }
+        rig.outputVertexIndices = reader.getInts(outputCount);
+        rig.outputTranslationScales = reader.getFloats(outputCount * 2);
+        rig.outputAngleScales = reader.getFloats(outputCount);
+        rig.outputWeights = reader.getFloats(outputCount);
+        rig.outputTypes = new CubismPhysicsSource[outputCount];
+        reader.getEnums(CubismPhysicsSource.values(), rig.outputTypes, outputCount);
+        rig.outputReflects = reader.getBooleans(outputCount);
+
+        final int particleCount = reader.getCount(4 * 6);
+        rig.particleCount = particleCount;
+        rig.particleMobilities = reader.getFloats(particleCount);
+        rig.particleDelays = reader.getFloats(particleCount);
+        rig.particleAccelerations = reader.getFloats(particleCount);
+        rig.particleRadii = reader.getFloats(particleCount);
+        rig.particleInitialPositions = reader.getFloats(particleCount * 2);
+
+        // サブリグの参照範囲を検証し、壊れたキャッシュで演算時に範囲外アクセスしないようにする。
+        if (!reader.isEnd() || !isValidRig(rig)) {
+            throw new IllegalArgumentException("The binary cache of physics3.json is broken.");
+        }
+        return rig;
+    }
+
+    /**
+     * Check that the sub-rigs and their groups of the physics rig refer to the inputs, outputs and particles within their ranges,
+     * and that all the inputs and outputs have their types.
+     *
+     * @param rig physics rig
+     * @return If the physics rig is valid, return true.
+     */
+    private static boolean isValidRig(CubismPhysicsRig rig) {
+        // 種類のない入力と出力は演算時のswitch文で例外になる
+        for (int i = 0; i < rig.inputCount; i++) {
+            if (rig.inputTypes[i] == null) {
+                return false;
+            }
+        }
+        for (int i = 0; i < rig.outputCount; i++) {
+            if (rig.outputTypes[i] == null) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < rig.subRigCount; i++) {
+            final CubismPhysicsSubRig setting = rig.settings[i];
+
+            if (setting.inputCount < 0 || setting.baseInputIndex < 0 || setting.baseInputIndex + setting.inputCount > rig.inputCount
+                || setting.outputCount < 0 || setting.baseOutputIndex < 0 || setting.baseOutputIndex + setting.outputCount > rig.outputCount
+                || setting.particleCount < 0 || setting.baseParticleIndex < 0 || setting.baseParticleIndex + setting.particleCount > rig.particleCount) {
+                return false;
+            }
+        }
+
+        if (rig.subRigGroupOffsets[0] != 0 || rig.subRigGroupOffsets[rig.subRigGroupCount] != rig.subRigCount) {
+            return false;
+        }
+        for (int group = 0; group < rig.subRigGroupCount; group++) {
+            if (rig.subRigGroupOffsets[group] > rig.subRigGroupOffsets[group + 1]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < rig.subRigCount; i++) {
+            if (rig.subRigEvaluationOrder[i] < 0 || rig.subRigEvaluationOrder[i] >= rig.subRigCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculate the initial positions of the particles, where the strands hang straight down.
+     * (Used for only the parse() method.)
+     */
+    private void calculateInitialParticlePositions() {
+        final float[] initialPositions = physicsRig.particleInitialPositions;
+
+        for (int settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
+            final CubismPhysicsSubRig currentSetting = physicsRig.settings[settingIndex];
+            final int baseIndex = currentSetting.baseParticleIndex;
+
+            initialPositions[baseIndex * 2] = 0.0f;
+            initialPositions[baseIndex * 2 + 1] = 0.0f;
+
+            for (int i = 1; i < currentSetting.particleCount; i++) {
+                final int particle = baseIndex + i;
+                final int x = particle * 2;
+                final int y = x + 1;
+
+                initialPositions[x] = initialPositions[x - 2] + 0.0f;
+                initialPositions[y] = initialPositions[y - 2] + physicsRig.particleRadii[particle];
+            }
+        }
+    }
+
+    /**
+     * Create the state of this instance for the rig.
+     */
+    private void setUpState() {
+        rigState = new CubismPhysicsRigState(physicsRig);
+        currentRigOutputs = new float[physicsRig.outputCount];
+        previousRigOutputs = new float[physicsRig.outputCount];
+        isCosmeticSubRigs = new boolean[physicsRig.subRigCount];
+
         initialize();
     }
 
+    /**
+     * Group the sub-rigs so that the sub-rigs in a group can be evaluated concurrently.
+     * <p>
+     * A sub-rig depends on an earlier sub-rig if it reads a parameter written by the earlier one, writes a parameter read by the earlier one,
+     * or writes the same parameter as the earlier one. A sub-rig is put in the group next to the last group of the sub-rigs it depends on,
+     * so evaluating the groups in order gives the same results as evaluating the sub-rigs in order.
+     */
+    private void analyzeSubRigDependencies() {
+        final CubismPhysicsRig rig = physicsRig;
+        final int[] groups = new int[rig.subRigCount];
+        int groupCount = 0;
+
+        for (int j = 0; j < rig.subRigCount; j++) {
+            int group = 0;
+
+            for (int i = 0; i < j; i++) {
+                if (groups[i] >= group && isDependentSubRig(rig.settings[i], rig.settings[j])) {
+                    group = groups[i] + 1;
+                }
+            }
+            groups[j] = group;
+            groupCount = Math.max(groupCount, group + 1);
+        }
+
+        // Sort the sub-rigs by the groups, keeping the order in each group.
+        rig.subRigGroupCount = groupCount;
+        rig.subRigGroupOffsets = new int[groupCount + 1];
+        rig.subRigEvaluationOrder = new int[rig.subRigCount];
+
+        for (int i = 0; i < rig.subRigCount; i++) {
+            rig.subRigGroupOffsets[groups[i] + 1]++;
+        }
+        for (int group = 0; group < groupCount; group++) {
+            rig.subRigGroupOffsets[group + 1] += rig.subRigGroupOffsets[group];
+        }
+
+        final int[] positions = new int[groupCount];
+        for (int i = 0; i < rig.subRigCount; i++) {
+            final int group = groups[i];
+            rig.subRigEvaluationOrder[rig.subRigGroupOffsets[group] + positions[group]] = i;
+            positions[group]++;
+        }
+    }
+
+    /**
+     * Check whether the later sub-rig has to be evaluated after the earlier one.
+     *
+     * @param earlier the sub-rig evaluated earlier
+     * @param later the sub-rig evaluated later
+     * @return true if the sub-rigs share a parameter which is written by either of them
+     */
+    private boolean isDependentSubRig(CubismPhysicsSubRig earlier, CubismPhysicsSubRig later) {
+        final CubismPhysicsRig rig = physicsRig;
+
+        for (int i = 0; i < earlier.outputCount; i++) {
+            final CubismId earlierOutput = rig.outputDestinationIds[earlier.baseOutputIndex + i];
+
+            for (int j = 0; j < later.inputCount; j++) {
+                if (earlierOutput.equals(rig.inputSourceIds[later.baseInputIndex + j])) {
+                    return true;
+                }
+            }
+            for (int j = 0; j < later.outputCount; j++) {
+                if (earlierOutput.equals(rig.outputDestinationIds[later.baseOutputIndex + j])) {
+                    return true;
+                }
+            }
+        }
+
+        for (int i = 0; i < earlier.inputCount; i++) {
+            final CubismId earlierInput = rig.inputSourceIds[earlier.baseInputIndex + i];
+
+            for (int j = 0; j < later.outputCount; j++) {
+                if (earlierInput.equals(rig.outputDestinationIds[later.baseOutputIndex + j])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Parse setting parameters.
      *
@@ -742,7 +2241,7 @@ public class CubismPhysics {
         setting.outputCount = json.getOutputCount(settingIndex);
         setting.particleCount = json.getParticleCount(settingIndex);
 
-        physicsRig.settings.add(setting);
+        physicsRig.settings[settingIndex] = setting;
     }
 
     /**
@@ -751,33 +2250,21 @@ public class CubismPhysics {
      *
      * @param json physics3.json data.
      * @param settingIndex current setting index
+     * @param baseInputIndex index of the first input of the current setting in the rig
      * @param inputCount number of the current input
      */
-    private void parseInputs(final CubismPhysicsJson json, final int settingIndex, final int inputCount) {
+    private void parseInputs(final CubismPhysicsJson json, final int settingIndex, final int baseInputIndex, final int inputCount) {
         for (int inputIndex = 0; inputIndex < inputCount; inputIndex++) {
-            final CubismPhysicsInput input = new CubismPhysicsInput();
-
-            input.sourceParameterIndex = -1;
-            input.weight = json.getInputWeight(settingIndex, inputIndex);
-            input.reflect = json.getInputReflect(settingIndex, inputIndex);
+            final int index = baseInputIndex + inputIndex;
 
-            final String tag = json.getInputType(settingIndex, inputIndex);
+            physicsRig.inputWeights[index] = json.getInputWeight(settingIndex, inputIndex);
+            physicsRig.inputReflects[index] = json.getInputReflect(settingIndex, inputIndex);
+            physicsRig.inputTypes[index] = parseSourceType(json.getInputType(settingIndex, inputIndex));
+            physicsRig.inputSourceIds[index] = json.getInputSourceId(settingIndex, inputIndex);
 
-            if (tag.equals(PhysicsTypeTag.X.tag)) {
-                input.type = CubismPhysicsSource.X;
-                input.getNormalizedParameterValue = new GetInputTranslationXFromNormalizedParameterValue();
-            } else if (tag.equals(PhysicsTypeTag.Y.tag)) {
-                input.type = CubismPhysicsSource.Y;
-                input.getNormalizedParameterValue = new GetInputTranslationYFromNormalizedParameterValue();
-            } else if (tag.equals(PhysicsTypeTag.ANGLE.tag)) {
-                input.type = CubismPhysicsSource.ANGLE;
-                input.getNormalizedParameterValue = new GetInputAngleFromNormalizedParameterValue();
-            }
-
-            input.source.targetType = CubismPhysicsTargetType.PARAMETER;
-            input.source.Id = json.getInputSourceId(settingIndex, inputIndex);
-
-            physicsRig.inputs.add(input);
+            // The sign of the reflection is folded into the weight.
+            final float weight = physicsRig.inputWeights[index] / MAXIMUM_WEIGHT;
+            physicsRig.inputFactors[index] = physicsRig.inputReflects[index] ? weight : -weight;
         }
     }
 
@@ -787,48 +2274,19 @@ public class CubismPhysics {
      *
      * @param json physics3.json data
      * @param settingIndex current setting index
+     * @param baseOutputIndex index of the first output of the current setting in the rig
      * @param outputCount number of the current input
      */
-    private void parseOutputs(final CubismPhysicsJson json, final int settingIndex, final int outputCount) {
-        final int count = physicsRig.settings.get(settingIndex).outputCount;
-
-        PhysicsOutput currentRigOutput = new PhysicsOutput();
-        currentRigOutput.outputs = new float[count];
-        currentRigOutputs.add(currentRigOutput);
-
-        PhysicsOutput previousRigOutput = new PhysicsOutput();
-        previousRigOutput.outputs = new float[count];
-        previousRigOutputs.add(previousRigOutput);
-
+    private void parseOutputs(final CubismPhysicsJson json, final int settingIndex, final int baseOutputIndex, final int outputCount) {
         for (int outputIndex = 0; outputIndex < outputCount; outputIndex++) {
-            final CubismPhysicsOutput output = new CubismPhysicsOutput();
-
-            output.destinationParameterIndex = -1;
-            output.vertexIndex = json.getOutputVertexIndex(settingIndex, outputIndex);
-            output.angleScale = json.getOutputAngleScale(settingIndex, outputIndex);
-            output.weight = json.getOutputWeight(settingIndex, outputIndex);
-            output.destination.targetType = CubismPhysicsTargetType.PARAMETER;
-
-            output.destination.Id = json.getOutputsDestinationId(settingIndex, outputIndex);
-
-            final String tag = json.getOutputType(settingIndex, outputIndex);
-            if (tag.equals(PhysicsTypeTag.X.tag)) {
-                output.type = CubismPhysicsSource.X;
-                output.getValue = new GetOutputTranslationX();
-                output.getScale = new GetOutputScaleTranslationX();
-            } else if (tag.equals(PhysicsTypeTag.Y.tag)) {
-                output.type = CubismPhysicsSource.Y;
-                output.getValue = new GetOutputTranslationY();
-                output.getScale = new GetOutputScaleTranslationY();
-            } else if (tag.equals(PhysicsTypeTag.ANGLE.tag)) {
-                output.type = CubismPhysicsSource.ANGLE;
-                output.getValue = new GetOutputAngle();
-                output.getScale = new GetOutputScaleAngle();
-            }
-
-            output.reflect = json.getOutputReflect(settingIndex, outputIndex);
-
-            physicsRig.outputs.add(output);
+            final int index = baseOutputIndex + outputIndex;
+
+            physicsRig.outputVertexIndices[index] = json.getOutputVertexIndex(settingIndex, outputIndex);
+            physicsRig.outputAngleScales[index] = json.getOutputAngleScale(settingIndex, outputIndex);
+            physicsRig.outputWeights[index] = json.getOutputWeight(settingIndex, outputIndex);
+            physicsRig.outputDestinationIds[index] = json.getOutputsDestinationId(settingIndex, outputIndex);
+            physicsRig.outputTypes[index] = parseSourceType(json.getOutputType(settingIndex, outputIndex));
+            physicsRig.outputReflects[index] = json.getOutputReflect(settingIndex, outputIndex);
         }
     }
 
@@ -838,53 +2296,81 @@ public class CubismPhysics {
      *
      * @param json physics3.json data
      * @param settingIndex current setting index
+     * @param baseParticleIndex index of the first particle of the current setting in the rig
      * @param particleCount number of the current particle
      */
-    private void parseParticles(final CubismPhysicsJson json, final int settingIndex, final int particleCount) {
+    private void parseParticles(final CubismPhysicsJson json, final int settingIndex, final int baseParticleIndex, final int particleCount) {
         for (int particleIndex = 0; particleIndex < particleCount; particleIndex++) {
-            final CubismPhysicsParticle particle = new CubismPhysicsParticle();
+            final int index = baseParticleIndex + particleIndex;
 
-            particle.mobility = json.getParticleMobility(settingIndex, particleIndex);
-            particle.delay = json.getParticleDelay(settingIndex, particleIndex);
-            particle.acceleration = json.getParticleAcceleration(settingIndex, particleIndex);
-            particle.radius = json.getParticleRadius(settingIndex, particleIndex);
-            particle.position = json.getParticlePosition(settingIndex, particleIndex);
+            physicsRig.particleMobilities[index] = json.getParticleMobility(settingIndex, particleIndex);
+            physicsRig.particleDelays[index] = json.getParticleDelay(settingIndex, particleIndex);
+            physicsRig.particleAccelerations[index] = json.getParticleAcceleration(settingIndex, particleIndex);
+            physicsRig.particleRadii[index] = json.getParticleRadius(settingIndex, particleIndex);
+        }
+    }
 
-            physicsRig.particles.add(particle);
+    /**
+     * Get the type of an input or an output from the tag in physics3.json.
+     *
+     * @param tag type tag
+     * @return type of the input or the output. null if the tag is unknown.
+     */
+    private static CubismPhysicsSource parseSourceType(final String tag) {
+        if (tag.equals(PhysicsTypeTag.X.tag)) {
+            return CubismPhysicsSource.X;
+        } else if (tag.equals(PhysicsTypeTag.Y.tag)) {
+            return CubismPhysicsSource.Y;
+        } else if (tag.equals(PhysicsTypeTag.ANGLE.tag)) {
+            return CubismPhysicsSource.ANGLE;
         }
+        return null;
     }
 
     /**
      * Initializes physics
      */
     private void initialize() {
+        final float[] initialPositions = physicsRig.particleInitialPositions;
+        final float[] positions = rigState.particlePositions;
+        final float[] lastPositions = rigState.particleLastPositions;
+        final float[] lastGravities = rigState.particleLastGravities;
+        final float[] velocities = rigState.particleVelocities;
+        final float[] forces = rigState.particleForces;
+
         for (int settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
-            final CubismPhysicsSubRig currentSetting = physicsRig.settings.get(settingIndex);
+            final CubismPhysicsSubRig currentSetting = physicsRig.settings[settingIndex];
 
             final int baseIndex = currentSetting.baseParticleIndex;
-            final CubismPhysicsParticle baseParticle = physicsRig.particles.get(baseIndex);
+            final int baseX = baseIndex * 2;
+            final int baseY = baseX + 1;
 
             // Initialize the top of particle
-            baseParticle.initialPosition = new CubismVector2();
-            baseParticle.lastPosition = new CubismVector2(baseParticle.initialPosition);
-            baseParticle.lastGravity = new CubismVector2(0.0f, 1.0f);
-            baseParticle.velocity = new CubismVector2();
-            baseParticle.force = new CubismVector2();
+            lastPositions[baseX] = initialPositions[baseX];
+            lastPositions[baseY] = initialPositions[baseY];
+            lastGravities[baseX] = 0.0f;
+            lastGravities[baseY] = 1.0f;
+            velocities[baseX] = 0.0f;
+            velocities[baseY] = 0.0f;
+            forces[baseX] = 0.0f;
+            forces[baseY] = 0.0f;
 
             // Initialize particles
             for (int i = 1; i < currentSetting.particleCount; i++) {
-                final CubismPhysicsParticle currentParticle = physicsRig.particles.get(baseIndex + i);
-
-                final CubismVector2 radius = new CubismVector2(0.0f, currentParticle.radius);
-
-                final CubismVector2 previousPosition = new CubismVector2(physicsRig.particles.get(baseIndex + i - 1).initialPosition);
-                currentParticle.initialPosition = previousPosition.add(radius);
-
-                currentParticle.position = new CubismVector2(currentParticle.initialPosition);
-                currentParticle.lastPosition = new CubismVector2(currentParticle.initialPosition);
-                currentParticle.lastGravity = new CubismVector2(0.0f, 1.0f);
-                currentParticle.velocity = new CubismVector2();
-                currentParticle.force = new CubismVector2();
+                final int particle = baseIndex + i;
+                final int x = particle * 2;
+                final int y = x + 1;
+
+                positions[x] = initialPositions[x];
+                positions[y] = initialPositions[y];
+                lastPositions[x] = initialPositions[x];
+                lastPositions[y] = initialPositions[y];
+                lastGravities[x] = 0.0f;
+                lastGravities[y] = 1.0f;
+                velocities[x] = 0.0f;
+                velocities[y] = 0.0f;
+                forces[x] = 0.0f;
+                forces[y] = 0.0f;
             }
         }
     }
@@ -897,104 +2383,237 @@ public class CubismPhysics {
      * @param weight weight of the latest result
      */
     private void interpolate(CubismModel model, float weight) {
-        for (int settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
-            CubismPhysicsSubRig currentSetting = physicsRig.settings.get(settingIndex);
-            List<CubismPhysicsOutput> outputs = physicsRig.outputs;
-            int baseOutputIndex = currentSetting.baseOutputIndex;
+        final CubismPhysicsRig rig = physicsRig;
+        final CubismPhysicsRigState state = rigState;
+        final int[] outputDestinationParameterIndices = state.outputDestinationParameterIndices;
+
+        float[] parameterValues = model.getModel().getParameters().getValues();
+        float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
+        float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
 
-            float[] parameterValues = model.getModel().getParameters().getValues();
-            float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
-            float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
+        for (int settingIndex = 0; settingIndex < rig.subRigCount; settingIndex++) {
+            final CubismPhysicsSubRig currentSetting = rig.settings[settingIndex];
+            final float subRigWeight = isCosmeticSubRigs[settingIndex] ? cosmeticSubRigWeight : 1.0f;
 
-            tmpValue[0] = 0.0f;
+            if (subRigWeight == 0.0f) {
+                continue;
+            }
 
             for (int i = 0; i < currentSetting.outputCount; i++) {
-                CubismPhysicsOutput currentOutput = outputs.get(baseOutputIndex + i);
+                final int outputIndex = currentSetting.baseOutputIndex + i;
+                final int destinationParameterIndex = outputDestinationParameterIndices[outputIndex];
 
-                if (currentOutput.destinationParameterIndex == -1) {
+                if (destinationParameterIndex == -1) {
                     continue;
                 }
 
-                tmpValue[0] = parameterValues[currentOutput.destinationParameterIndex];
+                final float parameterValue = parameterValues[destinationParameterIndex];
+
+                // Use the latest result as it is at the weight 1, so that the previous result does not change the sign of zero.
+                // The replay by applyOutputs() then gives the same bits as evaluateTicks().
+                final float outputValue = weight == 1.0f
+                                          ? currentRigOutputs[outputIndex]
+                                          : previousRigOutputs[outputIndex] * (1 - weight) + currentRigOutputs[outputIndex] * weight;
 
                 updateOutputParameterValue(
-                    tmpValue,
-                    0,
-                    parameterMinimumValues[currentOutput.destinationParameterIndex],
-                    parameterMaximumValues[currentOutput.destinationParameterIndex],
-                    previousRigOutputs.get(settingIndex).outputs[i] * (1 - weight) + currentRigOutputs.get(settingIndex).outputs[i] * weight,
-                    currentOutput
+                    parameterValues,
+                    destinationParameterIndex,
+                    parameterMinimumValues[destinationParameterIndex],
+                    parameterMaximumValues[destinationParameterIndex],
+                    outputValue,
+                    rig,
+                    state,
+                    outputIndex
                 );
-                parameterValues[currentOutput.destinationParameterIndex] = tmpValue[0];
+
+                // Fade the cosmetic sub-rig in or out.
+                if (subRigWeight < 1.0f) {
+                    parameterValues[destinationParameterIndex] = (parameterValue * (1.0f - subRigWeight)) + (parameterValues[destinationParameterIndex] * subRigWeight);
+                }
+
+                if (parameterValues[destinationParameterIndex] != parameterValue) {
+                    model.markParameterValueChanged(destinationParameterIndex);
+                }
             }
         }
     }
 
-    // This is only used by 'interpolate' method.
-    // Avoid creating a new float array instance.
-    private final float[] tmpValue = new float[1];
-
     /**
-     * Load input parameters.
-     * (Used for only evaluate() method.)
+     * Move the current detail level and the weight of the cosmetic sub-rigs toward their targets.
      *
-     * @param model model instance
-     * @param transition total amount of model's transition
-     * @param settingIndex index of setting
-     * @return total amount of model's angle
+     * @param deltaTimeSeconds delta time[s]
      */
-    private float loadInputParameters(final CubismModel model, final CubismVector2 transition, final int settingIndex) {
-        CubismPhysicsSubRig currentSetting = physicsRig.settings.get(settingIndex);
+    private void updateDetailLevel(float deltaTimeSeconds) {
+        final float step = (detailLevelTransitionTime > 0.0f) ? deltaTimeSeconds / detailLevelTransitionTime : 1.0f;
 
-        final float[] totalAngle = new float[1];
+        if (detailLevel < targetDetailLevel) {
+            detailLevel = Math.min(detailLevel + step, targetDetailLevel);
+        } else if (detailLevel > targetDetailLevel) {
+            detailLevel = Math.max(detailLevel - step, targetDetailLevel);
+        }
 
-        for (int i = 0; i < currentSetting.inputCount; i++) {
-            final CubismPhysicsInput currentInput = physicsRig.inputs.get(currentSetting.baseInputIndex + i);
-            final float weight = currentInput.weight / MAXIMUM_WEIGHT;
+        if (detailLevel >= COSMETIC_SUB_RIG_DETAIL_LEVEL) {
+            cosmeticSubRigWeight = Math.min(cosmeticSubRigWeight + step, 1.0f);
+        } else {
+            cosmeticSubRigWeight = Math.max(cosmeticSubRigWeight - step, 0.0f);
+        }
+    }
 
-            if (currentInput.sourceParameterIndex == -1) {
-                currentInput.sourceParameterIndex = model.getParameterIndex(currentInput.source.Id);
-            }
+    /**
+     * Get the physics rig of this instance.
+     *
+     * @return physics rig
+     */
+    CubismPhysicsRig getRig() {
+        return physicsRig;
+    }
 
-            final float parameterValue = model.getParameterValue(currentInput.sourceParameterIndex);
-            final float parameterMaximumValue = model.getParameterMaximumValue(currentInput.sourceParameterIndex);
-            final float parameterMinimumValue = model.getParameterMinimumValue(currentInput.sourceParameterIndex);
-            final float parameterDefaultValue = model.getParameterDefaultValue(currentInput.sourceParameterIndex);
+    /**
+     * Get the state of the physics operation of this instance.
+     *
+     * @return state of the physics operation
+     */
+    CubismPhysicsRigState getRigState() {
+        return rigState;
+    }
 
-            currentInput.getNormalizedParameterValue.getNormalizedParameterValue(
-                transition,
-                totalAngle,
-                parameterValue,
-                parameterMinimumValue,
-                parameterMaximumValue,
-                parameterDefaultValue,
-                currentSetting.normalizationPosition,
-                currentSetting.normalizationAngle,
-                currentInput.reflect,
-                weight
-            );
-        }
-        return totalAngle[0];
+    /**
+     * Get the latest results of the pendulum calculation.
+     *
+     * @return the latest results for each output
+     */
+    float[] getCurrentRigOutputs() {
+        return currentRigOutputs;
+    }
+
+    /**
+     * Get the previous results of the pendulum calculation.
+     *
+     * @return the previous results for each output
+     */
+    float[] getPreviousRigOutputs() {
+        return previousRigOutputs;
     }
 
+    /**
+     * Get the parameter values used as the inputs of the last physics step.
+     *
+     * @return the parameter input caches. Shorter than the parameters of the model if no step has been run.
+     */
+    float[] getParameterInputCaches() {
+        return parameterInputCaches;
+    }
 
     /**
-     * Physics operation data
+     * Physics operation data. It may be shared by the instances created by {@link #create(CubismPhysics)}, so it must not be changed after it is parsed.
      */
     private CubismPhysicsRig physicsRig;
+    /**
+     * State of the physics operation of this instance
+     */
+    private CubismPhysicsRigState rigState;
+    /**
+     * Pool to evaluate the independent sub-rigs in parallel. null if not used.
+     */
+    private ForkJoinPool parallelEvaluationPool;
+    /**
+     * Maximum number of the physics steps in an evaluation. 0 or less means no limit.
+     */
+    private int maxSubStepCount;
+    /**
+     * Reduction of the physics steps exceeding the maximum number
+     */
+    private SubStepOverflowMode subStepOverflowMode = SubStepOverflowMode.DROP;
+    /**
+     * Number of the physics steps run in the last evaluation
+     */
+    private int lastSubStepCount;
+    /**
+     * Number of the physics steps dropped in the last evaluation
+     */
+    private int lastDroppedStepCount;
+    /**
+     * Total number of the dropped physics steps
+     */
+    private long droppedStepCount;
+    /**
+     * Current detail level
+     */
+    private float detailLevel = 1.0f;
+    /**
+     * Target detail level
+     */
+    private float targetDetailLevel = 1.0f;
+    /**
+     * Weight of the cosmetic sub-rigs, which follows the detail level
+     */
+    private float cosmeticSubRigWeight = 1.0f;
+    /**
+     * Time for the detail level to change from 0.0 to 1.0[s]
+     */
+    private float detailLevelTransitionTime = DEFAULT_DETAIL_LEVEL_TRANSITION_TIME;
+    /**
+     * Height of the model on the screen at which the detail level is 0.0[px]
+     */
+    private float lowDetailScreenHeight = DEFAULT_LOW_DETAIL_SCREEN_HEIGHT;
+    /**
+     * Height of the model on the screen at which the detail level is 1.0[px]
+     */
+    private float fullDetailScreenHeight = DEFAULT_FULL_DETAIL_SCREEN_HEIGHT;
+    /**
+     * Whether each sub-rig is cosmetic
+     */
+    private boolean[] isCosmeticSubRigs = new boolean[0];
+    /**
+     * Whether the incremental stabilization is in progress
+     */
+    private boolean isStabilizing;
+    /**
+     * Whether the last incremental stabilization finished by the convergence of the particles
+     */
+    private boolean isStabilizationConverged;
+    /**
+     * Number of the sub-rigs whose stable pose has been calculated by the incremental stabilization
+     */
+    private int stabilizedSubRigCount;
+    /**
+     * Number of the steps run by the incremental stabilization
+     */
+    private int stabilizationStepCount;
+    /**
+     * Maximum number of the steps of the incremental stabilization in progress
+     */
+    private int stabilizationStepLimit;
+    /**
+     * Number of the sub-rigs and the steps processed by updateStabilization(CubismModel)
+     */
+    private int stabilizationWorkCountPerFrame = 1;
+    /**
+     * Maximum movement of the particles in the last step of the incremental stabilization
+     */
+    private float stabilizationParticleMovement;
+    /**
+     * Maximum number of the steps of the incremental stabilization
+     */
+    private int maxStabilizationStepCount = DEFAULT_MAX_STABILIZATION_STEP_COUNT;
+    /**
+     * Threshold of the movement of the particles under which the incremental stabilization regards them as converged
+     */
+    private float stabilizationConvergenceThreshold = DEFAULT_STABILIZATION_CONVERGENCE_THRESHOLD;
     /**
      * Options of physics operation
      */
     private Options options = new Options();
 
     /**
-     * Result of the latest pendulum calculation
+     * Result of the latest pendulum calculation.
+     * The results of all the outputs of the rig are stored in the order of the outputs.
      */
-    private final List<PhysicsOutput> currentRigOutputs = new ArrayList<PhysicsOutput>();
+    private float[] currentRigOutputs = new float[0];
     /**
      * Result of one previous pendulum calculation
      */
-    private final List<PhysicsOutput> previousRigOutputs = new ArrayList<PhysicsOutput>();
+    private float[] previousRigOutputs = new float[0];
 
     /**
      * Time not processed by physics
@@ -1004,9 +2623,10 @@ public class CubismPhysics {
     /**
      * Cache of parameter used in 'Evaluate' method
      */
-    private float[] parameterCaches = new float[1];
+    private float[] parameterCaches = EMPTY_PARAMETER_CACHES;
     /**
-     * Cache of parameter input in 'UpdateParticles' method
+     * Cache of parameter input in 'UpdateParticles' method.
+     * It is empty until the physics operation is run with a model, and then it has the values of all the parameters of the model.
      */
-    private float[] parameterInputCaches = new float[1];
+    private float[] parameterInputCaches = EMPTY_PARAMETER_CACHES;
 }
@@ -0,0 +1,820 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.math.CubismMath;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.*;
+
+import java.util.Arrays;
+
+/**
+ * Physics operation of many models which share the same physics3.json.
+ * <p>
+ * The particles and the pendulum results of all the instances are packed into contiguous arrays, one row for each particle or output and one column for each instance.
+ * {@link #evaluate(float)} steps all the instances in one loop for each particle, so the same rig data is not walked again for every model.
+ * Each instance reads the inputs from and writes the outputs to its own model, and the results are the same as those of {@link CubismPhysics#evaluate(CubismModel, float)}.
+ * <p>
+ * All the instances are stepped at the same time, so they share the delta time and the options.
+ * The detail level, the step cap and the parallel evaluation of CubismPhysics are not applied.
+ */
+public class CubismPhysicsBatch {
+    /**
+     * Create a batch of the physics operation with the rig of the given instance.
+     *
+     * @param physics the instance whose physics rig is shared
+     * @return created instance
+     */
+    public static CubismPhysicsBatch create(CubismPhysics physics) {
+        return new CubismPhysicsBatch(physics.getRig());
+    }
+
+    /**
+     * Add a model to the batch. Its particles are placed at their initial positions.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @return the index of the instance
+     * @throws IllegalArgumentException if the model is null or already in the batch
+     */
+    public int add(CubismModel model) {
+        final int index = addInstance(model);
+        final int capacity = this.capacity;
+        final float[] initialPositions = rig.particleInitialPositions;
+
+        for (int particle = 0; particle < rig.particleCount; particle++) {
+            final int column = particle * capacity + index;
+
+            particlePositionXs[column] = initialPositions[particle * 2];
+            particlePositionYs[column] = initialPositions[particle * 2 + 1];
+            particleLastPositionXs[column] = initialPositions[particle * 2];
+            particleLastPositionYs[column] = initialPositions[particle * 2 + 1];
+            particleLastGravityXs[column] = 0.0f;
+            particleLastGravityYs[column] = 1.0f;
+            particleVelocityXs[column] = 0.0f;
+            particleVelocityYs[column] = 0.0f;
+        }
+
+        for (int outputIndex = 0; outputIndex < rig.outputCount; outputIndex++) {
+            currentRigOutputs[outputIndex * capacity + index] = 0.0f;
+            previousRigOutputs[outputIndex * capacity + index] = 0.0f;
+        }
+
+        return index;
+    }
+
+    /**
+     * Add a model to the batch, taking over the particles and the pendulum results from the given instance.
+     * This is used to add a model which has been stabilized by {@link CubismPhysics#stabilization(CubismModel)}.
+     * The time not processed by physics is not taken over, because all the instances of the batch share it.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @param physics the instance from which the state is taken over. It must share the physics rig with this batch.
+     * @return the index of the instance
+     * @throws IllegalArgumentException if the model is null or already in the batch, or the physics rig is not shared
+     */
+    public int add(CubismModel model, CubismPhysics physics) {
+        if (physics.getRig() != rig) {
+            throw new IllegalArgumentException("The physics rig is not shared with the batch.");
+        }
+
+        final int index = addInstance(model);
+        final int capacity = this.capacity;
+        final CubismPhysicsRigState sourceState = physics.getRigState();
+
+        for (int particle = 0; particle < rig.particleCount; particle++) {
+            final int column = particle * capacity + index;
+
+            particlePositionXs[column] = sourceState.particlePositions[particle * 2];
+            particlePositionYs[column] = sourceState.particlePositions[particle * 2 + 1];
+            particleLastPositionXs[column] = sourceState.particleLastPositions[particle * 2];
+            particleLastPositionYs[column] = sourceState.particleLastPositions[particle * 2 + 1];
+            particleLastGravityXs[column] = sourceState.particleLastGravities[particle * 2];
+            particleLastGravityYs[column] = sourceState.particleLastGravities[particle * 2 + 1];
+            particleVelocityXs[column] = sourceState.particleVelocities[particle * 2];
+            particleVelocityYs[column] = sourceState.particleVelocities[particle * 2 + 1];
+        }
+
+        for (int outputIndex = 0; outputIndex < rig.outputCount; outputIndex++) {
+            currentRigOutputs[outputIndex * capacity + index] = physics.getCurrentRigOutputs()[outputIndex];
+            previousRigOutputs[outputIndex * capacity + index] = physics.getPreviousRigOutputs()[outputIndex];
+        }
+
+        final float[] sourceInputCaches = physics.getParameterInputCaches();
+        if (sourceInputCaches.length >= model.getParameterCount()) {
+            parameterInputCaches[index] = Arrays.copyOf(sourceInputCaches, model.getParameterCount());
+            parameterCaches[index] = new float[model.getParameterCount()];
+        }
+
+        return index;
+    }
+
+    /**
+     * Remove a model from the batch.
+     * The last instance is moved to the index of the removed one.
+     *
+     * @param model model to remove
+     * @return true if the model was in the batch
+     */
+    public boolean remove(CubismModel model) {
+        final int index = indexOf(model);
+        if (index == -1) {
+            return false;
+        }
+
+        final int last = instanceCount - 1;
+        if (index != last) {
+            final int capacity = this.capacity;
+
+            for (int particle = 0; particle < rig.particleCount; particle++) {
+                final int to = particle * capacity + index;
+                final int from = particle * capacity + last;
+
+                particlePositionXs[to] = particlePositionXs[from];
+                particlePositionYs[to] = particlePositionYs[from];
+                particleLastPositionXs[to] = particleLastPositionXs[from];
+                particleLastPositionYs[to] = particleLastPositionYs[from];
+                particleLastGravityXs[to] = particleLastGravityXs[from];
+                particleLastGravityYs[to] = particleLastGravityYs[from];
+                particleVelocityXs[to] = particleVelocityXs[from];
+                particleVelocityYs[to] = particleVelocityYs[from];
+            }
+
+            for (int outputIndex = 0; outputIndex < rig.outputCount; outputIndex++) {
+                currentRigOutputs[outputIndex * capacity + index] = currentRigOutputs[outputIndex * capacity + last];
+                previousRigOutputs[outputIndex * capacity + index] = previousRigOutputs[outputIndex * capacity + last];
+            }
+
+            models[index] = models[last];
+            states[index] = states[last];
+            parameterCaches[index] = parameterCaches[last];
+            parameterInputCaches[index] = parameterInputCaches[last];
+        }
+
+        models[last] = null;
+        states[last] = null;
+        parameterCaches[last] = null;
+        parameterInputCaches[last] = null;
+        parameterValues[last] = null;
+        parameterMinimumValues[last] = null;
+        parameterMaximumValues[last] = null;
+        instanceCount--;
+
+        return true;
+    }
+
+    /**
+     * Get the number of the models in the batch.
+     *
+     * @return the number of the models
+     */
+    public int getInstanceCount() {
+        return instanceCount;
+    }
+
+    /**
+     * Get the model of an instance.
+     *
+     * @param index index of the instance
+     * @return the model
+     */
+    public CubismModel getModel(int index) {
+        if (index < 0 || index >= instanceCount) {
+            throw new IndexOutOfBoundsException("index: " + index + ", count: " + instanceCount);
+        }
+        return models[index];
+    }
+
+    /**
+     * Reset the options and place the particles of all the instances at their initial positions.
+     */
+    public void reset() {
+        options.gravity.set(0.0f, -1.0f);
+        options.wind.setZero();
+
+        final int count = instanceCount;
+        final int capacity = this.capacity;
+        final float[] initialPositions = rig.particleInitialPositions;
+
+        for (int particle = 0; particle < rig.particleCount; particle++) {
+            final int row = particle * capacity;
+
+            Arrays.fill(particlePositionXs, row, row + count, initialPositions[particle * 2]);
+            Arrays.fill(particlePositionYs, row, row + count, initialPositions[particle * 2 + 1]);
+            Arrays.fill(particleLastPositionXs, row, row + count, initialPositions[particle * 2]);
+            Arrays.fill(particleLastPositionYs, row, row + count, initialPositions[particle * 2 + 1]);
+            Arrays.fill(particleLastGravityXs, row, row + count, 0.0f);
+            Arrays.fill(particleLastGravityYs, row, row + count, 1.0f);
+            Arrays.fill(particleVelocityXs, row, row + count, 0.0f);
+            Arrays.fill(particleVelocityYs, row, row + count, 0.0f);
+        }
+    }
+
+    /**
+     * Evaluate the physics operation of all the instances.
+     *
+     * @param deltaTimeSeconds rendering delta time[s]
+     * @see CubismPhysics#evaluate(CubismModel, float)
+     */
+    public void evaluate(float deltaTimeSeconds) {
+        if (0.0f >= deltaTimeSeconds || instanceCount == 0) {
+            return;
+        }
+
+        final int count = instanceCount;
+        final int capacity = this.capacity;
+
+        final float physicsDeltaTime;
+        if (rig.fps > 0.0f) {
+            physicsDeltaTime = 1.0f / rig.fps;
+        } else {
+            physicsDeltaTime = deltaTimeSeconds;
+        }
+
+        currentRemainTime += deltaTimeSeconds;
+        if (currentRemainTime > CubismPhysics.MAX_DELTA_TIME) {
+            currentRemainTime = 0.0f;
+        }
+
+        for (int k = 0; k < count; k++) {
+            final CubismModel model = models[k];
+            final int parameterCount = model.getParameterCount();
+
+            parameterValues[k] = model.getModel().getParameters().getValues();
+            parameterMinimumValues[k] = model.getModel().getParameters().getMinimumValues();
+            parameterMaximumValues[k] = model.getModel().getParameters().getMaximumValues();
+
+            if (parameterInputCaches[k] == null) {
+                parameterCaches[k] = new float[parameterCount];
+                parameterInputCaches[k] = Arrays.copyOf(parameterValues[k], parameterCount);
+            }
+        }
+
+        while (currentRemainTime >= physicsDeltaTime) {
+            System.arraycopy(currentRigOutputs, 0, previousRigOutputs, 0, rig.outputCount * capacity);
+
+            // Calculate the input at the timing to update the particles by linear interpolation with the input caches and the parameter values.
+            final float inputWeight = physicsDeltaTime / currentRemainTime;
+            for (int k = 0; k < count; k++) {
+                final float[] values = parameterValues[k];
+                final float[] caches = parameterCaches[k];
+                final float[] inputCaches = parameterInputCaches[k];
+
+                for (int j = 0; j < caches.length; j++) {
+                    caches[j] = inputCaches[j] * (1.0f - inputWeight) + values[j] * inputWeight;
+                    inputCaches[j] = caches[j];
+                }
+            }
+
+            for (int settingIndex = 0; settingIndex < rig.subRigCount; settingIndex++) {
+                evaluateSubRig(settingIndex, physicsDeltaTime);
+            }
+
+            currentRemainTime -= physicsDeltaTime;
+        }
+
+        final float alpha = Math.min(currentRemainTime / physicsDeltaTime, 1.0f);
+        for (int k = 0; k < count; k++) {
+            interpolate(k, alpha);
+        }
+    }
+
+    /**
+     * Set an option. It is applied to all the instances.
+     *
+     * @param options a physics operation of option
+     */
+    public void setOptions(CubismPhysics.Options options) {
+        if (options == null) {
+            return;
+        }
+        this.options = options;
+    }
+
+    /**
+     * Get the option.
+     *
+     * @return the option
+     */
+    public CubismPhysics.Options getOptions() {
+        return options;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param rig physics rig shared by the instances
+     */
+    private CubismPhysicsBatch(CubismPhysicsRig rig) {
+        this.rig = rig;
+
+        options.gravity.set(0.0f, -1.0f);
+        options.wind.setZero();
+
+        setCapacity(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Allocate an instance for the model and resolve its parameter indices.
+     *
+     * @param model model to which the results of physics operation are applied
+     * @return the index of the instance
+     */
+    private int addInstance(CubismModel model) {
+        if (model == null) {
+            throw new IllegalArgumentException("model is null.");
+        }
+        // 同じモデルに2つのインスタンスの結果が書き込まれないようにする
+        if (indexOf(model) != -1) {
+            throw new IllegalArgumentException("The model is already added to the batch.");
+        }
+
+        if (instanceCount == capacity) {
+            setCapacity(capacity * 2);
+        }
+
+        final int index = instanceCount++;
+        final CubismPhysicsRigState state = new CubismPhysicsRigState(rig, false);
+        CubismPhysicsFunctions.resolveParameterIndices(rig, state, model);
+
+        models[index] = model;
+        states[index] = state;
+        parameterCaches[index] = null;
+        parameterInputCaches[index] = null;
+
+        return index;
+    }
+
+    /**
+     * Get the index of the instance of the model.
+     *
+     * @param model model to find
+     * @return the index of the instance, or -1 if the model is not in the batch
+     */
+    private int indexOf(CubismModel model) {
+        for (int i = 0; i < instanceCount; i++) {
+            if (models[i] == model) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Change the number of the columns of the arrays, keeping the instances.
+     *
+     * @param newCapacity new number of the columns
+     */
+    private void setCapacity(int newCapacity) {
+        particlePositionXs = resizeColumns(particlePositionXs, rig.particleCount, newCapacity);
+        particlePositionYs = resizeColumns(particlePositionYs, rig.particleCount, newCapacity);
+        particleLastPositionXs = resizeColumns(particleLastPositionXs, rig.particleCount, newCapacity);
+        particleLastPositionYs = resizeColumns(particleLastPositionYs, rig.particleCount, newCapacity);
+        particleLastGravityXs = resizeColumns(particleLastGravityXs, rig.particleCount, newCapacity);
+        particleLastGravityYs = resizeColumns(particleLastGravityYs, rig.particleCount, newCapacity);
+        particleVelocityXs = resizeColumns(particleVelocityXs, rig.particleCount, newCapacity);
+        particleVelocityYs = resizeColumns(particleVelocityYs, rig.particleCount, newCapacity);
+        currentRigOutputs = resizeColumns(currentRigOutputs, rig.outputCount, newCapacity);
+        previousRigOutputs = resizeColumns(previousRigOutputs, rig.outputCount, newCapacity);
+
+        totalTranslationXs = new float[newCapacity];
+        totalTranslationYs = new float[newCapacity];
+        currentGravityXs = new float[newCapacity];
+        currentGravityYs = new float[newCapacity];
+
+        models = Arrays.copyOf(models, newCapacity);
+        states = Arrays.copyOf(states, newCapacity);
+        parameterCaches = Arrays.copyOf(parameterCaches, newCapacity);
+        parameterInputCaches = Arrays.copyOf(parameterInputCaches, newCapacity);
+        parameterValues = Arrays.copyOf(parameterValues, newCapacity);
+        parameterMinimumValues = Arrays.copyOf(parameterMinimumValues, newCapacity);
+        parameterMaximumValues = Arrays.copyOf(parameterMaximumValues, newCapacity);
+
+        capacity = newCapacity;
+    }
+
+    /**
+     * Copy the instances of an array to a new array with a different number of the columns.
+     *
+     * @param values source array. It may be null.
+     * @param rowCount number of the rows
+     * @param newCapacity new number of the columns
+     * @return the new array
+     */
+    private float[] resizeColumns(float[] values, int rowCount, int newCapacity) {
+        final float[] result = new float[rowCount * newCapacity];
+
+        if (values != null) {
+            for (int row = 0; row < rowCount; row++) {
+                System.arraycopy(values, row * capacity, result, row * newCapacity, instanceCount);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Evaluate a sub-rig of all the instances for one physics step.
+     *
+     * @param settingIndex index of the sub-rig
+     * @param physicsDeltaTime delta time of a physics step[s]
+     */
+    private void evaluateSubRig(int settingIndex, float physicsDeltaTime) {
+        final CubismPhysicsRig rig = this.rig;
+        final CubismPhysicsSubRig currentSetting = rig.settings[settingIndex];
+        final int count = instanceCount;
+        final int capacity = this.capacity;
+
+        final int baseInputIndex = currentSetting.baseInputIndex;
+        final int baseOutputIndex = currentSetting.baseOutputIndex;
+        final int baseParticleIndex = currentSetting.baseParticleIndex;
+
+        // Load input parameters.
+        for (int k = 0; k < count; k++) {
+            final CubismPhysicsRigState state = states[k];
+            final float[] caches = parameterCaches[k];
+
+            float totalAngle = 0.0f;
+            float totalTranslationX = 0.0f;
+            float totalTranslationY = 0.0f;
+
+            for (int i = 0; i < currentSetting.inputCount; i++) {
+                final int inputIndex = baseInputIndex + i;
+                final float normalizedValue = CubismPhysicsFunctions.normalizeParameterValue(
+                    rig,
+                    state,
+                    inputIndex,
+                    caches[state.inputSourceParameterIndices[inputIndex]]
+                );
+
+                switch (rig.inputTypes[inputIndex]) {
+                    case X:
+                        totalTranslationX += normalizedValue;
+                        break;
+                    case Y:
+                        totalTranslationY += normalizedValue;
+                        break;
+                    case ANGLE:
+                        totalAngle += normalizedValue;
+                        break;
+                }
+            }
+
+            final float radAngle = CubismMath.degreesToRadian(-totalAngle);
+            final float cosAngle = CubismMath.cosF(radAngle);
+            final float sinAngle = CubismMath.sinF(radAngle);
+
+            totalTranslationX = (totalTranslationX * cosAngle - totalTranslationY * sinAngle);
+            totalTranslationY = (totalTranslationX * sinAngle + totalTranslationY * cosAngle);
+
+            totalTranslationXs[k] = totalTranslationX;
+            totalTranslationYs[k] = totalTranslationY;
+
+            final float totalRadian = CubismMath.degreesToRadian(totalAngle);
+            float currentGravityX = CubismMath.sinF(totalRadian);
+            float currentGravityY = CubismMath.cosF(totalRadian);
+            final float gravityLength = (float) (Math.pow((currentGravityX * currentGravityX) + (currentGravityY * currentGravityY), 0.5f));
+            currentGravityXs[k] = currentGravityX / gravityLength;
+            currentGravityYs[k] = currentGravityY / gravityLength;
+        }
+
+        updateParticles(currentSetting, physicsDeltaTime);
+
+        // Update output parameters.
+        for (int k = 0; k < count; k++) {
+            final CubismPhysicsRigState state = states[k];
+
+            for (int i = 0; i < currentSetting.outputCount; i++) {
+                final int outputIndex = baseOutputIndex + i;
+                final int particleIndex = rig.outputVertexIndices[outputIndex];
+
+                if (particleIndex < 1 || particleIndex >= currentSetting.particleCount) {
+                    continue;
+                }
+
+                final int destinationParameterIndex = state.outputDestinationParameterIndices[outputIndex];
+                final int current = (baseParticleIndex + particleIndex) * capacity + k;
+                final int previous = current - capacity;
+                final float translationX = particlePositionXs[current] - particlePositionXs[previous];
+                final float translationY = particlePositionYs[current] - particlePositionYs[previous];
+
+                final float outputValue = getOutputValue(outputIndex, translationX, translationY, previous, particleIndex);
+                currentRigOutputs[outputIndex * capacity + k] = outputValue;
+
+                CubismPhysics.updateOutputParameterValue(
+                    parameterCaches[k],
+                    destinationParameterIndex,
+                    parameterMinimumValues[k][destinationParameterIndex],
+                    parameterMaximumValues[k][destinationParameterIndex],
+                    outputValue,
+                    rig,
+                    state,
+                    outputIndex
+                );
+            }
+        }
+    }
+
+    /**
+     * Update the particles of a sub-rig of all the instances.
+     * The base particles are moved to the translations in totalTranslationXs and totalTranslationYs, and the gravities are given by currentGravityXs and currentGravityYs.
+     *
+     * @param currentSetting the sub-rig
+     * @param deltaTimeSeconds delta time[s]
+     */
+    private void updateParticles(CubismPhysicsSubRig currentSetting, float deltaTimeSeconds) {
+        final CubismPhysicsRig rig = this.rig;
+        final int count = instanceCount;
+        final int capacity = this.capacity;
+        final int baseParticleIndex = currentSetting.baseParticleIndex;
+        final float thresholdValue = CubismPhysics.MOVEMENT_THRESHOLD * currentSetting.normalizationPosition.maximumValue;
+        final float windX = options.wind.x;
+        final float windY = options.wind.y;
+
+        final float[] positionXs = particlePositionXs;
+        final float[] positionYs = particlePositionYs;
+        final float[] lastPositionXs = particleLastPositionXs;
+        final float[] lastPositionYs = particleLastPositionYs;
+        final float[] lastGravityXs = particleLastGravityXs;
+        final float[] lastGravityYs = particleLastGravityYs;
+        final float[] velocityXs = particleVelocityXs;
+        final float[] velocityYs = particleVelocityYs;
+        final float[] gravityXs = currentGravityXs;
+        final float[] gravityYs = currentGravityYs;
+
+        System.arraycopy(totalTranslationXs, 0, positionXs, baseParticleIndex * capacity, count);
+        System.arraycopy(totalTranslationYs, 0, positionYs, baseParticleIndex * capacity, count);
+
+        for (int i = 1; i < currentSetting.particleCount; i++) {
+            final int particle = baseParticleIndex + i;
+            final int row = particle * capacity;
+            final int previousRow = row - capacity;
+
+            final float acceleration = rig.particleAccelerations[particle];
+            final float radius = rig.particleRadii[particle];
+            final float mobility = rig.particleMobilities[particle];
+            final float delay = rig.particleDelays[particle] * deltaTimeSeconds * 30.0f;
+
+            for (int k = 0; k < count; k++) {
+                final int x = row + k;
+                final int previous = previousRow + k;
+                final float currentGravityX = gravityXs[k];
+                final float currentGravityY = gravityYs[k];
+
+                final float lastPositionX = positionXs[x];
+                final float lastPositionY = positionYs[x];
+                lastPositionXs[x] = lastPositionX;
+                lastPositionYs[x] = lastPositionY;
+
+                final float forceX = currentGravityX * acceleration + windX;
+                final float forceY = currentGravityY * acceleration + windY;
+
+                float directionX = lastPositionX - positionXs[previous];
+                float directionY = lastPositionY - positionYs[previous];
+
+                final float radian = CubismPhysicsFunctions.directionToRadian(lastGravityXs[x], lastGravityYs[x], currentGravityX, currentGravityY) / CubismPhysics.AIR_RESISTANCE;
+                final float cosRadian = CubismMath.cosF(radian);
+                final float sinRadian = CubismMath.sinF(radian);
+
+                directionX = ((cosRadian * directionX) - (sinRadian * directionY));
+                directionY = ((sinRadian * directionX) + (directionY * cosRadian));
+
+                float positionX = positionXs[previous] + directionX;
+                float positionY = positionYs[previous] + directionY;
+
+                positionX = positionX + velocityXs[x] * delay + forceX * delay * delay;
+                positionY = positionY + velocityYs[x] * delay + forceY * delay * delay;
+
+                float newDirectionX = positionX - positionXs[previous];
+                float newDirectionY = positionY - positionYs[previous];
+                final float length = (float) (Math.pow((newDirectionX * newDirectionX) + (newDirectionY * newDirectionY), 0.5f));
+                newDirectionX /= length;
+                newDirectionY /= length;
+
+                positionX = positionXs[previous] + (newDirectionX * radius);
+                positionY = positionYs[previous] + (newDirectionY * radius);
+
+                if (CubismMath.absF(positionX) < thresholdValue) {
+                    positionX = 0.0f;
+                }
+
+                positionXs[x] = positionX;
+                positionYs[x] = positionY;
+
+                if (delay != 0.0f) {
+                    velocityXs[x] = (positionX - lastPositionX) / delay * mobility;
+                    velocityYs[x] = (positionY - lastPositionY) / delay * mobility;
+                }
+                lastGravityXs[x] = currentGravityX;
+                lastGravityYs[x] = currentGravityY;
+            }
+        }
+    }
+
+    /**
+     * Get the value of the output from the translation of the particle.
+     *
+     * @param outputIndex index of the output in the rig
+     * @param translationX X component of the translation of the particle
+     * @param translationY Y component of the translation of the particle
+     * @param previous index of the previous particle of the instance in the particle arrays
+     * @param particleIndex particle index in the strand
+     * @return the value of the output
+     */
+    private float getOutputValue(int outputIndex, float translationX, float translationY, int previous, int particleIndex) {
+        final boolean isInverted = rig.outputReflects[outputIndex];
+        float outputValue;
+
+        switch (rig.outputTypes[outputIndex]) {
+            case X:
+                outputValue = translationX;
+                break;
+            case Y:
+                outputValue = translationY;
+                break;
+            case ANGLE: {
+                float gravityX = options.gravity.x;
+                float gravityY = options.gravity.y;
+
+                if (particleIndex >= 2) {
+                    final int beforePrevious = previous - capacity;
+                    gravityX = particlePositionXs[previous] - particlePositionXs[beforePrevious];
+                    gravityY = particlePositionYs[previous] - particlePositionYs[beforePrevious];
+                } else {
+                    gravityX *= -1.0f;
+                    gravityY *= -1.0f;
+                }
+
+                outputValue = CubismPhysicsFunctions.directionToRadian(gravityX, gravityY, translationX, translationY);
+                break;
+            }
+            default:
+                return 0.0f;
+        }
+
+        if (isInverted) {
+            outputValue *= -1.0f;
+        }
+
+        return outputValue;
+    }
+
+    /**
+     * Apply the results of the pendulum calculation of an instance interpolated with the given weight to its model.
+     *
+     * @param index index of the instance
+     * @param weight weight of the latest result
+     */
+    private void interpolate(int index, float weight) {
+        final CubismModel model = models[index];
+        final CubismPhysicsRigState state = states[index];
+        final int[] outputDestinationParameterIndices = state.outputDestinationParameterIndices;
+        final float[] values = parameterValues[index];
+        final float[] minimumValues = parameterMinimumValues[index];
+        final float[] maximumValues = parameterMaximumValues[index];
+        final int capacity = this.capacity;
+
+        for (int outputIndex = 0; outputIndex < rig.outputCount; outputIndex++) {
+            final int destinationParameterIndex = outputDestinationParameterIndices[outputIndex];
+
+            if (destinationParameterIndex == -1) {
+                continue;
+            }
+
+            final float parameterValue = values[destinationParameterIndex];
+            final int column = outputIndex * capacity + index;
+
+            CubismPhysics.updateOutputParameterValue(
+                values,
+                destinationParameterIndex,
+                minimumValues[destinationParameterIndex],
+                maximumValues[destinationParameterIndex],
+                previousRigOutputs[column] * (1 - weight) + currentRigOutputs[column] * weight,
+                rig,
+                state,
+                outputIndex
+            );
+
+            if (values[destinationParameterIndex] != parameterValue) {
+                model.markParameterValueChanged(destinationParameterIndex);
+            }
+        }
+    }
+
+    /**
+     * Number of the columns allocated first
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Physics rig shared by the instances
+     */
+    private final CubismPhysicsRig rig;
+    /**
+     * Options shared by the instances
+     */
+    private CubismPhysics.Options options = new CubismPhysics.Options();
+    /**
+     * Number of the instances
+     */
+    private int instanceCount;
+    /**
+     * Number of the columns of the arrays
+     */
+    private int capacity;
+    /**
+     * Time not yet processed by the physics steps[s]. The instances are stepped at the same time.
+     */
+    private float currentRemainTime;
+
+    /**
+     * Models of the instances
+     */
+    private CubismModel[] models = new CubismModel[0];
+    /**
+     * Parameter indices and compiled inputs of the instances. Their particle arrays are empty.
+     */
+    private CubismPhysicsRigState[] states = new CubismPhysicsRigState[0];
+    /**
+     * Parameter caches of the instances. Null until the first evaluation.
+     */
+    private float[][] parameterCaches = new float[0][];
+    /**
+     * Parameter input caches of the instances. Null until the first evaluation.
+     */
+    private float[][] parameterInputCaches = new float[0][];
+    /**
+     * Parameter values of the models fetched in the evaluation
+     */
+    private float[][] parameterValues = new float[0][];
+    /**
+     * Minimum values of the parameters of the models fetched in the evaluation
+     */
+    private float[][] parameterMinimumValues = new float[0][];
+    /**
+     * Maximum values of the parameters of the models fetched in the evaluation
+     */
+    private float[][] parameterMaximumValues = new float[0][];
+
+    /**
+     * X components of the current positions of the particles. The column of instance k of particle p is at [p * capacity + k].
+     */
+    private float[] particlePositionXs;
+    /**
+     * Y components of the current positions of the particles
+     */
+    private float[] particlePositionYs;
+    /**
+     * X components of the last positions of the particles
+     */
+    private float[] particleLastPositionXs;
+    /**
+     * Y components of the last positions of the particles
+     */
+    private float[] particleLastPositionYs;
+    /**
+     * X components of the last gravities of the particles
+     */
+    private float[] particleLastGravityXs;
+    /**
+     * Y components of the last gravities of the particles
+     */
+    private float[] particleLastGravityYs;
+    /**
+     * X components of the velocities of the particles
+     */
+    private float[] particleVelocityXs;
+    /**
+     * Y components of the velocities of the particles
+     */
+    private float[] particleVelocityYs;
+    /**
+     * Latest results of the pendulum calculation. The column of instance k of output o is at [o * capacity + k].
+     */
+    private float[] currentRigOutputs;
+    /**
+     * Previous results of the pendulum calculation
+     */
+    private float[] previousRigOutputs;
+
+    /**
+     * X components of the translations of the base particles of the sub-rig being evaluated
+     */
+    private float[] totalTranslationXs;
+    /**
+     * Y components of the translations of the base particles of the sub-rig being evaluated
+     */
+    private float[] totalTranslationYs;
+    /**
+     * X components of the gravities of the sub-rig being evaluated
+     */
+    private float[] currentGravityXs;
+    /**
+     * Y components of the gravities of the sub-rig being evaluated
+     */
+    private float[] currentGravityYs;
+}
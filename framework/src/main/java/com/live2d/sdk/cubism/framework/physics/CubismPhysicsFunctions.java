@@ -10,258 +10,225 @@
 package com.live2d.sdk.cubism.framework.physics;
 
 import com.live2d.sdk.cubism.framework.math.CubismMath;
-import com.live2d.sdk.cubism.framework.math.CubismVector2;
-import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.NormalizedPhysicsParameterValueGetter;
-import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.PhysicsScaleGetter;
-import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.PhysicsValueGetter;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
 
-import java.util.List;
+import static com.live2d.sdk.cubism.framework.math.CubismMath.PI;
 
 /**
  * This is the set of algorithms used in CubismPhysics class.
  * <p>
- * In Cubism SDK for Java Framework's CubismPhysics, employs a design pattern called the "Strategy Pattern". This class is a collection of those 'strategies'.
+ * The functions take the components of vectors as primitive values so that the physics operation can work on the flat arrays of CubismPhysicsRig.
  */
 class CubismPhysicsFunctions {
-    public static class GetInputTranslationXFromNormalizedParameterValue implements NormalizedPhysicsParameterValueGetter {
-        @Override
-        public void getNormalizedParameterValue(
-            CubismVector2 targetTranslation,
-            float[] targetAngle,
-            float value,
-            float parameterMinimumValue,
-            float parameterMaximumValue,
-            float parameterDefaultValue,
-            CubismPhysicsInternal.CubismPhysicsNormalization normalizationPosition,
-            CubismPhysicsInternal.CubismPhysicsNormalization normalizationAngle,
-            boolean isInverted,
-            float weight
-        ) {
-            targetTranslation.x += normalizeParameterValue(
-                value,
-                parameterMinimumValue,
-                parameterMaximumValue,
-                parameterDefaultValue,
-                normalizationPosition.minimumValue,
-                normalizationPosition.maximumValue,
-                normalizationPosition.defaultValue,
-                isInverted
-            ) * weight;
-        }
-    }
-
-    public static class GetInputTranslationYFromNormalizedParameterValue implements NormalizedPhysicsParameterValueGetter {
-        @Override
-        public void getNormalizedParameterValue(
-            CubismVector2 targetTranslation,
-            float[] targetAngle,
-            float value,
-            float parameterMinimumValue,
-            float parameterMaximumValue,
-            float parameterDefaultValue,
-            CubismPhysicsInternal.CubismPhysicsNormalization normalizationPosition,
-            CubismPhysicsInternal.CubismPhysicsNormalization normalizationAngle,
-            boolean isInverted,
-            float weight
-        ) {
-            targetTranslation.y += normalizeParameterValue(
-                value,
-                parameterMinimumValue,
-                parameterMaximumValue,
-                parameterDefaultValue,
-                normalizationPosition.minimumValue,
-                normalizationPosition.maximumValue,
-                normalizationPosition.defaultValue,
-                isInverted
-            ) * weight;
-        }
-    }
-
-    public static class GetInputAngleFromNormalizedParameterValue implements NormalizedPhysicsParameterValueGetter {
-        @Override
-        public void getNormalizedParameterValue(
-            CubismVector2 targetTranslation,
-            float[] targetAngle,
-            float value,
-            float parameterMinimumValue,
-            float parameterMaximumValue,
-            float parameterDefaultValue,
-            CubismPhysicsInternal.CubismPhysicsNormalization normalizationPosition,
-            CubismPhysicsInternal.CubismPhysicsNormalization normalizationAngle,
-            boolean isInverted,
-            float weight
-        ) {
-            targetAngle[0] += normalizeParameterValue(
-                value,
-                parameterMinimumValue,
-                parameterMaximumValue,
-                parameterDefaultValue,
-                normalizationAngle.minimumValue,
-                normalizationAngle.maximumValue,
-                normalizationAngle.defaultValue,
-                isInverted
-            ) * weight;
-        }
-    }
-
-    public static class GetOutputTranslationX implements PhysicsValueGetter {
-        @Override
-        public float getValue(
-            CubismVector2 translation,
-            List<CubismPhysicsInternal.CubismPhysicsParticle> particles,
-            int baseParticleIndex,
-            int particleIndex,
-            boolean isInverted,
-            CubismVector2 parentGravity
-        ) {
-            float outputValue = translation.x;
-
-            if (isInverted) {
-                outputValue *= -1.0f;
+    /**
+     * Resolve the parameter indices of the inputs and the outputs which have not been resolved yet.
+     * They are resolved in the order of the sub-rigs, as the serial evaluation does.
+     * The normalization of an input is compiled with the range of the parameter when the index is resolved.
+     *
+     * @param rig physics rig
+     * @param state state of the physics operation to which the indices are set
+     * @param model model to which the results of physics operation are applied
+     */
+    static void resolveParameterIndices(
+        CubismPhysicsInternal.CubismPhysicsRig rig,
+        CubismPhysicsInternal.CubismPhysicsRigState state,
+        CubismModel model
+    ) {
+        for (int settingIndex = 0; settingIndex < rig.subRigCount; settingIndex++) {
+            final CubismPhysicsInternal.CubismPhysicsSubRig currentSetting = rig.settings[settingIndex];
+
+            for (int i = 0; i < currentSetting.inputCount; i++) {
+                final int inputIndex = currentSetting.baseInputIndex + i;
+
+                if (state.inputSourceParameterIndices[inputIndex] == -1) {
+                    final int parameterIndex = model.getParameterIndex(rig.inputSourceIds[inputIndex]);
+                    state.inputSourceParameterIndices[inputIndex] = parameterIndex;
+
+                    if (parameterIndex < model.getParameterCount()) {
+                        compileInput(
+                            state,
+                            inputIndex,
+                            rig.inputTypes[inputIndex] == CubismPhysicsInternal.CubismPhysicsSource.ANGLE ? currentSetting.normalizationAngle : currentSetting.normalizationPosition,
+                            model.getModel().getParameters().getMinimumValues()[parameterIndex],
+                            model.getModel().getParameters().getMaximumValues()[parameterIndex]
+                        );
+                    }
+                }
             }
 
-            return outputValue;
-        }
-    }
+            for (int i = 0; i < currentSetting.outputCount; i++) {
+                final int outputIndex = currentSetting.baseOutputIndex + i;
 
-    public static class GetOutputTranslationY implements PhysicsValueGetter {
-        @Override
-        public float getValue(
-            CubismVector2 translation,
-            List<CubismPhysicsInternal.CubismPhysicsParticle> particles,
-            int baseParticleIndex,
-            int particleIndex,
-            boolean isInverted,
-            CubismVector2 parentGravity
-        ) {
-            float outputValue = translation.y;
-
-            if (isInverted) {
-                outputValue *= -1.0f;
+                if (state.outputDestinationParameterIndices[outputIndex] == -1) {
+                    state.outputDestinationParameterIndices[outputIndex] = model.getParameterIndex(rig.outputDestinationIds[outputIndex]);
+                }
             }
-
-            return outputValue;
         }
     }
 
-    public static class GetOutputAngle implements PhysicsValueGetter {
-        @Override
-        public float getValue(
-            CubismVector2 translation,
-            List<CubismPhysicsInternal.CubismPhysicsParticle> particles,
-            int baseParticleIndex,
-            int particleIndex,
-            boolean isInverted,
-            CubismVector2 parentGravity
-        ) {
-            float outputValue;
-            tmpGravity.x = parentGravity.x;
-            tmpGravity.y = parentGravity.y;
-
-            if (particleIndex >= 2) {
-                tmpGravity.x = particles.get(baseParticleIndex + particleIndex - 1).position.x - particles.get(baseParticleIndex + particleIndex - 2).position.x;
-                tmpGravity.y = particles.get(baseParticleIndex + particleIndex - 1).position.y - particles.get(baseParticleIndex + particleIndex - 2).position.y;
-
-            } else {
-                tmpGravity.multiply(-1.0f);
-            }
-
-            outputValue = CubismMath.directionToRadian(tmpGravity, translation);
-
-            if (isInverted) {
-                outputValue *= -1.0f;
-            }
-
-            return outputValue;
-        }
-    }
+    /**
+     * Precompute the normalization of an input for the range of its source parameter.
+     * The results are stored in the compiled input arrays of the state, and used by {@link #normalizeParameterValue(CubismPhysicsInternal.CubismPhysicsRig, CubismPhysicsInternal.CubismPhysicsRigState, int, float)}.
+     *
+     * @param state state of the physics operation
+     * @param inputIndex index of the input in the rig
+     * @param normalization normalization of the input type
+     * @param parameterMinimum the minimum value of the parameter
+     * @param parameterMaximum the maximum value of the parameter
+     */
+    static void compileInput(
+        CubismPhysicsInternal.CubismPhysicsRigState state,
+        int inputIndex,
+        CubismPhysicsInternal.CubismPhysicsNormalization normalization,
+        float parameterMinimum,
+        float parameterMaximum
+    ) {
+        final float maxValue = Math.max(parameterMaximum, parameterMinimum);
+        final float minValue = Math.min(parameterMaximum, parameterMinimum);
 
-    private static final CubismVector2 tmpGravity = new CubismVector2();
+        final float minNormValue = Math.min(normalization.minimumValue, normalization.maximumValue);
+        final float maxNormValue = Math.max(normalization.minimumValue, normalization.maximumValue);
+        final float middleNormValue = normalization.defaultValue;
 
-    public static class GetOutputScaleTranslationX implements PhysicsScaleGetter {
-        @Override
-        public float getScale(CubismVector2 translationScale, float angleScale) {
-            return translationScale.x;
-        }
-    }
+        final float middleValue = getDefaultValue(minValue, maxValue);
 
-    public static class GetOutputScaleTranslationY implements PhysicsScaleGetter {
-        @Override
-        public float getScale(CubismVector2 translationScale, float angleScale) {
-            return translationScale.y;
+        state.inputParameterMinimums[inputIndex] = minValue;
+        state.inputParameterMaximums[inputIndex] = maxValue;
+        state.inputParameterMiddles[inputIndex] = middleValue;
+        state.inputNormalizedMiddles[inputIndex] = middleNormValue;
+
+        // If the length of the range is 0, the normalized value is 0.
+        final float positiveLength = maxValue - middleValue;
+        if (positiveLength != 0.0f) {
+            state.inputPositiveScales[inputIndex] = (maxNormValue - middleNormValue) / positiveLength;
+            state.inputPositiveOffsets[inputIndex] = middleNormValue;
+        } else {
+            state.inputPositiveScales[inputIndex] = 0.0f;
+            state.inputPositiveOffsets[inputIndex] = 0.0f;
         }
-    }
 
-    public static class GetOutputScaleAngle implements PhysicsScaleGetter {
-        @Override
-        public float getScale(CubismVector2 translationScale, float angleScale) {
-            return angleScale;
+        final float negativeLength = minValue - middleValue;
+        if (negativeLength != 0.0f) {
+            state.inputNegativeScales[inputIndex] = (minNormValue - middleNormValue) / negativeLength;
+            state.inputNegativeOffsets[inputIndex] = middleNormValue;
+        } else {
+            state.inputNegativeScales[inputIndex] = 0.0f;
+            state.inputNegativeOffsets[inputIndex] = 0.0f;
         }
     }
 
-    private static float normalizeParameterValue(
-        float value,
-        float parameterMinimum,
-        float parameterMaximum,
-        float parameterDefault,
-        float normalizedMinimum,
-        float normalizedMaximum,
-        float normalizedDefault,
-        boolean isInverted
+    /**
+     * Normalize the value of the input parameter with the compiled input, and apply the reflection and the weight of the input.
+     *
+     * @param rig physics rig
+     * @param state state of the physics operation
+     * @param inputIndex index of the input in the rig
+     * @param value the value of the parameter
+     * @return the normalized and weighted value
+     */
+    static float normalizeParameterValue(
+        CubismPhysicsInternal.CubismPhysicsRig rig,
+        CubismPhysicsInternal.CubismPhysicsRigState state,
+        int inputIndex,
+        float value
     ) {
-        float result = 0.0f;
-
-        final float maxValue = Math.max(parameterMaximum, parameterMinimum);
+        final float maxValue = state.inputParameterMaximums[inputIndex];
 
         if (maxValue < value) {
             value = maxValue;
         }
 
-        final float minValue = Math.min(parameterMaximum, parameterMinimum);
+        final float minValue = state.inputParameterMinimums[inputIndex];
 
         if (minValue > value) {
             value = minValue;
         }
 
-        final float minNormValue = Math.min(normalizedMinimum, normalizedMaximum);
-        final float maxNormValue = Math.max(normalizedMinimum, normalizedMaximum);
-        final float middleNormValue = normalizedDefault;
+        final float paramValue = value - state.inputParameterMiddles[inputIndex];
+        float result;
 
-        final float middleValue = getDefaultValue(minValue, maxValue);
-        final float paramValue = value - middleValue;
+        if (paramValue > 0.0f) {
+            result = paramValue * state.inputPositiveScales[inputIndex] + state.inputPositiveOffsets[inputIndex];
+        } else if (paramValue < 0.0f) {
+            result = paramValue * state.inputNegativeScales[inputIndex] + state.inputNegativeOffsets[inputIndex];
+        } else {
+            result = state.inputNormalizedMiddles[inputIndex];
+        }
+
+        return result * rig.inputFactors[inputIndex];
+    }
+
+    /**
+     * Get the output value of the angle.
+     *
+     * @param translationX X component of the translation of the particle
+     * @param translationY Y component of the translation of the particle
+     * @param particlePositions positions of the particles
+     * @param baseParticleIndex first index of the particles of the sub-rig
+     * @param particleIndex particle index in the sub-rig
+     * @param isInverted whether the value is inverted
+     * @param parentGravityX X component of the gravity
+     * @param parentGravityY Y component of the gravity
+     * @return the output value
+     */
+    static float getOutputAngle(
+        float translationX,
+        float translationY,
+        float[] particlePositions,
+        int baseParticleIndex,
+        int particleIndex,
+        boolean isInverted,
+        float parentGravityX,
+        float parentGravityY
+    ) {
+        float outputValue;
+        float gravityX = parentGravityX;
+        float gravityY = parentGravityY;
+
+        if (particleIndex >= 2) {
+            final int previous = (baseParticleIndex + particleIndex - 1) * 2;
+            final int beforePrevious = (baseParticleIndex + particleIndex - 2) * 2;
+            gravityX = particlePositions[previous] - particlePositions[beforePrevious];
+            gravityY = particlePositions[previous + 1] - particlePositions[beforePrevious + 1];
+        } else {
+            gravityX *= -1.0f;
+            gravityY *= -1.0f;
+        }
 
+        outputValue = directionToRadian(gravityX, gravityY, translationX, translationY);
 
-        switch ((int) Math.signum(paramValue)) {
-            case 1: {
-                final float nLength = maxNormValue - middleNormValue;
-                final float pLength = maxValue - middleValue;
+        if (isInverted) {
+            outputValue *= -1.0f;
+        }
 
-                if (pLength != 0.0f) {
-                    result = paramValue * (nLength / pLength);
-                    result += middleNormValue;
-                }
-                break;
-            }
-            case -1: {
-                final float nLength = minNormValue - middleNormValue;
-                final float pLength = minValue - middleValue;
+        return outputValue;
+    }
 
-                if (pLength != 0.0f) {
-                    result = paramValue * (nLength / pLength);
-                    result += middleNormValue;
-                }
-                break;
-            }
-            case 0: {
-                result = middleNormValue;
-                break;
-            }
-            default: {
-                break;
-            }
+    /**
+     * Calculate a radian value from two vectors.
+     * This is the same calculation as {@link CubismMath#directionToRadian(com.live2d.sdk.cubism.framework.math.CubismVector2, com.live2d.sdk.cubism.framework.math.CubismVector2)}.
+     *
+     * @param fromX X component of the vector of a starting point
+     * @param fromY Y component of the vector of a starting point
+     * @param toX X component of the vector of an end point
+     * @param toY Y component of the vector of an end point
+     * @return radian value
+     */
+    static float directionToRadian(float fromX, float fromY, float toX, float toY) {
+        float q1 = (float) Math.atan2(toY, toX);
+        float q2 = (float) Math.atan2(fromY, fromX);
+
+        float radian = q1 - q2;
+
+        while (radian < -PI) {
+            radian += PI * 2.0f;
         }
-        return (isInverted) ? result
-                            : (result * (-1.0f));
+
+        while (radian > PI) {
+            radian -= PI * 2.0f;
+        }
+
+        return radian;
     }
 
     private static float getRangeValue(float min, float max) {
@@ -10,8 +10,7 @@ package com.live2d.sdk.cubism.framework.physics;
 import com.live2d.sdk.cubism.framework.id.CubismId;
 import com.live2d.sdk.cubism.framework.math.CubismVector2;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Internal data of CubismPhysics.
@@ -91,52 +90,6 @@ public class CubismPhysicsInternal {
         public float defaultValue;
     }
 
-    /**
-     * Information on a particle used for physics operations.
-     */
-    public static class CubismPhysicsParticle {
-        /**
-         * Initial position
-         */
-        public CubismVector2 initialPosition = new CubismVector2();
-        /**
-         * Mobility
-         */
-        public float mobility;
-        /**
-         * Delay
-         */
-        public float delay;
-        /**
-         * Acceleration
-         */
-        public float acceleration;
-        /**
-         * Distance
-         */
-        public float radius;
-        /**
-         * Current position
-         */
-        public CubismVector2 position = new CubismVector2();
-        /**
-         * Last position
-         */
-        public CubismVector2 lastPosition = new CubismVector2();
-        /**
-         * Last gravity
-         */
-        public CubismVector2 lastGravity = new CubismVector2();
-        /**
-         * Current force
-         */
-        public CubismVector2 force = new CubismVector2();
-        /**
-         * Current velocity
-         */
-        public CubismVector2 velocity = new CubismVector2();
-    }
-
     /**
      * Manager of phycal points in physics operations.
      */
@@ -176,113 +129,120 @@ public class CubismPhysicsInternal {
     }
 
     /**
-     * Input information for physics operations.
+     * Physics operation data
+     * <p>
+     * The inputs, the outputs and the particles of all the sub-rigs are stored in flat arrays
+     * so that the physics operation can run without following object references.
+     * The vectors of the particles are stored as (x, y) pairs, so the X component of the particle i is at [i * 2] and the Y component is at [i * 2 + 1].
+     * <p>
+     * This is the definition loaded from physics3.json, and is not modified after it is loaded,
+     * so that it can be shared by the CubismPhysics instances. The values changed by the physics operation are held by {@link CubismPhysicsRigState}.
      */
-    public static class CubismPhysicsInput {
+    public static class CubismPhysicsRig {
         /**
-         * Input source parameter
+         * Number of physics point for physics operation
          */
-        public CubismPhysicsParameter source = new CubismPhysicsParameter();
+        public int subRigCount;
         /**
-         * Index of input source parameter
+         * Array of physics point management for physics operation
          */
-        public int sourceParameterIndex;
+        public CubismPhysicsSubRig[] settings;
         /**
-         * Weight
+         * Number of the groups of the sub-rigs which do not depend on each other
          */
-        public float weight;
+        public int subRigGroupCount;
         /**
-         * Type of input
+         * Start positions of the groups in subRigEvaluationOrder. The last element is subRigCount.
          */
-        public CubismPhysicsSource type;
+        public int[] subRigGroupOffsets;
         /**
-         * Whether the value is inverted.
+         * Indices of the sub-rigs sorted by the groups. The order in a group is the order of the sub-rigs.
          */
-        public boolean reflect;
+        public int[] subRigEvaluationOrder;
+
         /**
-         * Function to get normalized parameter values
+         * Number of inputs of all the sub-rigs
          */
-        public NormalizedPhysicsParameterValueGetter getNormalizedParameterValue;
-    }
-
-    /**
-     * Output information for physics operations.
-     */
-    public static class CubismPhysicsOutput {
+        public int inputCount;
         /**
-         * Output destination parameter
+         * IDs of the input source parameters
          */
-        public CubismPhysicsParameter destination = new CubismPhysicsParameter();
+        public CubismId[] inputSourceIds;
         /**
-         * Index of output destination parameter
+         * Weights of the inputs
          */
-        public int destinationParameterIndex;
+        public float[] inputWeights;
         /**
-         * Pendulum index
+         * Types of the inputs
          */
-        public int vertexIndex;
+        public CubismPhysicsSource[] inputTypes;
         /**
-         * transition scale
+         * Whether the values of the inputs are inverted
          */
-        public CubismVector2 transitionScale = new CubismVector2();
+        public boolean[] inputReflects;
         /**
-         * Angle scale
+         * Weights of the inputs with the signs of the reflection
          */
-        public float angleScale;
+        public float[] inputFactors;
+
         /**
-         * Weight
+         * Number of outputs of all the sub-rigs
          */
-        public float weight;
+        public int outputCount;
         /**
-         * Type of output
+         * IDs of the output destination parameters
          */
-        public CubismPhysicsSource type;
+        public CubismId[] outputDestinationIds;
         /**
-         * Whether the value is inverted
+         * Pendulum indices of the outputs
          */
-        public boolean reflect;
+        public int[] outputVertexIndices;
         /**
-         * Value when the value is below the minimum value
+         * Translation scales of the outputs as (x, y) pairs
          */
-        public float valueBelowMinimum;
+        public float[] outputTranslationScales;
         /**
-         * Value when the maximum value is exceeded.
+         * Angle scales of the outputs
          */
-        public float valueExceededMaximum;
+        public float[] outputAngleScales;
         /**
-         * Function to get the value for physics operation.
+         * Weights of the outputs
          */
-        public PhysicsValueGetter getValue;
+        public float[] outputWeights;
         /**
-         * Function to get the scale value for physics operation
+         * Types of the outputs
          */
-        public PhysicsScaleGetter getScale;
-    }
+        public CubismPhysicsSource[] outputTypes;
+        /**
+         * Whether the values of the outputs are inverted
+         */
+        public boolean[] outputReflects;
 
-    /**
-     * Physics operation data
-     */
-    public static class CubismPhysicsRig {
         /**
-         * Number of physics point for physics operation
+         * Number of particles of all the sub-rigs
          */
-        public int subRigCount;
+        public int particleCount;
         /**
-         * List of physics point management for physics operation
+         * Mobilities of the particles
          */
-        public List<CubismPhysicsSubRig> settings = new ArrayList<CubismPhysicsSubRig>();
+        public float[] particleMobilities;
         /**
-         * List of inputs for physics operation
+         * Delays of the particles
          */
-        public List<CubismPhysicsInput> inputs = new ArrayList<CubismPhysicsInput>();
+        public float[] particleDelays;
         /**
-         * List of outputs for physics operation
+         * Accelerations of the particles
          */
-        public List<CubismPhysicsOutput> outputs = new ArrayList<CubismPhysicsOutput>();
+        public float[] particleAccelerations;
         /**
-         * List of particles for physics operation
+         * Distances of the particles
          */
-        public List<CubismPhysicsParticle> particles = new ArrayList<CubismPhysicsParticle>();
+        public float[] particleRadii;
+        /**
+         * Initial positions of the particles
+         */
+        public float[] particleInitialPositions;
+
         /**
          * Gravity
          */
@@ -298,73 +258,120 @@ public class CubismPhysicsInternal {
     }
 
     /**
-     * Functional interface with a function which gets normalized parameters.
+     * State of the physics operation of a CubismPhysics instance
+     * <p>
+     * The arrays are indexed in the same way as the ones of the {@link CubismPhysicsRig} from which the state is created.
      */
-    public interface NormalizedPhysicsParameterValueGetter {
+    public static class CubismPhysicsRigState {
         /**
-         * Get normalized parameters.
+         * Create a state for the rig. The particles are placed at their initial positions, and the parameter indices are not resolved.
          *
-         * @param targetTransition the move value of the calculation result
-         * @param targetAngle the angle of the calculation result
-         * @param value the value of the parameter
-         * @param parameterMinimumValue the minimum value of the parameter
-         * @param parameterMaximumValue the maximum value of the parameter
-         * @param parameterDefaultValue the default value of the parameter
-         * @param normalizationPosition the normalized position
-         * @param normalizationAngle the normalized angle
-         * @param isInverted Whether the value is inverted
-         * @param weight a weight
-         */
-        void getNormalizedParameterValue(
-            CubismVector2 targetTransition,
-            float[] targetAngle,
-            float value,
-            float parameterMinimumValue,
-            float parameterMaximumValue,
-            float parameterDefaultValue,
-            CubismPhysicsNormalization normalizationPosition,
-            CubismPhysicsNormalization normalizationAngle,
-            boolean isInverted,
-            float weight
-        );
-    }
+         * @param rig physics rig
+         */
+        public CubismPhysicsRigState(CubismPhysicsRig rig) {
+            this(rig, true);
+        }
 
-    /**
-     * Functional interface with a function for getting values of physics operations.
-     */
-    public interface PhysicsValueGetter {
         /**
-         * Get values of physics operations.
+         * Create a state for the rig. The parameter indices are not resolved.
          *
-         * @param transition a transition value
-         * @param particles a particles list
-         * @param particleIndex a particle index
-         * @param isInverted Whether the value is inverted
-         * @param parentGravity a gravity
-         * @return the value
-         */
-        float getValue(
-            CubismVector2 transition,
-            List<CubismPhysicsParticle> particles,
-            int baseParticleIndex,
-            int particleIndex,
-            boolean isInverted,
-            CubismVector2 parentGravity
-        );
-    }
+         * @param rig physics rig
+         * @param hasParticles whether the state holds the particles. If false, the particle arrays are empty, as CubismPhysicsBatch holds the particles of its instances by itself.
+         */
+        public CubismPhysicsRigState(CubismPhysicsRig rig, boolean hasParticles) {
+            final int inputCount = rig.inputCount;
+            inputSourceParameterIndices = new int[inputCount];
+            inputParameterMinimums = new float[inputCount];
+            inputParameterMaximums = new float[inputCount];
+            inputParameterMiddles = new float[inputCount];
+            inputPositiveScales = new float[inputCount];
+            inputPositiveOffsets = new float[inputCount];
+            inputNegativeScales = new float[inputCount];
+            inputNegativeOffsets = new float[inputCount];
+            inputNormalizedMiddles = new float[inputCount];
+            Arrays.fill(inputSourceParameterIndices, -1);
+
+            final int outputCount = rig.outputCount;
+            outputDestinationParameterIndices = new int[outputCount];
+            outputValueBelowMinimums = new float[outputCount];
+            outputValueExceededMaximums = new float[outputCount];
+            Arrays.fill(outputDestinationParameterIndices, -1);
+
+            final int particleCount = hasParticles ? rig.particleCount : 0;
+            particlePositions = Arrays.copyOf(rig.particleInitialPositions, particleCount * 2);
+            particleLastPositions = Arrays.copyOf(rig.particleInitialPositions, particleCount * 2);
+            particleLastGravities = new float[particleCount * 2];
+            particleForces = new float[particleCount * 2];
+            particleVelocities = new float[particleCount * 2];
+        }
 
-    /**
-     * Functional interface with a function for getting the scale of physics operations.
-     */
-    public interface PhysicsScaleGetter {
         /**
-         * Get a scale of physics operations.
-         *
-         * @param transitionScale transition scale
-         * @param angleScale angle scale
-         * @return scale value
+         * Indices of the input source parameters. -1 if not resolved yet.
+         */
+        public int[] inputSourceParameterIndices;
+        /**
+         * Minimum values of the ranges of the input source parameters
+         */
+        public float[] inputParameterMinimums;
+        /**
+         * Maximum values of the ranges of the input source parameters
+         */
+        public float[] inputParameterMaximums;
+        /**
+         * Middle values of the ranges of the input source parameters
+         */
+        public float[] inputParameterMiddles;
+        /**
+         * Scales from the parameter values above the middle to the normalized values
+         */
+        public float[] inputPositiveScales;
+        /**
+         * Offsets of the normalized values for the parameter values above the middle
          */
-        float getScale(CubismVector2 transitionScale, float angleScale);
+        public float[] inputPositiveOffsets;
+        /**
+         * Scales from the parameter values below the middle to the normalized values
+         */
+        public float[] inputNegativeScales;
+        /**
+         * Offsets of the normalized values for the parameter values below the middle
+         */
+        public float[] inputNegativeOffsets;
+        /**
+         * Normalized values for the middle values of the parameters
+         */
+        public float[] inputNormalizedMiddles;
+        /**
+         * Indices of the output destination parameters. -1 if not resolved yet.
+         */
+        public int[] outputDestinationParameterIndices;
+        /**
+         * Values of the outputs when the values are below the minimum value
+         */
+        public float[] outputValueBelowMinimums;
+        /**
+         * Values of the outputs when the maximum values are exceeded
+         */
+        public float[] outputValueExceededMaximums;
+        /**
+         * Current positions of the particles
+         */
+        public float[] particlePositions;
+        /**
+         * Last positions of the particles
+         */
+        public float[] particleLastPositions;
+        /**
+         * Last gravities of the particles
+         */
+        public float[] particleLastGravities;
+        /**
+         * Current forces of the particles
+         */
+        public float[] particleForces;
+        /**
+         * Current velocities of the particles
+         */
+        public float[] particleVelocities;
     }
-
 }
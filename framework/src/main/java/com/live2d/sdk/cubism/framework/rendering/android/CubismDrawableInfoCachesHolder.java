@@ -15,6 +15,7 @@ class CubismDrawableInfoCachesHolder {
         final int drawableCount = model.getDrawableCount();
 
         vertexArrayCaches = new FloatBuffer[drawableCount];
+        isVertexArrayCached = new boolean[drawableCount];
         uvArrayCaches = new FloatBuffer[drawableCount];
         indexArrayCaches = new ShortBuffer[drawableCount];
 
@@ -51,6 +52,16 @@ class CubismDrawableInfoCachesHolder {
         }
     }
 
+    /**
+     * 描画するフレームの頂点が前のフレームから変化していないかを設定する。
+     * 変化していない場合、一度キャッシュされた頂点バッファはコピーし直さずにそのまま使われる。
+     *
+     * @param isStatic 頂点が前のフレームから変化していないならtrue
+     */
+    public void setStaticFrame(boolean isStatic) {
+        isStaticFrame = isStatic;
+    }
+
     /**
      * Drawableの頂点をキャッシュされたバッファに入れて返す。
      *
@@ -60,9 +71,17 @@ class CubismDrawableInfoCachesHolder {
      */
     public FloatBuffer setUpVertexArray(int drawableIndex, float[] drawableVertices) {
         FloatBuffer vertexArray = vertexArrayCaches[drawableIndex];
+
+        // 頂点が変化していない場合はキャッシュ済みのバッファをそのまま返す。
+        if (isStaticFrame && isVertexArrayCached[drawableIndex]) {
+            vertexArray.position(0);
+            return vertexArray;
+        }
+
         vertexArray.clear();
         vertexArray.put(drawableVertices);
         vertexArray.position(0);
+        isVertexArrayCached[drawableIndex] = true;
 
         return vertexArray;
     }
@@ -103,6 +122,14 @@ class CubismDrawableInfoCachesHolder {
      * Drawableの頂点のキャッシュ配列
      */
     private final FloatBuffer[] vertexArrayCaches;
+    /**
+     * Drawableの頂点がキャッシュ配列に格納済みかどうか
+     */
+    private final boolean[] isVertexArrayCached;
+    /**
+     * 描画するフレームの頂点が前のフレームから変化していないか
+     */
+    private boolean isStaticFrame;
     /**
      * DrawableのUV情報のキャッシュ配列
      */
@@ -9,6 +9,7 @@ package com.live2d.sdk.cubism.framework.rendering.android;
 
 import android.opengl.GLES11Ext;
 
+import com.live2d.sdk.cubism.framework.math.CubismMatrix44;
 import com.live2d.sdk.cubism.framework.math.CubismVector2;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
 import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
@@ -74,6 +75,7 @@ public class CubismRendererAndroid extends CubismRenderer {
     public void initialize(CubismModel model, int maskBufferCount) {
         // 頂点情報をキャッシュする。
         drawableInfoCachesHolder = new CubismDrawableInfoCachesHolder(model);
+        isPreviousFrameValid = false;
 
         modelRenderTargets.clear();
         if (model.isBlendModeEnabled()) {
@@ -246,6 +248,38 @@ public class CubismRendererAndroid extends CubismRenderer {
     public void bindTexture(int modelTextureIndex, int glTextureIndex) {
         textures.put(modelTextureIndex, glTextureIndex);
         areTexturesChanged = true;
+        isPreviousFrameValid = false;
+    }
+
+    /**
+     * Set whether the drawing result of the previous frame is reused when the model has not changed.
+     * <p>
+     * The previous frame is reused only when the model is drawn to the model render target (the model uses blend modes),
+     * the last {@link CubismModel#update()} was skipped, and the MVP matrix and the model color are the same as the previous frame.
+     * If any other drawing setting such as the overwritten colors or the culling is changed, call {@link #invalidatePreviousFrame()}.
+     * Without the model render target, only the copy of the vertices is skipped.
+     *
+     * @param enabled true to reuse the drawing result of the previous frame
+     * @see CubismModel#setUpdateSkippingEnabled(boolean)
+     */
+    public void setPreviousFrameReuseEnabled(boolean enabled) {
+        isPreviousFrameReuseEnabled = enabled;
+    }
+
+    /**
+     * Whether the drawing result of the previous frame is reused when the model has not changed.
+     *
+     * @return If the reuse is enabled, return true.
+     */
+    public boolean isPreviousFrameReuseEnabled() {
+        return isPreviousFrameReuseEnabled;
+    }
+
+    /**
+     * Discard the drawing result of the previous frame so that the model is drawn again in the next frame.
+     */
+    public void invalidatePreviousFrame() {
+        isPreviousFrameValid = false;
     }
 
     /**
@@ -513,6 +547,15 @@ public class CubismRendererAndroid extends CubismRenderer {
 
     @Override
     protected void doDrawModel() {
+        // モデルが前のフレームから変化していなければ、前のフレームの描画結果をそのまま使う。
+        if (canReusePreviousFrame()) {
+            drawModelRenderTarget();
+            return;
+        }
+
+        // 頂点が前のフレームから変化していなければ、頂点バッファのコピーを省略する。
+        drawableInfoCachesHolder.setStaticFrame(getModel().isUpdateSkipped());
+
         int[] lastFBO = new int[1];
         int[] lastViewport = new int[4];
 
@@ -586,6 +629,35 @@ public class CubismRendererAndroid extends CubismRenderer {
         postDraw();
 
         afterDrawModelRenderTarget();
+
+        // 次のフレームで描画結果を再利用できるか判定するために描画時の設定を保存する。
+        if (!modelRenderTargets.isEmpty()) {
+            previousFrameMvpMatrix.setMatrix(getMvpMatrix());
+            previousFrameModelColor.r = getModelColor().r;
+            previousFrameModelColor.g = getModelColor().g;
+            previousFrameModelColor.b = getModelColor().b;
+            previousFrameModelColor.a = getModelColor().a;
+            isPreviousFrameValid = true;
+        }
+    }
+
+    /**
+     * 前のフレームの描画結果を再利用できるかを判定する。
+     *
+     * @return 再利用できるならtrue
+     */
+    private boolean canReusePreviousFrame() {
+        if (!isPreviousFrameReuseEnabled || !isPreviousFrameValid || !getModel().isUpdateSkipped()) {
+            return false;
+        }
+
+        if (modelRenderTargets.isEmpty()
+            || !modelRenderTargets.get(0).isSameSize(modelRenderTargetWidth, modelRenderTargetHeight)) {
+            return false;
+        }
+
+        return previousFrameMvpMatrix.equals(getMvpMatrix())
+            && previousFrameModelColor.equals(getModelColor());
     }
 
     /**
@@ -963,6 +1035,13 @@ public class CubismRendererAndroid extends CubismRenderer {
         // 元のバッファに描画する
         modelRenderTargets.get(0).endDraw();
 
+        drawModelRenderTarget();
+    }
+
+    /**
+     * モデルを描画したバッファを元のバッファに描画する。
+     */
+    private void drawModelRenderTarget() {
         CubismShaderAndroid.getInstance().setupShaderProgramForOffscreenRenderTarget(this);
 
         glDrawElements(
@@ -1197,4 +1276,20 @@ public class CubismRendererAndroid extends CubismRenderer {
      * Drawable情報のキャッシュ変数
      */
     private CubismDrawableInfoCachesHolder drawableInfoCachesHolder;
+    /**
+     * Whether the drawing result of the previous frame is reused when the model has not changed
+     */
+    private boolean isPreviousFrameReuseEnabled;
+    /**
+     * Whether the model render target holds a reusable drawing result of the previous frame
+     */
+    private boolean isPreviousFrameValid;
+    /**
+     * MVP matrix used to draw the previous frame
+     */
+    private final CubismMatrix44 previousFrameMvpMatrix = CubismMatrix44.create();
+    /**
+     * Model color used to draw the previous frame
+     */
+    private final CubismTextureColor previousFrameModelColor = new CubismTextureColor();
 }
@@ -0,0 +1,459 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.id.CubismId;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A utility class for the binary cache of the data loaded from JSON files such as motion3.json and physics3.json.
+ * <p>
+ * A cache consists of a header and a payload written in big-endian. The header has the magic number, the version of the format,
+ * the type of the data, the content hash of the source JSON and the size of the payload.
+ * A cache is used only if all of them match, so a cache created from an old JSON file or by an old version of the framework is ignored.
+ * <p>
+ * The cache is read from a {@link ByteBuffer} without being copied, so a memory-mapped file can be read directly.
+ * The cache can be created ahead of time, for example at build time, and shipped with the JSON files.
+ */
+public class CubismBinaryCache {
+    /**
+     * Type of the data held by a cache
+     */
+    public enum DataType {
+        /**
+         * motion3.json
+         */
+        MOTION(1),
+        /**
+         * physics3.json
+         */
+        PHYSICS(2),
+        /**
+         * exp3.json
+         */
+        EXPRESSION(3),
+        /**
+         * pose3.json
+         */
+        POSE(4);
+
+        private final int id;
+
+        DataType(int id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Version of the format. It is increased whenever the layout of any payload changes.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Calculate the content hash of a JSON file.
+     * <p>
+     * The hash is the 64-bit FNV-1a hash of the bytes. It detects that the JSON file has been changed, and is not for security.
+     *
+     * @param json bytes of the JSON file
+     * @return content hash
+     */
+    public static long computeContentHash(byte[] json) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (byte b : json) {
+            hash ^= b & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Start reading a cache from the current position of the buffer.
+     * The position of the buffer is not changed.
+     *
+     * @param cache buffer where the cache is loaded
+     * @param type type of the data
+     * @param contentHash content hash of the source JSON calculated by {@link #computeContentHash(byte[])}
+     * @return reader of the payload. null if the cache is not for the type, the version or the content hash, or it is shorter than its size.
+     */
+    public static Reader read(ByteBuffer cache, DataType type, long contentHash) {
+        if (cache == null || cache.remaining() < HEADER_SIZE) {
+            return null;
+        }
+
+        final ByteBuffer buffer = cache.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (buffer.getInt() != MAGIC
+            || buffer.getInt() != VERSION
+            || buffer.getInt() != type.id
+            || buffer.getLong() != contentHash) {
+            return null;
+        }
+
+        final int payloadSize = buffer.getInt();
+        if (payloadSize < 0 || payloadSize > buffer.remaining()) {
+            return null;
+        }
+        buffer.limit(buffer.position() + payloadSize);
+
+        return new Reader(buffer);
+    }
+
+    /**
+     * Start writing a cache.
+     *
+     * @param type type of the data
+     * @param contentHash content hash of the source JSON calculated by {@link #computeContentHash(byte[])}
+     * @return writer of the payload
+     */
+    public static Writer write(DataType type, long contentHash) {
+        return new Writer(type, contentHash);
+    }
+
+    /**
+     * Writer of the payload of a cache.
+     */
+    public static class Writer {
+        public void putInt(int value) {
+            ensureCapacity(4);
+            buffer.putInt(value);
+        }
+
+        public void putFloat(float value) {
+            ensureCapacity(4);
+            buffer.putFloat(value);
+        }
+
+        public void putBoolean(boolean value) {
+            ensureCapacity(1);
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        /**
+         * Write the ordinal of an enum constant. null is written as -1.
+         *
+         * @param value enum constant
+         */
+        public void putEnum(Enum<?> value) {
+            ensureCapacity(1);
+            buffer.put(value != null ? (byte) value.ordinal() : (byte) -1);
+        }
+
+        /**
+         * Write a string in UTF-8 with its length. null is written as the length -1.
+         *
+         * @param value string
+         */
+        public void putString(String value) {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensureCapacity(bytes.length);
+            buffer.put(bytes);
+        }
+
+        /**
+         * Write an ID as its string.
+         *
+         * @param id ID
+         */
+        public void putId(CubismId id) {
+            putString(id.getString());
+        }
+
+        /**
+         * Write the elements of an array. The number of the elements is not written.
+         *
+         * @param values source array
+         * @param count number of the elements
+         */
+        public void putInts(int[] values, int count) {
+            ensureCapacity(4 * count);
+            for (int i = 0; i < count; i++) {
+                buffer.putInt(values[i]);
+            }
+        }
+
+        /**
+         * Write the elements of an array. The number of the elements is not written.
+         *
+         * @param values source array
+         * @param count number of the elements
+         */
+        public void putFloats(float[] values, int count) {
+            ensureCapacity(4 * count);
+            for (int i = 0; i < count; i++) {
+                buffer.putFloat(values[i]);
+            }
+        }
+
+        /**
+         * Write the elements of an array. The number of the elements is not written.
+         *
+         * @param values source array
+         * @param count number of the elements
+         */
+        public void putBooleans(boolean[] values, int count) {
+            ensureCapacity(count);
+            for (int i = 0; i < count; i++) {
+                buffer.put(values[i] ? (byte) 1 : (byte) 0);
+            }
+        }
+
+        /**
+         * Write the ordinals of the elements of an array. The number of the elements is not written.
+         *
+         * @param values source array
+         * @param count number of the elements
+         */
+        public void putEnums(Enum<?>[] values, int count) {
+            ensureCapacity(count);
+            for (int i = 0; i < count; i++) {
+                buffer.put(values[i] != null ? (byte) values[i].ordinal() : (byte) -1);
+            }
+        }
+
+        /**
+         * Finish writing and get the whole cache.
+         *
+         * @return bytes of the cache
+         */
+        public byte[] toByteArray() {
+            buffer.putInt(PAYLOAD_SIZE_POSITION, buffer.position() - HEADER_SIZE);
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        }
+
+        private Writer(DataType type, long contentHash) {
+            buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(type.id);
+            buffer.putLong(contentHash);
+            buffer.putInt(0);
+        }
+
+        private void ensureCapacity(int size) {
+            if (buffer.remaining() >= size) {
+                return;
+            }
+
+            final ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + size));
+            buffer.flip();
+            newBuffer.put(buffer);
+            buffer = newBuffer;
+        }
+
+        private ByteBuffer buffer;
+    }
+
+    /**
+     * Reader of the payload of a cache.
+     * <p>
+     * The methods throw {@link IllegalArgumentException} if the payload is broken.
+     */
+    public static class Reader {
+        public int getInt() {
+            try {
+                return buffer.getInt();
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException(BROKEN_CACHE_MESSAGE, e);
+            }
+        }
+
+        public float getFloat() {
+            try {
+                return buffer.getFloat();
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException(BROKEN_CACHE_MESSAGE, e);
+            }
+        }
+
+        public boolean getBoolean() {
+            try {
+                return buffer.get() != 0;
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException(BROKEN_CACHE_MESSAGE, e);
+            }
+        }
+
+        /**
+         * Read an enum constant written by {@link Writer#putEnum(Enum)}.
+         *
+         * @param values constants of the enum
+         * @param <T> type of the enum
+         * @return enum constant. null if null is written.
+         */
+        public <T extends Enum<T>> T getEnum(T[] values) {
+            final int ordinal;
+            try {
+                ordinal = buffer.get();
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException(BROKEN_CACHE_MESSAGE, e);
+            }
+            return toEnum(values, ordinal);
+        }
+
+        /**
+         * Read a string written by {@link Writer#putString(String)}.
+         *
+         * @return string. null if null is written.
+         */
+        public String getString() {
+            final int length = getInt();
+            if (length == -1) {
+                return null;
+            }
+            checkRemaining(length, 1);
+
+            final String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                final byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+
+        /**
+         * Read an ID written by {@link Writer#putId(CubismId)}.
+         *
+         * @return ID
+         */
+        public CubismId getId() {
+            final String id = getString();
+            if (id == null) {
+                throw new IllegalArgumentException(BROKEN_CACHE_MESSAGE);
+            }
+            return CubismFramework.getIdManager().getId(id);
+        }
+
+        /**
+         * Read the number of the elements of an array.
+         * The number is checked against the remaining size of the payload so that a broken cache does not allocate a huge array.
+         *
+         * @param elementSize minimum size of an element[byte]
+         * @return number of the elements
+         */
+        public int getCount(int elementSize) {
+            final int count = getInt();
+            checkRemaining(count, elementSize);
+            return count;
+        }
+
+        public int[] getInts(int count) {
+            checkRemaining(count, 4);
+
+            final int[] values = new int[count];
+            buffer.asIntBuffer().get(values);
+            buffer.position(buffer.position() + 4 * count);
+            return values;
+        }
+
+        public float[] getFloats(int count) {
+            checkRemaining(count, 4);
+
+            final float[] values = new float[count];
+            buffer.asFloatBuffer().get(values);
+            buffer.position(buffer.position() + 4 * count);
+            return values;
+        }
+
+        public boolean[] getBooleans(int count) {
+            checkRemaining(count, 1);
+
+            final boolean[] values = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = buffer.get() != 0;
+            }
+            return values;
+        }
+
+        /**
+         * Read the enum constants written by {@link Writer#putEnums(Enum[], int)} into an array.
+         *
+         * @param values constants of the enum
+         * @param destination destination array
+         * @param count number of the elements
+         * @param <T> type of the enum
+         */
+        public <T extends Enum<T>> void getEnums(T[] values, T[] destination, int count) {
+            checkRemaining(count, 1);
+
+            for (int i = 0; i < count; i++) {
+                destination[i] = toEnum(values, buffer.get());
+            }
+        }
+
+        /**
+         * Whether the whole payload has been read.
+         *
+         * @return If the whole payload has been read, return true.
+         */
+        public boolean isEnd() {
+            return !buffer.hasRemaining();
+        }
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void checkRemaining(int count, int elementSize) {
+            if (count < 0 || (long) count * elementSize > buffer.remaining()) {
+                throw new IllegalArgumentException(BROKEN_CACHE_MESSAGE);
+            }
+        }
+
+        private static <T extends Enum<T>> T toEnum(T[] values, int ordinal) {
+            if (ordinal == -1) {
+                return null;
+            }
+            if (ordinal < 0 || ordinal >= values.length) {
+                throw new IllegalArgumentException(BROKEN_CACHE_MESSAGE);
+            }
+            return values[ordinal];
+        }
+
+        private final ByteBuffer buffer;
+    }
+
+    /**
+     * Magic number at the beginning of a cache ("CSMC")
+     */
+    private static final int MAGIC = 0x43534D43;
+    /**
+     * Size of the header[byte]: magic number, version, type, content hash and payload size
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 4;
+    /**
+     * Position of the payload size in the header
+     */
+    private static final int PAYLOAD_SIZE_POSITION = HEADER_SIZE - 4;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final String BROKEN_CACHE_MESSAGE = "The binary cache is broken.";
+
+    /**
+     * Private constructor
+     */
+    private CubismBinaryCache() {}
+}
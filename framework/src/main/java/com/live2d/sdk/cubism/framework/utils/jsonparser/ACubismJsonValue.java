@@ -15,10 +15,7 @@ public abstract class ACubismJsonValue {
      * @return the value of the JSON Object
      */
     public ACubismJsonValue get(String key) {
-        ACubismJsonValue nullValue = new CubismJsonNullValue();
-        nullValue.setErrorNotForClientCall(JsonError.TYPE_MISMATCH.message);
-
-        return nullValue;
+        return CubismJsonNullValue.TYPE_MISMATCH;
     }
 
     /**
@@ -30,10 +27,7 @@ public abstract class ACubismJsonValue {
      * @return the value corresponding to the index
      */
     public ACubismJsonValue get(int index) {
-        ACubismJsonValue errorValue = new CubismJsonErrorValue();
-        errorValue.setErrorNotForClientCall(JsonError.TYPE_MISMATCH.message);
-
-        return errorValue;
+        return CubismJsonErrorValue.TYPE_MISMATCH;
     }
 
     /**
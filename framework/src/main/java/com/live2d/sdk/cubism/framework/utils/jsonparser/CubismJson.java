@@ -10,7 +10,7 @@ package com.live2d.sdk.cubism.framework.utils.jsonparser;
 import com.live2d.sdk.cubism.framework.exception.CubismJsonParseException;
 import com.live2d.sdk.cubism.framework.exception.CubismJsonSyntaxErrorException;
 
-import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * This class has some functions related to JSON.
@@ -29,12 +29,78 @@ public class CubismJson {
             throw new IllegalArgumentException("Parsed JSON data is empty.");
         }
 
+        CubismJson json = new CubismJson();
+        json.parse(ByteBuffer.wrap(buffer));
+
+        return json;
+    }
+
+    /**
+     * Creates the JSON object from the bytes between the position and the limit of the buffer.
+     * The bytes are read directly without being copied, and the position of the buffer is not changed.
+     *
+     * @param buffer UTF-8 byte data of the JSON
+     * @return JSON object
+     *
+     * @throws IllegalArgumentException If the argument is null
+     */
+    public static CubismJson create(ByteBuffer buffer) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Parsed JSON data is empty.");
+        }
+
         CubismJson json = new CubismJson();
         json.parse(buffer);
 
         return json;
     }
 
+    /**
+     * Creates the JSON object whose values are created when they are accessed.
+     * <p>
+     * The JSON is checked in the same way as {@link #create(byte[])}, but the strings, the numbers and the members of objects and arrays
+     * are not created until they are accessed. This is suitable for JSON of which only a few values are read.
+     * The buffer is read again when the values are accessed, so it must not be changed while this JSON is used.
+     *
+     * @param buffer byte data of the JSON
+     * @return JSON object
+     *
+     * @throws IllegalArgumentException If the argument is null
+     */
+    public static CubismJson createLazy(byte[] buffer) {
+        if (buffer == null || buffer.length == 0) {
+            throw new IllegalArgumentException("Parsed JSON data is empty.");
+        }
+
+        CubismJson json = new CubismJson();
+        json.root = CubismJsonTape.parse(ByteBuffer.wrap(buffer));
+
+        return json;
+    }
+
+    /**
+     * Creates the JSON object whose values are created when they are accessed from the bytes between the position and the limit of the buffer.
+     * The position of the buffer is not changed.
+     * <p>
+     * The buffer is read again when the values are accessed, so it must not be changed while this JSON is used.
+     *
+     * @param buffer UTF-8 byte data of the JSON
+     * @return JSON object
+     *
+     * @throws IllegalArgumentException If the argument is null
+     * @see #createLazy(byte[])
+     */
+    public static CubismJson createLazy(ByteBuffer buffer) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Parsed JSON data is empty.");
+        }
+
+        CubismJson json = new CubismJson();
+        json.root = CubismJsonTape.parse(buffer);
+
+        return json;
+    }
+
     /**
      * Get a root of a parsed JSON.
      *
@@ -54,16 +120,11 @@ public class CubismJson {
      *
      * @param buffer JSON byte data
      */
-    private void parse(byte[] buffer) {
-        try {
-            String json = new String(buffer, "UTF-8");
-            lexer = new CubismJsonLexer(json);
-
-            token = lexer.getNextToken();
-            root = createValue();
-        } catch (IOException e) {
-            throw new CubismJsonParseException("It seems that an error has occured in the input/output processing", e);
-        }
+    private void parse(ByteBuffer buffer) {
+        lexer = new CubismJsonLexer(buffer);
+
+        token = lexer.getNextToken();
+        root = createValue();
     }
 
     /**
@@ -71,7 +132,7 @@ public class CubismJson {
      *
      * @return JSON Value
      */
-    private ACubismJsonValue createValue() throws CubismJsonParseException, IOException {
+    private ACubismJsonValue createValue() throws CubismJsonParseException {
         // JSON Object
         if (token.getTokenType() == CubismJsonToken.TokenType.LBRACE) {
             objectNestingLevel++;
@@ -123,7 +184,7 @@ public class CubismJson {
         }
         // JSON null value
         else if (token.getTokenType() == CubismJsonToken.TokenType.NULL) {
-            CubismJsonNullValue nullValue = new CubismJsonNullValue();
+            CubismJsonNullValue nullValue = CubismJsonNullValue.NULL_VALUE;
 
             if (objectNestingLevel != 0 || arrayNestingLevel != 0) {
                 token = lexer.getNextToken();
@@ -139,7 +200,7 @@ public class CubismJson {
      *
      * @return JSON Object
      */
-    private CubismJsonObject createObject() throws CubismJsonParseException, IOException {
+    private CubismJsonObject createObject() throws CubismJsonParseException {
         CubismJsonObject object = new CubismJsonObject();
 
         token = lexer.getNextToken();
@@ -196,7 +257,7 @@ public class CubismJson {
      *
      * @throws CubismJsonParseException an exception related to parsing
      */
-    private CubismJsonArray createArray() throws CubismJsonParseException, IOException {
+    private CubismJsonArray createArray() throws CubismJsonParseException {
         CubismJsonArray array = new CubismJsonArray();
 
         token = lexer.getNextToken();
@@ -25,19 +25,19 @@ class CubismJsonArray extends ACubismJsonValue {
 
     @Override
     public ACubismJsonValue get(String key) {
-        return new CubismJsonErrorValue().setErrorNotForClientCall(JsonError.TYPE_MISMATCH.message);
+        return CubismJsonErrorValue.TYPE_MISMATCH;
     }
 
     @Override
     public ACubismJsonValue get(int index) {
         if (index < 0 || value.size() <= index) {
-            return new CubismJsonErrorValue().setErrorNotForClientCall(JsonError.INDEX_OUT_OF_BOUNDS.message);
+            return CubismJsonErrorValue.INDEX_OUT_OF_BOUNDS;
         }
 
         ACubismJsonValue value = this.value.get(index);
 
         if (value == null) {
-            return new CubismJsonNullValue();
+            return CubismJsonNullValue.NULL_VALUE;
         }
 
         return value;
@@ -83,11 +83,11 @@ class CubismJsonArray extends ACubismJsonValue {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof CubismJsonArray)) return false;
 
         CubismJsonArray that = (CubismJsonArray) o;
 
-        return value.equals(that.value);
+        return getList().equals(that.getList());
     }
 
     @Override
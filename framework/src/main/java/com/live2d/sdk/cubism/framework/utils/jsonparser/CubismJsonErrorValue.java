@@ -10,6 +10,19 @@
 package com.live2d.sdk.cubism.framework.utils.jsonparser;
 
 class CubismJsonErrorValue extends ACubismJsonValue {
+    /**
+     * The shared error value of the type mismatch
+     */
+    static final CubismJsonErrorValue TYPE_MISMATCH = new CubismJsonErrorValue(JsonError.TYPE_MISMATCH.message);
+    /**
+     * The shared error value of the index out of bounds
+     */
+    static final CubismJsonErrorValue INDEX_OUT_OF_BOUNDS = new CubismJsonErrorValue(JsonError.INDEX_OUT_OF_BOUNDS.message);
+
+    public CubismJsonErrorValue() {
+        isShared = false;
+    }
+
     @Override
     public String getString(String defaultValue, String indent) {
         return stringBuffer;
@@ -22,7 +35,26 @@ class CubismJsonErrorValue extends ACubismJsonValue {
 
     @Override
     public ACubismJsonValue setErrorNotForClientCall(String s) {
+        // 共有されるインスタンスは変更せず、新しいインスタンスを返す
+        if (isShared) {
+            return new CubismJsonErrorValue().setErrorNotForClientCall(s);
+        }
         this.stringBuffer = s;
         return this;
     }
+
+    /**
+     * Constructor of the shared instances
+     *
+     * @param errorMsg error message
+     */
+    private CubismJsonErrorValue(String errorMsg) {
+        stringBuffer = errorMsg;
+        isShared = true;
+    }
+
+    /**
+     * Whether this instance is shared. A shared instance is not changed.
+     */
+    private final boolean isShared;
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import com.live2d.sdk.cubism.framework.exception.CubismJsonParseException;
+import com.live2d.sdk.cubism.framework.exception.CubismJsonSyntaxErrorException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class parses JSON and notifies the values to {@link ICubismJsonEventHandler} in a single pass without building JSON values.
+ * <p>
+ * The JSON accepted and the exceptions thrown are the same as {@link CubismJson}.
+ */
+public class CubismJsonEventParser {
+    /**
+     * Parse JSON and notify the values to the handler.
+     *
+     * @param buffer byte data of the JSON
+     * @param handler handler receiving the values
+     *
+     * @throws IllegalArgumentException If the buffer is null or empty, or the handler is null
+     */
+    public static void parse(byte[] buffer, ICubismJsonEventHandler handler) {
+        if (buffer == null || buffer.length == 0) {
+            throw new IllegalArgumentException("Parsed JSON data is empty.");
+        }
+
+        parse(ByteBuffer.wrap(buffer), handler);
+    }
+
+    /**
+     * Parse JSON between the position and the limit of the buffer and notify the values to the handler.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer UTF-8 byte data of the JSON
+     * @param handler handler receiving the values
+     *
+     * @throws IllegalArgumentException If the buffer is null or empty, or the handler is null
+     */
+    public static void parse(ByteBuffer buffer, ICubismJsonEventHandler handler) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Parsed JSON data is empty.");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("JSON event handler is null.");
+        }
+
+        CubismJsonEventParser parser = new CubismJsonEventParser(buffer, handler);
+        parser.token = parser.lexer.getNextToken();
+        parser.parseValue();
+    }
+
+    /**
+     * Private constructor
+     */
+    private CubismJsonEventParser(ByteBuffer buffer, ICubismJsonEventHandler handler) {
+        lexer = new CubismJsonLexer(buffer);
+        this.handler = handler;
+    }
+
+    /**
+     * Parse a JSON value.
+     */
+    private void parseValue() throws CubismJsonParseException {
+        // JSON Object
+        if (token.getTokenType() == CubismJsonToken.TokenType.LBRACE) {
+            objectNestingLevel++;
+            parseObject();
+        }
+        // JSON Array
+        else if (token.getTokenType() == CubismJsonToken.TokenType.LSQUARE_BRACKET) {
+            arrayNestingLevel++;
+            parseArray();
+        }
+        // JSON Number
+        else if (token.getTokenType() == CubismJsonToken.TokenType.NUMBER) {
+            handler.numberValue(token.getNumberValue());
+        }
+        // JSON String
+        else if (token.getTokenType() == CubismJsonToken.TokenType.STRING) {
+            handler.stringValue(token.getStringValue());
+        }
+        // JSON Boolean(true or false)
+        else if (token.getTokenType() == CubismJsonToken.TokenType.BOOLEAN) {
+            handler.booleanValue(token.getBooleanValue());
+        }
+        // JSON null value
+        else if (token.getTokenType() == CubismJsonToken.TokenType.NULL) {
+            handler.nullValue();
+        } else {
+            throw new CubismJsonSyntaxErrorException("Incorrect JSON format.", lexer.getCurrentLineNumber() - 1);
+        }
+
+        // If parsing is midway, the next token is read.
+        if (objectNestingLevel != 0 || arrayNestingLevel != 0) {
+            token = lexer.getNextToken();
+        }
+    }
+
+    /**
+     * Parse a JSON object.
+     */
+    private void parseObject() throws CubismJsonParseException {
+        handler.beginObject();
+
+        token = lexer.getNextToken();
+
+        // If the next token is braces, this object is regarded as empty object
+        if (token.getTokenType() == CubismJsonToken.TokenType.RBRACE) {
+            objectNestingLevel--;
+            handler.endObject();
+            return;
+        }
+
+        // Continue reading until closed by '}'
+        // If the format is not "string : value (, string : value, ...)", an exception is thrown.
+        while (true) {
+            if (token.getTokenType() != CubismJsonToken.TokenType.STRING) {
+                throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber());
+            }
+            handler.key(token.getStringValue());
+
+            token = lexer.getNextToken();
+
+            // If it is not divided by colon, an exception is thrown.
+            if (token.getTokenType() != CubismJsonToken.TokenType.COLON) {
+                throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber());
+            }
+
+            token = lexer.getNextToken();
+            parseValue();
+
+            // If the next token is comma, reading is continued. If the next token is '}', it is done to "break".
+            if (token.getTokenType() == CubismJsonToken.TokenType.RBRACE) {
+                objectNestingLevel--;
+                break;
+            } else if (token.getTokenType() == CubismJsonToken.TokenType.COMMA) {
+                token = lexer.getNextToken();
+            } else {
+                throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber() - 1);
+            }
+        }
+        handler.endObject();
+    }
+
+    /**
+     * Parse a JSON array.
+     */
+    private void parseArray() throws CubismJsonParseException {
+        handler.beginArray();
+
+        token = lexer.getNextToken();
+
+        // If the next token is square brackets, this array is regarded as empty array.
+        if (token.getTokenType() == CubismJsonToken.TokenType.RSQUARE_BRACKET) {
+            arrayNestingLevel--;
+            handler.endArray();
+            return;
+        }
+
+        // Continue reading until closed by ']'
+        // If the format is not "value (, value, ...)", an exception is thrown.
+        while (true) {
+            parseValue();
+
+            // If the next token is comma, reading is continued. If the next token is ']', it is done to "break".
+            if (token.getTokenType() == CubismJsonToken.TokenType.RSQUARE_BRACKET) {
+                arrayNestingLevel--;
+                break;
+            } else if (token.getTokenType() == CubismJsonToken.TokenType.COMMA) {
+                token = lexer.getNextToken();
+            } else {
+                throw new CubismJsonSyntaxErrorException("JSON Array's format is incorrect.", lexer.getCurrentLineNumber() - 1);
+            }
+        }
+        handler.endArray();
+    }
+
+    /**
+     * JSON lexer
+     */
+    private final CubismJsonLexer lexer;
+    /**
+     * Handler receiving the values
+     */
+    private final ICubismJsonEventHandler handler;
+    /**
+     * JSON token
+     */
+    private CubismJsonToken token;
+    /**
+     * A nest level of JSON object. If left brace is appeared, nest level increases by 1, and if right brace is done, it decreases by 1.
+     */
+    private int objectNestingLevel;
+
+    private int arrayNestingLevel;
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import java.util.List;
+
+/**
+ * This class expresses JSON Array recorded on {@link CubismJsonTape}.
+ * <p>
+ * An element is created when it is accessed by {@link #get(int)}. All the elements are created only when the list or the string expression of this array is needed.
+ */
+class CubismJsonLazyArray extends CubismJsonArray {
+    /**
+     * Constructor
+     *
+     * @param tape tape which this array is recorded on
+     * @param entry index of the entry of this array
+     */
+    public CubismJsonLazyArray(CubismJsonTape tape, int entry) {
+        this.tape = tape;
+        this.entry = entry;
+    }
+
+    @Override
+    public ACubismJsonValue get(int index) {
+        synchronized (tape) {
+            if (isMaterialized) {
+                return super.get(index);
+            }
+            prepareElements();
+
+            if (index < 0 || elementCount <= index) {
+                return CubismJsonErrorValue.INDEX_OUT_OF_BOUNDS;
+            }
+            return getElement(index);
+        }
+    }
+
+    @Override
+    public String getString(String defaultValue, String indent) {
+        synchronized (tape) {
+            materialize();
+            return super.getString(defaultValue, indent);
+        }
+    }
+
+    @Override
+    public List<ACubismJsonValue> getList() {
+        synchronized (tape) {
+            materialize();
+            return super.getList();
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (tape) {
+            if (isMaterialized) {
+                return super.size();
+            }
+            prepareElements();
+
+            return elementCount;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        synchronized (tape) {
+            materialize();
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        synchronized (tape) {
+            materialize();
+        }
+        return super.hashCode();
+    }
+
+    /**
+     * Find the entries of the elements if they have not been found.
+     */
+    private void prepareElements() {
+        if (elementEntries != null) {
+            return;
+        }
+
+        final int endEntry = tape.getNextEntry(entry);
+
+        // 先に要素の数を数える
+        int count = 0;
+        for (int elementEntry = entry + 1; elementEntry < endEntry; elementEntry = tape.getNextEntry(elementEntry)) {
+            count++;
+        }
+
+        elementEntries = new int[count];
+        elementValues = new ACubismJsonValue[count];
+        elementCount = count;
+
+        int index = 0;
+        for (int elementEntry = entry + 1; elementEntry < endEntry; elementEntry = tape.getNextEntry(elementEntry)) {
+            elementEntries[index++] = elementEntry;
+        }
+    }
+
+    /**
+     * Get the element, creating it if it has not been created.
+     *
+     * @param index index of the element
+     * @return the element
+     */
+    private ACubismJsonValue getElement(int index) {
+        ACubismJsonValue value = elementValues[index];
+
+        if (value == null) {
+            value = tape.createValue(elementEntries[index]);
+            elementValues[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Put all the elements to the list of this array if they have not been put.
+     */
+    private void materialize() {
+        if (isMaterialized) {
+            return;
+        }
+        prepareElements();
+
+        for (int i = 0; i < elementCount; i++) {
+            putValue(getElement(i));
+        }
+        isMaterialized = true;
+
+        // Listに移したので不要になる
+        elementEntries = null;
+        elementValues = null;
+    }
+
+    /**
+     * Tape which this array is recorded on
+     */
+    private final CubismJsonTape tape;
+    /**
+     * Index of the entry of this array
+     */
+    private final int entry;
+    /**
+     * Indices of the entries of the elements
+     */
+    private int[] elementEntries;
+    /**
+     * Created elements. null if the element has not been created.
+     */
+    private ACubismJsonValue[] elementValues;
+    /**
+     * Number of the elements
+     */
+    private int elementCount;
+    /**
+     * Whether all the elements have been put to the list
+     */
+    private boolean isMaterialized;
+}
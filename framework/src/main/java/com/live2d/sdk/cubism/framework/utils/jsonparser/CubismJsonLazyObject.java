@@ -0,0 +1,185 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class expresses JSON Object recorded on {@link CubismJsonTape}.
+ * <p>
+ * The value of a key is created when it is accessed by {@link #get(String)}. The keys and the values of all the members are created
+ * only when the map, the keys or the string expression of this object is needed.
+ */
+class CubismJsonLazyObject extends CubismJsonObject {
+    /**
+     * Constructor
+     *
+     * @param tape tape which this object is recorded on
+     * @param entry index of the entry of this object
+     */
+    public CubismJsonLazyObject(CubismJsonTape tape, int entry) {
+        this.tape = tape;
+        this.entry = entry;
+    }
+
+    @Override
+    public ACubismJsonValue get(String key) {
+        synchronized (tape) {
+            if (isMaterialized) {
+                return super.get(key);
+            }
+            prepareMembers();
+
+            // 重複したキーは後に定義された値で上書きされるため、後ろから探す
+            for (int i = memberCount - 1; i >= 0; i--) {
+                // キーのエントリーは値のエントリーの直前にある
+                if (tape.isStringEqualTo(memberEntries[i] - 1, key)) {
+                    return getMemberValue(i);
+                }
+            }
+        }
+        return CubismJsonNullValue.NULL_VALUE;
+    }
+
+    @Override
+    public String getString(String defaultValue, String indent) {
+        synchronized (tape) {
+            materialize();
+            return super.getString(defaultValue, indent);
+        }
+    }
+
+    @Override
+    public Map<CubismJsonString, ACubismJsonValue> getMap() {
+        synchronized (tape) {
+            materialize();
+            return super.getMap();
+        }
+    }
+
+    @Override
+    public List<CubismJsonString> getKeys() {
+        synchronized (tape) {
+            materialize();
+            return super.getKeys();
+        }
+    }
+
+    @Override
+    public int size() {
+        // 重複したキーを数えないように、作成したMapの大きさを返す
+        synchronized (tape) {
+            materialize();
+            return super.size();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        synchronized (tape) {
+            materialize();
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        synchronized (tape) {
+            materialize();
+        }
+        return super.hashCode();
+    }
+
+    /**
+     * Find the entries of the values of the members if they have not been found.
+     */
+    private void prepareMembers() {
+        if (memberEntries != null) {
+            return;
+        }
+
+        final int endEntry = tape.getNextEntry(entry);
+
+        // 先にメンバーの数を数える
+        int count = 0;
+        for (int keyEntry = entry + 1; keyEntry < endEntry; keyEntry = tape.getNextEntry(keyEntry + 1)) {
+            count++;
+        }
+
+        memberEntries = new int[count];
+        memberValues = new ACubismJsonValue[count];
+        memberCount = count;
+
+        int index = 0;
+        for (int keyEntry = entry + 1; keyEntry < endEntry; keyEntry = tape.getNextEntry(keyEntry + 1)) {
+            memberEntries[index++] = keyEntry + 1;
+        }
+    }
+
+    /**
+     * Get the value of the member, creating it if it has not been created.
+     *
+     * @param index index of the member
+     * @return value of the member
+     */
+    private ACubismJsonValue getMemberValue(int index) {
+        ACubismJsonValue value = memberValues[index];
+
+        if (value == null) {
+            value = tape.createValue(memberEntries[index]);
+            memberValues[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Put all the members to the map of this object if they have not been put.
+     */
+    private void materialize() {
+        if (isMaterialized) {
+            return;
+        }
+        prepareMembers();
+
+        for (int i = 0; i < memberCount; i++) {
+            CubismJsonString key = CubismJsonString.valueOf(tape.getString(memberEntries[i] - 1));
+            putPair(key, getMemberValue(i));
+        }
+        isMaterialized = true;
+
+        // Mapに移したので不要になる
+        memberEntries = null;
+        memberValues = null;
+    }
+
+    /**
+     * Tape which this object is recorded on
+     */
+    private final CubismJsonTape tape;
+    /**
+     * Index of the entry of this object
+     */
+    private final int entry;
+    /**
+     * Indices of the entries of the values of the members
+     */
+    private int[] memberEntries;
+    /**
+     * Created values of the members. null if the value has not been created.
+     */
+    private ACubismJsonValue[] memberValues;
+    /**
+     * Number of the members
+     */
+    private int memberCount;
+    /**
+     * Whether all the members have been put to the map
+     */
+    private boolean isMaterialized;
+}
@@ -10,116 +10,105 @@ package com.live2d.sdk.cubism.framework.utils.jsonparser;
 
 import com.live2d.sdk.cubism.framework.exception.CubismJsonParseException;
 
-import java.io.IOException;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class offers a function of JSON lexer.
+ * <p>
+ * The lexer reads the UTF-8 bytes of JSON directly. Strings are decoded only when a string token is read, and numbers are parsed from the bytes without creating strings.
+ * <p>
+ * All the mutable state is held in each instance, so different instances can be used on different threads.
+ * An instance itself is not thread-safe.
  */
 class CubismJsonLexer {
     /**
      * Package-private constructor
+     * <p>
+     * The bytes between the position and the limit of the buffer are read. The position of the buffer is not changed.
      *
-     * @param json string of JSON
+     * @param json UTF-8 bytes of JSON
      */
-    public CubismJsonLexer(String json) {
+    public CubismJsonLexer(ByteBuffer json) {
         // 上位層で、nullだったら例外を出しているため、
         // 引数がnullであることは考えられない
         assert json != null;
 
-        // char配列に変換する
-        jsonChars = json.toCharArray();
-        jsonCharsLength = jsonChars.length;
+        // 配列を持つバッファは配列を直接読む
+        if (json.hasArray()) {
+            jsonBytes = json.array();
+            jsonBuffer = null;
+            byteIndex = json.arrayOffset() + json.position();
+            jsonBytesEnd = json.arrayOffset() + json.limit();
+        } else {
+            jsonBytes = null;
+            jsonBuffer = json;
+            byteIndex = json.position();
+            jsonBytesEnd = json.limit();
+        }
 
         // トークン解析用のバッファを初期化
-        // 初期容量は128。128文字を超えるトークンが出現するならばその都度拡張する。
-        parsedTokonBuffer = new char[MINIMUM_CAPACITY];
+        // 初期容量は128。エスケープシーケンスを含む128バイトを超える文字列が出現するならばその都度拡張する。
+        parsedTokonBuffer = new byte[MINIMUM_CAPACITY];
     }
 
     /**
      * Get a next token.
      */
-    public CubismJsonToken getNextToken() throws CubismJsonParseException, IOException {
+    public CubismJsonToken getNextToken() throws CubismJsonParseException {
         // Skip blank characters
         while (isWhiteSpaceChar(nextChar)) {
             updateNextChar();
         }
 
-        // null文字で埋める
-        Arrays.fill(parsedTokonBuffer, 0, bufferIndex, '\0');
         bufferIndex = 0;
+        tokenStartIndex = byteIndex - 1;
 
         // A Number token
         // A process when beginning at minus sign
         if (nextChar == '-') {
-            append('-');
             updateNextChar();
 
-            if (Character.isDigit(nextChar)) {
+            if (isDigit(nextChar)) {
                 buildNumber();
-                String numberStr = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-                NUMBER.setNumberValue(Double.parseDouble(numberStr));
+                if (isValueDecodingEnabled) {
+                    numberToken.setNumberValue(parseNumber(tokenStartIndex, getNextCharIndex()));
+                }
 
-                return NUMBER;
+                return numberToken;
             } else {
                 throw new CubismJsonParseException("Number's format is incorrect.", lineNumber);
             }
         }
         // A process when beginning at a number except 0.
-        else if (Character.isDigit(nextChar)) {
+        else if (isDigit(nextChar)) {
             buildNumber();
-            String numberStr = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            NUMBER.setNumberValue(Double.parseDouble(numberStr));
+            if (isValueDecodingEnabled) {
+                numberToken.setNumberValue(parseNumber(tokenStartIndex, getNextCharIndex()));
+            }
 
-            return NUMBER;
+            return numberToken;
         }
         // true
         else if (nextChar == 't') {
-            append(nextChar);
-            updateNextChar();
-
-            for (int i = 0; i < 3; i++) {
-                append(nextChar);
-                updateNextChar();
-            }
-
             // If "value" does not create true value, send an exception.
-            String trueString = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            if (!trueString.equals("true")) {
+            if (!matchKeyword(TRUE_BYTES)) {
                 throw new CubismJsonParseException("Boolean's format or spell is incorrect.", lineNumber);
             }
             return TRUE;
         }
         // false
         else if (nextChar == 'f') {
-            append(nextChar);
-            updateNextChar();
-
-            for (int i = 0; i < 4; i++) {
-                append(nextChar);
-                updateNextChar();
-            }
-
             // If the value does not equals to "false" value, send the exception.
-            String falseString = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            if (!falseString.equals("false")) {
+            if (!matchKeyword(FALSE_BYTES)) {
                 throw new CubismJsonParseException("Boolean's format or spell is incorrect.", lineNumber);
             }
             return FALSE;
         }
         // null
         else if (nextChar == 'n') {
-            append(nextChar);
-            updateNextChar();
-
-            for (int i = 0; i < 3; i++) {
-                append(nextChar);
-                updateNextChar();
-            }
-
             // If the JSON value does not equal to the "null" value, send an exception.
-            String nullString = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            if (!nullString.equals("null")) {
+            if (!matchKeyword(NULL_BYTES)) {
                 throw new CubismJsonParseException("JSON Null's format or spell is incorrect.", lineNumber);
             }
             return NULL;
@@ -140,21 +129,40 @@ class CubismJsonLexer {
         else if (nextChar == '"') {
             updateNextChar();
 
+            // エスケープシーケンスが現れるまでは入力のバイト列をそのまま文字列にする
+            final int stringStartIndex = getNextCharIndex();
+            boolean hasEscapeSequence = false;
+
             // Until closing by double quote("), it is continued to read.
             while (nextChar != '"') {
+                if (nextChar == END_OF_INPUT) {
+                    throw new CubismJsonParseException("String is not closed by double quote.", lineNumber);
+                }
+
                 // Consider a escape sequence.
                 if (nextChar == '\\') {
+                    if (!hasEscapeSequence) {
+                        hasEscapeSequence = true;
+                        appendBytes(stringStartIndex, getNextCharIndex());
+                    }
                     updateNextChar();
                     buildEscapedString();
-                } else {
+                } else if (hasEscapeSequence) {
                     append(nextChar);
                 }
                 updateNextChar();
             }
+
+            if (isValueDecodingEnabled) {
+                if (hasEscapeSequence) {
+                    stringToken.setStringValue(new String(parsedTokonBuffer, 0, bufferIndex, StandardCharsets.UTF_8));
+                } else {
+                    stringToken.setStringValue(decode(stringStartIndex, getNextCharIndex()));
+                }
+            }
             updateNextChar();
-            STRING.setStringValue(String.valueOf(parsedTokonBuffer, 0, bufferIndex));
 
-            return STRING;
+            return stringToken;
         }
         // Colon(:)
         else if (nextChar == ':') {
@@ -179,22 +187,98 @@ class CubismJsonLexer {
     }
 
     /**
-     * Build number string.
+     * Set whether the values of string and number tokens are decoded.
+     * <p>
+     * If it is disabled, the tokens are still checked but the values of the tokens are not set. It is enabled by default.
+     *
+     * @param isEnabled true if the values are decoded
+     */
+    public void setValueDecodingEnabled(boolean isEnabled) {
+        isValueDecodingEnabled = isEnabled;
+    }
+
+    /**
+     * Return the index of the first byte of the token read last.
+     * <p>
+     * The index can be passed to {@link #seek(int)} to read the token again.
+     *
+     * @return index of the first byte of the token
+     */
+    public int getTokenStartIndex() {
+        return tokenStartIndex;
+    }
+
+    /**
+     * Move to the byte at the index, so that the next token is read from it.
+     * The line number is not updated.
+     *
+     * @param index index of the byte returned by {@link #getTokenStartIndex()}
+     */
+    public void seek(int index) {
+        byteIndex = index;
+        nextChar = ' ';
+    }
+
+    /**
+     * Check whether the string token beginning at the index equals to the value.
+     * <p>
+     * The bytes are compared directly without decoding the string unless the string contains escape sequences or non-ASCII characters.
+     * This may move the position of the lexer.
+     *
+     * @param index index of the first byte of the string token
+     * @param value compared value
+     * @return true if the string equals to the value
+     */
+    public boolean isStringTokenEqualTo(int index, String value) {
+        // 開始の'"'を飛ばす
+        int byteIndex = index + 1;
+
+        for (int i = 0; i < value.length(); i++) {
+            final int c = value.charAt(i);
+            final int b = byteAt(byteIndex);
+
+            if (b == '\\' || b >= 0x80 || c >= 0x80) {
+                return isDecodedStringTokenEqualTo(index, value);
+            }
+            if (b != c || b == '"') {
+                return false;
+            }
+            byteIndex++;
+        }
+
+        final int b = byteAt(byteIndex);
+        if (b == '\\') {
+            return isDecodedStringTokenEqualTo(index, value);
+        }
+        return b == '"';
+    }
+
+    /**
+     * Decode the string token beginning at the index and check whether it equals to the value.
+     *
+     * @param index index of the first byte of the string token
+     * @param value compared value
+     * @return true if the string equals to the value
+     */
+    private boolean isDecodedStringTokenEqualTo(int index, String value) {
+        seek(index);
+        return value.equals(getNextToken().getStringValue());
+    }
+
+    /**
+     * Read a number.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
     private void buildNumber() throws CubismJsonParseException {
         if (nextChar == '0') {
-            append(nextChar);
             updateNextChar();
             buildDoubleOrExpNumber();
         } else {
-            append(nextChar);
             updateNextChar();
 
             // Repeat processes until appearing a character except dot, exponential expression or number.
-            while (Character.isDigit(nextChar)) {
-                append(nextChar);
+            while (isDigit(nextChar)) {
                 updateNextChar();
             }
             buildDoubleOrExpNumber();
@@ -202,7 +286,7 @@ class CubismJsonLexer {
     }
 
     /**
-     * Build double or exponential number.
+     * Read the fraction and the exponent of a number.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
@@ -218,50 +302,127 @@ class CubismJsonLexer {
     }
 
     /**
-     * Return floating point number as strings(StringBuilder).
+     * Read the fraction of a number.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
     private void buildDoubleNumber() throws CubismJsonParseException {
-        append('.');
         updateNextChar();
 
         // If the character following dot sign is not a number, an exception is thrown.
-        if (!Character.isDigit(nextChar)) {
+        if (!isDigit(nextChar)) {
             throw new CubismJsonParseException("Number's format is incorrect.", lineNumber);
         }
         do {
-            append(nextChar);
             updateNextChar();
-        } while (Character.isDigit(nextChar));
+        } while (isDigit(nextChar));
     }
 
     /**
-     * Build a number string used an exponential expression.
+     * Read the exponent of a number.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
     private void buildExponents() throws CubismJsonParseException {
-        append(nextChar);
         updateNextChar();
 
         // Handle cases where a number is preceded by a sign.
-        if (nextChar == '+') {
-            append(nextChar);
-            updateNextChar();
-        } else if (nextChar == '-') {
-            append(nextChar);
+        if (nextChar == '+' || nextChar == '-') {
             updateNextChar();
         }
         // If the character is not a number or a sign, an exception is thrown.
-        if (!Character.isDigit(nextChar)) {
-            throw new CubismJsonParseException(String.copyValueOf(parsedTokonBuffer, 0, bufferIndex) + "\n: " + "Exponent value's format is incorrect.", lineNumber);
+        if (!isDigit(nextChar)) {
+            throw new CubismJsonParseException(decode(tokenStartIndex, getNextCharIndex()) + "\n: " + "Exponent value's format is incorrect.", lineNumber);
         }
 
         do {
-            append(nextChar);
             updateNextChar();
-        } while (Character.isDigit(nextChar));
+        } while (isDigit(nextChar));
+    }
+
+    /**
+     * Convert the bytes of a number to the value.
+     * <p>
+     * If the significand fits in 53 bits and the power of ten is exact in double, the value is calculated by one multiplication or division, which is rounded correctly.
+     * Otherwise it is parsed by {@link Double#parseDouble(String)}. Both give the same value as {@code Double.parseDouble()}.
+     *
+     * @param begin index of the first byte of the number
+     * @param end index next to the last byte of the number
+     * @return the value
+     */
+    private double parseNumber(int begin, int end) {
+        int index = begin;
+        final boolean isNegative = byteAt(index) == '-';
+        if (isNegative) {
+            index++;
+        }
+
+        long significand = 0;
+        int significantDigitCount = 0;
+        int fractionDigitCount = 0;
+        boolean isFraction = false;
+
+        for (; index < end; index++) {
+            final int c = byteAt(index);
+
+            if (c == '.') {
+                isFraction = true;
+                continue;
+            }
+            if (!isDigit(c)) {
+                break;
+            }
+
+            if (significand != 0 || c != '0') {
+                significantDigitCount++;
+            }
+            if (significantDigitCount > MAXIMUM_SIGNIFICANT_DIGIT_COUNT) {
+                return Double.parseDouble(decode(begin, end));
+            }
+
+            significand = significand * 10 + (c - '0');
+            if (isFraction) {
+                fractionDigitCount++;
+            }
+        }
+
+        int exponent = 0;
+        if (index < end) {
+            // Skip 'e' or 'E'.
+            index++;
+
+            final boolean isNegativeExponent = byteAt(index) == '-';
+            if (isNegativeExponent || byteAt(index) == '+') {
+                index++;
+            }
+
+            for (; index < end; index++) {
+                // An exponent too large for the fast path is parsed by Double.parseDouble().
+                if (exponent > POWERS_OF_TEN.length + MAXIMUM_SIGNIFICANT_DIGIT_COUNT) {
+                    return Double.parseDouble(decode(begin, end));
+                }
+                exponent = exponent * 10 + (byteAt(index) - '0');
+            }
+
+            if (isNegativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        exponent -= fractionDigitCount;
+
+        if (significand > MAXIMUM_EXACT_SIGNIFICAND || exponent <= -POWERS_OF_TEN.length || exponent >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(decode(begin, end));
+        }
+
+        double value = (double) significand;
+        if (exponent < 0) {
+            value /= POWERS_OF_TEN[-exponent];
+        } else {
+            value *= POWERS_OF_TEN[exponent];
+        }
+
+        return isNegative ? -value : value;
     }
 
     /**
@@ -292,23 +453,26 @@ class CubismJsonLexer {
                 append('\t');
                 break;
             case 'u': {
-                // バッファをクリアする
-                bufferForHexadecimalString.delete(0, 16);
+                // The unicode notation is kept as it is.
+                final int notationStartIndex = bufferIndex;
+                boolean isHexadecimal = true;
+                append('\\');
+                append('u');
 
-                bufferForHexadecimalString.append('\\');
-                bufferForHexadecimalString.append('u');
                 for (int i = 0; i < 4; i++) {
                     updateNextChar();
-                    bufferForHexadecimalString.append(nextChar);
-                }
-                // Check whether it is hex number. If there is a problem, an exception is thrown.
-                String tmp = bufferForHexadecimalString.toString();
-                if (!tmp.matches("\\\\u[a-fA-F0-9]{4}")) {
-                    throw new CubismJsonParseException(bufferForHexadecimalString + "\n: " + "The unicode notation is incorrect.", lineNumber);
+                    if (nextChar == END_OF_INPUT) {
+                        isHexadecimal = false;
+                        break;
+                    }
+                    isHexadecimal &= isHexadecimalDigit(nextChar);
+                    append(nextChar);
                 }
 
-                for (int i = 0; i < tmp.length(); i++) {
-                    append(tmp.charAt(i));
+                // Check whether it is hex number. If there is a problem, an exception is thrown.
+                if (!isHexadecimal) {
+                    final String notation = new String(parsedTokonBuffer, notationStartIndex, bufferIndex - notationStartIndex, StandardCharsets.UTF_8);
+                    throw new CubismJsonParseException(notation + "\n: " + "The unicode notation is incorrect.", lineNumber);
                 }
                 break;
             }
@@ -316,9 +480,23 @@ class CubismJsonLexer {
     }
 
     /**
-     * {@code buildEscapedString}の16進数の文字コードをパースする箇所で使用されるバッファ。
+     * Read a keyword and check whether it matches the expected one.
+     * The next character is the first character of the keyword when this is called.
+     *
+     * @param keyword expected bytes of the keyword
+     * @return true if the keyword matches
      */
-    private static final StringBuffer bufferForHexadecimalString = new StringBuffer();
+    private boolean matchKeyword(byte[] keyword) {
+        boolean isMatched = true;
+
+        for (int i = 0; i < keyword.length; i++) {
+            if (nextChar != keyword[i]) {
+                isMatched = false;
+            }
+            updateNextChar();
+        }
+        return isMatched;
+    }
 
     /**
      * Whether a character is white space character.
@@ -326,22 +504,42 @@ class CubismJsonLexer {
      * @param c checked character
      * @return If the character is white space character, return true
      */
-    private boolean isWhiteSpaceChar(char c) {
+    private boolean isWhiteSpaceChar(int c) {
         return (c == ' ' || c == '\r' || c == '\n' || c == '\t');
     }
 
+    /**
+     * Whether a character is a decimal digit.
+     *
+     * @param c checked character
+     * @return If the character is from '0' to '9', return true
+     */
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Whether a character is a hexadecimal digit.
+     *
+     * @param c checked character
+     * @return If the character is a hexadecimal digit, return true
+     */
+    private static boolean isHexadecimalDigit(int c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
     /**
      * Read a next character
      */
     private void updateNextChar() {
-        // 文字を全部読んだら、次の文字をnull文字にセットしてreturnする
-        if (charIndex >= jsonCharsLength) {
-            nextChar = '\0';
+        // 全部読んだら、次の文字を入力の終わりにセットしてreturnする
+        if (byteIndex >= jsonBytesEnd) {
+            nextChar = END_OF_INPUT;
             return;
         }
 
-        nextChar = jsonChars[charIndex];
-        charIndex++;
+        nextChar = byteAt(byteIndex);
+        byteIndex++;
 
         // 改行コードがあれば行数をインクリメントする
         if (nextChar == '\n') {
@@ -350,23 +548,97 @@ class CubismJsonLexer {
     }
 
     /**
-     * Tokonのパース用の文字列バッファに、引数で指定された文字リテラルを追加する。
+     * Get the index of the byte of the next character.
+     *
+     * @return the index of the next character. The end of the input if all the bytes have been read.
+     */
+    private int getNextCharIndex() {
+        return (nextChar == END_OF_INPUT) ? jsonBytesEnd : byteIndex - 1;
+    }
+
+    /**
+     * Get a byte of the input.
      *
-     * @param c 追加する文字リテラル
+     * @param index index of the byte
+     * @return the byte as an unsigned value
      */
-    private void append(char c) {
+    private int byteAt(int index) {
+        if (jsonBytes != null) {
+            return jsonBytes[index] & 0xFF;
+        }
+        return jsonBuffer.get(index) & 0xFF;
+    }
+
+    /**
+     * Decode the bytes of the input as UTF-8.
+     *
+     * @param begin index of the first byte
+     * @param end index next to the last byte
+     * @return decoded string
+     */
+    private String decode(int begin, int end) {
+        if (jsonBytes != null) {
+            return new String(jsonBytes, begin, end - begin, StandardCharsets.UTF_8);
+        }
+
+        final int start = bufferIndex;
+        appendBytes(begin, end);
+        bufferIndex = start;
+
+        return new String(parsedTokonBuffer, start, end - begin, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tokonのパース用のバッファに、引数で指定された文字を追加する。
+     *
+     * @param c 追加する文字
+     */
+    private void append(int c) {
         // Tokenをパースするためのバッファがいっぱいになったら、バッファサイズを2倍にする
         if (bufferLength == bufferIndex) {
-            bufferLength *= 2;
-            char[] tmp = new char[bufferLength];
-            System.arraycopy(parsedTokonBuffer, 0, tmp, 0, bufferIndex);
-
-            parsedTokonBuffer = tmp;
+            expandBuffer(bufferIndex + 1);
         }
-        parsedTokonBuffer[bufferIndex] = c;
+        parsedTokonBuffer[bufferIndex] = (byte) c;
         bufferIndex++;
     }
 
+    /**
+     * Tokonのパース用のバッファに、入力のバイト列を追加する。
+     *
+     * @param begin 追加する最初のバイトのインデックス
+     * @param end 追加する最後のバイトの次のインデックス
+     */
+    private void appendBytes(int begin, int end) {
+        final int length = end - begin;
+        if (bufferLength - bufferIndex < length) {
+            expandBuffer(bufferIndex + length);
+        }
+
+        if (jsonBytes != null) {
+            System.arraycopy(jsonBytes, begin, parsedTokonBuffer, bufferIndex, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                parsedTokonBuffer[bufferIndex + i] = jsonBuffer.get(begin + i);
+            }
+        }
+        bufferIndex += length;
+    }
+
+    /**
+     * Tokonのパース用のバッファを、指定された容量以上になるまで2倍に拡張する。
+     *
+     * @param minimumLength 必要な容量
+     */
+    private void expandBuffer(int minimumLength) {
+        while (bufferLength < minimumLength) {
+            bufferLength *= 2;
+        }
+        byte[] tmp = new byte[bufferLength];
+        System.arraycopy(parsedTokonBuffer, 0, tmp, 0, bufferIndex);
+
+        parsedTokonBuffer = tmp;
+    }
+
     // Tokenを都度生成せずに定数として保持する
     /**
      * 左波カッコ'{'のトークン
@@ -405,48 +677,85 @@ class CubismJsonLexer {
      */
     private static final CubismJsonToken NULL = new CubismJsonToken();
 
-    // 中の値を書き換えて使用する
     /**
-     * 文字列のトークン
+     * 'true'のバイト列
      */
-    private static final CubismJsonToken STRING = new CubismJsonToken("");
+    private static final byte[] TRUE_BYTES = {'t', 'r', 'u', 'e'};
     /**
-     * 数値のトークン
+     * 'false'のバイト列
+     */
+    private static final byte[] FALSE_BYTES = {'f', 'a', 'l', 's', 'e'};
+    /**
+     * 'null'のバイト列
      */
-    private static final CubismJsonToken NUMBER = new CubismJsonToken(0.0);
+    private static final byte[] NULL_BYTES = {'n', 'u', 'l', 'l'};
 
     /**
-     * jsonChars配列の初期サイズ。
+     * 入力の終わりを表す文字
+     */
+    private static final int END_OF_INPUT = -1;
+
+    /**
+     * parsedTokonBuffer配列の初期サイズ。
      * これを超えるトークンが出現した場合はサイズを2倍に拡張する。
      */
     private static final int MINIMUM_CAPACITY = 128;
 
     /**
-     * パースするJSON文字列
+     * Maximum number of the significant digits which do not overflow the significand of long
+     */
+    private static final int MAXIMUM_SIGNIFICANT_DIGIT_COUNT = 18;
+    /**
+     * Maximum significand which double represents exactly (2^53)
+     */
+    private static final long MAXIMUM_EXACT_SIGNIFICAND = 1L << 53;
+    /**
+     * Powers of ten which double represents exactly
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+        1e21, 1e22
+    };
+
+    /**
+     * パースするJSONのバイト配列。バッファが配列を持たない場合はnull。
+     */
+    private final byte[] jsonBytes;
+    /**
+     * パースするJSONのバッファ。jsonBytesがnullの場合に使用する。
      */
-    private final char[] jsonChars;
+    private final ByteBuffer jsonBuffer;
     /**
-     * 現在読んでいる文字のインデックス
+     * 現在読んでいるバイトの次のインデックス
      */
-    private int charIndex;
+    private int byteIndex;
     /**
-     * パースするJSON文字列の文字数
+     * パースするJSONの最後のバイトの次のインデックス
      */
-    private final int jsonCharsLength;
+    private final int jsonBytesEnd;
+    /**
+     * 現在のトークンの最初のバイトのインデックス
+     */
+    private int tokenStartIndex;
     /**
      * 行数。改行文字が出てくるたびにインクリメントされる。
      */
     private int lineNumber = 1;
 
     /**
-     * the next character
+     * the next character. END_OF_INPUT if all the bytes have been read.
+     */
+    private int nextChar = ' ';
+    /**
+     * 文字列と数値のトークンの値を生成するかどうか
      */
-    private char nextChar = ' ';
+    private boolean isValueDecodingEnabled = true;
 
     /**
-     * トークンのパース時に使用されるバッファ
+     * エスケープシーケンスを含む文字列のパース時に使用されるバッファ
      */
-    private char[] parsedTokonBuffer;
+    private byte[] parsedTokonBuffer;
     /**
      * {@code parsedTokonBuffer}の最後尾のインデックス
      */
@@ -455,4 +764,14 @@ class CubismJsonLexer {
      * {@code parsedTokonBuffer}の容量
      */
     private int bufferLength = MINIMUM_CAPACITY;
+
+    // 中の値を書き換えて使用するため、複数のスレッドで同時にパースできるようにインスタンスごとに保持する
+    /**
+     * 文字列のトークン
+     */
+    private final CubismJsonToken stringToken = new CubismJsonToken("");
+    /**
+     * 数値のトークン
+     */
+    private final CubismJsonToken numberToken = new CubismJsonToken(0.0);
 }
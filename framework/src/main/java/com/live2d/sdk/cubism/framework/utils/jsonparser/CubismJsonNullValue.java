@@ -12,8 +12,29 @@ package com.live2d.sdk.cubism.framework.utils.jsonparser;
  * It has no fields and methods.
  */
 class CubismJsonNullValue extends ACubismJsonValue {
+    /**
+     * The shared JSON null value. It is returned for JSON null and for a key which a JSON Object does not have.
+     */
+    static final CubismJsonNullValue NULL_VALUE = new CubismJsonNullValue("NullValue");
+    /**
+     * The shared JSON null value returned when a value which is not a JSON Object is accessed by a key.
+     */
+    static final CubismJsonNullValue TYPE_MISMATCH = new CubismJsonNullValue(JsonError.TYPE_MISMATCH.message);
+
     public CubismJsonNullValue() {
         stringBuffer = "NullValue";
+        isShared = false;
+    }
+
+    @Override
+    public ACubismJsonValue setErrorNotForClientCall(String errorMsg) {
+        // 共有されるインスタンスは変更せず、エラーメッセージを設定した新しいインスタンスを返す
+        if (isShared) {
+            CubismJsonNullValue value = new CubismJsonNullValue();
+            value.stringBuffer = errorMsg;
+            return value;
+        }
+        return super.setErrorNotForClientCall(errorMsg);
     }
 
     @Override
@@ -41,5 +62,18 @@ class CubismJsonNullValue extends ACubismJsonValue {
         return stringBuffer != null ? stringBuffer.hashCode() : 0;
     }
 
+    /**
+     * Constructor of the shared instances
+     *
+     * @param value string expression of the value
+     */
+    private CubismJsonNullValue(String value) {
+        stringBuffer = value;
+        isShared = true;
+    }
 
+    /**
+     * Whether this instance is shared. A shared instance is not changed.
+     */
+    private final boolean isShared;
 }
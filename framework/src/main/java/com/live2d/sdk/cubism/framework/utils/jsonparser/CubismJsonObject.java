@@ -36,7 +36,7 @@ class CubismJsonObject extends ACubismJsonValue {
         ACubismJsonValue value = this.value.get(str);
 
         if (value == null) {
-            return new CubismJsonNullValue();
+            return CubismJsonNullValue.NULL_VALUE;
         }
 
         return value;
@@ -44,7 +44,7 @@ class CubismJsonObject extends ACubismJsonValue {
 
     @Override
     public ACubismJsonValue get(int index) {
-        return new CubismJsonErrorValue().setErrorNotForClientCall(JsonError.TYPE_MISMATCH.message);
+        return CubismJsonErrorValue.TYPE_MISMATCH;
     }
 
     @Override
@@ -104,8 +104,8 @@ class CubismJsonObject extends ACubismJsonValue {
 
         CubismJsonObject that = (CubismJsonObject) o;
 
-        if (!value.equals(that.value)) return false;
-        return keys.equals(that.keys);
+        if (!getMap().equals(that.getMap())) return false;
+        return getKeys().equals(that.getKeys());
     }
 
     @Override
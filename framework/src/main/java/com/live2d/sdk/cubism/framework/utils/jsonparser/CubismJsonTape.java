@@ -0,0 +1,294 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import com.live2d.sdk.cubism.framework.exception.CubismJsonParseException;
+import com.live2d.sdk.cubism.framework.exception.CubismJsonSyntaxErrorException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class records the values of JSON on a tape and creates the JSON values from it when they are accessed.
+ * <p>
+ * The JSON is checked when it is parsed, and the JSON accepted and the exceptions thrown are the same as {@link CubismJson}.
+ * The strings and the numbers are not decoded while parsing. Each value and each key of JSON Objects is recorded as an entry in the order they appear,
+ * and the entries of the members of JSON Objects and JSON Arrays follow the entry of them.
+ * <p>
+ * The values are created under the lock of this instance, so the values can be read on multiple threads.
+ */
+class CubismJsonTape {
+    /**
+     * Parse JSON between the position and the limit of the buffer and create the root value.
+     * <p>
+     * The bytes of the buffer are read again when the values are accessed, so they must not be changed.
+     *
+     * @param buffer UTF-8 byte data of the JSON
+     * @return JSON root
+     */
+    public static ACubismJsonValue parse(ByteBuffer buffer) {
+        CubismJsonTape tape = new CubismJsonTape(buffer);
+
+        tape.lexer.setValueDecodingEnabled(false);
+        tape.token = tape.lexer.getNextToken();
+        tape.parseValue();
+        tape.lexer.setValueDecodingEnabled(true);
+
+        return tape.createValue(0);
+    }
+
+    /**
+     * Create the value of the entry.
+     * JSON Objects and JSON Arrays are created without their members.
+     *
+     * @param entry index of the entry
+     * @return JSON value
+     */
+    public ACubismJsonValue createValue(int entry) {
+        final CubismJsonToken.TokenType type = tokenTypes[entry];
+
+        if (type == CubismJsonToken.TokenType.LBRACE) {
+            return new CubismJsonLazyObject(this, entry);
+        } else if (type == CubismJsonToken.TokenType.LSQUARE_BRACKET) {
+            return new CubismJsonLazyArray(this, entry);
+        } else if (type == CubismJsonToken.TokenType.NULL) {
+            return CubismJsonNullValue.NULL_VALUE;
+        }
+
+        synchronized (this) {
+            lexer.seek(entryValues[entry]);
+            CubismJsonToken token = lexer.getNextToken();
+
+            if (type == CubismJsonToken.TokenType.NUMBER) {
+                return CubismJsonNumber.valueOf(token.getNumberValue());
+            } else if (type == CubismJsonToken.TokenType.STRING) {
+                return CubismJsonString.valueOf(token.getStringValue());
+            } else {
+                return CubismJsonBoolean.valueOf(token.getBooleanValue());
+            }
+        }
+    }
+
+    /**
+     * Decode the string of the entry.
+     *
+     * @param entry index of the entry of a string
+     * @return decoded string
+     */
+    public synchronized String getString(int entry) {
+        lexer.seek(entryValues[entry]);
+        return lexer.getNextToken().getStringValue();
+    }
+
+    /**
+     * Check whether the string of the entry equals to the value without decoding it if possible.
+     *
+     * @param entry index of the entry of a string
+     * @param value compared value
+     * @return true if the string equals to the value
+     */
+    public synchronized boolean isStringEqualTo(int entry, String value) {
+        return lexer.isStringTokenEqualTo(entryValues[entry], value);
+    }
+
+    /**
+     * Return the index of the entry following the value of the entry and its members.
+     *
+     * @param entry index of the entry
+     * @return index of the next entry
+     */
+    public int getNextEntry(int entry) {
+        final CubismJsonToken.TokenType type = tokenTypes[entry];
+
+        if (type == CubismJsonToken.TokenType.LBRACE || type == CubismJsonToken.TokenType.LSQUARE_BRACKET) {
+            return entryValues[entry];
+        }
+        return entry + 1;
+    }
+
+    /**
+     * Private constructor
+     */
+    private CubismJsonTape(ByteBuffer buffer) {
+        lexer = new CubismJsonLexer(buffer);
+
+        // 1エントリーあたりおよそ8バイト以上であると見込んで確保し、足りなくなったら拡張する
+        final int capacity = Math.max(MINIMUM_CAPACITY, buffer.remaining() / 8);
+        tokenTypes = new CubismJsonToken.TokenType[capacity];
+        entryValues = new int[capacity];
+    }
+
+    /**
+     * Parse a JSON value and record it.
+     */
+    private void parseValue() throws CubismJsonParseException {
+        final CubismJsonToken.TokenType type = token.getTokenType();
+
+        // JSON Object
+        if (type == CubismJsonToken.TokenType.LBRACE) {
+            objectNestingLevel++;
+            parseObject();
+        }
+        // JSON Array
+        else if (type == CubismJsonToken.TokenType.LSQUARE_BRACKET) {
+            arrayNestingLevel++;
+            parseArray();
+        }
+        // JSON Number, String, Boolean(true or false) and null value
+        else if (type == CubismJsonToken.TokenType.NUMBER
+            || type == CubismJsonToken.TokenType.STRING
+            || type == CubismJsonToken.TokenType.BOOLEAN
+            || type == CubismJsonToken.TokenType.NULL) {
+            addEntry(type, lexer.getTokenStartIndex());
+        } else {
+            throw new CubismJsonSyntaxErrorException("Incorrect JSON format.", lexer.getCurrentLineNumber() - 1);
+        }
+
+        // If parsing is midway, the next token is read.
+        if (objectNestingLevel != 0 || arrayNestingLevel != 0) {
+            token = lexer.getNextToken();
+        }
+    }
+
+    /**
+     * Parse a JSON object and record it.
+     */
+    private void parseObject() throws CubismJsonParseException {
+        final int entry = addEntry(CubismJsonToken.TokenType.LBRACE, 0);
+
+        token = lexer.getNextToken();
+
+        // If the next token is braces, this object is regarded as empty object
+        if (token.getTokenType() == CubismJsonToken.TokenType.RBRACE) {
+            objectNestingLevel--;
+            entryValues[entry] = entryCount;
+            return;
+        }
+
+        // Continue reading until closed by '}'
+        // If the format is not "string : value (, string : value, ...)", an exception is thrown.
+        while (true) {
+            if (token.getTokenType() != CubismJsonToken.TokenType.STRING) {
+                throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber());
+            }
+            addEntry(CubismJsonToken.TokenType.STRING, lexer.getTokenStartIndex());
+
+            token = lexer.getNextToken();
+
+            // If it is not divided by colon, an exception is thrown.
+            if (token.getTokenType() != CubismJsonToken.TokenType.COLON) {
+                throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber());
+            }
+
+            token = lexer.getNextToken();
+            parseValue();
+
+            // If the next token is comma, reading is continued. If the next token is '}', it is done to "break".
+            if (token.getTokenType() == CubismJsonToken.TokenType.RBRACE) {
+                objectNestingLevel--;
+                break;
+            } else if (token.getTokenType() == CubismJsonToken.TokenType.COMMA) {
+                token = lexer.getNextToken();
+            } else {
+                throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber() - 1);
+            }
+        }
+        entryValues[entry] = entryCount;
+    }
+
+    /**
+     * Parse a JSON array and record it.
+     */
+    private void parseArray() throws CubismJsonParseException {
+        final int entry = addEntry(CubismJsonToken.TokenType.LSQUARE_BRACKET, 0);
+
+        token = lexer.getNextToken();
+
+        // If the next token is square brackets, this array is regarded as empty array.
+        if (token.getTokenType() == CubismJsonToken.TokenType.RSQUARE_BRACKET) {
+            arrayNestingLevel--;
+            entryValues[entry] = entryCount;
+            return;
+        }
+
+        // Continue reading until closed by ']'
+        // If the format is not "value (, value, ...)", an exception is thrown.
+        while (true) {
+            parseValue();
+
+            // If the next token is comma, reading is continued. If the next token is ']', it is done to "break".
+            if (token.getTokenType() == CubismJsonToken.TokenType.RSQUARE_BRACKET) {
+                arrayNestingLevel--;
+                break;
+            } else if (token.getTokenType() == CubismJsonToken.TokenType.COMMA) {
+                token = lexer.getNextToken();
+            } else {
+                throw new CubismJsonSyntaxErrorException("JSON Array's format is incorrect.", lexer.getCurrentLineNumber() - 1);
+            }
+        }
+        entryValues[entry] = entryCount;
+    }
+
+    /**
+     * Add an entry to the tape.
+     *
+     * @param type token type of the value
+     * @param value value of the entry
+     * @return index of the added entry
+     */
+    private int addEntry(CubismJsonToken.TokenType type, int value) {
+        if (entryCount == tokenTypes.length) {
+            final int capacity = tokenTypes.length * 2;
+
+            CubismJsonToken.TokenType[] types = new CubismJsonToken.TokenType[capacity];
+            System.arraycopy(tokenTypes, 0, types, 0, entryCount);
+            tokenTypes = types;
+
+            int[] values = new int[capacity];
+            System.arraycopy(entryValues, 0, values, 0, entryCount);
+            entryValues = values;
+        }
+
+        tokenTypes[entryCount] = type;
+        entryValues[entryCount] = value;
+
+        return entryCount++;
+    }
+
+    /**
+     * 記録するエントリーの配列の初期サイズ
+     */
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /**
+     * JSON lexer. It is also used to decode the values after parsing.
+     */
+    private final CubismJsonLexer lexer;
+    /**
+     * Token types of the entries. LBRACE for JSON Objects and LSQUARE_BRACKET for JSON Arrays.
+     */
+    private CubismJsonToken.TokenType[] tokenTypes;
+    /**
+     * Values of the entries.
+     * For JSON Objects and JSON Arrays, the index of the entry following their members. For the others, the index of the first byte of the token.
+     */
+    private int[] entryValues;
+    /**
+     * Number of the recorded entries
+     */
+    private int entryCount;
+    /**
+     * JSON token
+     */
+    private CubismJsonToken token;
+    /**
+     * A nest level of JSON object. If left brace is appeared, nest level increases by 1, and if right brace is done, it decreases by 1.
+     */
+    private int objectNestingLevel;
+
+    private int arrayNestingLevel;
+}
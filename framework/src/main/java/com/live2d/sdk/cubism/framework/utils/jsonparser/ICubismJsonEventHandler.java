@@ -0,0 +1,68 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+/**
+ * The handler receiving the events of {@link CubismJsonEventParser}.
+ * <p>
+ * The events are notified in the order they appear in the JSON. In an object, {@link #key(String)} is notified before each value.
+ */
+public interface ICubismJsonEventHandler {
+    /**
+     * Called when a JSON object begins.
+     */
+    void beginObject();
+
+    /**
+     * Called when a JSON object ends.
+     */
+    void endObject();
+
+    /**
+     * Called when a JSON array begins.
+     */
+    void beginArray();
+
+    /**
+     * Called when a JSON array ends.
+     */
+    void endArray();
+
+    /**
+     * Called with the key of the value which follows in a JSON object.
+     *
+     * @param key key
+     */
+    void key(String key);
+
+    /**
+     * Called with a string value.
+     *
+     * @param value string value
+     */
+    void stringValue(String value);
+
+    /**
+     * Called with a number value.
+     *
+     * @param value number value
+     */
+    void numberValue(double value);
+
+    /**
+     * Called with a boolean value.
+     *
+     * @param value boolean value
+     */
+    void booleanValue(boolean value);
+
+    /**
+     * Called with a null value.
+     */
+    void nullValue();
+}
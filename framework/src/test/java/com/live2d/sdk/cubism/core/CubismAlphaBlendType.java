@@ -0,0 +1,25 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the alpha blend types of Live2D Cubism Core. Only the types used by the framework are defined.
+ */
+public enum CubismAlphaBlendType {
+    OVER(0);
+
+    CubismAlphaBlendType(int number) {
+        this.number = number;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    private final int number;
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the canvas information of Live2D Cubism Core.
+ */
+public class CubismCanvasInfo {
+    public float[] getSizeInPixels() {
+        return new float[2];
+    }
+
+    public float[] getOriginInPixels() {
+        return new float[2];
+    }
+
+    public float getPixelsPerUnit() {
+        return 1.0f;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the color blend types of Live2D Cubism Core. Only the types used by the framework are defined.
+ */
+public enum CubismColorBlendType {
+    NORMAL(0),
+    ADD_COMPATIBLE(1),
+    MULTIPLY_COMPATIBLE(2);
+
+    CubismColorBlendType(int number) {
+        this.number = number;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    private final int number;
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the version of Live2D Cubism Core.
+ */
+public class CubismCoreVersion {
+    public int getMajor() {
+        return 0;
+    }
+
+    public int getMinor() {
+        return 0;
+    }
+
+    public int getPatch() {
+        return 0;
+    }
+
+    public int getVersionNumber() {
+        return 0;
+    }
+}
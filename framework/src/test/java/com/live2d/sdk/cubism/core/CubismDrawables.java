@@ -0,0 +1,33 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the drawables of Live2D Cubism Core. The model of the unit tests has no drawables.
+ */
+public class CubismDrawables {
+    public int getCount() {
+        return 0;
+    }
+
+    public String[] getIds() {
+        return new String[0];
+    }
+
+    public int[] getBlendModes() {
+        return new int[0];
+    }
+
+    public int[][] getMasks() {
+        return new int[0][];
+    }
+
+    public int[] getMaskCounts() {
+        return new int[0];
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the model of Live2D Cubism Core.
+ * <p>
+ * The unit tests run on the JVM without the native library, so the model only holds the parameters.
+ * It has no parts, drawables and offscreens.
+ */
+public class CubismModel {
+    /**
+     * Create a model which has the given parameters.
+     *
+     * @param parameterIds IDs of the parameters
+     * @param minimumValues minimum values of the parameters
+     * @param maximumValues maximum values of the parameters
+     * @param defaultValues default values of the parameters
+     */
+    public CubismModel(String[] parameterIds, float[] minimumValues, float[] maximumValues, float[] defaultValues) {
+        final int parameterCount = parameterIds.length;
+
+        parameters = new CubismParameters(parameterIds, minimumValues, maximumValues, defaultValues);
+        parameterViews = new CubismParameterView[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            parameterViews[i] = new CubismParameterView(parameters, i);
+        }
+    }
+
+    public void update() {
+    }
+
+    public void resetDrawableDynamicFlags() {
+    }
+
+    public void close() {
+    }
+
+    public CubismMoc getMoc() {
+        return moc;
+    }
+
+    public CubismCanvasInfo getCanvasInfo() {
+        return canvasInfo;
+    }
+
+    public CubismParameterView findParameterView(String id) {
+        for (CubismParameterView parameterView : parameterViews) {
+            if (parameterView.getId().equals(id)) {
+                return parameterView;
+            }
+        }
+        return null;
+    }
+
+    public CubismPartView findPartView(String id) {
+        return null;
+    }
+
+    public CubismDrawableView findDrawableView(String id) {
+        return null;
+    }
+
+    public CubismParameters getParameters() {
+        return parameters;
+    }
+
+    public CubismParameterView[] getParameterViews() {
+        return parameterViews;
+    }
+
+    public CubismParts getParts() {
+        return parts;
+    }
+
+    public CubismPartView[] getPartViews() {
+        return new CubismPartView[0];
+    }
+
+    public CubismDrawables getDrawables() {
+        return drawables;
+    }
+
+    public CubismDrawableView[] getDrawableViews() {
+        return new CubismDrawableView[0];
+    }
+
+    public CubismOffscreenRendering getOffscreenRendering() {
+        return offscreenRendering;
+    }
+
+    public CubismOffscreenRenderingView[] getOffscreenRenderingViews() {
+        return new CubismOffscreenRenderingView[0];
+    }
+
+    public int[] getRenderOrders() {
+        return new int[0];
+    }
+
+    private final CubismParameters parameters;
+    private final CubismParameterView[] parameterViews;
+    private final CubismParts parts = new CubismParts();
+    private final CubismDrawables drawables = new CubismDrawables();
+    private final CubismOffscreenRendering offscreenRendering = new CubismOffscreenRendering();
+    private final CubismCanvasInfo canvasInfo = new CubismCanvasInfo();
+    private final CubismMoc moc = new CubismMoc();
+}
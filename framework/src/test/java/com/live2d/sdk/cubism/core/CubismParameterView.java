@@ -0,0 +1,53 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the parameter view of Live2D Cubism Core.
+ */
+public class CubismParameterView {
+    CubismParameterView(CubismParameters parameters, int index) {
+        this.parameters = parameters;
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return parameters.getIds()[index];
+    }
+
+    public float getValue() {
+        return parameters.getValues()[index];
+    }
+
+    public void setValue(float value) {
+        parameters.getValues()[index] = value;
+    }
+
+    public float getMinimumValue() {
+        return parameters.getMinimumValues()[index];
+    }
+
+    public float getMaximumValue() {
+        return parameters.getMaximumValues()[index];
+    }
+
+    public float getDefaultValue() {
+        return parameters.getDefaultValues()[index];
+    }
+
+    public CubismParameters.ParameterType getType() {
+        return parameters.getTypes()[index];
+    }
+
+    private final CubismParameters parameters;
+    private final int index;
+}
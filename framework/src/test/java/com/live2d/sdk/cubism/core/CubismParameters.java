@@ -0,0 +1,71 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the parameters of Live2D Cubism Core.
+ */
+public class CubismParameters {
+    public enum ParameterType {
+        NORMAL,
+        BLEND_SHAPE
+    }
+
+    CubismParameters(String[] ids, float[] minimumValues, float[] maximumValues, float[] defaultValues) {
+        this.ids = ids;
+        this.minimumValues = minimumValues;
+        this.maximumValues = maximumValues;
+        this.defaultValues = defaultValues;
+        values = defaultValues.clone();
+        repeats = new boolean[ids.length];
+        types = new ParameterType[ids.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = ParameterType.NORMAL;
+        }
+    }
+
+    public int getCount() {
+        return ids.length;
+    }
+
+    public String[] getIds() {
+        return ids;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+
+    public float[] getMinimumValues() {
+        return minimumValues;
+    }
+
+    public float[] getMaximumValues() {
+        return maximumValues;
+    }
+
+    public float[] getDefaultValues() {
+        return defaultValues;
+    }
+
+    public boolean[] getParameterRepeats() {
+        return repeats;
+    }
+
+    public ParameterType[] getTypes() {
+        return types;
+    }
+
+    private final String[] ids;
+    private final float[] values;
+    private final float[] minimumValues;
+    private final float[] maximumValues;
+    private final float[] defaultValues;
+    private final boolean[] repeats;
+    private final ParameterType[] types;
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of CubismPartView of Live2D Cubism Core. The model of the unit tests has no instances of it.
+ */
+public class CubismPartView {
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the parts of Live2D Cubism Core. The model of the unit tests has no parts.
+ */
+public class CubismParts {
+    public int getCount() {
+        return 0;
+    }
+
+    public String[] getIds() {
+        return new String[0];
+    }
+
+    public float[] getOpacities() {
+        return new float[0];
+    }
+
+    public int[] getParentPartIndices() {
+        return new int[0];
+    }
+
+    public int[] getOffscreenIndices() {
+        return new int[0];
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.core;
+
+/**
+ * Test double of the entry point of Live2D Cubism Core. It does not load the native library.
+ */
+public class Live2DCubismCore {
+    public static void setLogger(ICubismLogger logger) {
+        Live2DCubismCore.logger = logger;
+    }
+
+    public static ICubismLogger getLogger() {
+        return logger;
+    }
+
+    public static CubismCoreVersion getVersion() {
+        return new CubismCoreVersion();
+    }
+
+    public static int getMocVersion(byte[] mocBytes) {
+        return 0;
+    }
+
+    public static int getLatestMocVersion() {
+        return 0;
+    }
+
+    public static boolean hasMocConsistency(byte[] mocBytes) {
+        return false;
+    }
+
+    private static ICubismLogger logger;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+/**
+ * This class creates models for the unit tests from the test double of Live2D Cubism Core.
+ * <p>
+ * {@link com.live2d.sdk.cubism.framework.CubismFramework} has to be started up and initialized before a model is created.
+ */
+public class CubismTestModelFactory {
+    /**
+     * Create a model which has the given parameters.
+     *
+     * @param parameterIds IDs of the parameters
+     * @param minimumValues minimum values of the parameters
+     * @param maximumValues maximum values of the parameters
+     * @param defaultValues default values of the parameters
+     * @return an initialized model
+     */
+    public static CubismModel create(String[] parameterIds, float[] minimumValues, float[] maximumValues, float[] defaultValues) {
+        com.live2d.sdk.cubism.core.CubismModel coreModel = new com.live2d.sdk.cubism.core.CubismModel(
+            parameterIds,
+            minimumValues,
+            maximumValues,
+            defaultValues
+        );
+
+        CubismModel model = new CubismModel(coreModel);
+        model.initialize();
+
+        return model;
+    }
+
+    /**
+     * private constructor
+     */
+    private CubismTestModelFactory() {}
+}
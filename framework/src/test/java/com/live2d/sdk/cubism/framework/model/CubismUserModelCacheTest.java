@@ -0,0 +1,148 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.ICubismLoadFileFunction;
+import com.live2d.sdk.cubism.framework.effect.CubismPose;
+import com.live2d.sdk.cubism.framework.motion.CubismExpressionMotion;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryCache;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The JSON files must be loaded by the user model only when their binary caches cannot be used.
+ */
+public class CubismUserModelCacheTest {
+    @BeforeClass
+    public static void setUpClass() {
+        // ファイルを読み込む関数を設定するため、フレームワークを開始し直す
+        CubismFramework.cleanUp();
+
+        CubismFramework.Option option = new CubismFramework.Option();
+        option.loadFileFunction = new ICubismLoadFileFunction() {
+            @Override
+            public byte[] load(String filePath) {
+                loadedFilePaths.add(filePath);
+
+                if (filePath.equals(EXPRESSION_PATH)) {
+                    return EXPRESSION_JSON;
+                } else if (filePath.equals(POSE_PATH)) {
+                    return POSE_JSON;
+                }
+                return null;
+            }
+        };
+        CubismFramework.startUp(option);
+        CubismFramework.initialize();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        CubismFramework.cleanUp();
+    }
+
+    @Before
+    public void setUp() {
+        loadedFilePaths.clear();
+    }
+
+    @Test
+    public void expressionIsLoadedFromCacheWithoutJson() {
+        final long contentHash = CubismBinaryCache.computeContentHash(EXPRESSION_JSON);
+        final byte[] cache = CubismExpressionMotion.create(EXPRESSION_JSON).createCache(contentHash);
+
+        TestUserModel userModel = new TestUserModel();
+        CubismExpressionMotion expression = userModel.loadExpression(ByteBuffer.wrap(cache), contentHash, EXPRESSION_PATH);
+
+        assertNotNull(expression);
+        assertEquals(0, loadedFilePaths.size());
+        assertArrayEquals(cache, expression.createCache(contentHash));
+    }
+
+    @Test
+    public void expressionIsLoadedFromJsonIfCacheCannotBeUsed() {
+        final long contentHash = CubismBinaryCache.computeContentHash(EXPRESSION_JSON);
+        final byte[] cache = CubismExpressionMotion.create(EXPRESSION_JSON).createCache(contentHash);
+
+        TestUserModel userModel = new TestUserModel();
+
+        // JSONが変更されたときは内容のハッシュが一致しない
+        CubismExpressionMotion expression = userModel.loadExpression(ByteBuffer.wrap(cache), contentHash + 1, EXPRESSION_PATH);
+        assertNotNull(expression);
+        assertEquals(1, loadedFilePaths.size());
+
+        // キャッシュがないとき
+        expression = userModel.loadExpression(null, contentHash, EXPRESSION_PATH);
+        assertNotNull(expression);
+        assertEquals(2, loadedFilePaths.size());
+        assertArrayEquals(cache, expression.createCache(contentHash));
+
+        // JSONも読み込めないとき
+        assertNull(userModel.loadExpression(null, contentHash, "missing.exp3.json"));
+    }
+
+    @Test
+    public void poseIsLoadedFromJsonOnlyIfCacheCannotBeUsed() {
+        final long contentHash = CubismBinaryCache.computeContentHash(POSE_JSON);
+        final byte[] cache = CubismPose.create(POSE_JSON).createCache(contentHash);
+
+        TestUserModel userModel = new TestUserModel();
+
+        userModel.loadPose(ByteBuffer.wrap(cache), contentHash, POSE_PATH);
+        assertNotNull(userModel.getPose());
+        assertEquals(0, loadedFilePaths.size());
+
+        userModel.loadPose(ByteBuffer.wrap(cache), contentHash + 1, POSE_PATH);
+        assertNotNull(userModel.getPose());
+        assertEquals(1, loadedFilePaths.size());
+        assertArrayEquals(cache, userModel.getPose().createCache(contentHash));
+    }
+
+    /**
+     * User model which exposes the loading methods to the test.
+     */
+    private static class TestUserModel extends CubismUserModel {
+        @Override
+        protected CubismExpressionMotion loadExpression(ByteBuffer cache, long contentHash, String filePath) {
+            return super.loadExpression(cache, contentHash, filePath);
+        }
+
+        @Override
+        protected void loadPose(ByteBuffer cache, long contentHash, String filePath) {
+            super.loadPose(cache, contentHash, filePath);
+        }
+
+        CubismPose getPose() {
+            return pose;
+        }
+    }
+
+    private static final String EXPRESSION_PATH = "F01.exp3.json";
+    private static final String POSE_PATH = "Model.pose3.json";
+
+    private static final byte[] EXPRESSION_JSON = ("{\"Type\":\"Live2D Expression\",\"FadeInTime\":0.3,\"FadeOutTime\":0.7,\"Parameters\":["
+        + "{\"Id\":\"ParamEyeLOpen\",\"Value\":0.5,\"Blend\":\"Multiply\"},"
+        + "{\"Id\":\"ParamMouthForm\",\"Value\":-1,\"Blend\":\"Add\"}]}").getBytes(Charset.forName("UTF-8"));
+    private static final byte[] POSE_JSON = ("{\"Type\":\"Live2D Pose\",\"FadeInTime\":0.4,\"Groups\":["
+        + "[{\"Id\":\"PartArmA\",\"Link\":[\"PartHandA\"]},{\"Id\":\"PartArmB\",\"Link\":[]}]]}").getBytes(Charset.forName("UTF-8"));
+
+    private static final List<String> loadedFilePaths = new ArrayList<String>();
+}
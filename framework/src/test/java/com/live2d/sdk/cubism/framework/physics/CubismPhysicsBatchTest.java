@@ -0,0 +1,158 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link CubismPhysicsBatch} must give the same results as the same number of {@link CubismPhysics} instances evaluated separately.
+ */
+public class CubismPhysicsBatchTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void batchMatchesSeparateInstances() {
+        for (int seed = 0; seed < 6; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 5, seed % 2 == 0);
+            CubismPhysics sourcePhysics = CubismPhysics.create(json);
+            CubismPhysicsBatch batch = CubismPhysicsBatch.create(sourcePhysics);
+
+            CubismModel[] separateModels = new CubismModel[INSTANCE_COUNT];
+            CubismPhysics[] separatePhysics = new CubismPhysics[INSTANCE_COUNT];
+            CubismModel[] batchModels = new CubismModel[INSTANCE_COUNT];
+
+            for (int k = 0; k < INSTANCE_COUNT; k++) {
+                separateModels[k] = CubismPhysicsTestUtils.createModel();
+                separatePhysics[k] = CubismPhysics.create(json);
+                batchModels[k] = CubismPhysicsTestUtils.createModel();
+
+                // 一部のモデルは安定化してから演算を進めたCubismPhysicsの状態を引き継いで追加する。
+                // 演算されていない時間はバッチで共有されて引き継がれないため、それを変えないevaluateTicks()で進める。
+                if (k % 3 == 0) {
+                    CubismPhysics warmedUpPhysics = CubismPhysics.create(sourcePhysics);
+
+                    setInputParameters(separateModels[k], k, 0.0f);
+                    setInputParameters(batchModels[k], k, 0.0f);
+                    separatePhysics[k].stabilization(separateModels[k]);
+                    warmedUpPhysics.stabilization(batchModels[k]);
+
+                    for (int frame = 0; frame < 20; frame++) {
+                        final float timeSeconds = (frame + 1) * 0.02f;
+
+                        setInputParameters(separateModels[k], k, timeSeconds);
+                        setInputParameters(batchModels[k], k, timeSeconds);
+                        separatePhysics[k].evaluateTicks(separateModels[k], 1);
+                        warmedUpPhysics.evaluateTicks(batchModels[k], 1);
+                    }
+                    assertEquals(k, batch.add(batchModels[k], warmedUpPhysics));
+                } else {
+                    assertEquals(k, batch.add(batchModels[k]));
+                }
+            }
+            assertEquals(INSTANCE_COUNT, batch.getInstanceCount());
+
+            float timeSeconds = 0.0f;
+            for (int frame = 0; frame < 300; frame++) {
+                final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(frame);
+                timeSeconds += deltaTimeSeconds;
+
+                evaluate(separateModels, separatePhysics, batch, batchModels, timeSeconds, deltaTimeSeconds);
+                assertSameParameterValues("seed " + seed + ", frame " + frame, separateModels, batchModels, -1);
+            }
+
+            // 削除されたモデルの位置には最後のモデルが移される
+            final int removedIndex = 2;
+            assertTrue(batch.remove(batchModels[removedIndex]));
+            assertEquals(INSTANCE_COUNT - 1, batch.getInstanceCount());
+            assertSame(batchModels[INSTANCE_COUNT - 1], batch.getModel(removedIndex));
+
+            for (int frame = 0; frame < 100; frame++) {
+                final float deltaTimeSeconds = 1.0f / 60.0f;
+                timeSeconds += deltaTimeSeconds;
+
+                evaluate(separateModels, separatePhysics, batch, batchModels, timeSeconds, deltaTimeSeconds);
+                assertSameParameterValues("seed " + seed + ", frame " + frame + " after removal", separateModels, batchModels, removedIndex);
+            }
+        }
+    }
+
+    @Test
+    public void sameModelIsRejected() {
+        CubismPhysics physics = CubismPhysics.create(CubismPhysicsTestUtils.createPhysicsJson(0, 5, true));
+        CubismPhysicsBatch batch = CubismPhysicsBatch.create(physics);
+        CubismModel model = CubismPhysicsTestUtils.createModel();
+        CubismModel otherModel = CubismPhysicsTestUtils.createModel();
+
+        assertEquals(0, batch.add(model));
+        assertEquals(1, batch.add(otherModel, CubismPhysics.create(physics)));
+
+        // 引き継ぐ状態の有無によらず、追加済みのモデルは拒否されてインスタンスは増えない
+        try {
+            batch.add(model);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // 期待通り
+        }
+        try {
+            batch.add(otherModel, CubismPhysics.create(physics));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // 期待通り
+        }
+        assertEquals(2, batch.getInstanceCount());
+
+        // 削除したモデルは再び追加できる
+        assertTrue(batch.remove(model));
+        assertEquals(1, batch.add(model, CubismPhysics.create(physics)));
+        assertSame(otherModel, batch.getModel(0));
+    }
+
+    private static void evaluate(
+        CubismModel[] separateModels,
+        CubismPhysics[] separatePhysics,
+        CubismPhysicsBatch batch,
+        CubismModel[] batchModels,
+        float timeSeconds,
+        float deltaTimeSeconds
+    ) {
+        for (int k = 0; k < INSTANCE_COUNT; k++) {
+            setInputParameters(separateModels[k], k, timeSeconds);
+            setInputParameters(batchModels[k], k, timeSeconds);
+            separatePhysics[k].evaluate(separateModels[k], deltaTimeSeconds);
+        }
+        batch.evaluate(deltaTimeSeconds);
+    }
+
+    /**
+     * Move the input parameters of each instance in a different phase.
+     */
+    private static void setInputParameters(CubismModel model, int instanceIndex, float timeSeconds) {
+        CubismPhysicsTestUtils.setInputParameters(model, timeSeconds + instanceIndex * 0.37f);
+    }
+
+    private static void assertSameParameterValues(String message, CubismModel[] expected, CubismModel[] actual, int skippedIndex) {
+        for (int k = 0; k < INSTANCE_COUNT; k++) {
+            if (k == skippedIndex) {
+                continue;
+            }
+            CubismPhysicsTestUtils.assertSameParameterValues(message + ", instance " + k, expected[k], actual[k]);
+        }
+    }
+
+    private static final int INSTANCE_COUNT = 13;
+}
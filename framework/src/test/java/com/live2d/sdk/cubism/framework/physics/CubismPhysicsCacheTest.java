@@ -0,0 +1,99 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryCache;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The instance loaded from the binary cache must behave as the one parsed from physics3.json, and a cache which cannot be evaluated must be rejected.
+ */
+public class CubismPhysicsCacheTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void cachedInstancesMatchParsedInstances() {
+        for (int seed = 0; seed < 8; seed++) {
+            final byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 3 + seed % 5, seed % 2 == 0);
+            final long contentHash = CubismBinaryCache.computeContentHash(json);
+
+            CubismModel parsedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics parsedPhysics = CubismPhysics.create(json);
+
+            final byte[] cache = parsedPhysics.createCache(contentHash);
+            assertNull(CubismPhysics.createFromCache(ByteBuffer.wrap(cache), contentHash + 1));
+
+            CubismModel cachedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics cachedPhysics = CubismPhysics.createFromCache(ByteBuffer.wrap(cache), contentHash);
+            assertNotNull(cachedPhysics);
+
+            CubismPhysicsTestUtils.setInputParameters(parsedModel, 0.0f);
+            CubismPhysicsTestUtils.setInputParameters(cachedModel, 0.0f);
+            parsedPhysics.stabilization(parsedModel);
+            cachedPhysics.stabilization(cachedModel);
+
+            float timeSeconds = 0.0f;
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(frame);
+                timeSeconds += deltaTimeSeconds;
+
+                CubismPhysicsTestUtils.setInputParameters(parsedModel, timeSeconds);
+                CubismPhysicsTestUtils.setInputParameters(cachedModel, timeSeconds);
+                parsedPhysics.evaluate(parsedModel, deltaTimeSeconds);
+                cachedPhysics.evaluate(cachedModel, deltaTimeSeconds);
+
+                CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", frame " + frame, parsedModel, cachedModel);
+            }
+        }
+    }
+
+    @Test
+    public void cacheOfUntypedInputIsRejected() {
+        final String json = new String(CubismPhysicsTestUtils.createPhysicsJson(0, 3, true), UTF_8);
+
+        // 最初の"Type"は最初の入力のもの
+        assertCacheIsRejected(json.replaceFirst(TYPE_PATTERN, UNKNOWN_TYPE));
+    }
+
+    @Test
+    public void cacheOfUntypedOutputIsRejected() {
+        final String json = new String(CubismPhysicsTestUtils.createPhysicsJson(0, 3, true), UTF_8);
+        final int outputStart = json.indexOf("\"Output\":");
+
+        assertCacheIsRejected(json.substring(0, outputStart) + json.substring(outputStart).replaceFirst(TYPE_PATTERN, UNKNOWN_TYPE));
+    }
+
+    /**
+     * Check that the cache of the physics3.json cannot be loaded.
+     *
+     * @param json physics3.json which has an unknown type
+     */
+    private static void assertCacheIsRejected(String json) {
+        final byte[] bytes = json.getBytes(UTF_8);
+        final long contentHash = CubismBinaryCache.computeContentHash(bytes);
+        final byte[] cache = CubismPhysics.create(bytes).createCache(contentHash);
+
+        assertNull(CubismPhysics.createFromCache(ByteBuffer.wrap(cache), contentHash));
+    }
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String TYPE_PATTERN = "\"Type\":\"[A-Za-z]+\"";
+    private static final String UNKNOWN_TYPE = "\"Type\":\"Unknown\"";
+    private static final int FRAME_COUNT = 100;
+}
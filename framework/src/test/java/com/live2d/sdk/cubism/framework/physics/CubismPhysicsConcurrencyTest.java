@@ -0,0 +1,100 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Physics instances evaluated on multiple threads at the same time must give the same results as the ones evaluated one by one.
+ */
+public class CubismPhysicsConcurrencyTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void parallelEvaluationMatchesSerialEvaluation() throws Exception {
+        // 一つずつ評価した結果
+        int[][] expected = new int[RIG_COUNT][];
+        for (int i = 0; i < RIG_COUNT; i++) {
+            expected[i] = simulate(i, new CountDownLatch(0));
+        }
+
+        // 全てのスレッドで同時に評価を始める
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        try {
+            List<Future<int[]>> results = new ArrayList<Future<int[]>>();
+            for (int i = 0; i < RIG_COUNT; i++) {
+                final int rigIndex = i;
+                results.add(executor.submit(new Callable<int[]>() {
+                    @Override
+                    public int[] call() throws Exception {
+                        return simulate(rigIndex, startSignal);
+                    }
+                }));
+            }
+            startSignal.countDown();
+
+            for (int i = 0; i < RIG_COUNT; i++) {
+                assertArrayEquals("rig " + i, expected[i], results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Create the physics and the model of the rig and evaluate it.
+     *
+     * @param rigIndex index of the rig, used as the seed
+     * @param startSignal the evaluation starts when the latch is released
+     * @return bits of all the parameter values of every frame
+     */
+    private static int[] simulate(int rigIndex, CountDownLatch startSignal) throws InterruptedException {
+        CubismModel model = CubismPhysicsTestUtils.createModel();
+        CubismPhysics physics = CubismPhysics.create(CubismPhysicsTestUtils.createPhysicsJson(rigIndex, 2 + rigIndex % 7, rigIndex % 3 != 0));
+
+        final int parameterCount = model.getParameterCount();
+        int[] trace = new int[FRAME_COUNT * parameterCount];
+
+        startSignal.await();
+
+        float timeSeconds = 0.0f;
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(frame + rigIndex);
+            timeSeconds += deltaTimeSeconds;
+
+            CubismPhysicsTestUtils.setInputParameters(model, timeSeconds);
+            physics.evaluate(model, deltaTimeSeconds);
+
+            for (int i = 0; i < parameterCount; i++) {
+                trace[frame * parameterCount + i] = Float.floatToRawIntBits(model.getParameterValue(i));
+            }
+        }
+        return trace;
+    }
+
+    private static final int RIG_COUNT = 32;
+    private static final int THREAD_COUNT = 8;
+    private static final int FRAME_COUNT = 300;
+}
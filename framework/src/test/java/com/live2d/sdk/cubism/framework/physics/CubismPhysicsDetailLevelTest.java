@@ -0,0 +1,249 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of the detail level and the cosmetic sub-rigs of {@link CubismPhysics}.
+ */
+public class CubismPhysicsDetailLevelTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void defaultLevelMatchesFullDetail() {
+        for (int seed = 0; seed < 6; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 2 + seed, seed % 2 == 0);
+
+            CubismModel expectedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics expectedPhysics = CubismPhysics.create(json);
+
+            // 全てのサブリグを装飾用にしても、最高の詳細度では結果が変わらない
+            CubismModel actualModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics actualPhysics = CubismPhysics.create(json);
+            for (int i = 0; i < actualPhysics.getSubRigCount(); i++) {
+                actualPhysics.setSubRigCosmetic(i, true);
+            }
+            actualPhysics.setTargetDetailLevel(1.0f);
+            actualPhysics.setDetailLevelTransitionTime(0.1f);
+
+            float timeSeconds = 0.0f;
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(frame);
+                timeSeconds += deltaTimeSeconds;
+
+                CubismPhysicsTestUtils.setInputParameters(expectedModel, timeSeconds);
+                CubismPhysicsTestUtils.setInputParameters(actualModel, timeSeconds);
+                expectedPhysics.evaluate(expectedModel, deltaTimeSeconds);
+                actualPhysics.evaluate(actualModel, deltaTimeSeconds);
+
+                assertEquals(1.0f, actualPhysics.getDetailLevel(), 0.0f);
+                CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", frame " + frame, expectedModel, actualModel);
+            }
+        }
+    }
+
+    @Test
+    public void defaultLevelMatchesTicksWithoutDetailLevel() {
+        for (int seed = 0; seed < 6; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 2 + seed, FPS);
+
+            CubismModel actualModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics actualPhysics = CubismPhysics.create(json);
+            for (int i = 0; i < actualPhysics.getSubRigCount(); i++) {
+                actualPhysics.setSubRigCosmetic(i, true);
+            }
+
+            // evaluateTicks()は詳細度によらないため、1フレーム1ステップで振り子の計算結果を比べる
+            CubismModel expectedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics expectedPhysics = CubismPhysics.create(json);
+
+            float[] actualOutputs = new float[actualPhysics.getOutputCount()];
+            float[] expectedOutputs = new float[expectedPhysics.getOutputCount()];
+
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                // 補間の違いが入力に影響しないように、出力先のパラメータを毎フレーム戻す
+                resetParameters(actualModel, frame);
+                resetParameters(expectedModel, frame);
+
+                actualPhysics.evaluate(actualModel, 1.0f / FPS);
+                expectedPhysics.evaluateTicks(expectedModel, 1);
+
+                assertEquals(1, actualPhysics.getLastSubStepCount());
+                actualPhysics.getOutputs(actualOutputs, 0);
+                expectedPhysics.getOutputs(expectedOutputs, 0);
+                for (int i = 0; i < expectedOutputs.length; i++) {
+                    assertEquals("seed " + seed + ", frame " + frame, Float.floatToRawIntBits(expectedOutputs[i]), Float.floatToRawIntBits(actualOutputs[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void cosmeticSubRigIsSkippedAtLowDetailAndFadesIn() {
+        CubismModel model = CubismPhysicsTestUtils.createModel();
+        CubismPhysics physics = CubismPhysics.create(createTwoSubRigJson());
+        physics.setSubRigCosmetic(0, true);
+
+        // 詳細度を直ちに最低にすると、装飾用のサブリグは演算も出力もされない
+        physics.setDetailLevelTransitionTime(0.0f);
+        physics.setTargetDetailLevel(0.0f);
+
+        float[] outputs = new float[physics.getOutputCount()];
+        float timeSeconds = 0.0f;
+
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            timeSeconds += LOW_DETAIL_DELTA_TIME;
+            CubismPhysicsTestUtils.setInputParameters(model, timeSeconds);
+            model.setParameterValue(COSMETIC_OUTPUT_PARAMETER_INDEX, UNTOUCHED_VALUE);
+
+            physics.evaluate(model, LOW_DETAIL_DELTA_TIME);
+            physics.getOutputs(outputs, 0);
+
+            assertEquals(0.0f, physics.getDetailLevel(), 0.0f);
+            assertEquals(UNTOUCHED_VALUE, model.getParameterValue(COSMETIC_OUTPUT_PARAMETER_INDEX), 0.0f);
+            assertEquals(0.0f, outputs[0], 0.0f);
+        }
+        assertNotEquals(0.0f, outputs[1], 0.0f);
+
+        // 詳細度を戻すと、装飾用のサブリグは補間によってフェードインする
+        physics.setDetailLevelTransitionTime(FADE_TIME);
+        physics.setTargetDetailLevel(1.0f);
+
+        float expectedDetailLevel = 0.0f;
+        float expectedWeight = 0.0f;
+        boolean hasFaded = false;
+
+        ByteBuffer state = ByteBuffer.allocate(physics.getStateSize());
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            timeSeconds += FADE_DELTA_TIME;
+            CubismPhysicsTestUtils.setInputParameters(model, timeSeconds);
+            model.setParameterValue(COSMETIC_OUTPUT_PARAMETER_INDEX, 0.0f);
+
+            // 装飾用でないこと以外は同じ状態のインスタンスで、フェードしない出力を求める
+            CubismModel fullModel = CubismPhysicsTestUtils.createModel();
+            for (int i = 0; i < model.getParameterCount(); i++) {
+                fullModel.setParameterValue(i, model.getParameterValue(i));
+            }
+            CubismPhysics fullPhysics = CubismPhysics.create(physics);
+            state.clear();
+            physics.saveState(state);
+            state.flip();
+            fullPhysics.loadState(state);
+            fullPhysics.setDetailLevelTransitionTime(FADE_TIME);
+
+            physics.evaluate(model, FADE_DELTA_TIME);
+            fullPhysics.evaluate(fullModel, FADE_DELTA_TIME);
+
+            final float step = FADE_DELTA_TIME / FADE_TIME;
+            expectedDetailLevel = Math.min(expectedDetailLevel + step, 1.0f);
+            expectedWeight = expectedDetailLevel >= 0.5f
+                             ? Math.min(expectedWeight + step, 1.0f)
+                             : Math.max(expectedWeight - step, 0.0f);
+            assertEquals(expectedDetailLevel, physics.getDetailLevel(), 0.0f);
+
+            final float fullValue = fullModel.getParameterValue(COSMETIC_OUTPUT_PARAMETER_INDEX);
+            final float actualValue = model.getParameterValue(COSMETIC_OUTPUT_PARAMETER_INDEX);
+            if (expectedWeight == 0.0f) {
+                assertEquals("frame " + frame, 0.0f, actualValue, 0.0f);
+            } else {
+                assertEquals("frame " + frame, Float.floatToRawIntBits(fullValue * expectedWeight), Float.floatToRawIntBits(actualValue));
+            }
+            hasFaded |= expectedWeight > 0.0f && expectedWeight < 1.0f && actualValue != fullValue;
+        }
+        assertTrue(hasFaded);
+        assertEquals(1.0f, expectedWeight, 0.0f);
+    }
+
+    @Test
+    public void invalidLevelIsRejected() {
+        CubismPhysics physics = CubismPhysics.create(CubismPhysicsTestUtils.createPhysicsJson(0, 3, true));
+
+        physics.setTargetDetailLevel(0.25f);
+        try {
+            physics.setTargetDetailLevel(Float.NaN);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // 拒否された値は設定されない
+            assertEquals(0.25f, physics.getTargetDetailLevel(), 0.0f);
+        }
+
+        // 範囲外の値は範囲に収められる
+        physics.setTargetDetailLevel(2.0f);
+        assertEquals(1.0f, physics.getTargetDetailLevel(), 0.0f);
+        physics.setTargetDetailLevel(-1.0f);
+        assertEquals(0.0f, physics.getTargetDetailLevel(), 0.0f);
+    }
+
+    /**
+     * Set the input parameters of the frame and the output parameters to 0.
+     */
+    private static void resetParameters(CubismModel model, int frame) {
+        CubismPhysicsTestUtils.setInputParameters(model, frame / (float) FPS);
+
+        for (int i = 0; i < CubismPhysicsTestUtils.OUTPUT_PARAMETER_COUNT; i++) {
+            model.setParameterValue(CubismPhysicsTestUtils.INPUT_PARAMETER_COUNT + i, 0.0f);
+        }
+    }
+
+    /**
+     * Create physics3.json of two sub-rigs. The first one writes only "O0" and the second one writes only "O1".
+     */
+    private static byte[] createTwoSubRigJson() {
+        StringBuilder settings = new StringBuilder();
+
+        for (int i = 0; i < 2; i++) {
+            if (i > 0) {
+                settings.append(',');
+            }
+            settings.append("{\"Id\":\"PhysicsSetting").append(i).append("\",")
+                .append("\"Input\":[{\"Source\":{\"Target\":\"Parameter\",\"Id\":\"P").append(i).append("\"},\"Weight\":100,\"Type\":\"X\",\"Reflect\":false}],")
+                .append("\"Output\":[{\"Destination\":{\"Target\":\"Parameter\",\"Id\":\"O").append(i)
+                .append("\"},\"VertexIndex\":2,\"Scale\":10,\"Weight\":100,\"Type\":\"Angle\",\"Reflect\":false}],")
+                .append("\"Vertices\":[")
+                .append("{\"Position\":{\"X\":0,\"Y\":0},\"Mobility\":1,\"Delay\":1,\"Acceleration\":1,\"Radius\":0},")
+                .append("{\"Position\":{\"X\":0,\"Y\":10},\"Mobility\":0.95,\"Delay\":0.9,\"Acceleration\":1.5,\"Radius\":10},")
+                .append("{\"Position\":{\"X\":0,\"Y\":20},\"Mobility\":0.95,\"Delay\":0.9,\"Acceleration\":1.5,\"Radius\":10}],")
+                .append("\"Normalization\":{\"Position\":{\"Minimum\":-10,\"Default\":0,\"Maximum\":10},\"Angle\":{\"Minimum\":-10,\"Default\":0,\"Maximum\":10}}}");
+        }
+
+        return ("{\"Version\":3,\"Meta\":{\"PhysicsSettingCount\":2,\"TotalInputCount\":2,\"TotalOutputCount\":2,\"VertexCount\":6,"
+            + "\"EffectiveForces\":{\"Gravity\":{\"X\":0,\"Y\":-1},\"Wind\":{\"X\":0,\"Y\":0}},\"Fps\":32,\"PhysicsDictionary\":[]},"
+            + "\"PhysicsSettings\":[" + settings + "]}").getBytes(Charset.forName("UTF-8"));
+    }
+
+    private static final int FRAME_COUNT = 100;
+    /**
+     * FPS of the physics. The times of the steps are exact in float.
+     */
+    private static final int FPS = 32;
+    /**
+     * Index of "O0" in the model created by {@link CubismPhysicsTestUtils#createModel()}
+     */
+    private static final int COSMETIC_OUTPUT_PARAMETER_INDEX = CubismPhysicsTestUtils.INPUT_PARAMETER_COUNT;
+    private static final float UNTOUCHED_VALUE = 7.0f;
+    /**
+     * Delta time at which a physics step is run every frame at the detail level 0.0[s]
+     */
+    private static final float LOW_DETAIL_DELTA_TIME = 1.0f / 8.0f;
+    private static final float FADE_DELTA_TIME = 1.0f / 16.0f;
+    private static final float FADE_TIME = 0.5f;
+}
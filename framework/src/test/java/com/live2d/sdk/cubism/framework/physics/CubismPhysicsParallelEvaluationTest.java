@@ -0,0 +1,77 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The sub-rigs evaluated in parallel by {@link CubismPhysics#setParallelEvaluationPool(ForkJoinPool)} must give the same results as the serial evaluation.
+ */
+public class CubismPhysicsParallelEvaluationTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void parallelSubRigsMatchSerialSubRigs() {
+        for (int seed = 0; seed < 12; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 3 + seed, seed % 3 != 0);
+
+            CubismModel serialModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics serialPhysics = CubismPhysics.create(json);
+
+            CubismModel parallelModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics parallelPhysics = CubismPhysics.create(json);
+            parallelPhysics.setParallelEvaluationPool(pool);
+
+            if (seed % 4 == 1) {
+                CubismPhysics.Options options = new CubismPhysics.Options();
+                options.gravity.set(0.2f, -1.0f);
+                options.wind.set(0.3f, 0.1f);
+
+                serialPhysics.setOptions(options);
+                parallelPhysics.setOptions(options);
+            }
+
+            CubismPhysicsTestUtils.setInputParameters(serialModel, 0.3f);
+            CubismPhysicsTestUtils.setInputParameters(parallelModel, 0.3f);
+            serialPhysics.stabilization(serialModel);
+            parallelPhysics.stabilization(parallelModel);
+            CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", stabilization", serialModel, parallelModel);
+
+            float timeSeconds = 0.0f;
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(frame);
+                timeSeconds += deltaTimeSeconds;
+
+                CubismPhysicsTestUtils.setInputParameters(serialModel, timeSeconds);
+                CubismPhysicsTestUtils.setInputParameters(parallelModel, timeSeconds);
+                serialPhysics.evaluate(serialModel, deltaTimeSeconds);
+                parallelPhysics.evaluate(parallelModel, deltaTimeSeconds);
+
+                CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", frame " + frame, serialModel, parallelModel);
+            }
+        }
+    }
+
+    private static final int FRAME_COUNT = 300;
+
+    private static ForkJoinPool pool;
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The instance created by {@link CubismPhysics#create(CubismPhysics)} must behave as the one created from the same physics3.json by {@link CubismPhysics#create(byte[])}.
+ */
+public class CubismPhysicsSharedRigTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void sharedRigInstancesMatchParsedInstances() {
+        for (int seed = 0; seed < 8; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 3 + seed % 5, seed % 2 == 0);
+
+            // 共有元のインスタンスは先に演算を進めておき、共有先に影響しないことも確かめる
+            CubismModel sourceModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics sourcePhysics = CubismPhysics.create(json);
+            CubismPhysicsTestUtils.setInputParameters(sourceModel, 0.5f);
+            sourcePhysics.stabilization(sourceModel);
+            sourcePhysics.evaluate(sourceModel, 0.1f);
+
+            CubismModel parsedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics parsedPhysics = CubismPhysics.create(json);
+
+            CubismModel sharedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics sharedPhysics = CubismPhysics.create(sourcePhysics);
+
+            CubismPhysicsTestUtils.setInputParameters(parsedModel, 0.0f);
+            CubismPhysicsTestUtils.setInputParameters(sharedModel, 0.0f);
+            parsedPhysics.stabilization(parsedModel);
+            sharedPhysics.stabilization(sharedModel);
+            CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", stabilization", parsedModel, sharedModel);
+
+            float timeSeconds = 0.0f;
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(frame);
+                timeSeconds += deltaTimeSeconds;
+
+                CubismPhysicsTestUtils.setInputParameters(parsedModel, timeSeconds);
+                CubismPhysicsTestUtils.setInputParameters(sharedModel, timeSeconds);
+                CubismPhysicsTestUtils.setInputParameters(sourceModel, timeSeconds * 2.0f);
+
+                parsedPhysics.evaluate(parsedModel, deltaTimeSeconds);
+                sharedPhysics.evaluate(sharedModel, deltaTimeSeconds);
+                sourcePhysics.evaluate(sourceModel, deltaTimeSeconds);
+
+                CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", frame " + frame, parsedModel, sharedModel);
+            }
+        }
+    }
+
+    private static final int FRAME_COUNT = 200;
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the incremental stabilization of {@link CubismPhysics}.
+ */
+public class CubismPhysicsStabilizationTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void progressOfStabilizationWithoutWorkIsOne() {
+        CubismModel model = CubismPhysicsTestUtils.createModel();
+        CubismPhysics physics = CubismPhysics.create(CubismPhysicsTestUtils.createPhysicsJson(0, 0, true));
+        physics.setMaxStabilizationStepCount(0);
+
+        physics.beginStabilization(model);
+        assertEquals(1.0f, physics.getStabilizationProgress(), 0.0f);
+
+        assertTrue(physics.updateStabilization(model));
+        assertFalse(physics.isStabilizing());
+    }
+
+    @Test
+    public void evaluationDuringStabilizationDoesNothing() {
+        byte[] json = CubismPhysicsTestUtils.createPhysicsJson(7, 6, true);
+
+        CubismModel expectedModel = CubismPhysicsTestUtils.createModel();
+        CubismPhysics expectedPhysics = CubismPhysics.create(json);
+
+        CubismModel actualModel = CubismPhysicsTestUtils.createModel();
+        CubismPhysics actualPhysics = CubismPhysics.create(json);
+
+        CubismPhysicsTestUtils.setInputParameters(expectedModel, 1.0f);
+        CubismPhysicsTestUtils.setInputParameters(actualModel, 1.0f);
+        expectedPhysics.beginStabilization(expectedModel, 10);
+        actualPhysics.beginStabilization(actualModel, 10);
+
+        boolean isFinished = false;
+        for (int frame = 0; !isFinished; frame++) {
+            // 安定化の途中で毎フレーム呼ばれても、状態もパラメータも変えない
+            actualPhysics.evaluate(actualModel, 1.0f / 60.0f);
+            actualPhysics.evaluateTicks(actualModel, 1);
+            CubismPhysicsTestUtils.assertSameParameterValues("frame " + frame + ", evaluation", expectedModel, actualModel);
+
+            isFinished = expectedPhysics.updateStabilization(expectedModel);
+            assertEquals(isFinished, actualPhysics.updateStabilization(actualModel));
+            CubismPhysicsTestUtils.assertSameParameterValues("frame " + frame + ", stabilization", expectedModel, actualModel);
+        }
+
+        float timeSeconds = 1.0f;
+        for (int frame = 0; frame < 100; frame++) {
+            final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(frame);
+            timeSeconds += deltaTimeSeconds;
+
+            CubismPhysicsTestUtils.setInputParameters(expectedModel, timeSeconds);
+            CubismPhysicsTestUtils.setInputParameters(actualModel, timeSeconds);
+            expectedPhysics.evaluate(expectedModel, deltaTimeSeconds);
+            actualPhysics.evaluate(actualModel, deltaTimeSeconds);
+
+            CubismPhysicsTestUtils.assertSameParameterValues("frame " + frame + " after stabilization", expectedModel, actualModel);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismTestModelFactory;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * The state restored by {@link CubismPhysics#loadState(ByteBuffer)} must continue the physics operation exactly as the saved instance did.
+ */
+public class CubismPhysicsStateTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void restoredStateGivesSameResults() {
+        for (int seed = 0; seed < 6; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 5, seed % 2 == 0);
+
+            CubismModel model = CubismPhysicsTestUtils.createModel();
+            CubismPhysics physics = CubismPhysics.create(json);
+            CubismPhysicsTestUtils.setInputParameters(model, 0.0f);
+            physics.stabilization(model);
+            simulate(model, physics, 0, 100);
+
+            ByteBuffer state = ByteBuffer.allocateDirect(physics.getStateSize());
+            physics.saveState(state);
+            assertEquals(physics.getStateSize(), state.position());
+            state.flip();
+
+            float[] parameterValues = getParameterValues(model);
+            int[] expected = simulate(model, physics, 100, 200);
+
+            // 同じインスタンスに戻す
+            setParameterValues(model, parameterValues);
+            physics.loadState(state);
+            assertEquals(physics.getStateSize(), state.position());
+            assertArrayEquals("seed " + seed + ", same instance", expected, simulate(model, physics, 100, 200));
+
+            // 同じphysics3.jsonから作成した別のインスタンスに戻す
+            state.rewind();
+            setParameterValues(model, parameterValues);
+            CubismPhysics otherPhysics = CubismPhysics.create(json);
+            otherPhysics.loadState(state);
+            assertArrayEquals("seed " + seed + ", other instance", expected, simulate(model, otherPhysics, 100, 200));
+        }
+    }
+
+    @Test
+    public void stateSavedBeforeFirstEvaluationRestoresNewInstance() {
+        byte[] json = CubismPhysicsTestUtils.createPhysicsJson(3, 4, true);
+
+        CubismModel model = CubismPhysicsTestUtils.createModel();
+        CubismPhysics physics = CubismPhysics.create(json);
+
+        ByteBuffer initialState = ByteBuffer.allocate(physics.getStateSize());
+        physics.saveState(initialState);
+        initialState.flip();
+
+        CubismPhysicsTestUtils.setInputParameters(model, 0.0f);
+        float[] parameterValues = getParameterValues(model);
+        int[] expected = simulate(model, physics, 0, 100);
+
+        // 演算後はモデルの全てのパラメータの入力キャッシュを含む
+        assertEquals(initialState.limit() + 4 * model.getParameterCount(), physics.getStateSize());
+
+        setParameterValues(model, parameterValues);
+        physics.loadState(initialState);
+        assertEquals(initialState.limit(), physics.getStateSize());
+        assertArrayEquals(expected, simulate(model, physics, 0, 100));
+    }
+
+    @Test
+    public void stateOfModelWithDifferentParameterCountIsRejected() {
+        byte[] json = CubismPhysicsTestUtils.createPhysicsJson(5, 3, false);
+
+        CubismModel model = CubismPhysicsTestUtils.createModel();
+        CubismPhysics physics = CubismPhysics.create(json);
+        simulate(model, physics, 0, 10);
+
+        ByteBuffer state = ByteBuffer.allocate(physics.getStateSize());
+        physics.saveState(state);
+        state.flip();
+
+        CubismModel largerModel = createModelWithExtraParameter();
+        CubismPhysics otherPhysics = CubismPhysics.create(json);
+        simulate(largerModel, otherPhysics, 0, 10);
+
+        try {
+            otherPhysics.loadState(state);
+            fail("The state of a model which has a different number of parameters was restored.");
+        } catch (IllegalArgumentException e) {
+            assertEquals(0, state.position());
+        }
+    }
+
+    /**
+     * Run the physics operation for the frames.
+     *
+     * @param model model
+     * @param physics physics
+     * @param firstFrame index of the first frame, which determines the time and the inputs
+     * @param frameCount number of the frames
+     * @return bits of all the parameter values of every frame
+     */
+    private static int[] simulate(CubismModel model, CubismPhysics physics, int firstFrame, int frameCount) {
+        final int parameterCount = model.getParameterCount();
+        int[] trace = new int[frameCount * parameterCount];
+
+        for (int frame = 0; frame < frameCount; frame++) {
+            final float deltaTimeSeconds = CubismPhysicsTestUtils.getDeltaTime(firstFrame + frame);
+
+            CubismPhysicsTestUtils.setInputParameters(model, (firstFrame + frame) * 0.03f);
+            physics.evaluate(model, deltaTimeSeconds);
+
+            for (int i = 0; i < parameterCount; i++) {
+                trace[frame * parameterCount + i] = Float.floatToRawIntBits(model.getParameterValue(i));
+            }
+        }
+        return trace;
+    }
+
+    private static float[] getParameterValues(CubismModel model) {
+        float[] values = new float[model.getParameterCount()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = model.getParameterValue(i);
+        }
+        return values;
+    }
+
+    private static void setParameterValues(CubismModel model, float[] values) {
+        for (int i = 0; i < values.length; i++) {
+            model.setParameterValue(i, values[i]);
+        }
+    }
+
+    private static CubismModel createModelWithExtraParameter() {
+        final int parameterCount = CubismPhysicsTestUtils.INPUT_PARAMETER_COUNT + CubismPhysicsTestUtils.OUTPUT_PARAMETER_COUNT + 1;
+
+        String[] ids = new String[parameterCount];
+        float[] minimumValues = new float[parameterCount];
+        float[] maximumValues = new float[parameterCount];
+        float[] defaultValues = new float[parameterCount];
+
+        for (int i = 0; i < CubismPhysicsTestUtils.INPUT_PARAMETER_COUNT; i++) {
+            ids[i] = "P" + i;
+        }
+        for (int i = 0; i < CubismPhysicsTestUtils.OUTPUT_PARAMETER_COUNT; i++) {
+            ids[CubismPhysicsTestUtils.INPUT_PARAMETER_COUNT + i] = "O" + i;
+        }
+        ids[parameterCount - 1] = "Extra";
+
+        for (int i = 0; i < parameterCount; i++) {
+            minimumValues[i] = -30.0f;
+            maximumValues[i] = 30.0f;
+        }
+        return CubismTestModelFactory.create(ids, minimumValues, maximumValues, defaultValues);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The physics steps exceeding the maximum number in an evaluation of {@link CubismPhysics} must be reduced according to {@link CubismPhysics.SubStepOverflowMode}.
+ */
+public class CubismPhysicsSubStepTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void dropModeRunsMaxStepsAndReportsDroppedSteps() {
+        for (int seed = 0; seed < 6; seed++) {
+            final byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 3 + seed % 3, FPS);
+
+            CubismModel cappedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics cappedPhysics = CubismPhysics.create(json);
+            cappedPhysics.setMaxSubStepCount(MAX_SUB_STEP_COUNT);
+
+            CubismModel expectedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics expectedPhysics = CubismPhysics.create(json);
+
+            warmUp(cappedModel, cappedPhysics);
+            warmUp(expectedModel, expectedPhysics);
+            assertEquals(1, cappedPhysics.getLastSubStepCount());
+            assertEquals(0, cappedPhysics.getDroppedStepCount());
+
+            // 上限を超えた古いステップが捨てられ、上限の数のステップだけが実行される
+            CubismPhysicsTestUtils.setInputParameters(cappedModel, 10.0f);
+            CubismPhysicsTestUtils.setInputParameters(expectedModel, 10.0f);
+            cappedPhysics.evaluate(cappedModel, (PENDING_STEP_COUNT + 0.5f) * STEP_TIME);
+            expectedPhysics.evaluate(expectedModel, (MAX_SUB_STEP_COUNT + 0.5f) * STEP_TIME);
+
+            assertEquals(MAX_SUB_STEP_COUNT, cappedPhysics.getLastSubStepCount());
+            assertEquals(PENDING_STEP_COUNT - MAX_SUB_STEP_COUNT, cappedPhysics.getLastDroppedStepCount());
+            assertEquals(PENDING_STEP_COUNT - MAX_SUB_STEP_COUNT, cappedPhysics.getDroppedStepCount());
+            assertEquals(MAX_SUB_STEP_COUNT, expectedPhysics.getLastSubStepCount());
+            assertEquals(0, expectedPhysics.getDroppedStepCount());
+            CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", hitch", expectedModel, cappedModel);
+
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                final float timeSeconds = 10.0f + frame * STEP_TIME;
+                CubismPhysicsTestUtils.setInputParameters(cappedModel, timeSeconds);
+                CubismPhysicsTestUtils.setInputParameters(expectedModel, timeSeconds);
+                cappedPhysics.evaluate(cappedModel, STEP_TIME);
+                expectedPhysics.evaluate(expectedModel, STEP_TIME);
+
+                assertEquals(1, cappedPhysics.getLastSubStepCount());
+                assertEquals(0, cappedPhysics.getLastDroppedStepCount());
+                CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", frame " + frame, expectedModel, cappedModel);
+            }
+
+            // 最大の経過時間を超えたときに捨てられたステップも数える
+            cappedPhysics.evaluate(cappedModel, CubismPhysics.MAX_DELTA_TIME + 1.0f);
+            final int discardedStepCount = (int) ((CubismPhysics.MAX_DELTA_TIME + 1.0f) / STEP_TIME);
+
+            assertEquals(0, cappedPhysics.getLastSubStepCount());
+            assertEquals(discardedStepCount, cappedPhysics.getLastDroppedStepCount());
+            assertEquals(PENDING_STEP_COUNT - MAX_SUB_STEP_COUNT + discardedStepCount, cappedPhysics.getDroppedStepCount());
+
+            cappedPhysics.reset();
+            assertEquals(0, cappedPhysics.getLastSubStepCount());
+            assertEquals(0, cappedPhysics.getDroppedStepCount());
+        }
+    }
+
+    @Test
+    public void stabilizeModeReplacesStepsWithStabilizedState() {
+        for (int seed = 0; seed < 6; seed++) {
+            final byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 3 + seed % 3, FPS);
+
+            CubismModel cappedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics cappedPhysics = CubismPhysics.create(json);
+            cappedPhysics.setMaxSubStepCount(MAX_SUB_STEP_COUNT);
+            cappedPhysics.setSubStepOverflowMode(CubismPhysics.SubStepOverflowMode.STABILIZE);
+
+            CubismModel expectedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics expectedPhysics = CubismPhysics.create(json);
+
+            warmUp(cappedModel, cappedPhysics);
+            warmUp(expectedModel, expectedPhysics);
+
+            // 全てのステップが、現在のパラメータ値で安定化した状態に置き換えられる
+            CubismPhysicsTestUtils.setInputParameters(cappedModel, 10.0f);
+            CubismPhysicsTestUtils.setInputParameters(expectedModel, 10.0f);
+            cappedPhysics.evaluate(cappedModel, (PENDING_STEP_COUNT + 0.5f) * STEP_TIME);
+            expectedPhysics.stabilization(expectedModel);
+
+            assertEquals(0, cappedPhysics.getLastSubStepCount());
+            assertEquals(PENDING_STEP_COUNT - 1, cappedPhysics.getLastDroppedStepCount());
+            assertEquals(PENDING_STEP_COUNT - 1, cappedPhysics.getDroppedStepCount());
+
+            final int outputCount = cappedPhysics.getOutputCount();
+            float[] cappedOutputs = new float[outputCount];
+            float[] expectedOutputs = new float[outputCount];
+            cappedPhysics.getOutputs(cappedOutputs, 0);
+            expectedPhysics.getOutputs(expectedOutputs, 0);
+            assertArrayEquals("seed " + seed, expectedOutputs, cappedOutputs, 0.0f);
+
+            // 粒子の状態と入力のキャッシュも同じであれば、続く演算の結果も同じになる
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                final float timeSeconds = 10.0f + frame * STEP_TIME;
+                CubismPhysicsTestUtils.setInputParameters(cappedModel, timeSeconds);
+                CubismPhysicsTestUtils.setInputParameters(expectedModel, timeSeconds);
+                cappedPhysics.evaluateTicks(cappedModel, 2);
+                expectedPhysics.evaluateTicks(expectedModel, 2);
+
+                cappedPhysics.getOutputs(cappedOutputs, 0);
+                expectedPhysics.getOutputs(expectedOutputs, 0);
+                assertArrayEquals("seed " + seed + ", frame " + frame, expectedOutputs, cappedOutputs, 0.0f);
+            }
+        }
+    }
+
+    /**
+     * Run the physics steps one by one with the moving inputs.
+     */
+    private static void warmUp(CubismModel model, CubismPhysics physics) {
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            CubismPhysicsTestUtils.setInputParameters(model, frame * STEP_TIME);
+            physics.evaluate(model, STEP_TIME);
+        }
+    }
+
+    /**
+     * FPS of the physics. The times of the steps are exact in float.
+     */
+    private static final int FPS = 32;
+    private static final float STEP_TIME = 1.0f / FPS;
+    private static final int MAX_SUB_STEP_COUNT = 4;
+    private static final int PENDING_STEP_COUNT = 12;
+    private static final int FRAME_COUNT = 20;
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismTestModelFactory;
+
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Utilities for the unit tests of the physics.
+ * <p>
+ * The physics created by {@link #createPhysicsJson(long, int, boolean)} reads the parameters "P0" to "P9" and writes the parameters "O0" to "O9".
+ * A sub-rig may also read the outputs of the preceding sub-rigs, so the sub-rigs can depend on each other.
+ */
+final class CubismPhysicsTestUtils {
+    /**
+     * Start up and initialize the framework if it has not been done.
+     */
+    static void setUpFramework() {
+        if (!CubismFramework.isStarted()) {
+            CubismFramework.startUp(new CubismFramework.Option());
+        }
+        if (!CubismFramework.isInitialized()) {
+            CubismFramework.initialize();
+        }
+    }
+
+    /**
+     * Create a model which has the input and the output parameters of the generated physics.
+     *
+     * @return a model
+     */
+    static CubismModel createModel() {
+        final int parameterCount = INPUT_PARAMETER_COUNT + OUTPUT_PARAMETER_COUNT;
+
+        String[] ids = new String[parameterCount];
+        float[] minimumValues = new float[parameterCount];
+        float[] maximumValues = new float[parameterCount];
+        float[] defaultValues = new float[parameterCount];
+
+        for (int i = 0; i < parameterCount; i++) {
+            ids[i] = i < INPUT_PARAMETER_COUNT
+                     ? "P" + i
+                     : "O" + (i - INPUT_PARAMETER_COUNT);
+            minimumValues[i] = -30.0f;
+            maximumValues[i] = 30.0f;
+        }
+
+        return CubismTestModelFactory.create(ids, minimumValues, maximumValues, defaultValues);
+    }
+
+    /**
+     * Generate physics3.json from the seed.
+     *
+     * @param seed seed of the random values
+     * @param subRigCount number of the sub-rigs
+     * @param hasFps whether the physics has "Fps"
+     * @return UTF-8 byte data of the JSON
+     */
+    static byte[] createPhysicsJson(long seed, int subRigCount, boolean hasFps) {
+        final String[] types = {"X", "Y", "Angle"};
+        Random random = new Random(seed);
+
+        int totalInputCount = 0;
+        int totalOutputCount = 0;
+        int totalVertexCount = 0;
+
+        StringBuilder settings = new StringBuilder();
+        for (int rigIndex = 0; rigIndex < subRigCount; rigIndex++) {
+            final int inputCount = 1 + random.nextInt(3);
+            final int outputCount = 1 + random.nextInt(3);
+            final int vertexCount = 2 + random.nextInt(4);
+
+            totalInputCount += inputCount;
+            totalOutputCount += outputCount;
+            totalVertexCount += vertexCount;
+
+            if (rigIndex > 0) {
+                settings.append(',');
+            }
+            settings.append("{\"Id\":\"PhysicsSetting").append(rigIndex).append("\",\"Input\":[");
+
+            for (int i = 0; i < inputCount; i++) {
+                // Read the output of the preceding sub-rigs sometimes.
+                String id = rigIndex > 0 && random.nextInt(4) == 0
+                            ? "O" + random.nextInt(OUTPUT_PARAMETER_COUNT)
+                            : "P" + random.nextInt(INPUT_PARAMETER_COUNT);
+
+                if (i > 0) {
+                    settings.append(',');
+                }
+                settings.append("{\"Source\":{\"Target\":\"Parameter\",\"Id\":\"").append(id)
+                    .append("\"},\"Weight\":").append(10 + random.nextInt(90))
+                    .append(",\"Type\":\"").append(types[random.nextInt(3)])
+                    .append("\",\"Reflect\":").append(random.nextBoolean())
+                    .append('}');
+            }
+            settings.append("],\"Output\":[");
+
+            for (int i = 0; i < outputCount; i++) {
+                if (i > 0) {
+                    settings.append(',');
+                }
+                settings.append("{\"Destination\":{\"Target\":\"Parameter\",\"Id\":\"O").append(random.nextInt(OUTPUT_PARAMETER_COUNT))
+                    .append("\"},\"VertexIndex\":").append(random.nextInt(vertexCount + 1))
+                    .append(",\"Scale\":").append(0.5f + random.nextFloat() * 20.0f)
+                    .append(",\"Weight\":").append(random.nextInt(3) == 0 ? 100 : 20 + random.nextInt(80))
+                    .append(",\"Type\":\"").append(random.nextInt(5) == 0 ? types[random.nextInt(2)] : "Angle")
+                    .append("\",\"Reflect\":").append(random.nextBoolean())
+                    .append('}');
+            }
+            settings.append("],\"Vertices\":[");
+
+            float y = 0.0f;
+            for (int i = 0; i < vertexCount; i++) {
+                final float radius = i == 0
+                                     ? 0.0f
+                                     : 3.0f + random.nextFloat() * 10.0f;
+                y += radius;
+
+                if (i > 0) {
+                    settings.append(',');
+                }
+                settings.append("{\"Position\":{\"X\":0,\"Y\":").append(y)
+                    .append("},\"Mobility\":").append(0.8f + random.nextFloat() * 0.2f)
+                    .append(",\"Delay\":").append(0.5f + random.nextFloat() * 0.5f)
+                    .append(",\"Acceleration\":").append(0.5f + random.nextFloat() * 2.0f)
+                    .append(",\"Radius\":").append(radius)
+                    .append('}');
+            }
+            settings.append("],\"Normalization\":{\"Position\":{\"Minimum\":").append(-5 - random.nextInt(10))
+                .append(",\"Default\":0,\"Maximum\":").append(5 + random.nextInt(10))
+                .append("},\"Angle\":{\"Minimum\":").append(-5 - random.nextInt(20))
+                .append(",\"Default\":0,\"Maximum\":").append(5 + random.nextInt(20))
+                .append("}}}");
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\"Version\":3,\"Meta\":{\"PhysicsSettingCount\":").append(subRigCount)
+            .append(",\"TotalInputCount\":").append(totalInputCount)
+            .append(",\"TotalOutputCount\":").append(totalOutputCount)
+            .append(",\"VertexCount\":").append(totalVertexCount)
+            .append(",\"EffectiveForces\":{\"Gravity\":{\"X\":0,\"Y\":-1},\"Wind\":{\"X\":0,\"Y\":0}}");
+        if (hasFps) {
+            json.append(",\"Fps\":").append(30 + random.nextInt(31));
+        }
+        json.append(",\"PhysicsDictionary\":[]},\"PhysicsSettings\":[").append(settings).append("]}");
+
+        return json.toString().getBytes(Charset.forName("UTF-8"));
+    }
+
+    /**
+     * Generate physics3.json from the seed with the given FPS.
+     *
+     * @param seed seed of the random values
+     * @param subRigCount number of the sub-rigs
+     * @param fps FPS of the physics. With a power of 2, the times of the physics steps are exact in float.
+     * @return UTF-8 byte data of the JSON
+     */
+    static byte[] createPhysicsJson(long seed, int subRigCount, int fps) {
+        final Charset utf8 = Charset.forName("UTF-8");
+        final String json = new String(createPhysicsJson(seed, subRigCount, true), utf8);
+
+        return json.replaceFirst("\"Fps\":[0-9]+", "\"Fps\":" + fps).getBytes(utf8);
+    }
+
+    /**
+     * Move the input parameters of the model along sine waves.
+     *
+     * @param model model
+     * @param timeSeconds elapsed time[s]
+     */
+    static void setInputParameters(CubismModel model, float timeSeconds) {
+        for (int i = 0; i < INPUT_PARAMETER_COUNT; i++) {
+            model.setParameterValue(i, (float) Math.sin(timeSeconds * (i + 1) * 0.7f) * 25.0f);
+        }
+    }
+
+    /**
+     * Get the delta time of the frame. It varies from frame to frame and sometimes becomes long.
+     *
+     * @param frame index of the frame
+     * @return delta time[s]
+     */
+    static float getDeltaTime(int frame) {
+        if (frame % 97 == 50) {
+            return 0.7f;
+        }
+        return 0.005f + (frame * 7 % 11) * 0.005f;
+    }
+
+    /**
+     * Assert that all the parameter values of the models are the same bit by bit.
+     *
+     * @param message message of the assertion
+     * @param expected expected model
+     * @param actual actual model
+     */
+    static void assertSameParameterValues(String message, CubismModel expected, CubismModel actual) {
+        assertEquals(message, expected.getParameterCount(), actual.getParameterCount());
+
+        for (int i = 0; i < expected.getParameterCount(); i++) {
+            assertEquals(
+                message + ", parameter " + i,
+                Float.floatToRawIntBits(expected.getParameterValue(i)),
+                Float.floatToRawIntBits(actual.getParameterValue(i))
+            );
+        }
+    }
+
+    /**
+     * Number of the parameters read by the physics
+     */
+    static final int INPUT_PARAMETER_COUNT = 10;
+    /**
+     * Number of the parameters written by the physics
+     */
+    static final int OUTPUT_PARAMETER_COUNT = 10;
+
+    /**
+     * private constructor
+     */
+    private CubismPhysicsTestUtils() {}
+}
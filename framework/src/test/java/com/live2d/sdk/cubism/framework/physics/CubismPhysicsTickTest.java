@@ -0,0 +1,100 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests of the tick-driven evaluation and the replay of the recorded outputs of {@link CubismPhysics}.
+ */
+public class CubismPhysicsTickTest {
+    @BeforeClass
+    public static void setUpClass() {
+        CubismPhysicsTestUtils.setUpFramework();
+    }
+
+    @Test
+    public void ticksAreNotCappedBySubStepSettings() {
+        for (int seed = 0; seed < 6; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 4, seed % 2 == 0);
+
+            CubismModel expectedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics expectedPhysics = CubismPhysics.create(json);
+
+            // 1回の評価のステップ数の上限はevaluateTicks()には適用されない
+            CubismModel actualModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics actualPhysics = CubismPhysics.create(json);
+            actualPhysics.setMaxSubStepCount(1);
+            actualPhysics.setSubStepOverflowMode(CubismPhysics.SubStepOverflowMode.STABILIZE);
+
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                final int tickCount = getTickCount(frame);
+
+                CubismPhysicsTestUtils.setInputParameters(expectedModel, frame * 0.05f);
+                CubismPhysicsTestUtils.setInputParameters(actualModel, frame * 0.05f);
+                expectedPhysics.evaluateTicks(expectedModel, tickCount);
+                actualPhysics.evaluateTicks(actualModel, tickCount);
+
+                CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", frame " + frame, expectedModel, actualModel);
+            }
+        }
+    }
+
+    @Test
+    public void replayOfRecordedOutputsMatchesEvaluation() {
+        for (int seed = 0; seed < 6; seed++) {
+            byte[] json = CubismPhysicsTestUtils.createPhysicsJson(seed, 4, seed % 2 != 0);
+
+            CubismModel recordedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics recordedPhysics = CubismPhysics.create(json);
+
+            final int outputCount = recordedPhysics.getOutputCount();
+            float[] recordedOutputs = new float[FRAME_COUNT * outputCount];
+            CubismModel[] recordedFrames = new CubismModel[FRAME_COUNT];
+
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                CubismPhysicsTestUtils.setInputParameters(recordedModel, frame * 0.05f);
+                recordedPhysics.evaluateTicks(recordedModel, getTickCount(frame));
+                recordedPhysics.getOutputs(recordedOutputs, frame * outputCount);
+
+                recordedFrames[frame] = copyParameterValues(recordedModel);
+            }
+
+            // 物理演算をせずに、記録した結果を同じパラメータの流れに適用する
+            CubismModel replayedModel = CubismPhysicsTestUtils.createModel();
+            CubismPhysics replayedPhysics = CubismPhysics.create(json);
+
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                CubismPhysicsTestUtils.setInputParameters(replayedModel, frame * 0.05f);
+                replayedPhysics.applyOutputs(replayedModel, recordedOutputs, frame * outputCount);
+
+                CubismPhysicsTestUtils.assertSameParameterValues("seed " + seed + ", frame " + frame, recordedFrames[frame], replayedModel);
+            }
+        }
+    }
+
+    /**
+     * Get the number of the ticks of the frame. It includes the frames without a tick and the frames with multiple ticks.
+     */
+    private static int getTickCount(int frame) {
+        return frame * 5 % 7 % 4;
+    }
+
+    private static CubismModel copyParameterValues(CubismModel model) {
+        CubismModel copy = CubismPhysicsTestUtils.createModel();
+
+        for (int i = 0; i < model.getParameterCount(); i++) {
+            copy.setParameterValue(i, model.getParameterValue(i));
+        }
+        return copy;
+    }
+
+    private static final int FRAME_COUNT = 200;
+}
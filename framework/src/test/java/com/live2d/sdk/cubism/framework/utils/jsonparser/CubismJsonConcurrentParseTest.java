@@ -0,0 +1,156 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * JSON parsed on multiple threads at the same time must give the same values as the JSON parsed on a single thread.
+ * The documents are full of escape sequences, especially the unicode notations, which are read through the token buffer of the lexer.
+ */
+public class CubismJsonConcurrentParseTest {
+    @Test
+    public void parallelParsingMatchesSingleThreadedParsing() throws Exception {
+        final List<byte[]> documents = new ArrayList<byte[]>();
+        for (int seed = 0; seed < DOCUMENT_COUNT; seed++) {
+            documents.add(createDocument(seed));
+        }
+
+        final String[] expected = new String[DOCUMENT_COUNT];
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            expected[i] = parse(documents.get(i));
+        }
+
+        // 全てのスレッドで同時に解析を始める
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        try {
+            List<Future<String[]>> results = new ArrayList<Future<String[]>>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                final int threadIndex = t;
+                results.add(executor.submit(new Callable<String[]>() {
+                    @Override
+                    public String[] call() throws Exception {
+                        startSignal.await();
+
+                        // スレッドごとに異なる順番で解析する
+                        String[] parsed = new String[DOCUMENT_COUNT];
+                        for (int round = 0; round < ROUND_COUNT; round++) {
+                            for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                                final int index = (i * 7 + threadIndex * 13 + round) % DOCUMENT_COUNT;
+                                parsed[index] = parse(documents.get(index));
+                            }
+                        }
+                        return parsed;
+                    }
+                }));
+            }
+            startSignal.countDown();
+
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                String[] parsed = results.get(t).get();
+                for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                    assertEquals("thread " + t + ", document " + i, expected[i], parsed[i]);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Parse the JSON and describe the result.
+     *
+     * @param document UTF-8 byte data of the JSON
+     * @return the string expression of the values and the keys, or the exception thrown
+     */
+    private static String parse(byte[] document) {
+        try {
+            ACubismJsonValue root = CubismJson.create(document).getRoot();
+            return root.getString("", "") + "\n" + describeKeys(root);
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    private static String describeKeys(ACubismJsonValue value) {
+        StringBuilder description = new StringBuilder();
+
+        if (value.isObject()) {
+            for (CubismJsonString key : value.getKeys()) {
+                description.append(key.getString()).append('|').append(describeKeys(value.get(key.getString())));
+            }
+        } else if (value.isArray()) {
+            for (int i = 0; i < value.size(); i++) {
+                description.append(describeKeys(value.get(i)));
+            }
+        }
+        return description.toString();
+    }
+
+    /**
+     * Create a JSON document whose strings are full of escape sequences.
+     * Some documents have an incorrect unicode notation at the end.
+     *
+     * @param seed seed of the random values
+     * @return UTF-8 byte data of the JSON
+     */
+    private static byte[] createDocument(long seed) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder("{\"Version\": 3, \"Items\": [");
+
+        final int itemCount = 20 + random.nextInt(40);
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            json.append("{\"Id\\u0049").append(i).append("\": ").append(createString(random))
+                .append(", \"Value\": ").append(random.nextInt(2000) - 1000).append('.').append(random.nextInt(1000))
+                .append(", \"Tags\": [").append(createString(random)).append(", ").append(createString(random)).append("]}");
+        }
+        json.append(']');
+
+        if (seed % 5 == 4) {
+            json.append(", \"Broken\": \"\\u12G4\"");
+        }
+        json.append('}');
+
+        return json.toString().getBytes(Charset.forName("UTF-8"));
+    }
+
+    private static String createString(Random random) {
+        final String[] pieces = {"\\u3042", "\\u00e9", "\\uD83C\\uDF89", "\\u0041\\u0042", "\\n", "\\\"", "\\\\", "\\/", "\\t", "パラメータ", "abc", "é"};
+        StringBuilder string = new StringBuilder("\"");
+
+        // 長い文字列ではトークンのバッファが拡張される
+        final int pieceCount = random.nextInt(4) == 0
+                               ? 40 + random.nextInt(80)
+                               : random.nextInt(8);
+        for (int i = 0; i < pieceCount; i++) {
+            string.append(pieces[random.nextInt(pieces.length)]);
+        }
+        return string.append('"').toString();
+    }
+
+    private static final int DOCUMENT_COUNT = 40;
+    private static final int THREAD_COUNT = 8;
+    private static final int ROUND_COUNT = 20;
+}
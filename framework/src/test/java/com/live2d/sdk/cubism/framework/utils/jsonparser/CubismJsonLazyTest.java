@@ -0,0 +1,297 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The values of JSON parsed by {@link CubismJson#createLazy(byte[])} must be the same as the values parsed by {@link CubismJson#create(byte[])}.
+ */
+public class CubismJsonLazyTest {
+    @Test
+    public void accessedValuesMatchEagerParsing() {
+        for (int seed = 0; seed < DOCUMENT_COUNT; seed++) {
+            final byte[] document = createDocument(seed);
+            final ACubismJsonValue expected = CubismJson.create(document).getRoot();
+
+            // 一部の値だけを読んだ状態と、全ての値を作成した状態の両方を比べる
+            final ACubismJsonValue actual = CubismJson.createLazy(document).getRoot();
+            assertSameValues("seed " + seed, expected, actual, new Random(seed));
+
+            assertEquals("seed " + seed, expected.getString("", ""), actual.getString("", ""));
+            assertEquals("seed " + seed, expected.getKeys(), actual.getKeys());
+            assertEquals("seed " + seed, expected.size(), actual.size());
+            assertSameValues("seed " + seed, expected, actual, new Random(seed + 1));
+        }
+    }
+
+    @Test
+    public void equalsAndHashCodeMatchEagerParsing() {
+        for (int seed = 0; seed < DOCUMENT_COUNT; seed++) {
+            final byte[] document = createDocument(seed);
+            final ACubismJsonValue expected = CubismJson.create(document).getRoot();
+
+            // どちらから比べても、値を作成する前後のどちらでも等しい
+            assertTrue("seed " + seed, expected.equals(CubismJson.createLazy(document).getRoot()));
+            assertTrue("seed " + seed, CubismJson.createLazy(document).getRoot().equals(expected));
+            assertEquals("seed " + seed, expected.hashCode(), CubismJson.createLazy(document).getRoot().hashCode());
+
+            final ACubismJsonValue actual = CubismJson.createLazy(document).getRoot();
+            actual.get("Root");
+            assertTrue("seed " + seed, actual.equals(CubismJson.createLazy(document).getRoot()));
+            assertEquals("seed " + seed, expected.hashCode(), actual.hashCode());
+        }
+
+        final ACubismJsonValue first = CubismJson.createLazy(createDocument(0)).getRoot();
+        final ACubismJsonValue second = CubismJson.createLazy(createDocument(1)).getRoot();
+        assertFalse(first.equals(second));
+    }
+
+    @Test
+    public void duplicateKeysAreOverwrittenByLaterValues() {
+        final byte[] document = "{\"a\": 1, \"b\": [true], \"a\": {\"c\": \"x\", \"c\": \"y\"}, \"\\u0041\": 2, \"\\u0041\": 3}".getBytes(UTF_8);
+        final ACubismJsonValue expected = CubismJson.create(document).getRoot();
+
+        final ACubismJsonValue actual = CubismJson.createLazy(document).getRoot();
+        assertEquals("y", actual.get("a").get("c").getString());
+        assertEquals(3, actual.get("\\u0041").toInt());
+
+        assertEquals(expected.getKeys(), actual.getKeys());
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.getString("", ""), actual.getString("", ""));
+        assertTrue(expected.equals(actual));
+    }
+
+    @Test
+    public void resultsOfMalformedJsonMatchEagerParsing() {
+        final String[] documents = {
+            "{\"a\": tru}",
+            "{\"a\": -x}",
+            "{\"a\": 1.}",
+            "{\"a\": 1e}",
+            "{\"a\": \"\\u12G4\"}",
+            "{\"a\": \"\\x\"}",
+            "{\"a\" 1}",
+            "{\"a\": nul }",
+            "[1,2",
+            "{\"a\": [1 2]}",
+            "{1: 2}",
+            "\n\n{\"a\":\n @}",
+            "[0.1, 00.5]",
+            "{\"a\": \"unterminated"
+        };
+
+        for (String document : documents) {
+            final byte[] bytes = document.getBytes(UTF_8);
+            assertEquals(document, describeResult(bytes, false), describeResult(bytes, true));
+        }
+    }
+
+    @Test
+    public void valuesOfByteBuffersMatchEagerParsing() {
+        for (int seed = 0; seed < DOCUMENT_COUNT; seed += 10) {
+            final byte[] document = createDocument(seed);
+            final String expected = CubismJson.create(document).getRoot().getString("", "");
+
+            // JSONの前後に別のバイトがあるダイレクトバッファ
+            ByteBuffer directBuffer = ByteBuffer.allocateDirect(document.length + 20);
+            directBuffer.position(7);
+            directBuffer.put(document);
+            directBuffer.put("garbage".getBytes(UTF_8));
+            directBuffer.position(7);
+            directBuffer.limit(7 + document.length);
+
+            final ACubismJsonValue directRoot = CubismJson.createLazy(directBuffer).getRoot();
+            assertEquals(7, directBuffer.position());
+            assertSameValues("seed " + seed + ", direct", CubismJson.create(document).getRoot(), directRoot, new Random(seed));
+            assertEquals("seed " + seed + ", direct", expected, directRoot.getString("", ""));
+
+            // 大きな配列から切り出したバッファ
+            byte[] array = new byte[document.length + 11];
+            System.arraycopy(document, 0, array, 5, document.length);
+            array[0] = '[';
+            array[array.length - 1] = ']';
+            ByteBuffer slicedBuffer = ByteBuffer.wrap(array, 5, document.length).slice();
+
+            final ACubismJsonValue slicedRoot = CubismJson.createLazy(slicedBuffer).getRoot();
+            assertEquals(expected, slicedRoot.getString("", ""));
+            assertEquals(expected, CubismJson.create(slicedBuffer).getRoot().getString("", ""));
+        }
+    }
+
+    @Test
+    public void sharedNullValueIsNotChanged() {
+        final String typeMismatchMessage = CubismJsonNullValue.TYPE_MISMATCH.getString();
+
+        final ACubismJsonValue nullValue = CubismJsonNullValue.NULL_VALUE.setErrorNotForClientCall("error");
+        assertTrue(nullValue.isNull());
+        assertEquals("error", nullValue.getString());
+
+        final ACubismJsonValue typeMismatch = CubismJsonNullValue.TYPE_MISMATCH.setErrorNotForClientCall("another error");
+        assertTrue(typeMismatch.isNull());
+        assertEquals("another error", typeMismatch.getString());
+
+        assertEquals("NullValue", CubismJsonNullValue.NULL_VALUE.getString());
+        assertEquals(typeMismatchMessage, CubismJsonNullValue.TYPE_MISMATCH.getString());
+
+        // 存在しないキーの値は共有されたnullの値になる
+        final ACubismJsonValue root = CubismJson.createLazy("{\"a\": null}".getBytes(UTF_8)).getRoot();
+        assertSame(CubismJsonNullValue.NULL_VALUE, root.get("a"));
+        assertSame(CubismJsonNullValue.NULL_VALUE, root.get("b"));
+    }
+
+    /**
+     * Compare the values while reading them in random order, as the accessors do.
+     *
+     * @param path path of the values for the message
+     * @param expected eagerly parsed value
+     * @param actual lazily parsed value
+     * @param random random values to choose the members to read
+     */
+    private static void assertSameValues(String path, ACubismJsonValue expected, ACubismJsonValue actual, Random random) {
+        assertEquals(path, expected.isNull(), actual.isNull());
+        assertEquals(path, expected.isError(), actual.isError());
+        assertEquals(path, expected.isBoolean(), actual.isBoolean());
+        assertEquals(path, expected.isNumber(), actual.isNumber());
+        assertEquals(path, expected.isString(), actual.isString());
+        assertEquals(path, expected.isArray(), actual.isArray());
+        assertEquals(path, expected.isObject(), actual.isObject());
+
+        if (expected.isObject()) {
+            final List<CubismJsonString> keys = expected.getKeys();
+            final int readCount = random.nextInt(keys.size() + 1);
+
+            for (int i = 0; i < readCount; i++) {
+                final String key = keys.get(random.nextInt(keys.size())).getString();
+                assertSameValues(path + "/" + key, expected.get(key), actual.get(key), random);
+            }
+            assertSameValues(path + "/Missing", expected.get("Missing"), actual.get("Missing"), random);
+            assertSameValues(path + "[0]", expected.get(0), actual.get(0), random);
+        } else if (expected.isArray()) {
+            assertEquals(path, expected.size(), actual.size());
+
+            for (int i = -1; i <= expected.size(); i++) {
+                if (random.nextBoolean()) {
+                    assertSameValues(path + "[" + i + "]", expected.get(i), actual.get(i), random);
+                }
+            }
+            assertSameValues(path + "/Key", expected.get("Key"), actual.get("Key"), random);
+        } else {
+            assertEquals(path, expected.getString("", ""), actual.getString("", ""));
+            assertEquals(path, Float.floatToRawIntBits(expected.toFloat()), Float.floatToRawIntBits(actual.toFloat()));
+            assertEquals(path, expected.toInt(), actual.toInt());
+            assertEquals(path, expected.toBoolean(), actual.toBoolean());
+        }
+    }
+
+    /**
+     * Parse the JSON and describe the result.
+     *
+     * @param document UTF-8 byte data of the JSON
+     * @param isLazy whether the JSON is parsed lazily
+     * @return the class and the message of the exception, or the string expression of the value if it is accepted
+     */
+    private static String describeResult(byte[] document, boolean isLazy) {
+        try {
+            final CubismJson json = isLazy
+                                    ? CubismJson.createLazy(document)
+                                    : CubismJson.create(document);
+            return json.getRoot().getString("", "");
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    /**
+     * Create a JSON document with nested values, escape sequences and duplicate keys.
+     *
+     * @param seed seed of the random values
+     * @return UTF-8 byte data of the JSON
+     */
+    private static byte[] createDocument(long seed) {
+        Random random = new Random(seed);
+        return ("{\"Version\": 3, \"Root\": " + createValue(random, 0) + ", \"Version\": " + random.nextInt(10) + "}").getBytes(UTF_8);
+    }
+
+    private static String createValue(Random random, int depth) {
+        switch (random.nextInt(depth > 4 ? 4 : 6)) {
+            case 0:
+                return createNumber(random);
+            case 1:
+                return createString(random);
+            case 2:
+                return random.nextBoolean() ? "true" : random.nextBoolean() ? "false" : "null";
+            case 3:
+                return createNumber(random);
+            case 4: {
+                StringBuilder array = new StringBuilder("[\n");
+                final int count = random.nextInt(6);
+                for (int i = 0; i < count; i++) {
+                    if (i > 0) {
+                        array.append(",\r\n\t");
+                    }
+                    array.append(createValue(random, depth + 1));
+                }
+                return array.append(" ]").toString();
+            }
+            default: {
+                // キーを少ない候補から選び、重複したキーを作る
+                final String[] keys = {"\"Id\"", "\"Name\"", "\"\\u0041\"", "\"パラメータ\"", "\"a\\tb\""};
+                StringBuilder object = new StringBuilder("{ ");
+                final int count = random.nextInt(6);
+                for (int i = 0; i < count; i++) {
+                    if (i > 0) {
+                        object.append(" ,\n");
+                    }
+                    object.append(random.nextBoolean() ? keys[random.nextInt(keys.length)] : createString(random))
+                        .append(" : ").append(createValue(random, depth + 1));
+                }
+                return object.append('}').toString();
+            }
+        }
+    }
+
+    private static String createNumber(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return Float.toString((float) (random.nextGaussian() * Math.pow(10, random.nextInt(12) - 6)));
+            case 1:
+                return Integer.toString(random.nextInt());
+            case 2:
+                return (random.nextBoolean() ? "-" : "") + random.nextInt(1000) + "e" + (random.nextBoolean() ? "+" : "-") + random.nextInt(40);
+            case 3:
+                return "-0.0";
+            default:
+                return Integer.toString(random.nextInt(100));
+        }
+    }
+
+    private static String createString(Random random) {
+        final String[] pieces = {"abc", "日本語", "\\n", "\\\"", "\\u00e9", "\\t", "\\/", "\\\\", "x y", "é"};
+        StringBuilder string = new StringBuilder("\"");
+
+        final int count = random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            string.append(pieces[random.nextInt(pieces.length)]);
+        }
+        return string.append('"').toString();
+    }
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int DOCUMENT_COUNT = 300;
+}
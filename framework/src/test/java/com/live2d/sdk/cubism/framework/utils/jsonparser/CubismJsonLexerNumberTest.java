@@ -0,0 +1,141 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The numbers parsed by {@link CubismJsonLexer} must be the same as the values parsed by {@link Double#parseDouble(String)}.
+ */
+public class CubismJsonLexerNumberTest {
+    @Test
+    public void boundaryNumbersMatchParseDouble() {
+        for (String number : BOUNDARY_NUMBERS) {
+            assertSameNumber(number);
+        }
+    }
+
+    @Test
+    public void randomNumbersMatchParseDouble() {
+        final Random random = new Random(0);
+
+        for (int i = 0; i < RANDOM_NUMBER_COUNT; i++) {
+            // 2^53前後の仮数と、10^22前後の指数が多く出るようにする
+            final StringBuilder number = new StringBuilder();
+            if (random.nextBoolean()) {
+                number.append('-');
+            }
+
+            final String digits = Long.toString(MAXIMUM_EXACT_SIGNIFICAND - 50 + random.nextInt(100));
+            final int digitCount = 1 + random.nextInt(digits.length());
+            final int pointIndex = random.nextInt(digitCount + 1);
+            number.append(digits, 0, pointIndex);
+            if (pointIndex == 0) {
+                number.append('0');
+            }
+            if (pointIndex < digitCount) {
+                number.append('.').append(digits, pointIndex, digitCount);
+            }
+
+            if (random.nextBoolean()) {
+                number.append('e').append(random.nextInt(61) - 30);
+            }
+
+            assertSameNumber(number.toString());
+        }
+    }
+
+    /**
+     * Check that the lexer parses the number to the same bits as {@link Double#parseDouble(String)}.
+     *
+     * @param number the number in JSON
+     */
+    private static void assertSameNumber(String number) {
+        final byte[] json = ("[" + number + "]").getBytes(Charset.forName("UTF-8"));
+        final CubismJsonLexer lexer = new CubismJsonLexer(ByteBuffer.wrap(json));
+
+        // 最初のトークンは'['
+        lexer.getNextToken();
+        final CubismJsonToken token = lexer.getNextToken();
+
+        assertEquals(number, CubismJsonToken.TokenType.NUMBER, token.getTokenType());
+        assertEquals(
+            number,
+            Double.doubleToRawLongBits(Double.parseDouble(number)),
+            Double.doubleToRawLongBits(token.getNumberValue())
+        );
+    }
+
+    /**
+     * Maximum significand which double represents exactly (2^53)
+     */
+    private static final long MAXIMUM_EXACT_SIGNIFICAND = 1L << 53;
+
+    /**
+     * Numbers at the boundaries between the fast path and {@link Double#parseDouble(String)}
+     */
+    private static final String[] BOUNDARY_NUMBERS = {
+        // 仮数が2^53と2^53+1
+        "9007199254740992",
+        "9007199254740993",
+        "-9007199254740993",
+        "900719925474099.2",
+        "900719925474099.3",
+        "9007199254740993e-1",
+        "9007199254740993e-2",
+        "9007199254740992e22",
+        "9007199254740992e-22",
+        // 指数が±22と±23
+        "1e22",
+        "1e-22",
+        "1e23",
+        "1e-23",
+        "-1E+22",
+        "7e22",
+        "7e-22",
+        "7e23",
+        "7e-23",
+        "1.5e22",
+        "1.5e-21",
+        "123e-24",
+        "1e0000000000000000000022",
+        "1e400",
+        "1e-400",
+        // 符号付きのゼロ
+        "0",
+        "-0",
+        "-0.0",
+        "-0e5",
+        "0.000",
+        // 長い小数はDouble.parseDouble()で求める
+        "0.1",
+        "0.30000000000000004",
+        "123456789012345678",
+        "1234567890123456789",
+        "9999999999999999999",
+        "-99999999999999999.99e-3",
+        "0.1234567890123456789",
+        "1.00000000000000011102230246251565404236316680908203125",
+        "2.2250738585072011e-308",
+        "4.9e-324",
+        "1.7976931348623157e308",
+        "0.000000000000000000000000000000000001",
+        "100000000000000000000000000000000000000",
+    };
+
+    /**
+     * Number of the random numbers
+     */
+    private static final int RANDOM_NUMBER_COUNT = 10000;
+}